@@ -122,4 +122,12 @@ public class ConversationalIndexConstants {
     /** Feature Flag setting for conversational memory */
     public static final Setting<Boolean> ML_COMMONS_MEMORY_FEATURE_ENABLED = Setting
         .boolSetting("plugins.ml_commons.memory_feature_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /** Max number of conversations whose metadata is cached on each node, 0 disables the cache */
+    public static final Setting<Integer> ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS = Setting
+        .intSetting("plugins.ml_commons.memory_cache_max_conversations", 1000, 0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /** Time conversations stay in the conversational memory cache after cached */
+    public static final Setting<Integer> ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting("plugins.ml_commons.memory_cache_ttl_in_seconds", 60, 1, 3600, Setting.Property.NodeScope, Setting.Property.Dynamic);
 }
\ No newline at end of file
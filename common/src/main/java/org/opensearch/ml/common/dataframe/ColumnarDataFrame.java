@@ -0,0 +1,650 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.ToString;
+
+/**
+ * Column based data frame. Each column is kept in one primitive array (String array for string column) with a bitmap
+ * of null values, instead of one boxed column value per cell. Rows are only built when accessed as rows, and numeric
+ * columns can be read as feature values directly by {@link #getDouble(int, int)}, {@link #toDoubleArrays()} and
+ * {@link #toFloatArrays()}.
+ */
+@ToString(of = { "columnMetas", "size" })
+public class ColumnarDataFrame extends AbstractDataFrame {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME = Version.V_2_13_0;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ColumnMeta[] columnMetas;
+    // short[], int[], long[], float[], double[], boolean[] or String[] per column, null for NULL column
+    private final Object[] columns;
+    private final BitSet[] nullValues;
+    private int capacity;
+    private int size;
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas) {
+        this(columnMetas, DEFAULT_CAPACITY);
+    }
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas, int capacity) {
+        super(DataFrameType.COLUMNAR);
+        if (columnMetas == null) {
+            throw new IllegalArgumentException("columnMetas can't be null");
+        }
+        this.columnMetas = columnMetas;
+        this.capacity = Math.max(capacity, 0);
+        this.size = 0;
+        this.columns = new Object[columnMetas.length];
+        this.nullValues = new BitSet[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = newColumn(columnMetas[i].getColumnType(), this.capacity);
+            nullValues[i] = new BitSet();
+        }
+    }
+
+    public ColumnarDataFrame(StreamInput streamInput) throws IOException {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = streamInput.readArray(ColumnMeta::new, ColumnMeta[]::new);
+        this.size = streamInput.readVInt();
+        this.capacity = size;
+        this.columns = new Object[columnMetas.length];
+        this.nullValues = new BitSet[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            ColumnType columnType = columnMetas[i].getColumnType();
+            if (columnType == ColumnType.NULL) {
+                nullValues[i] = new BitSet();
+                continue;
+            }
+            nullValues[i] = BitSet.valueOf(streamInput.readLongArray());
+            columns[i] = readColumn(streamInput, columnType, nullValues[i], size);
+        }
+    }
+
+    @Override
+    public void appendRow(final Object[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("input values can't be null");
+        }
+        checkRowSize(values.length);
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (values[i] != null) {
+                checkColumnType(i, ColumnType.from(values[i]));
+            }
+        }
+
+        ensureCapacity(size + 1);
+        for (int i = 0; i < columnMetas.length; i++) {
+            Object value = values[i];
+            if (value == null || columnMetas[i].getColumnType() == ColumnType.NULL) {
+                nullValues[i].set(size);
+                continue;
+            }
+            switch (columnMetas[i].getColumnType()) {
+                case SHORT:
+                    ((short[]) columns[i])[size] = (Short) value;
+                    break;
+                case INTEGER:
+                    ((int[]) columns[i])[size] = (Integer) value;
+                    break;
+                case LONG:
+                    ((long[]) columns[i])[size] = (Long) value;
+                    break;
+                case FLOAT:
+                    ((float[]) columns[i])[size] = (Float) value;
+                    break;
+                case DOUBLE:
+                    ((double[]) columns[i])[size] = (Double) value;
+                    break;
+                case BOOLEAN:
+                    ((boolean[]) columns[i])[size] = (Boolean) value;
+                    break;
+                case STRING:
+                    ((String[]) columns[i])[size] = (String) value;
+                    break;
+                default:
+                    break;
+            }
+        }
+        size++;
+    }
+
+    @Override
+    public void appendRow(final Row row) {
+        if (row == null) {
+            throw new IllegalArgumentException("input row can't be null");
+        }
+        checkRowSize(row.size());
+        for (int i = 0; i < columnMetas.length; i++) {
+            ColumnType columnType = row.getValue(i).columnType();
+            if (columnType != ColumnType.NULL) {
+                checkColumnType(i, columnType);
+            }
+        }
+
+        ensureCapacity(size + 1);
+        for (int i = 0; i < columnMetas.length; i++) {
+            ColumnValue value = row.getValue(i);
+            if (value.columnType() == ColumnType.NULL) {
+                nullValues[i].set(size);
+                continue;
+            }
+            switch (value.columnType()) {
+                case SHORT:
+                    ((short[]) columns[i])[size] = value.shortValue();
+                    break;
+                case INTEGER:
+                    ((int[]) columns[i])[size] = value.intValue();
+                    break;
+                case LONG:
+                    ((long[]) columns[i])[size] = value.longValue();
+                    break;
+                case FLOAT:
+                    ((float[]) columns[i])[size] = value.floatValue();
+                    break;
+                case DOUBLE:
+                    ((double[]) columns[i])[size] = value.doubleValue();
+                    break;
+                case BOOLEAN:
+                    ((boolean[]) columns[i])[size] = value.booleanValue();
+                    break;
+                case STRING:
+                    ((String[]) columns[i])[size] = value.stringValue();
+                    break;
+                default:
+                    break;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Append all rows of another columnar data frame column by column. Both data frames must have same columns.
+     * @param dataFrame columnar data frame to append
+     */
+    public void appendDataFrame(final ColumnarDataFrame dataFrame) {
+        if (dataFrame == null) {
+            throw new IllegalArgumentException("input data frame can't be null");
+        }
+        checkRowSize(dataFrame.columnMetas.length);
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (!columnMetas[i].getName().equals(dataFrame.columnMetas[i].getName())) {
+                throw new IllegalArgumentException(
+                    "the column name is different in column meta:" + columnMetas[i].getName() + " and input data frame:"
+                        + dataFrame.columnMetas[i].getName() + " for index: " + i
+                );
+            }
+            checkColumnType(i, dataFrame.columnMetas[i].getColumnType());
+        }
+
+        ensureCapacity(size + dataFrame.size);
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columns[i] != null) {
+                System.arraycopy(dataFrame.columns[i], 0, columns[i], size, dataFrame.size);
+            }
+            BitSet otherNullValues = dataFrame.nullValues[i];
+            for (int row = otherNullValues.nextSetBit(0); row >= 0 && row < dataFrame.size; row = otherNullValues.nextSetBit(row + 1)) {
+                nullValues[i].set(size + row);
+            }
+        }
+        size += dataFrame.size;
+    }
+
+    @Override
+    public Row getRow(int index) {
+        checkRowIndex(index);
+        ColumnValue[] values = new ColumnValue[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            values[i] = getValue(index, i);
+        }
+        return new Row(values);
+    }
+
+    /**
+     * Get one cell as column value.
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return column value, NullValue if the cell is null
+     */
+    public ColumnValue getValue(int rowIndex, int columnIndex) {
+        if (isNull(rowIndex, columnIndex)) {
+            return new NullValue();
+        }
+        switch (columnMetas[columnIndex].getColumnType()) {
+            case SHORT:
+                return new ShortValue(((short[]) columns[columnIndex])[rowIndex]);
+            case INTEGER:
+                return new IntValue(((int[]) columns[columnIndex])[rowIndex]);
+            case LONG:
+                return new LongValue(((long[]) columns[columnIndex])[rowIndex]);
+            case FLOAT:
+                return new FloatValue(((float[]) columns[columnIndex])[rowIndex]);
+            case DOUBLE:
+                return new DoubleValue(((double[]) columns[columnIndex])[rowIndex]);
+            case BOOLEAN:
+                return new BooleanValue(((boolean[]) columns[columnIndex])[rowIndex]);
+            case STRING:
+                return new StringValue(((String[]) columns[columnIndex])[rowIndex]);
+            default:
+                return new NullValue();
+        }
+    }
+
+    public boolean isNull(int rowIndex, int columnIndex) {
+        checkRowIndex(rowIndex);
+        checkColumnIndex(columnIndex);
+        return columnMetas[columnIndex].getColumnType() == ColumnType.NULL || nullValues[columnIndex].get(rowIndex);
+    }
+
+    /**
+     * Get numeric cell as double without creating column value.
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return double value
+     */
+    public double getDouble(int rowIndex, int columnIndex) {
+        if (isNull(rowIndex, columnIndex)) {
+            throw new RuntimeException("the value isn't Double type");
+        }
+        switch (columnMetas[columnIndex].getColumnType()) {
+            case SHORT:
+                return ((short[]) columns[columnIndex])[rowIndex];
+            case INTEGER:
+                return ((int[]) columns[columnIndex])[rowIndex];
+            case LONG:
+                return ((long[]) columns[columnIndex])[rowIndex];
+            case FLOAT:
+                return ((float[]) columns[columnIndex])[rowIndex];
+            case DOUBLE:
+                return ((double[]) columns[columnIndex])[rowIndex];
+            default:
+                throw new RuntimeException("the value isn't Double type");
+        }
+    }
+
+    /**
+     * Get all columns of one row as double values.
+     * @param rowIndex row index
+     * @return double values of the row
+     */
+    public double[] getDoubleRow(int rowIndex) {
+        double[] values = new double[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            values[i] = getDouble(rowIndex, i);
+        }
+        return values;
+    }
+
+    /**
+     * Read all numeric columns as feature values in row order, which is the layout Tribuo examples and RCF points use.
+     * @return array of double values per row
+     */
+    public double[][] toDoubleArrays() {
+        double[][] values = new double[size][columnMetas.length];
+        for (int col = 0; col < columnMetas.length; col++) {
+            checkNumericColumn(col);
+            for (int row = 0; row < size; row++) {
+                values[row][col] = getDouble(row, col);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Read all numeric columns as float feature values in row order.
+     * @return array of float values per row
+     */
+    public float[][] toFloatArrays() {
+        float[][] values = new float[size][columnMetas.length];
+        for (int col = 0; col < columnMetas.length; col++) {
+            checkNumericColumn(col);
+            for (int row = 0; row < size; row++) {
+                values[row][col] = (float) getDouble(row, col);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ColumnMeta[] columnMetas() {
+        return Arrays.copyOf(columnMetas, columnMetas.length);
+    }
+
+    @Override
+    public DataFrame remove(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnMetas.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columnMetas.length);
+        }
+        int[] selectedColumns = new int[columnMetas.length - 1];
+        int index = 0;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (i != columnIndex) {
+                selectedColumns[index++] = i;
+            }
+        }
+        return copyColumns(selectedColumns);
+    }
+
+    @Override
+    public DataFrame select(int[] columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("columns can't be null or empty");
+        }
+        for (int col : columns) {
+            if (col < 0 || col >= columnMetas.length) {
+                throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length");
+            }
+        }
+        return copyColumns(columns);
+    }
+
+    @Override
+    public int getColumnIndex(String target) {
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getName().equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No matched target when generating dataset from data frame.");
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<Row>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+        };
+    }
+
+    /**
+     * Build row based data frame with same data.
+     * @return default data frame
+     */
+    public DefaultDataFrame toDefaultDataFrame() {
+        List<Row> rows = new ArrayList<>(size);
+        for (Row row : this) {
+            rows.add(row);
+        }
+        return new DefaultDataFrame(columnMetas(), rows);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        if (out.getVersion().before(MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME)) {
+            toDefaultDataFrame().writeTo(out);
+            return;
+        }
+        super.writeTo(out);
+        out.writeArray(columnMetas);
+        out.writeVInt(size);
+        for (int i = 0; i < columnMetas.length; i++) {
+            ColumnType columnType = columnMetas[i].getColumnType();
+            if (columnType == ColumnType.NULL) {
+                continue;
+            }
+            out.writeLongArray(nullValues[i].get(0, size).toLongArray());
+            writeColumn(out, columnType, columns[i], nullValues[i]);
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        builder.startArray("column_metas");
+        for (ColumnMeta columnMeta : columnMetas) {
+            columnMeta.toXContent(builder, params);
+        }
+        builder.endArray();
+
+        builder.startArray("rows");
+        for (Row row : this) {
+            row.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder;
+    }
+
+    private ColumnarDataFrame copyColumns(int[] selectedColumns) {
+        ColumnMeta[] newColumnMetas = new ColumnMeta[selectedColumns.length];
+        for (int i = 0; i < selectedColumns.length; i++) {
+            newColumnMetas[i] = columnMetas[selectedColumns[i]];
+        }
+        ColumnarDataFrame dataFrame = new ColumnarDataFrame(newColumnMetas, size);
+        for (int i = 0; i < selectedColumns.length; i++) {
+            int col = selectedColumns[i];
+            if (columns[col] != null) {
+                System.arraycopy(columns[col], 0, dataFrame.columns[i], 0, size);
+            }
+            dataFrame.nullValues[i].or(nullValues[col].get(0, size));
+        }
+        dataFrame.size = size;
+        return dataFrame;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, Math.max(capacity * 2, DEFAULT_CAPACITY));
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == null) {
+                continue;
+            }
+            Object newColumn = newColumn(columnMetas[i].getColumnType(), newCapacity);
+            System.arraycopy(columns[i], 0, newColumn, 0, size);
+            columns[i] = newColumn;
+        }
+        capacity = newCapacity;
+    }
+
+    private void checkRowSize(int rowSize) {
+        if (rowSize != columnMetas.length) {
+            final String message = String
+                .format("the size is different between input row:%d " + "and column size in dataframe:%d", rowSize, columnMetas.length);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void checkColumnType(int columnIndex, ColumnType columnType) {
+        if (columnMetas[columnIndex].getColumnType() != columnType) {
+            final String message = String
+                .format(
+                    "the column type is different in column meta:%s and input row:%s for index: %d",
+                    columnMetas[columnIndex].getColumnType(),
+                    columnType,
+                    columnIndex
+                );
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void checkRowIndex(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= size) {
+            throw new IllegalArgumentException("row index is out of scope, index:" + rowIndex + "; data frame size:" + size);
+        }
+    }
+
+    private void checkColumnIndex(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnMetas.length) {
+            throw new IllegalArgumentException(
+                "column index is out of scope, index:" + columnIndex + "; columns length:" + columnMetas.length
+            );
+        }
+    }
+
+    private void checkNumericColumn(int columnIndex) {
+        switch (columnMetas[columnIndex].getColumnType()) {
+            case SHORT:
+            case INTEGER:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return;
+            default:
+                if (size > 0) {
+                    throw new RuntimeException("the value isn't Double type");
+                }
+        }
+    }
+
+    private static Object newColumn(ColumnType columnType, int capacity) {
+        switch (columnType) {
+            case SHORT:
+                return new short[capacity];
+            case INTEGER:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case FLOAT:
+                return new float[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            case BOOLEAN:
+                return new boolean[capacity];
+            case STRING:
+                return new String[capacity];
+            case NULL:
+                return null;
+            default:
+                throw new IllegalArgumentException("unsupported column type:" + columnType);
+        }
+    }
+
+    private void writeColumn(StreamOutput out, ColumnType columnType, Object column, BitSet nulls) throws IOException {
+        switch (columnType) {
+            case SHORT:
+                short[] shortValues = (short[]) column;
+                for (int i = 0; i < size; i++) {
+                    out.writeShort(shortValues[i]);
+                }
+                break;
+            case INTEGER:
+                int[] intValues = (int[]) column;
+                for (int i = 0; i < size; i++) {
+                    out.writeInt(intValues[i]);
+                }
+                break;
+            case LONG:
+                long[] longValues = (long[]) column;
+                for (int i = 0; i < size; i++) {
+                    out.writeLong(longValues[i]);
+                }
+                break;
+            case FLOAT:
+                float[] floatValues = (float[]) column;
+                for (int i = 0; i < size; i++) {
+                    out.writeFloat(floatValues[i]);
+                }
+                break;
+            case DOUBLE:
+                double[] doubleValues = (double[]) column;
+                for (int i = 0; i < size; i++) {
+                    out.writeDouble(doubleValues[i]);
+                }
+                break;
+            case BOOLEAN:
+                boolean[] booleanValues = (boolean[]) column;
+                BitSet bits = new BitSet(size);
+                for (int i = 0; i < size; i++) {
+                    bits.set(i, booleanValues[i]);
+                }
+                out.writeLongArray(bits.toLongArray());
+                break;
+            case STRING:
+                // null cells have no value on the wire, they are restored from the null bitmap
+                String[] stringValues = (String[]) column;
+                for (int i = 0; i < size; i++) {
+                    if (!nulls.get(i)) {
+                        out.writeString(stringValues[i]);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Object readColumn(StreamInput in, ColumnType columnType, BitSet nulls, int size) throws IOException {
+        switch (columnType) {
+            case SHORT:
+                short[] shortValues = new short[size];
+                for (int i = 0; i < size; i++) {
+                    shortValues[i] = in.readShort();
+                }
+                return shortValues;
+            case INTEGER:
+                int[] intValues = new int[size];
+                for (int i = 0; i < size; i++) {
+                    intValues[i] = in.readInt();
+                }
+                return intValues;
+            case LONG:
+                long[] longValues = new long[size];
+                for (int i = 0; i < size; i++) {
+                    longValues[i] = in.readLong();
+                }
+                return longValues;
+            case FLOAT:
+                float[] floatValues = new float[size];
+                for (int i = 0; i < size; i++) {
+                    floatValues[i] = in.readFloat();
+                }
+                return floatValues;
+            case DOUBLE:
+                double[] doubleValues = new double[size];
+                for (int i = 0; i < size; i++) {
+                    doubleValues[i] = in.readDouble();
+                }
+                return doubleValues;
+            case BOOLEAN:
+                BitSet bits = BitSet.valueOf(in.readLongArray());
+                boolean[] booleanValues = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    booleanValues[i] = bits.get(i);
+                }
+                return booleanValues;
+            case STRING:
+                String[] stringValues = new String[size];
+                for (int i = 0; i < size; i++) {
+                    if (!nulls.get(i)) {
+                        stringValues[i] = in.readString();
+                    }
+                }
+                return stringValues;
+            default:
+                throw new IllegalArgumentException("unsupported column type:" + columnType);
+        }
+    }
+}
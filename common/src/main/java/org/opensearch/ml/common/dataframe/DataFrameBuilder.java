@@ -103,6 +103,70 @@ public class DataFrameBuilder {
         return new DefaultDataFrame(columnMetas, rows);
     }
 
+    /**
+     * Load column based data frame from list of map objects. Same as {@link #load(List)}, the first object is used to
+     * build the ColumnMeta, and null values are kept as null cells.
+     * @param input input list of map objects
+     * @return columnar data frame
+     */
+    public ColumnarDataFrame loadColumnar(final List<Map<String, Object>> input) {
+        if(input == null || input.isEmpty()) {
+            throw new IllegalArgumentException("input is null or empty");
+        }
+
+        Map<String, Object> element = input.get(0);
+        ColumnMeta[] columnMetas = new ColumnMeta[element.size()];
+
+        int index = 0;
+        for(Map.Entry<String, Object> entry : element.entrySet()) {
+            ColumnMeta columnMeta = ColumnMeta.builder()
+                    .name(entry.getKey())
+                    .columnType(entry.getValue() == null ? ColumnType.NULL : ColumnType.from(entry.getValue()))
+                    .build();
+            columnMetas[index++] = columnMeta;
+        }
+
+        return loadColumnar(columnMetas, input);
+    }
+
+    /**
+     * Load column based data frame given columnMetas, and list of map objects. All of the map objects should have
+     * same key set as the column metas, otherwise it will throw exception.
+     * @param columnMetas array of ColumnMeta
+     * @param input input list of map objects
+     * @return columnar data frame
+     */
+    public ColumnarDataFrame loadColumnar(final ColumnMeta[] columnMetas, final List<Map<String, Object>> input) {
+        if(columnMetas == null) {
+            throw new IllegalArgumentException("columnMetas array is null");
+        }
+        if(input == null) {
+            throw new IllegalArgumentException("input data list is null");
+        }
+
+        Map<String, Integer> columnsMap = new HashMap<>();
+        for(int i = 0; i < columnMetas.length; i++) {
+            columnsMap.put(columnMetas[i].getName(), i);
+        }
+
+        ColumnarDataFrame dataFrame = new ColumnarDataFrame(columnMetas, input.size());
+        for(Map<String, Object> item : input) {
+            if(item.size() != columnMetas.length) {
+                throw new IllegalArgumentException("input item map size is different in the map");
+            }
+            Object[] values = new Object[columnMetas.length];
+            for(Map.Entry<String, Object> entry : item.entrySet()) {
+                Integer columnIndex = columnsMap.get(entry.getKey());
+                if(columnIndex == null) {
+                    throw new IllegalArgumentException("field of input item doesn't exist in columns, filed:" + entry.getKey());
+                }
+                values[columnIndex] = entry.getValue();
+            }
+            dataFrame.appendRow(values);
+        }
+        return dataFrame;
+    }
+
     /**
      * Load data frame from stream input.
      * @param input stream input
@@ -114,6 +178,8 @@ public class DataFrameBuilder {
         switch (dataFrameType) {
             case DEFAULT:
                 return new DefaultDataFrame(input);
+            case COLUMNAR:
+                return new ColumnarDataFrame(input);
             default:
                 throw new IllegalStateException("Unexpected value: " + dataFrameType);
         }
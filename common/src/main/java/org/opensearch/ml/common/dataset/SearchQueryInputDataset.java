@@ -65,6 +65,19 @@ public class SearchQueryInputDataset extends MLInputDataset {
         this.indices = streaminput.readStringList();
     }
 
+    /**
+     * Copy the search source builder, so the copy can be changed without changing the query of this dataset.
+     * Unlike {@link SearchSourceBuilder#shallowCopy()}, the copy doesn't share the sort list with the query.
+     * @return copy of the search source builder
+     * @throws IOException if the query can't be parsed
+     */
+    public SearchSourceBuilder copySearchSourceBuilder() throws IOException {
+        XContentParser parser = XContentType.JSON
+            .xContent()
+            .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, searchSourceBuilder.toString());
+        return SearchSourceBuilder.fromXContent(parser);
+    }
+
     @Override
     public void writeTo(StreamOutput streamOutput) throws IOException {
         super.writeTo(streamOutput);
@@ -8,6 +8,7 @@ package org.opensearch.ml.common.model;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.ParseField;
@@ -37,16 +38,48 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
     public static final String POOLING_MODE_FIELD = "pooling_mode";
     public static final String NORMALIZE_RESULT_FIELD = "normalize_result";
     public static final String MODEL_MAX_LENGTH_FIELD = "model_max_length";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String PREDICTOR_POOL_SIZE_FIELD = "predictor_pool_size";
+    public static final String INTRA_OP_THREADS_FIELD = "intra_op_threads";
+    public static final String INTER_OP_THREADS_FIELD = "inter_op_threads";
+    public static final String BATCH_WINDOW_MS_FIELD = "batch_window_ms";
+
+    // Every predictor of every device is created and warmed up on deploy, so the pool size is bounded.
+    public static final int MAX_PREDICTOR_POOL_SIZE = 32;
+
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCH_SIZE = Version.V_2_13_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_PREDICTOR_POOL = Version.V_2_13_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCH_WINDOW = Version.V_2_13_0;
 
     private final Integer embeddingDimension;
     private final FrameworkType frameworkType;
     private final PoolingMode poolingMode;
     private final boolean normalizeResult;
     private final Integer modelMaxLength;
+    private final Integer batchSize;
+    // Number of predictors of each device, so concurrent inference requests don't wait for one shared predictor.
+    private final Integer predictorPoolSize;
+    // Threads used by one inference session, only applied to ONNX models as PyTorch threads are shared by the node.
+    private final Integer intraOpThreads;
+    private final Integer interOpThreads;
+    // Time to wait for concurrent predict requests to run them together in one batch of at most batch size docs.
+    private final Integer batchWindowMs;
 
-    @Builder(toBuilder = true)
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
                                     PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength) {
+        this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, null);
+    }
+
+    public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
+                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, Integer batchSize) {
+        this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, batchSize,
+                null, null, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
+                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, Integer batchSize,
+                                    Integer predictorPoolSize, Integer intraOpThreads, Integer interOpThreads, Integer batchWindowMs) {
         super(modelType, allConfig);
         if (embeddingDimension == null) {
             throw new IllegalArgumentException("embedding dimension is null");
@@ -59,6 +92,29 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         this.poolingMode = poolingMode;
         this.normalizeResult = normalizeResult;
         this.modelMaxLength = modelMaxLength;
+        if (batchSize != null && batchSize <= 0) {
+            throw new IllegalArgumentException("batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        if (predictorPoolSize != null && predictorPoolSize <= 0) {
+            throw new IllegalArgumentException("predictor pool size must be positive");
+        }
+        if (predictorPoolSize != null && predictorPoolSize > MAX_PREDICTOR_POOL_SIZE) {
+            throw new IllegalArgumentException("predictor pool size must not be greater than " + MAX_PREDICTOR_POOL_SIZE);
+        }
+        if (intraOpThreads != null && intraOpThreads <= 0) {
+            throw new IllegalArgumentException("intra op threads must be positive");
+        }
+        if (interOpThreads != null && interOpThreads <= 0) {
+            throw new IllegalArgumentException("inter op threads must be positive");
+        }
+        this.predictorPoolSize = predictorPoolSize;
+        this.intraOpThreads = intraOpThreads;
+        this.interOpThreads = interOpThreads;
+        if (batchWindowMs != null && batchWindowMs < 0) {
+            throw new IllegalArgumentException("batch window must not be negative");
+        }
+        this.batchWindowMs = batchWindowMs;
     }
 
     public static TextEmbeddingModelConfig parse(XContentParser parser) throws IOException {
@@ -69,6 +125,11 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         PoolingMode poolingMode = null;
         boolean normalizeResult = false;
         Integer modelMaxLength = null;
+        Integer batchSize = null;
+        Integer predictorPoolSize = null;
+        Integer intraOpThreads = null;
+        Integer interOpThreads = null;
+        Integer batchWindowMs = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -97,12 +158,28 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
                 case MODEL_MAX_LENGTH_FIELD:
                     modelMaxLength = parser.intValue();
                     break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue();
+                    break;
+                case PREDICTOR_POOL_SIZE_FIELD:
+                    predictorPoolSize = parser.intValue();
+                    break;
+                case INTRA_OP_THREADS_FIELD:
+                    intraOpThreads = parser.intValue();
+                    break;
+                case INTER_OP_THREADS_FIELD:
+                    interOpThreads = parser.intValue();
+                    break;
+                case BATCH_WINDOW_MS_FIELD:
+                    batchWindowMs = parser.intValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength);
+        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, batchSize,
+                predictorPoolSize, intraOpThreads, interOpThreads, batchWindowMs);
     }
 
     @Override
@@ -121,6 +198,25 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         }
         normalizeResult = in.readBoolean();
         modelMaxLength = in.readOptionalInt();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_SIZE)) {
+            batchSize = in.readOptionalInt();
+        } else {
+            batchSize = null;
+        }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PREDICTOR_POOL)) {
+            predictorPoolSize = in.readOptionalInt();
+            intraOpThreads = in.readOptionalInt();
+            interOpThreads = in.readOptionalInt();
+        } else {
+            predictorPoolSize = null;
+            intraOpThreads = null;
+            interOpThreads = null;
+        }
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_WINDOW)) {
+            batchWindowMs = in.readOptionalInt();
+        } else {
+            batchWindowMs = null;
+        }
     }
 
     @Override
@@ -136,6 +232,17 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         }
         out.writeBoolean(normalizeResult);
         out.writeOptionalInt(modelMaxLength);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_SIZE)) {
+            out.writeOptionalInt(batchSize);
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PREDICTOR_POOL)) {
+            out.writeOptionalInt(predictorPoolSize);
+            out.writeOptionalInt(intraOpThreads);
+            out.writeOptionalInt(interOpThreads);
+        }
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_WINDOW)) {
+            out.writeOptionalInt(batchWindowMs);
+        }
     }
 
     @Override
@@ -162,6 +269,21 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (normalizeResult) {
             builder.field(NORMALIZE_RESULT_FIELD, normalizeResult);
         }
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
+        if (predictorPoolSize != null) {
+            builder.field(PREDICTOR_POOL_SIZE_FIELD, predictorPoolSize);
+        }
+        if (intraOpThreads != null) {
+            builder.field(INTRA_OP_THREADS_FIELD, intraOpThreads);
+        }
+        if (interOpThreads != null) {
+            builder.field(INTER_OP_THREADS_FIELD, interOpThreads);
+        }
+        if (batchWindowMs != null) {
+            builder.field(BATCH_WINDOW_MS_FIELD, batchWindowMs);
+        }
         builder.endObject();
         return builder;
     }
@@ -7,6 +7,8 @@ package org.opensearch.ml.common.output.model;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -43,19 +45,39 @@ public class ModelTensor implements Writeable, ToXContentObject {
 
     private String name;
     private Number[] data;
+    // Primitive copies of data, so that dense float/int results are serialized without boxing every element.
+    // Only boxed to data when getData() is called.
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private float[] floatData;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int[] intData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
-    @Builder
     public ModelTensor(String name, Number[] data, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        this(name, data, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    @Builder
+    public ModelTensor(String name, Number[] data, float[] floatData, int[] intData, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data only supports floating data type");
+        }
+        if (intData != null && !dataType.isInteger() && !dataType.isBoolean()) {
+            throw new IllegalArgumentException("int data only supports integer or boolean data type");
+        }
         this.name = name;
         this.data = data;
+        this.floatData = data == null ? floatData : null;
+        this.intData = data == null && floatData == null ? intData : null;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -75,7 +97,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (floatData != null) {
+            builder.field(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            builder.field(DATA_FIELD, intData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
@@ -195,17 +221,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
-                }
+                floatData = new float[size];
+                readBulk(in, size).asFloatBuffer().get(floatData);
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
-                }
-            } else {
-                data = null;
+                intData = new int[size];
+                readBulk(in, size).asIntBuffer().get(intData);
             }
         }
         if (in.readBoolean()) {
@@ -244,17 +265,22 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if ((data != null || floatData != null || intData != null) && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
             if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
+                float[] floats = getFloatData();
+                out.writeInt(floats.length);
+                ByteBuffer buffer = ByteBuffer.allocate(floats.length * Float.BYTES);
+                buffer.asFloatBuffer().put(floats);
+                out.writeBytes(buffer.array());
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+                int[] ints = getIntData();
+                out.writeInt(ints.length);
+                ByteBuffer buffer = ByteBuffer.allocate(ints.length * Integer.BYTES);
+                buffer.asIntBuffer().put(ints);
+                out.writeBytes(buffer.array());
+            } else {
+                out.writeInt(data.length);
             }
         } else {
             out.writeBoolean(false);
@@ -281,4 +307,82 @@ public class ModelTensor implements Writeable, ToXContentObject {
             out.writeBoolean(false);
         }
     }
+
+    /**
+     * Reads size elements of 4 bytes written in big endian order, which is the same as
+     * {@link StreamOutput#writeFloat(float)} and {@link StreamOutput#writeInt(int)} write one by one.
+     */
+    private static ByteBuffer readBulk(StreamInput in, int size) throws IOException {
+        byte[] bytes = new byte[size * Integer.BYTES];
+        in.readBytes(bytes, 0, bytes.length);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * @return data as boxed numbers, primitive data is boxed on first call.
+     */
+    public Number[] getData() {
+        if (data == null) {
+            if (floatData != null) {
+                Number[] boxed = new Number[floatData.length];
+                for (int i = 0; i < floatData.length; i++) {
+                    boxed[i] = floatData[i];
+                }
+                data = boxed;
+            } else if (intData != null) {
+                Number[] boxed = new Number[intData.length];
+                for (int i = 0; i < intData.length; i++) {
+                    boxed[i] = intData[i];
+                }
+                data = boxed;
+            }
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
+    /**
+     * @return data as float array, or null if there is no data.
+     */
+    public float[] getFloatData() {
+        if (floatData == null && data != null) {
+            float[] floats = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                floats[i] = data[i].floatValue();
+            }
+            return floats;
+        }
+        return floatData;
+    }
+
+    public void setFloatData(float[] floatData) {
+        this.floatData = floatData;
+        this.data = null;
+        this.intData = null;
+    }
+
+    /**
+     * @return data as int array, or null if there is no data.
+     */
+    public int[] getIntData() {
+        if (intData == null && data != null) {
+            int[] ints = new int[data.length];
+            for (int i = 0; i < data.length; i++) {
+                ints[i] = data[i].intValue();
+            }
+            return ints;
+        }
+        return intData;
+    }
+
+    public void setIntData(int[] intData) {
+        this.intData = intData;
+        this.data = null;
+        this.floatData = null;
+    }
 }
@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.action.ActionType;
+
+public class MLAgentClearCacheAction extends ActionType<MLAgentClearCacheNodesResponse> {
+    public static final MLAgentClearCacheAction INSTANCE = new MLAgentClearCacheAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/agents/clear_cache";
+
+    private MLAgentClearCacheAction() { super(NAME, MLAgentClearCacheNodesResponse::new);}
+}
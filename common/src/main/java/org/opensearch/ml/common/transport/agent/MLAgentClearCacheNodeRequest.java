@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.transport.TransportRequest;
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLAgentClearCacheNodeRequest extends TransportRequest {
+    @Getter
+    private MLAgentClearCacheNodesRequest clearCacheNodesRequest;
+
+    public MLAgentClearCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.clearCacheNodesRequest = new MLAgentClearCacheNodesRequest(in);
+    }
+
+    public MLAgentClearCacheNodeRequest(MLAgentClearCacheNodesRequest request) {
+        this.clearCacheNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        clearCacheNodesRequest.writeTo(out);
+    }
+}
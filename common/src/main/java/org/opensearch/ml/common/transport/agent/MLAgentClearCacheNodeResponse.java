@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+public class MLAgentClearCacheNodeResponse extends BaseNodeResponse {
+
+    public MLAgentClearCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public MLAgentClearCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public static MLAgentClearCacheNodeResponse readResponse(StreamInput in) throws IOException {
+        return new MLAgentClearCacheNodeResponse(in);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import java.io.IOException;
+
+public class MLAgentClearCacheNodesRequest extends BaseNodesRequest<MLAgentClearCacheNodesRequest> {
+
+    @Getter
+    private String agentId;
+
+    public MLAgentClearCacheNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.agentId = in.readString();
+    }
+
+    public MLAgentClearCacheNodesRequest(String[] nodeIds, String agentId) {
+        super(nodeIds);
+        this.agentId = agentId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(agentId);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+public class MLAgentClearCacheNodesResponse extends BaseNodesResponse<MLAgentClearCacheNodeResponse> {
+
+    public MLAgentClearCacheNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(MLAgentClearCacheNodeResponse::readResponse), in.readList(FailedNodeException::new));
+    }
+
+    public MLAgentClearCacheNodesResponse(ClusterName clusterName, List<MLAgentClearCacheNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLAgentClearCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLAgentClearCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLAgentClearCacheNodeResponse::readResponse);
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Reads one chunk of a model artifact from the node local model artifact cache of a peer node.
+ */
+public class MLModelArtifactChunkAction extends ActionType<MLModelArtifactChunkResponse> {
+    public static MLModelArtifactChunkAction INSTANCE = new MLModelArtifactChunkAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/model_artifact_chunk";
+
+    private MLModelArtifactChunkAction() {
+        super(NAME, MLModelArtifactChunkResponse::new);
+    }
+
+}
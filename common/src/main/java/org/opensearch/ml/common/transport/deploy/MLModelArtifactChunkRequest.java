@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public class MLModelArtifactChunkRequest extends ActionRequest {
+
+    String modelContentHash;
+    int chunkNumber;
+
+    @Builder
+    public MLModelArtifactChunkRequest(String modelContentHash, int chunkNumber) {
+        this.modelContentHash = modelContentHash;
+        this.chunkNumber = chunkNumber;
+    }
+
+    public MLModelArtifactChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelContentHash = in.readString();
+        this.chunkNumber = in.readInt();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (modelContentHash == null) {
+            exception = addValidationError("Model content hash can't be null", exception);
+        }
+        if (chunkNumber < 0) {
+            exception = addValidationError("Chunk number can't be negative", exception);
+        }
+        return exception;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelContentHash);
+        out.writeInt(chunkNumber);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.deploy;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+@Getter
+public class MLModelArtifactChunkResponse extends ActionResponse {
+
+    private int totalChunks;
+    private byte[] data;
+
+    @Builder
+    public MLModelArtifactChunkResponse(int totalChunks, byte[] data) {
+        this.totalChunks = totalChunks;
+        this.data = data;
+    }
+
+    public MLModelArtifactChunkResponse(StreamInput in) throws IOException {
+        super(in);
+        this.totalChunks = in.readInt();
+        this.data = in.readByteArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeInt(totalChunks);
+        out.writeByteArray(data);
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.action.ActionType;
+
+public class MLModelGroupClearAccessCacheAction extends ActionType<MLModelGroupClearAccessCacheNodesResponse> {
+    public static final MLModelGroupClearAccessCacheAction INSTANCE = new MLModelGroupClearAccessCacheAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/model_groups/clear_access_cache";
+
+    private MLModelGroupClearAccessCacheAction() { super(NAME, MLModelGroupClearAccessCacheNodesResponse::new);}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.transport.TransportRequest;
+import java.io.IOException;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLModelGroupClearAccessCacheNodeRequest extends TransportRequest {
+    @Getter
+    private MLModelGroupClearAccessCacheNodesRequest clearCacheNodesRequest;
+
+    public MLModelGroupClearAccessCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.clearCacheNodesRequest = new MLModelGroupClearAccessCacheNodesRequest(in);
+    }
+
+    public MLModelGroupClearAccessCacheNodeRequest(MLModelGroupClearAccessCacheNodesRequest request) {
+        this.clearCacheNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        clearCacheNodesRequest.writeTo(out);
+    }
+}
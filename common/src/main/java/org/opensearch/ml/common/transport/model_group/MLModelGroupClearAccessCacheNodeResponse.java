@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+public class MLModelGroupClearAccessCacheNodeResponse extends BaseNodeResponse {
+
+    public MLModelGroupClearAccessCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public MLModelGroupClearAccessCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public static MLModelGroupClearAccessCacheNodeResponse readResponse(StreamInput in) throws IOException {
+        return new MLModelGroupClearAccessCacheNodeResponse(in);
+    }
+}
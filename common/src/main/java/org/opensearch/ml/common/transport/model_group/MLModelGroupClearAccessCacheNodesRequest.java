@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import lombok.Getter;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import java.io.IOException;
+
+public class MLModelGroupClearAccessCacheNodesRequest extends BaseNodesRequest<MLModelGroupClearAccessCacheNodesRequest> {
+
+    @Getter
+    private String modelGroupId;
+
+    public MLModelGroupClearAccessCacheNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.modelGroupId = in.readString();
+    }
+
+    public MLModelGroupClearAccessCacheNodesRequest(String[] nodeIds, String modelGroupId) {
+        super(nodeIds);
+        this.modelGroupId = modelGroupId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(modelGroupId);
+    }
+}
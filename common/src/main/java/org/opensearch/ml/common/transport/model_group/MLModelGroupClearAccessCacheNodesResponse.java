@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.model_group;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+
+public class MLModelGroupClearAccessCacheNodesResponse extends BaseNodesResponse<MLModelGroupClearAccessCacheNodeResponse> {
+
+    public MLModelGroupClearAccessCacheNodesResponse(StreamInput in) throws IOException {
+        super(
+            new ClusterName(in),
+            in.readList(MLModelGroupClearAccessCacheNodeResponse::readResponse),
+            in.readList(FailedNodeException::new)
+        );
+    }
+
+    public MLModelGroupClearAccessCacheNodesResponse(
+        ClusterName clusterName,
+        List<MLModelGroupClearAccessCacheNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLModelGroupClearAccessCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLModelGroupClearAccessCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLModelGroupClearAccessCacheNodeResponse::readResponse);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.TestHelper;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarDataFrameTest {
+
+    ColumnarDataFrame columnarDataFrame;
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        ColumnMeta[] columnMetas = new ColumnMeta[] {
+                new ColumnMeta("c1", ColumnType.STRING),
+                new ColumnMeta("c2", ColumnType.INTEGER),
+                new ColumnMeta("c3", ColumnType.DOUBLE),
+                new ColumnMeta("c4", ColumnType.BOOLEAN),
+                new ColumnMeta("c5", ColumnType.LONG)
+        };
+        // small capacity to make sure columns grow
+        columnarDataFrame = new ColumnarDataFrame(columnMetas, 1);
+        columnarDataFrame.appendRow(new Object[] { "string", 1, 2.0D, true, 3L });
+        columnarDataFrame.appendRow(new Object[] { null, 2, 3.0D, false, 4L });
+    }
+
+    @Test
+    public void appendRow_Success() {
+        assertEquals(DataFrameType.COLUMNAR, columnarDataFrame.getDataFrameType());
+        assertEquals(2, columnarDataFrame.size());
+        Row row = columnarDataFrame.getRow(0);
+        assertEquals("string", row.getValue(0).stringValue());
+        assertEquals(1, row.getValue(1).intValue());
+        assertEquals(2.0D, row.getValue(2).doubleValue(), 0.0001D);
+        assertTrue(row.getValue(3).booleanValue());
+        assertEquals(3L, row.getValue(4).longValue());
+        assertTrue(columnarDataFrame.isNull(1, 0));
+        assertFalse(columnarDataFrame.isNull(1, 1));
+        assertEquals(ColumnType.NULL, columnarDataFrame.getRow(1).getValue(0).columnType());
+    }
+
+    @Test
+    public void appendRow_Success_Row() {
+        columnarDataFrame.appendRow(columnarDataFrame.getRow(0));
+        assertEquals(3, columnarDataFrame.size());
+        assertEquals(columnarDataFrame.getRow(0), columnarDataFrame.getRow(2));
+    }
+
+    @Test
+    public void appendRow_Exception_DifferentColumns() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the size is different between input row:2 and column size in dataframe:5");
+        columnarDataFrame.appendRow(new Object[] { "string", 1 });
+    }
+
+    @Test
+    public void appendRow_Exception_DifferentColumnTypes() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta:INTEGER and input row:DOUBLE for index: 1");
+        columnarDataFrame.appendRow(new Object[] { "string", 1.0D, 2.0D, true, 3L });
+    }
+
+    @Test
+    public void getDouble_Success() {
+        assertEquals(2.0D, columnarDataFrame.getDouble(1, 1), 0.0001D);
+        assertEquals(3.0D, columnarDataFrame.getDouble(1, 2), 0.0001D);
+        assertEquals(4.0D, columnarDataFrame.getDouble(1, 4), 0.0001D);
+    }
+
+    @Test
+    public void getDouble_Exception_StringColumn() {
+        exceptionRule.expect(RuntimeException.class);
+        exceptionRule.expectMessage("the value isn't Double type");
+        columnarDataFrame.getDouble(0, 0);
+    }
+
+    @Test
+    public void toDoubleArrays_Success() {
+        DataFrame dataFrame = columnarDataFrame.select(new int[] { 1, 2, 4 });
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        double[][] values = ((ColumnarDataFrame) dataFrame).toDoubleArrays();
+        assertEquals(2, values.length);
+        assertArrayEquals(new double[] { 1.0D, 2.0D, 3.0D }, values[0], 0.0001D);
+        assertArrayEquals(new double[] { 2.0D, 3.0D, 4.0D }, values[1], 0.0001D);
+        assertArrayEquals(new double[] { 2.0D, 3.0D, 4.0D }, ((ColumnarDataFrame) dataFrame).getDoubleRow(1), 0.0001D);
+        float[][] floatValues = ((ColumnarDataFrame) dataFrame).toFloatArrays();
+        assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f }, floatValues[0], 0.0001f);
+    }
+
+    @Test
+    public void remove_Success() {
+        DataFrame dataFrame = columnarDataFrame.remove(0);
+        assertEquals(4, dataFrame.columnMetas().length);
+        assertEquals("c2", dataFrame.columnMetas()[0].getName());
+        assertEquals(2, dataFrame.size());
+        assertEquals(2, dataFrame.getRow(1).getValue(0).intValue());
+    }
+
+    @Test
+    public void select_Exception_InvalidColumn() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("columnIndex can't be negative or bigger than columns length");
+        columnarDataFrame.select(new int[] { 5 });
+    }
+
+    @Test
+    public void getColumnIndex_Exception_NoMatchedTarget() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No matched target when generating dataset from data frame.");
+        columnarDataFrame.getColumnIndex("c6");
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        columnarDataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        assertEquals(DataFrameType.COLUMNAR, streamInput.readEnum(DataFrameType.class));
+        ColumnarDataFrame dataFrame = new ColumnarDataFrame(streamInput);
+        assertEquals(2, dataFrame.size());
+        assertEquals(columnarDataFrame.getRow(0), dataFrame.getRow(0));
+        assertEquals(columnarDataFrame.getRow(1), dataFrame.getRow(1));
+        assertTrue(dataFrame.isNull(1, 0));
+
+        dataFrame.appendRow(new Object[] { "string2", 3, 4.0D, true, 5L });
+        assertEquals(3, dataFrame.size());
+    }
+
+    @Test
+    public void writeTo_Success_OldVersion() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_12_0);
+        columnarDataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_12_0);
+        DataFrame dataFrame = DataFrameBuilder.load(streamInput);
+        assertTrue(dataFrame instanceof DefaultDataFrame);
+        assertEquals(2, dataFrame.size());
+        assertEquals(columnarDataFrame.getRow(0), dataFrame.getRow(0));
+    }
+
+    @Test
+    public void toXContent_Success() throws IOException {
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        builder.startObject();
+        columnarDataFrame.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        XContentBuilder defaultBuilder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        defaultBuilder.startObject();
+        columnarDataFrame.toDefaultDataFrame().toXContent(defaultBuilder, ToXContent.EMPTY_PARAMS);
+        defaultBuilder.endObject();
+        assertEquals(TestHelper.xContentBuilderToString(defaultBuilder), TestHelper.xContentBuilderToString(builder));
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.dataframe;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.rules.ExpectedException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class DataFrameBuilderTest {
 
@@ -158,4 +160,45 @@ public class DataFrameBuilderTest {
         dataFrame = DataFrameBuilder.load(bytesStreamOutput.bytes().streamInput());
         assertEquals(1, dataFrame.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void loadColumnar_Success_WithInputMapList() {
+        Map<String, Object> map1 = new HashMap<>();
+        map1.put("k1", "string");
+        map1.put("k2", 1);
+        Map<String, Object> map2 = new HashMap<>();
+        map2.put("k1", null);
+        map2.put("k2", 2);
+        ColumnarDataFrame dataFrame = DataFrameBuilder.loadColumnar(Arrays.asList(map1, map2));
+        assertEquals(2, dataFrame.size());
+        int k1 = dataFrame.getColumnIndex("k1");
+        int k2 = dataFrame.getColumnIndex("k2");
+        assertEquals("string", dataFrame.getRow(0).getValue(k1).stringValue());
+        assertEquals(ColumnType.NULL, dataFrame.getRow(1).getValue(k1).columnType());
+        assertEquals(2.0D, dataFrame.getDouble(1, k2), 0.0001D);
+    }
+
+    @Test
+    public void loadColumnar_Exception_DifferentDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta:INTEGER and input row:DOUBLE");
+        Map<String, Object> map1 = new HashMap<>();
+        map1.put("k1", 1);
+        Map<String, Object> map2 = new HashMap<>();
+        map2.put("k1", 2.3D);
+        DataFrameBuilder.loadColumnar(Arrays.asList(map1, map2));
+    }
+
+    @Test
+    public void loadColumnar_Success_StreamInput() throws IOException {
+        Map<String, Object> map = new HashMap<>();
+        map.put("k1", "string");
+        map.put("k2", 1);
+        DataFrame dataFrame = DataFrameBuilder.loadColumnar(Collections.singletonList(map));
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        dataFrame.writeTo(bytesStreamOutput);
+        dataFrame = DataFrameBuilder.load(bytesStreamOutput.bytes().streamInput());
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(1, dataFrame.size());
+    }
+}
@@ -87,6 +87,55 @@ public class TextEmbeddingModelConfigTests {
         TestHelper.testParseFromString(config, content, function);
     }
 
+    @Test
+    public void parse_BatchSize() throws IOException {
+        TextEmbeddingModelConfig batchConfig = config.toBuilder().batchSize(32).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"batch_size\":32}";
+        TestHelper.testParseFromString(batchConfig, content, function);
+    }
+
+    @Test
+    public void invalidBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch size must be positive");
+        config.toBuilder().batchSize(0).build();
+    }
+
+    @Test
+    public void parse_PredictorPool() throws IOException {
+        TextEmbeddingModelConfig poolConfig = config.toBuilder().predictorPoolSize(4).intraOpThreads(2).interOpThreads(1).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"predictor_pool_size\":4,\"intra_op_threads\":2,\"inter_op_threads\":1}";
+        TestHelper.testParseFromString(poolConfig, content, function);
+    }
+
+    @Test
+    public void invalidPredictorPoolSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("predictor pool size must be positive");
+        config.toBuilder().predictorPoolSize(0).build();
+    }
+
+    @Test
+    public void invalidPredictorPoolSize_TooLarge() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("predictor pool size must not be greater than 32");
+        config.toBuilder().predictorPoolSize(TextEmbeddingModelConfig.MAX_PREDICTOR_POOL_SIZE + 1).build();
+    }
+
+    @Test
+    public void invalidIntraOpThreads() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("intra op threads must be positive");
+        config.toBuilder().intraOpThreads(-1).build();
+    }
+
+    @Test
+    public void invalidBatchWindow() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch window must not be negative");
+        config.toBuilder().batchWindowMs(-1).build();
+    }
+
     @Test
     public void frameworkType_wrongValue() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -99,6 +148,21 @@ public class TextEmbeddingModelConfigTests {
         readInputStream(config);
     }
 
+    @Test
+    public void readInputStream_BatchSize() throws IOException {
+        readInputStream(config.toBuilder().batchSize(16).build());
+    }
+
+    @Test
+    public void readInputStream_PredictorPool() throws IOException {
+        readInputStream(config.toBuilder().predictorPoolSize(4).intraOpThreads(2).interOpThreads(1).build());
+    }
+
+    @Test
+    public void readInputStream_BatchWindow() throws IOException {
+        readInputStream(config.toBuilder().batchSize(8).batchWindowMs(5).build());
+    }
+
     public void readInputStream(TextEmbeddingModelConfig config) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         config.writeTo(bytesStreamOutput);
@@ -110,5 +174,10 @@ public class TextEmbeddingModelConfigTests {
         assertEquals(config.getEmbeddingDimension(), parsedConfig.getEmbeddingDimension());
         assertEquals(config.getFrameworkType(), parsedConfig.getFrameworkType());
         assertEquals(config.getWriteableName(), parsedConfig.getWriteableName());
+        assertEquals(config.getBatchSize(), parsedConfig.getBatchSize());
+        assertEquals(config.getPredictorPoolSize(), parsedConfig.getPredictorPoolSize());
+        assertEquals(config.getIntraOpThreads(), parsedConfig.getIntraOpThreads());
+        assertEquals(config.getInterOpThreads(), parsedConfig.getInterOpThreads());
+        assertEquals(config.getBatchWindowMs(), parsedConfig.getBatchWindowMs());
     }
 }
@@ -20,7 +20,9 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 public class ModelTensorTest {
@@ -116,5 +118,82 @@ public class ModelTensorTest {
                 .byteBuffer(ByteBuffer.wrap(new byte[]{0,1,0,1}))
                 .build();
     }
-}
 
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("embedding")
+                .floatData(new float[]{0.1f, -0.2f, 0.3f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertArrayEquals(new float[]{0.1f, -0.2f, 0.3f}, parsedTensor.getFloatData(), 0.0f);
+        assertArrayEquals(new Number[]{0.1f, -0.2f, 0.3f}, parsedTensor.getData());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamIn_ElementWiseFormat() throws IOException {
+        // data written one element at a time, as nodes before primitive data support do
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.writeOptionalString("embedding");
+        bytesStreamOutput.writeBoolean(true);
+        bytesStreamOutput.writeEnum(MLResultDataType.FLOAT32);
+        bytesStreamOutput.writeBoolean(false);
+        bytesStreamOutput.writeBoolean(true);
+        bytesStreamOutput.writeInt(2);
+        bytesStreamOutput.writeFloat(1.5f);
+        bytesStreamOutput.writeFloat(-2.5f);
+        bytesStreamOutput.writeBoolean(false);
+        bytesStreamOutput.writeOptionalString(null);
+        bytesStreamOutput.writeBoolean(false);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(new float[]{1.5f, -2.5f}, parsedTensor.getFloatData(), 0.0f);
+
+        BytesStreamOutput bulkOutput = new BytesStreamOutput();
+        parsedTensor.writeTo(bulkOutput);
+        assertEquals(bytesStreamOutput.bytes(), bulkOutput.bytes());
+    }
+
+    @Test
+    public void toXContent_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("embedding")
+                .floatData(new float[]{1.5f, -2.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"name\":\"embedding\",\"data_type\":\"FLOAT32\",\"data\":[1.5,-2.5]}", modelTensorContent);
+    }
+
+    @Test
+    public void setData_ClearPrimitiveData() {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("embedding")
+                .intData(new int[]{1, 2})
+                .dataType(MLResultDataType.INT32)
+                .build();
+        tensor.setData(null);
+        assertNull(tensor.getData());
+        assertNull(tensor.getIntData());
+    }
+
+    @Test
+    public void test_FloatDataWithIntegerDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data only supports floating data type");
+        ModelTensor.builder()
+                .name("embedding")
+                .floatData(new float[]{1.5f})
+                .dataType(MLResultDataType.INT32)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package org.opensearch.ml.common.transport.deploy;
+
+import org.junit.Test;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MLModelArtifactChunkRequestTest {
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLModelArtifactChunkRequest request = new MLModelArtifactChunkRequest("hash", 2);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        MLModelArtifactChunkRequest parsedRequest = new MLModelArtifactChunkRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals("hash", parsedRequest.getModelContentHash());
+        assertEquals(2, parsedRequest.getChunkNumber());
+        assertNull(parsedRequest.validate());
+    }
+
+    @Test
+    public void validate_Exception() {
+        ActionRequestValidationException exception = new MLModelArtifactChunkRequest(null, -1).validate();
+        assertEquals(2, exception.validationErrors().size());
+        assertTrue(exception.getMessage().contains("Model content hash can't be null"));
+    }
+
+    @Test
+    public void response_writeTo_Success() throws IOException {
+        MLModelArtifactChunkResponse response = new MLModelArtifactChunkResponse(3, new byte[] { 1, 2 });
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        response.writeTo(bytesStreamOutput);
+        MLModelArtifactChunkResponse parsedResponse = new MLModelArtifactChunkResponse(bytesStreamOutput.bytes().streamInput());
+        assertEquals(3, parsedResponse.getTotalChunks());
+        assertArrayEquals(new byte[] { 1, 2 }, parsedResponse.getData());
+    }
+}
@@ -157,7 +157,7 @@ public interface ConversationalMemoryHandler {
     /**
      * Get the traces associate with this interaction, sorted by recency
      * @param interactionId the interaction whose traces to get
-     * @param from where to start listing from
+     * @param from the trace number to start listing after
      * @param maxResults how many traces to get
      * @param listener gets the list of traces in this conversation, sorted by recency
      */
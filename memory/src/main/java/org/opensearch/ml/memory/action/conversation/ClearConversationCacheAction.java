@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Action for clearing a conversation from the conversational memory cache of all nodes
+ */
+public class ClearConversationCacheAction extends ActionType<ClearConversationCacheNodesResponse> {
+    /** Instance of this */
+    public static final ClearConversationCacheAction INSTANCE = new ClearConversationCacheAction();
+    /** Name of this action */
+    public static final String NAME = "cluster:admin/opensearch/ml/memory/conversation/clear_cache";
+
+    private ClearConversationCacheAction() {
+        super(NAME, ClearConversationCacheNodesResponse::new);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+/**
+ * Request for clearing a conversation from the conversational memory cache of one node
+ */
+public class ClearConversationCacheNodeRequest extends TransportRequest {
+    @Getter
+    private ClearConversationCacheNodesRequest clearCacheNodesRequest;
+
+    /**
+     * Constructor
+     * @param in input stream to read this from
+     * @throws IOException if something breaks reading the stream
+     */
+    public ClearConversationCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.clearCacheNodesRequest = new ClearConversationCacheNodesRequest(in);
+    }
+
+    /**
+     * Constructor
+     * @param request the nodes request this node request is sent for
+     */
+    public ClearConversationCacheNodeRequest(ClearConversationCacheNodesRequest request) {
+        this.clearCacheNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        clearCacheNodesRequest.writeTo(out);
+    }
+}
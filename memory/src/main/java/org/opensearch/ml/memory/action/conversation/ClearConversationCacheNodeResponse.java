@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * Response of one node to a clear conversation cache request
+ */
+public class ClearConversationCacheNodeResponse extends BaseNodeResponse {
+
+    /**
+     * Constructor
+     * @param node the node which cleared its cache
+     */
+    public ClearConversationCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    /**
+     * Constructor
+     * @param in input stream to read this from
+     * @throws IOException if something breaks reading the stream
+     */
+    public ClearConversationCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * Read a node response from a stream
+     * @param in input stream to read from
+     * @return the node response
+     * @throws IOException if something breaks reading the stream
+     */
+    public static ClearConversationCacheNodeResponse readResponse(StreamInput in) throws IOException {
+        return new ClearConversationCacheNodeResponse(in);
+    }
+}
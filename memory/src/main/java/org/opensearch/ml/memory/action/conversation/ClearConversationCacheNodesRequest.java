@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Request for clearing a conversation from the conversational memory cache of nodes
+ */
+public class ClearConversationCacheNodesRequest extends BaseNodesRequest<ClearConversationCacheNodesRequest> {
+    @Getter
+    private String conversationId;
+
+    /**
+     * Constructor
+     * @param in input stream to read this from
+     * @throws IOException if something breaks reading the stream
+     */
+    public ClearConversationCacheNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.conversationId = in.readString();
+    }
+
+    /**
+     * Constructor
+     * @param nodeIds ids of the nodes to clear the conversation on, empty for all nodes
+     * @param conversationId id of the conversation to clear
+     */
+    public ClearConversationCacheNodesRequest(String[] nodeIds, String conversationId) {
+        super(nodeIds);
+        this.conversationId = conversationId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(conversationId);
+    }
+}
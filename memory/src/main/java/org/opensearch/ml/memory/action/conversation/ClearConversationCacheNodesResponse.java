@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * Response of all nodes to a clear conversation cache request
+ */
+public class ClearConversationCacheNodesResponse extends BaseNodesResponse<ClearConversationCacheNodeResponse> {
+
+    /**
+     * Constructor
+     * @param in input stream to read this from
+     * @throws IOException if something breaks reading the stream
+     */
+    public ClearConversationCacheNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(ClearConversationCacheNodeResponse::readResponse), in.readList(FailedNodeException::new));
+    }
+
+    /**
+     * Constructor
+     * @param clusterName name of the cluster
+     * @param nodes responses of the nodes which cleared their cache
+     * @param failures failures of the nodes which didn't
+     */
+    public ClearConversationCacheNodesResponse(
+        ClusterName clusterName,
+        List<ClearConversationCacheNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<ClearConversationCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<ClearConversationCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(ClearConversationCacheNodeResponse::readResponse);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.memory.index.ConversationalMemoryCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Transport action for clearing a conversation from the conversational memory cache of all nodes
+ */
+@Log4j2
+public class ClearConversationCacheTransportAction extends
+    TransportNodesAction<
+        ClearConversationCacheNodesRequest,
+        ClearConversationCacheNodesResponse,
+        ClearConversationCacheNodeRequest,
+        ClearConversationCacheNodeResponse> {
+    private final ClusterService clusterService;
+    private final ConversationalMemoryCache cache;
+
+    /**
+     * Constructor
+     * @param transportService for inter-node communications
+     * @param actionFilters for filtering actions
+     * @param clusterService for the local node and cluster name
+     * @param threadPool for running the node operations
+     * @param cache the conversational memory cache of this node
+     */
+    @Inject
+    public ClearConversationCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        ConversationalMemoryCache cache
+    ) {
+        super(
+            ClearConversationCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            ClearConversationCacheNodesRequest::new,
+            ClearConversationCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            ClearConversationCacheNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.cache = cache;
+    }
+
+    @Override
+    protected ClearConversationCacheNodesResponse newResponse(
+        ClearConversationCacheNodesRequest nodesRequest,
+        List<ClearConversationCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new ClearConversationCacheNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected ClearConversationCacheNodeRequest newNodeRequest(ClearConversationCacheNodesRequest request) {
+        return new ClearConversationCacheNodeRequest(request);
+    }
+
+    @Override
+    protected ClearConversationCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new ClearConversationCacheNodeResponse(in);
+    }
+
+    @Override
+    protected ClearConversationCacheNodeResponse nodeOperation(ClearConversationCacheNodeRequest request) {
+        String conversationId = request.getClearCacheNodesRequest().getConversationId();
+        cache.invalidateConversation(conversationId);
+        log.debug("Cleared memory {} from memory cache on node {}", conversationId, clusterService.localNode().getId());
+        return new ClearConversationCacheNodeResponse(clusterService.localNode());
+    }
+}
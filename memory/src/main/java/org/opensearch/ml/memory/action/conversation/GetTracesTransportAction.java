@@ -53,7 +53,9 @@ public class GetTracesTransportAction extends HandledTransportAction<GetTracesRe
             // TODO: check this newStoredContext() method and remove it if it's redundant
             ActionListener<GetTracesResponse> internalListener = ActionListener.runBefore(actionListener, () -> context.restore());
             ActionListener<List<Interaction>> al = ActionListener.wrap(tracesList -> {
-                internalListener.onResponse(new GetTracesResponse(tracesList, from + maxResults, tracesList.size() == maxResults));
+                // the next page starts after the last trace number returned
+                int nextToken = tracesList.isEmpty() ? from : tracesList.get(tracesList.size() - 1).getTraceNum();
+                internalListener.onResponse(new GetTracesResponse(tracesList, nextToken, tracesList.size() == maxResults));
             }, e -> { internalListener.onFailure(e); });
             cmHandler.getTraces(request.getInteractionId(), from, maxResults, al);
         } catch (Exception e) {
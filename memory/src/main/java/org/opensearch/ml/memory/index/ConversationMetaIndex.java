@@ -58,6 +58,8 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.ml.common.conversation.ActionConstants;
 import org.opensearch.ml.common.conversation.ConversationMeta;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheAction;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheNodesRequest;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.sort.SortOrder;
 
@@ -73,9 +75,19 @@ public class ConversationMetaIndex {
 
     private Client client;
     private ClusterService clusterService;
+    private ConversationalMemoryCache cache;
 
     public static final Map<String, Object> INDEX_SETTINGS = Map.of("index.auto_expand_replicas", "0-1");
 
+    /**
+     * Constructor of a conversational meta index which doesn't cache conversations
+     * @param client opensearch client to use for talking to OS
+     * @param clusterService ClusterService object for managing OS
+     */
+    public ConversationMetaIndex(Client client, ClusterService clusterService) {
+        this(client, clusterService, ConversationalMemoryCache.disabled());
+    }
+
     private String getUserStrFromThreadContext() {
         return client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
     }
@@ -134,6 +146,7 @@ public class ConversationMetaIndex {
         initConversationMetaIndexIfAbsent(ActionListener.wrap(indexExists -> {
             if (indexExists) {
                 String userstr = getUserStrFromThreadContext();
+                String user = userstr == null ? null : User.parse(userstr).getName();
                 Instant now = Instant.now();
                 IndexRequest request = Requests
                     .indexRequest(META_INDEX_NAME)
@@ -145,7 +158,7 @@ public class ConversationMetaIndex {
                         ConversationalIndexConstants.META_NAME_FIELD,
                         name,
                         ConversationalIndexConstants.USER_FIELD,
-                        userstr == null ? null : User.parse(userstr).getName(),
+                        user,
                         ConversationalIndexConstants.APPLICATION_TYPE_FIELD,
                         applicationType
                     );
@@ -153,6 +166,7 @@ public class ConversationMetaIndex {
                     ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                         if (resp.status() == RestStatus.CREATED) {
+                            cache.onConversationCreated(new ConversationMeta(resp.getId(), now, now, name, user));
                             internalListener.onResponse(resp.getId());
                             log.info("Successfully created the memory with id : {}", resp.getId());
                         } else {
@@ -265,9 +279,9 @@ public class ConversationMetaIndex {
                     // When we get the delete response, do this:
                     ActionListener<DeleteResponse> al = ActionListener.wrap(deleteResponse -> {
                         if (deleteResponse.getResult() == Result.DELETED) {
-                            internalListener.onResponse(true);
+                            clearConversationCache(conversationId, true, internalListener);
                         } else if (deleteResponse.status() == RestStatus.NOT_FOUND) {
-                            internalListener.onResponse(true);
+                            clearConversationCache(conversationId, true, internalListener);
                         } else {
                             internalListener.onResponse(false);
                         }
@@ -301,9 +315,16 @@ public class ConversationMetaIndex {
             return;
         }
         String userstr = getUserStrFromThreadContext();
+        ConversationMeta cachedConversation = cache.getConversation(conversationId);
+        if (cachedConversation != null) {
+            listener.onResponse(hasAccess(userstr, cachedConversation));
+            return;
+        }
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            // Get is real time, so a conversation created just now is found without refreshing the index
             GetRequest getRequest = Requests.getRequest(META_INDEX_NAME).id(conversationId);
+            long cacheVersion = cache.getVersion();
             ActionListener<GetResponse> al = ActionListener.wrap(getResponse -> {
                 // If the conversation doesn't exist, fail
                 if (!(getResponse.isExists() && getResponse.getId().equals(conversationId))) {
@@ -315,25 +336,25 @@ public class ConversationMetaIndex {
                     return;
                 }
                 ConversationMeta conversation = ConversationMeta.fromMap(conversationId, getResponse.getSourceAsMap());
-                String user = User.parse(userstr).getName();
-                // If you're not the owner of this conversation, you do not have permission
-                if (!user.equals(conversation.getUser())) {
-                    internalListener.onResponse(false);
-                    return;
-                }
-                internalListener.onResponse(true);
+                cache.putConversation(conversation, cacheVersion);
+                internalListener.onResponse(hasAccess(userstr, conversation));
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(getRequest, al);
-            }, e -> {
-                log.error("Failed to refresh memory index during check access ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(getRequest, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    private boolean hasAccess(String userstr, ConversationMeta conversation) {
+        // If security is off - User doesn't exist - you have permission
+        if (userstr == null || User.parse(userstr) == null) {
+            return true;
+        }
+        // If you're not the owner of this conversation, you do not have permission
+        String user = User.parse(userstr).getName();
+        return user.equals(conversation.getUser());
+    }
+
     /**
      * Search over the conversations in the index by wrapping the original search request
      * If security is enabled, add a {"term": {"user": username}} to the wrapper must clause
@@ -378,7 +399,10 @@ public class ConversationMetaIndex {
 
         this.checkAccess(conversationId, ActionListener.wrap(access -> {
             if (access) {
-                innerUpdateConversation(updateRequest, listener);
+                innerUpdateConversation(
+                    updateRequest,
+                    ActionListener.wrap(response -> clearConversationCache(conversationId, response, listener), listener::onFailure)
+                );
             } else {
                 String userstr = client
                     .threadPool()
@@ -403,6 +427,34 @@ public class ConversationMetaIndex {
         }
     }
 
+    /**
+     * Drop a conversation from the cache of this node and then from the caches of all nodes. A failure to clear
+     * the other nodes is only logged, their entries still expire after the cache TTL.
+     * @param conversationId id of the conversation to drop
+     * @param response response to return once the caches are cleared
+     * @param listener receives the response
+     */
+    private <T> void clearConversationCache(String conversationId, T response, ActionListener<T> listener) {
+        cache.invalidateConversation(conversationId);
+        if (cache.isDisabled()) {
+            listener.onResponse(response);
+            return;
+        }
+        try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
+            // no node ids means all nodes
+            ClearConversationCacheNodesRequest clearCacheRequest = new ClearConversationCacheNodesRequest(new String[0], conversationId);
+            client.execute(ClearConversationCacheAction.INSTANCE, clearCacheRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                if (r.hasFailures()) {
+                    log.warn("Failed to clear memory {} from memory cache on nodes {}", conversationId, r.failures());
+                }
+                listener.onResponse(response);
+            }, e -> {
+                log.warn("Failed to clear memory " + conversationId + " from memory cache", e);
+                listener.onResponse(response);
+            }), () -> threadContext.restore()));
+        }
+    }
+
     /**
      * Get a single ConversationMeta object
      * @param conversationId id of the conversation to get
@@ -414,44 +466,50 @@ public class ConversationMetaIndex {
             return;
         }
         String userstr = getUserStrFromThreadContext();
+        ConversationMeta cachedConversation = cache.getConversation(conversationId);
+        if (cachedConversation != null) {
+            returnConversation(userstr, cachedConversation, listener);
+            return;
+        }
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<ConversationMeta> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             GetRequest request = Requests.getRequest(META_INDEX_NAME).id(conversationId);
+            long cacheVersion = cache.getVersion();
             ActionListener<GetResponse> al = ActionListener.wrap(getResponse -> {
                 // If the conversation doesn't exist, fail
                 if (!(getResponse.isExists() && getResponse.getId().equals(conversationId))) {
                     throw new ResourceNotFoundException("Memory [" + conversationId + "] not found");
                 }
                 ConversationMeta conversation = ConversationMeta.fromMap(conversationId, getResponse.getSourceAsMap());
-                // If no security, return conversation
-                if (userstr == null || User.parse(userstr) == null) {
-                    internalListener.onResponse(conversation);
-                    return;
-                }
-                // If security and correct user, return conversation
-                String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
-                if (user.equals(conversation.getUser())) {
-                    internalListener.onResponse(conversation);
-                    log.info("Successfully get the memory for {}", conversationId);
-                    return;
-                }
-                // Otherwise you don't have permission
-                internalListener
-                    .onFailure(
-                        new OpenSearchStatusException(
-                            "User [" + user + "] does not have access to memory " + conversationId,
-                            RestStatus.UNAUTHORIZED
-                        )
-                    );
+                cache.putConversation(conversation, cacheVersion);
+                returnConversation(userstr, conversation, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, al);
-            }, e -> {
-                log.error("Failed to refresh the memory index during get memory ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
+
+    private void returnConversation(String userstr, ConversationMeta conversation, ActionListener<ConversationMeta> listener) {
+        // If no security, return conversation
+        if (userstr == null || User.parse(userstr) == null) {
+            listener.onResponse(conversation);
+            return;
+        }
+        // If security and correct user, return conversation
+        String user = User.parse(userstr).getName();
+        if (user.equals(conversation.getUser())) {
+            listener.onResponse(conversation);
+            log.info("Successfully get the memory for {}", conversation.getId());
+            return;
+        }
+        // Otherwise you don't have permission
+        listener
+            .onFailure(
+                new OpenSearchStatusException(
+                    "User [" + user + "] does not have access to memory " + conversation.getId(),
+                    RestStatus.UNAUTHORIZED
+                )
+            );
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.conversation.ConversationMeta;
+
+/**
+ * Node local write-through cache of conversation metadata. Conversation metadata is cached on create and on the first
+ * read, so access checks don't need to read the memory index again. Interactions are not cached, as they are created
+ * through any node, and are always read from the index. Updating or deleting a conversation clears it on all nodes
+ * through {@link org.opensearch.ml.memory.action.conversation.ClearConversationCacheAction}. Entries expire after the
+ * configured TTL, which bounds how stale they can be on a node which missed the clear.
+ */
+public class ConversationalMemoryCache {
+
+    private volatile Cache<String, ConversationMeta> conversations;
+    // increased on every change, so a read started before a change doesn't cache stale results
+    private long version;
+
+    /**
+     * Constructor
+     * @param maxConversations max number of conversations cached, 0 disables the cache
+     * @param ttlInSeconds time cached entries live after written
+     */
+    public ConversationalMemoryCache(int maxConversations, int ttlInSeconds) {
+        resize(maxConversations, ttlInSeconds);
+    }
+
+    /**
+     * Create a cache which caches nothing
+     * @return disabled cache
+     */
+    public static ConversationalMemoryCache disabled() {
+        return new ConversationalMemoryCache(0, 0);
+    }
+
+    /**
+     * Rebuild the cache with new limits. All cached entries are dropped.
+     * @param maxConversations max number of conversations cached, 0 disables the cache
+     * @param ttlInSeconds time cached entries live after written
+     */
+    public synchronized void resize(int maxConversations, int ttlInSeconds) {
+        version++;
+        if (maxConversations <= 0 || ttlInSeconds <= 0) {
+            conversations = null;
+            return;
+        }
+        conversations = CacheBuilder
+            .<String, ConversationMeta>builder()
+            .setMaximumWeight(maxConversations)
+            .setExpireAfterWrite(TimeValue.timeValueSeconds(ttlInSeconds))
+            .build();
+    }
+
+    /**
+     * Whether this cache caches nothing. The cache settings are cluster wide, so the caches of the other nodes are
+     * disabled as well.
+     * @return true if disabled
+     */
+    public boolean isDisabled() {
+        return conversations == null;
+    }
+
+    /**
+     * Get the version to pass to {@link #putConversation} after reading the index
+     * @return current version
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get cached conversation metadata
+     * @param conversationId id of the conversation
+     * @return conversation metadata, or null if not cached
+     */
+    public ConversationMeta getConversation(String conversationId) {
+        Cache<String, ConversationMeta> cache = conversations;
+        return cache == null ? null : cache.get(conversationId);
+    }
+
+    /**
+     * Cache conversation metadata read from the index, unless the memory changed since the read started
+     * @param conversation conversation metadata
+     * @param readVersion version got before reading the index
+     */
+    public synchronized void putConversation(ConversationMeta conversation, long readVersion) {
+        if (conversations != null && readVersion == version) {
+            conversations.put(conversation.getId(), conversation);
+        }
+    }
+
+    /**
+     * Cache a newly created conversation
+     * @param conversation conversation metadata
+     */
+    public synchronized void onConversationCreated(ConversationMeta conversation) {
+        version++;
+        if (conversations != null) {
+            conversations.put(conversation.getId(), conversation);
+        }
+    }
+
+    /**
+     * Drop cached metadata of a conversation on this node
+     * @param conversationId id of the conversation
+     */
+    public synchronized void invalidateConversation(String conversationId) {
+        version++;
+        if (conversations != null) {
+            conversations.invalidate(conversationId);
+        }
+    }
+}
@@ -33,11 +33,12 @@ import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.bulk.BulkRequest;
-import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateRequest;
@@ -45,6 +46,7 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
@@ -60,7 +62,9 @@ import org.opensearch.ml.common.conversation.ActionConstants;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -78,8 +82,9 @@ public class InteractionsIndex {
     private Client client;
     private ClusterService clusterService;
     private ConversationMetaIndex conversationMetaIndex;
-    // How big the steps should be when gathering *ALL* interactions in a conversation
+    // How many interactions are deleted per bulk request when deleting a conversation
     private final int resultsAtATime = 300;
+    private static final TimeValue DELETE_PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
 
     /**
      * 'PUT's the index in opensearch if it's not there already
@@ -332,11 +337,11 @@ public class InteractionsIndex {
     }
 
     /**
-     * Gets a list of interactions belonging to a conversation
+     * Gets a list of traces belonging to an interaction
      * @param interactionId the interaction to read from
-     * @param from where to start in the reading
-     * @param maxResults how many interactions to return
-     * @param listener gets the list, sorted by recency, of interactions
+     * @param from the trace number to start after, 0 to start from the first trace
+     * @param maxResults how many traces to return
+     * @param listener gets the list, sorted by trace number, of traces
      */
     public void getTraces(String interactionId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
         if (!clusterService.state().metadata().hasIndex(INTERACTIONS_INDEX_NAME)) {
@@ -374,12 +379,8 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // Get is real time, so a message created just now is found without refreshing the index
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -399,11 +400,14 @@ public class InteractionsIndex {
         TermQueryBuilder termQueryBuilder = QueryBuilders
             .termQuery(ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD, interactionId);
         boolQueryBuilder.must(termQueryBuilder);
+
+        // Trace numbers are unique within an interaction, so pages are sought by trace number instead of skipped over
+        boolQueryBuilder.filter(QueryBuilders.rangeQuery(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD).gt(from));
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.query(boolQueryBuilder);
 
         request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
+        request.source().size(maxResults);
         request.source().sort(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, SortOrder.ASC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
@@ -425,53 +429,7 @@ public class InteractionsIndex {
     }
 
     /**
-     * Gets all interactions in a conversation, regardless of conversation size
-     * @param conversationId conversation to get all interactions of
-     * @param maxResults how many interactions to get per search query
-     * @param listener receives the list of all interactions in the conversation
-     */
-    @VisibleForTesting
-    void getAllInteractions(String conversationId, int maxResults, ActionListener<List<Interaction>> listener) {
-        ActionListener<List<Interaction>> al = nextGetListener(conversationId, 0, maxResults, listener, new LinkedList<>());
-        innerGetInteractions(conversationId, 0, maxResults, al);
-    }
-
-    /**
-     * Recursively builds the list of interactions for getAllInteractions by returning an
-     * ActionListener for handling the next search query
-     * @param conversationId conversation to get interactions from
-     * @param from where to start in this step
-     * @param maxResults how many to get in this step
-     * @param mainListener listener for the final result
-     * @param result partially built list of interactions
-     * @return an ActionListener to handle the next search query
-     */
-    @VisibleForTesting
-    ActionListener<List<Interaction>> nextGetListener(
-        String conversationId,
-        int from,
-        int maxResults,
-        ActionListener<List<Interaction>> mainListener,
-        List<Interaction> result
-    ) {
-        if (maxResults < 1) {
-            mainListener.onFailure(new IllegalArgumentException("maxResults must be positive"));
-            return null;
-        }
-        return ActionListener.wrap(interactions -> {
-            result.addAll(interactions);
-            if (interactions.size() < maxResults) {
-                mainListener.onResponse(result);
-            } else {
-                ActionListener<List<Interaction>> al = nextGetListener(conversationId, from + maxResults, maxResults, mainListener, result);
-                innerGetInteractions(conversationId, from + maxResults, maxResults, al);
-            }
-        }, e -> { mainListener.onFailure(e); });
-    }
-
-    /**
-     * Deletes all interactions associated with a conversationId
-     * Note this uses a bulk delete request (and tries to delete an entire conversation) so it may be heavyweight
+     * Deletes all interactions and traces associated with a conversationId
      * @param conversationId the id of the conversation to delete from
      * @param listener gets whether the deletion was successful
      */
@@ -484,24 +442,9 @@ public class InteractionsIndex {
         String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            ActionListener<List<Interaction>> searchListener = ActionListener.wrap(interactions -> {
-                if (interactions.size() == 0) {
-                    internalListener.onResponse(true);
-                    return;
-                }
-                BulkRequest request = Requests.bulkRequest();
-                for (Interaction interaction : interactions) {
-                    DeleteRequest delRequest = Requests.deleteRequest(INTERACTIONS_INDEX_NAME).id(interaction.getId());
-                    request.add(delRequest);
-                }
-                client
-                    .bulk(request, ActionListener.wrap(bulkResponse -> { internalListener.onResponse(!bulkResponse.hasFailures()); }, e -> {
-                        internalListener.onFailure(e);
-                    }));
-            }, e -> { internalListener.onFailure(e); });
             ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
                 if (access) {
-                    getAllInteractions(conversationId, resultsAtATime, searchListener);
+                    deleteAllInteractions(conversationId, internalListener);
                 } else {
                     throw new OpenSearchStatusException(
                         "User [" + user + "] does not have access to memory " + conversationId,
@@ -516,6 +459,80 @@ public class InteractionsIndex {
         }
     }
 
+    /**
+     * Deletes all interactions and traces of a conversation one page at a time. Pages are read from a point in time
+     * with search_after, so only the ids of one page are held at a time, and deleting a page doesn't shift the pages
+     * after it.
+     * @param conversationId the id of the conversation to delete from
+     * @param listener gets whether all deletions succeeded
+     */
+    @VisibleForTesting
+    void deleteAllInteractions(String conversationId, ActionListener<Boolean> listener) {
+        // Refresh once, so interactions created just before the deletion are in the point in time too
+        client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(r -> {
+            CreatePitRequest createPitRequest = new CreatePitRequest(DELETE_PIT_KEEP_ALIVE, false, INTERACTIONS_INDEX_NAME);
+            client.createPit(createPitRequest, ActionListener.wrap(pit -> {
+                String pitId = pit.getId();
+                ActionListener<Boolean> deletePitListener = ActionListener.runAfter(listener, () -> deletePit(pitId));
+                deleteNextPage(conversationId, pitId, null, true, deletePitListener);
+            }, e -> {
+                log.error("Failed to create point in time to delete messages of memory {}", conversationId);
+                listener.onFailure(e);
+            }));
+        }, e -> { listener.onFailure(e); }));
+    }
+
+    private void deleteNextPage(
+        String conversationId,
+        String pitId,
+        Object[] searchAfter,
+        boolean success,
+        ActionListener<Boolean> listener
+    ) {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(QueryBuilders.termQuery(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId))
+            .size(resultsAtATime)
+            .fetchSource(false)
+            .sort(SortBuilders.pitTiebreaker())
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(DELETE_PIT_KEEP_ALIVE));
+        if (searchAfter != null) {
+            searchSourceBuilder.searchAfter(searchAfter);
+        }
+        // search request with point in time must not have indices
+        SearchRequest request = new SearchRequest().source(searchSourceBuilder);
+        client.search(request, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits.length == 0) {
+                listener.onResponse(success);
+                return;
+            }
+            BulkRequest bulkRequest = Requests.bulkRequest();
+            for (SearchHit hit : hits) {
+                bulkRequest.add(Requests.deleteRequest(INTERACTIONS_INDEX_NAME).id(hit.getId()));
+            }
+            Object[] lastSortValues = hits[hits.length - 1].getSortValues();
+            client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                boolean pageSuccess = success && !bulkResponse.hasFailures();
+                if (hits.length < resultsAtATime) {
+                    listener.onResponse(pageSuccess);
+                    return;
+                }
+                deleteNextPage(conversationId, pitId, lastSortValues, pageSuccess, listener);
+            }, e -> {
+                log.error("Failed to delete messages of memory {}", conversationId);
+                listener.onFailure(e);
+            }));
+        }, e -> { listener.onFailure(e); }));
+    }
+
+    private void deletePit(String pitId) {
+        client
+            .deletePits(
+                new DeletePitRequest(pitId),
+                ActionListener.wrap(r -> {}, e -> { log.warn("Failed to delete point in time {}", pitId, e); })
+            );
+    }
+
     /**
      * Execute a search query over the interactions of a conversation by constructing a wrapper
      * boolean query around the original query, AND a term query over conversation id
@@ -585,12 +602,8 @@ public class InteractionsIndex {
                 // checks if the user has permission to access the conversation that the interaction belongs to
                 checkInteractionPermission(interactionId, interaction, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // Get is real time, so a message created just now is found without refreshing the index
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -641,12 +654,8 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh messages index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // Get is real time, so a message created just now is found without refreshing the index
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
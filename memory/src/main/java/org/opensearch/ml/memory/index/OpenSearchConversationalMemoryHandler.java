@@ -57,7 +57,24 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
      * @param clusterService ClusterService object for managing OS
      */
     public OpenSearchConversationalMemoryHandler(Client client, ClusterService clusterService) {
-        this.conversationMetaIndex = new ConversationMetaIndex(client, clusterService);
+        this(
+            client,
+            clusterService,
+            new ConversationalMemoryCache(
+                ConversationalIndexConstants.ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS.get(clusterService.getSettings()),
+                ConversationalIndexConstants.ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS.get(clusterService.getSettings())
+            )
+        );
+    }
+
+    /**
+     * Constructor
+     * @param client opensearch client to use for talking to OS
+     * @param clusterService ClusterService object for managing OS
+     * @param cache node local cache of conversation metadata
+     */
+    public OpenSearchConversationalMemoryHandler(Client client, ClusterService clusterService, ConversationalMemoryCache cache) {
+        this.conversationMetaIndex = new ConversationMetaIndex(client, clusterService, cache);
         this.interactionsIndex = new InteractionsIndex(client, clusterService, this.conversationMetaIndex);
     }
 
@@ -386,7 +403,7 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
     /**
      * List all traces of an interaction
      * @param interactionId id of the parent interaction
-     * @param from where to start listing from
+     * @param from the trace number to start listing after
      * @maxResults how many traces to list
      * @listener process the response
      */
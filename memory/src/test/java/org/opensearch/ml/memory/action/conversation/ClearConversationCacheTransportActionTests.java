@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.action.conversation;
+
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.Mockito;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.conversation.ConversationMeta;
+import org.opensearch.ml.memory.index.ConversationalMemoryCache;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class ClearConversationCacheTransportActionTests extends OpenSearchTestCase {
+
+    ClusterService clusterService;
+    ConversationalMemoryCache cache;
+    DiscoveryNode localNode;
+    ClearConversationCacheTransportAction action;
+
+    @Before
+    public void setup() {
+        this.clusterService = Mockito.mock(ClusterService.class);
+        this.cache = new ConversationalMemoryCache(10, 60);
+        this.localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+        this.action = new ClearConversationCacheTransportAction(
+            Mockito.mock(TransportService.class),
+            Mockito.mock(ActionFilters.class),
+            clusterService,
+            Mockito.mock(ThreadPool.class),
+            cache
+        );
+    }
+
+    public void testNewResponse() throws IOException {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        ClearConversationCacheNodesRequest nodesRequest = new ClearConversationCacheNodesRequest(new String[0], "cid");
+        ClearConversationCacheNodesResponse response = action
+            .newResponse(nodesRequest, List.of(new ClearConversationCacheNodeResponse(localNode)), Collections.emptyList());
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        ClearConversationCacheNodesResponse parsedResponse = new ClearConversationCacheNodesResponse(output.bytes().streamInput());
+        assertEquals(1, parsedResponse.getNodes().size());
+        assertEquals("foo0", parsedResponse.getNodes().get(0).getNode().getId());
+    }
+
+    public void testNewNodeRequest() throws IOException {
+        ClearConversationCacheNodesRequest nodesRequest = new ClearConversationCacheNodesRequest(new String[] { "nodeId1" }, "cid");
+        ClearConversationCacheNodeRequest nodeRequest = action.newNodeRequest(nodesRequest);
+        BytesStreamOutput output = new BytesStreamOutput();
+        nodeRequest.writeTo(output);
+        ClearConversationCacheNodeRequest parsedRequest = new ClearConversationCacheNodeRequest(output.bytes().streamInput());
+        assertEquals("cid", parsedRequest.getClearCacheNodesRequest().getConversationId());
+    }
+
+    public void testNewNodeResponse() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        new ClearConversationCacheNodeResponse(localNode).writeTo(output);
+        ClearConversationCacheNodeResponse response = action.newNodeResponse(output.bytes().streamInput());
+        assertEquals("foo0", response.getNode().getId());
+    }
+
+    public void testNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        cache.onConversationCreated(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"));
+        cache.onConversationCreated(new ConversationMeta("other cid", Instant.now(), Instant.now(), "name", "user"));
+        ClearConversationCacheNodesRequest nodesRequest = new ClearConversationCacheNodesRequest(new String[0], "cid");
+        ClearConversationCacheNodeResponse response = action.nodeOperation(new ClearConversationCacheNodeRequest(nodesRequest));
+        assertEquals("foo0", response.getNode().getId());
+        assertNull(cache.getConversation("cid"));
+        assertNotNull(cache.getConversation("other cid"));
+    }
+}
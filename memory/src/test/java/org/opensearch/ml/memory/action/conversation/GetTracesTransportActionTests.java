@@ -119,7 +119,7 @@ public class GetTracesTransportActionTests extends OpenSearchTestCase {
             "test-origin",
             Collections.singletonMap("metadata", "some meta"),
             "parent_id",
-            1
+            5
         );
         doAnswer(invocation -> {
             ActionListener<List<Interaction>> listener = invocation.getArgument(3);
@@ -135,6 +135,8 @@ public class GetTracesTransportActionTests extends OpenSearchTestCase {
         Interaction trace = traces.get(0);
         assert (trace.equals(testTrace));
         assert (argCaptor.getValue().hasMorePages());
+        // the next page starts after the last trace returned
+        assert (argCaptor.getValue().getNextToken() == 5);
     }
 
     public void testGetTracesFails_thenFail() {
@@ -19,15 +19,19 @@ package org.opensearch.ml.memory.index;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -60,6 +64,10 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.conversation.ConversationMeta;
+import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheAction;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheNodesRequest;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheNodesResponse;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -491,7 +499,7 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         setupUser("user");
         setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Client Test Fail")).when(client).admin();
+        doThrow(new RuntimeException("Client Test Fail")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> accessListener = mock(ActionListener.class);
         conversationMetaIndex.checkAccess("test id", accessListener);
@@ -521,20 +529,115 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
-    public void testCheckAccess_RefreshFails_ThenFail() {
+    public void testCheckAccess_NoRefresh() {
         setupUser("user");
         doReturn(true).when(metadata).hasIndex(anyString());
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        setupGetConversation("test id", "user");
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> accessListener = mock(ActionListener.class);
         conversationMetaIndex.checkAccess("test id", accessListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(accessListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        verify(accessListener, times(1)).onResponse(true);
+        verify(indicesAdminClient, never()).refresh(any(), any());
+    }
+
+    public void testCheckAccess_Cached() {
+        conversationMetaIndex = spy(new ConversationMetaIndex(client, clusterService, new ConversationalMemoryCache(10, 60)));
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("test id", "user");
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(accessListener, times(2)).onResponse(true);
+        verify(client, times(1)).get(any(), any());
+
+        setupUser("other user");
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(accessListener, times(1)).onResponse(false);
+        verify(client, times(1)).get(any(), any());
+    }
+
+    public void testUpdateConversation_ClearsCacheOnAllNodes() {
+        ConversationalMemoryCache cache = new ConversationalMemoryCache(10, 60);
+        conversationMetaIndex = spy(new ConversationMetaIndex(client, clusterService, cache));
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("test id", "user");
+        conversationMetaIndex.checkAccess("test id", mock(ActionListener.class));
+        assertNotNull(cache.getConversation("test id"));
+        UpdateResponse updateResponse = mock(UpdateResponse.class);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> al = invocation.getArgument(1);
+            al.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(), any());
+        setupClearCache();
+        @SuppressWarnings("unchecked")
+        ActionListener<UpdateResponse> updateListener = mock(ActionListener.class);
+        conversationMetaIndex.updateConversation("test id", new UpdateRequest(), updateListener);
+        assertNull(cache.getConversation("test id"));
+        verifyClearCache("test id");
+        verify(updateListener, times(1)).onResponse(updateResponse);
+    }
+
+    public void testDelete_ClearsCacheOnAllNodes() {
+        ConversationalMemoryCache cache = new ConversationalMemoryCache(10, 60);
+        conversationMetaIndex = spy(new ConversationMetaIndex(client, clusterService, cache));
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("test id", "user");
+        DeleteResponse response = mock(DeleteResponse.class);
+        doReturn(DocWriteResponse.Result.DELETED).when(response).getResult();
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
+            return null;
+        }).when(client).delete(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<ClearConversationCacheNodesResponse> al = invocation.getArgument(2);
+            al.onFailure(new RuntimeException("Clear Cache Exception"));
+            return null;
+        }).when(client).execute(eq(ClearConversationCacheAction.INSTANCE), any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
+        conversationMetaIndex.deleteConversation("test id", deleteConversationListener);
+        assertNull(cache.getConversation("test id"));
+        verifyClearCache("test id");
+        // failing to clear the other nodes doesn't fail the delete
+        verify(deleteConversationListener, times(1)).onResponse(true);
+    }
+
+    private void setupClearCache() {
+        doAnswer(invocation -> {
+            ActionListener<ClearConversationCacheNodesResponse> al = invocation.getArgument(2);
+            al.onResponse(mock(ClearConversationCacheNodesResponse.class));
+            return null;
+        }).when(client).execute(eq(ClearConversationCacheAction.INSTANCE), any(), any());
+    }
+
+    private void verifyClearCache(String conversationId) {
+        ArgumentCaptor<ClearConversationCacheNodesRequest> argCaptor = ArgumentCaptor.forClass(ClearConversationCacheNodesRequest.class);
+        verify(client, times(1)).execute(eq(ClearConversationCacheAction.INSTANCE), argCaptor.capture(), any());
+        assertEquals(conversationId, argCaptor.getValue().getConversationId());
+        assertEquals(0, argCaptor.getValue().nodesIds().length);
+    }
+
+    private void setupGetConversation(String conversationId, String user) {
+        GetResponse response = mock(GetResponse.class);
+        doReturn(true).when(response).isExists();
+        doReturn(conversationId).when(response).getId();
+        Map<String, Object> source = new HashMap<>();
+        source.put(ConversationalIndexConstants.META_CREATED_TIME_FIELD, "2023-01-01T00:00:00Z");
+        source.put(ConversationalIndexConstants.META_UPDATED_TIME_FIELD, "2023-01-01T00:00:00Z");
+        source.put(ConversationalIndexConstants.META_NAME_FIELD, "name");
+        source.put(ConversationalIndexConstants.USER_FIELD, user);
+        doReturn(source).when(response).getSourceAsMap();
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
     }
 
     public void testSearchConversations_RefreshFails_ThenFail() {
@@ -614,24 +717,21 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Memory [tester_id] not found"));
     }
 
-    public void testGetConversation_RefreshFails_ThenFail() {
+    public void testGetConversation_NoRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        setupGetConversation("tester_id", null);
         @SuppressWarnings("unchecked")
         ActionListener<ConversationMeta> getListener = mock(ActionListener.class);
         conversationMetaIndex.getConversation("tester_id", getListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        ArgumentCaptor<ConversationMeta> argCaptor = ArgumentCaptor.forClass(ConversationMeta.class);
+        verify(getListener, times(1)).onResponse(argCaptor.capture());
+        assertEquals("tester_id", argCaptor.getValue().getId());
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetConversation_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Client Failure")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<ConversationMeta> getListener = mock(ActionListener.class);
         conversationMetaIndex.getConversation("tester_id", getListener);
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.time.Instant;
+
+import org.opensearch.ml.common.conversation.ConversationMeta;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ConversationalMemoryCacheTests extends OpenSearchTestCase {
+
+    private ConversationalMemoryCache cache = new ConversationalMemoryCache(10, 60);
+
+    public void testConversationCreated() {
+        cache.onConversationCreated(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"));
+        assertEquals("user", cache.getConversation("cid").getUser());
+        assertNull(cache.getConversation("other cid"));
+    }
+
+    public void testPutConversation_ChangedWhileReading() {
+        long version = cache.getVersion();
+        cache.invalidateConversation("cid");
+        cache.putConversation(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"), version);
+        assertNull(cache.getConversation("cid"));
+        cache.putConversation(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"), cache.getVersion());
+        assertNotNull(cache.getConversation("cid"));
+    }
+
+    public void testInvalidate() {
+        cache.onConversationCreated(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"));
+        cache.invalidateConversation("cid");
+        assertNull(cache.getConversation("cid"));
+    }
+
+    public void testDisabled() {
+        cache.onConversationCreated(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"));
+        assertFalse(cache.isDisabled());
+        cache.resize(0, 60);
+        assertTrue(cache.isDisabled());
+        assertNull(cache.getConversation("cid"));
+        cache.onConversationCreated(new ConversationMeta("cid", Instant.now(), Instant.now(), "name", "user"));
+        assertNull(cache.getConversation("cid"));
+        assertTrue(ConversationalMemoryCache.disabled().isDisabled());
+    }
+}
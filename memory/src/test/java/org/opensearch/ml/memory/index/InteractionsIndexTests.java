@@ -18,13 +18,13 @@
 package org.opensearch.ml.memory.index;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,9 +42,11 @@ import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
@@ -67,10 +69,13 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.ml.common.conversation.ActionConstants;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.InternalAggregations;
@@ -106,8 +111,6 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
 
     InteractionsIndex interactionsIndex;
 
-    Interaction interaction;
-
     @Before
     public void setup() {
         this.client = mock(Client.class);
@@ -125,16 +128,6 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         doReturn(indicesAdminClient).when(adminClient).indices();
         doReturn(threadPool).when(client).threadPool();
         doReturn(new ThreadContext(Settings.EMPTY)).when(threadPool).getThreadContext();
-        interaction = new Interaction(
-            "iid",
-            Instant.ofEpochMilli(1234),
-            "cid",
-            "inp",
-            "pt",
-            "rsp",
-            "ogn",
-            Collections.singletonMap("metadata", "some meta")
-        );
         this.interactionsIndex = spy(new InteractionsIndex(client, clusterService, conversationMetaIndex));
     }
 
@@ -177,6 +170,34 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         }).when(indicesAdminClient).refresh(any(), any());
     }
 
+    private void setupCreatePit() {
+        CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+        doReturn("pit-id").when(createPitResponse).getId();
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> al = invocation.getArgument(1);
+            al.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(), any());
+    }
+
+    private SearchResponse pitSearchResponse(int numHits) {
+        SearchHit[] hits = new SearchHit[numHits];
+        for (int i = 0; i < numHits; i++) {
+            hits[i] = new SearchHit(i, "iid" + i, null, null);
+            hits[i].sortValues(new Object[] { (long) i }, new DocValueFormat[] { DocValueFormat.RAW });
+        }
+        SearchResponseSections sections = new SearchResponseSections(
+            new SearchHits(hits, null, Float.NaN),
+            InternalAggregations.EMPTY,
+            null,
+            false,
+            false,
+            null,
+            1
+        );
+        return new SearchResponse(sections, null, 1, 1, 0, 11, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+
     private SearchRequest dummyRequest() {
         SearchRequest request = new SearchRequest();
         request.source(new SearchSourceBuilder());
@@ -471,6 +492,23 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().size() == 1);
     }
 
+    public void testInnerGetTraces_SeeksByTraceNumber() {
+        setUpSearchTraceResponse();
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> getTracesListener = mock(ActionListener.class);
+        interactionsIndex.innerGetTraces("iid", 10, 5, getTracesListener);
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(requestCaptor.capture(), any());
+        SearchSourceBuilder source = requestCaptor.getValue().source();
+        assert (source.from() == -1);
+        assert (source.size() == 5);
+        BoolQueryBuilder query = (BoolQueryBuilder) source.query();
+        RangeQueryBuilder range = (RangeQueryBuilder) query.filter().get(0);
+        assert (range.fieldName().equals(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD));
+        assert (range.from().equals(10));
+        assert (!range.includeLower());
+    }
+
     public void testGetTraces_success() {
         setupGrantAccess();
         doReturn(true).when(metadata).hasIndex(anyString());
@@ -503,79 +541,97 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Client Failure"));
     }
 
-    public void testGetAll_BadMaxResults_ThenFail() {
+    public void testDelete_NoIndex_ThenReturnTrue() {
+        doReturn(false).when(metadata).hasIndex(anyString());
         @SuppressWarnings("unchecked")
-        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
-        interactionsIndex.nextGetListener("cid", 0, 0, getInteractionsListener, List.of());
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("maxResults must be positive"));
+        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
+        interactionsIndex.deleteConversation("cid", deleteConversationListener);
+        ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
+        verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue());
     }
 
-    public void testGetAll_Recursion() {
-        List<Interaction> interactions = List
-            .of(
-                new Interaction("iid1", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", Collections.singletonMap("meta", "some meta")),
-                new Interaction("iid2", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", Collections.singletonMap("meta", "some meta")),
-                new Interaction("iid3", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", Collections.singletonMap("meta", "some meta")),
-                new Interaction("iid4", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", Collections.singletonMap("meta", "some meta"))
-            );
+    public void testDelete_Success() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onResponse(interactions.subList(0, 2));
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), eq(0), anyInt(), any());
+        }).when(interactionsIndex).deleteAllInteractions(anyString(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
+        interactionsIndex.deleteConversation("cid", deleteConversationListener);
+        ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
+        verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue());
+        verify(interactionsIndex, times(1)).deleteAllInteractions(eq("cid"), any());
+    }
+
+    public void testDeleteAll_MultiplePages() {
+        setupRefreshSuccess();
+        setupCreatePit();
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onResponse(interactions.subList(2, 4));
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(pitSearchResponse(300));
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), eq(2), anyInt(), any());
+        }).doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(pitSearchResponse(2));
+            return null;
+        }).when(client).search(searchCaptor.capture(), any());
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onResponse(List.of());
+            ActionListener<BulkResponse> al = invocation.getArgument(1);
+            al.onResponse(mock(BulkResponse.class));
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), eq(4), anyInt(), any());
-        @SuppressWarnings("unchecked")
-        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
-        interactionsIndex.getAllInteractions("cid", 2, getInteractionsListener);
+        }).when(client).bulk(bulkCaptor.capture(), any());
         @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
-        verify(getInteractionsListener, times(1)).onResponse(argCaptor.capture());
-        List<Interaction> result = argCaptor.getValue();
-        assert (result.size() == 4);
-        assert (result.get(0).getId().equals("iid1"));
-        assert (result.get(1).getId().equals("iid2"));
-        assert (result.get(2).getId().equals("iid3"));
-        assert (result.get(3).getId().equals("iid4"));
+        ActionListener<Boolean> deleteListener = mock(ActionListener.class);
+        interactionsIndex.deleteAllInteractions("cid", deleteListener);
+
+        verify(deleteListener, times(1)).onResponse(true);
+        verify(indicesAdminClient, times(1)).refresh(any(), any());
+        verify(client, times(1)).createPit(any(), any());
+        verify(client, times(1)).deletePits(any(), any());
+        List<SearchRequest> searchRequests = searchCaptor.getAllValues();
+        assertEquals(2, searchRequests.size());
+        assertEquals("pit-id", searchRequests.get(0).source().pointInTimeBuilder().getId());
+        assertEquals(0, searchRequests.get(0).indices().length);
+        assertNull(searchRequests.get(0).source().searchAfter());
+        // the second page is searched after the last hit of the first page
+        assertArrayEquals(new Object[] { 299L }, searchRequests.get(1).source().searchAfter());
+        List<BulkRequest> bulkRequests = bulkCaptor.getAllValues();
+        assert (bulkRequests.size() == 2);
+        assert (bulkRequests.get(0).numberOfActions() == 300);
+        assert (bulkRequests.get(1).numberOfActions() == 2);
     }
 
-    public void testGetAll_GetFails_ThenFail() {
+    public void testDeleteAll_Empty() {
+        setupRefreshSuccess();
+        setupCreatePit();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onFailure(new Exception("Failure in Get"));
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(pitSearchResponse(0));
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), anyInt(), anyInt(), any());
+        }).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
-        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
-        interactionsIndex.getAllInteractions("cid", 2, getInteractionsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure in Get"));
+        ActionListener<Boolean> deleteListener = mock(ActionListener.class);
+        interactionsIndex.deleteAllInteractions("cid", deleteListener);
+        verify(deleteListener, times(1)).onResponse(true);
+        verify(client, never()).bulk(any(), any());
+        verify(client, times(1)).deletePits(any(), any());
     }
 
-    public void testDelete_NoIndex_ThenReturnTrue() {
-        doReturn(false).when(metadata).hasIndex(anyString());
-        @SuppressWarnings("unchecked")
-        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
-        interactionsIndex.deleteConversation("cid", deleteConversationListener);
-        ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
-        verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
-        assert (argCaptor.getValue());
-    }
-
-    public void testDelete_BulkHasFailures_ReturnFalse() {
-        doReturn(true).when(metadata).hasIndex(anyString());
-        setupGrantAccess();
+    public void testDeleteAll_BulkHasFailures_ReturnFalse() {
+        setupRefreshSuccess();
+        setupCreatePit();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(pitSearchResponse(1));
+            return null;
+        }).when(client).search(any(), any());
         BulkResponse bulkResponse = mock(BulkResponse.class);
         doReturn(true).when(bulkResponse).hasFailures();
         doAnswer(invocation -> {
@@ -583,64 +639,92 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             al.onResponse(bulkResponse);
             return null;
         }).when(client).bulk(any(), any());
-        doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of(interaction));
-            return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
         @SuppressWarnings("unchecked")
-        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
-        interactionsIndex.deleteConversation("cid", deleteConversationListener);
-        ArgumentCaptor<Boolean> argCaptor = ArgumentCaptor.forClass(Boolean.class);
-        verify(deleteConversationListener, times(1)).onResponse(argCaptor.capture());
-        assert (!argCaptor.getValue());
+        ActionListener<Boolean> deleteListener = mock(ActionListener.class);
+        interactionsIndex.deleteAllInteractions("cid", deleteListener);
+        verify(deleteListener, times(1)).onResponse(false);
     }
 
-    public void testDelete_BulkFails_ThenFail() {
-        doReturn(true).when(metadata).hasIndex(anyString());
-        setupGrantAccess();
+    public void testDeleteAll_BulkFails_ThenFail() {
+        setupRefreshSuccess();
+        setupCreatePit();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onResponse(pitSearchResponse(1));
+            return null;
+        }).when(client).search(any(), any());
         doAnswer(invocation -> {
             ActionListener<BulkResponse> al = invocation.getArgument(1);
             al.onFailure(new Exception("Failure during Bulk"));
             return null;
         }).when(client).bulk(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteListener = mock(ActionListener.class);
+        interactionsIndex.deleteAllInteractions("cid", deleteListener);
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(deleteListener, times(1)).onFailure(argCaptor.capture());
+        assert (argCaptor.getValue().getMessage().equals("Failure during Bulk"));
+        verify(client, times(1)).deletePits(any(), any());
+    }
+
+    public void testDeleteAll_SearchFails_ThenFail() {
+        setupRefreshSuccess();
+        setupCreatePit();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of(interaction));
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure during Search"));
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
-        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
-        interactionsIndex.deleteConversation("cid", deleteConversationListener);
+        ActionListener<Boolean> deleteListener = mock(ActionListener.class);
+        interactionsIndex.deleteAllInteractions("cid", deleteListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure during Bulk"));
+        verify(deleteListener, times(1)).onFailure(argCaptor.capture());
+        assert (argCaptor.getValue().getMessage().equals("Failure during Search"));
+        verify(client, times(1)).deletePits(any(), any());
+    }
+
+    public void testDeleteAll_CreatePitFails_ThenFail() {
+        setupRefreshSuccess();
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure during Create PIT"));
+            return null;
+        }).when(client).createPit(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteListener = mock(ActionListener.class);
+        interactionsIndex.deleteAllInteractions("cid", deleteListener);
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(deleteListener, times(1)).onFailure(argCaptor.capture());
+        assert (argCaptor.getValue().getMessage().equals("Failure during Create PIT"));
+        verify(client, never()).search(any(), any());
+        verify(client, never()).deletePits(any(), any());
     }
 
     public void testDelete_SearchFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onFailure(new Exception("Failure during GetAllInteractions"));
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure during DeleteAllInteractions"));
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(interactionsIndex).deleteAllInteractions(anyString(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure during GetAllInteractions"));
+        assert (argCaptor.getValue().getMessage().equals("Failure during DeleteAllInteractions"));
     }
 
-    public void testDelete_SearchReturnEmpty_ThenPass() {
+    public void testDelete_NothingToDelete_ThenPass() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of());
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(interactionsIndex).deleteAllInteractions(anyString(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
@@ -796,26 +880,26 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Message [iid] not found"));
     }
 
-    public void testGetSg_RefreshFails_ThenFail() {
+    public void testGetSg_NoRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        GetResponse response = setUpInteractionResponse("iid");
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Sg Get Refresh"));
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get Refresh"));
+        verify(getListener, times(1)).onResponse(any());
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetSg_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.DataFrame;
+
+/**
+ * This is the interface of machine learning algorithms which can be trained with a stream of data frame batches,
+ * so training data doesn't need to fit in memory at once.
+ */
+public interface BatchTrainable extends Trainable {
+
+    /**
+     * Update model with one batch of training data. Batches are passed one at a time, in order.
+     * @param batch training data batch
+     */
+    void trainBatch(DataFrame batch);
+
+    /**
+     * Called after all batches of the training data have been passed once.
+     * @return true if all batches should be passed again for another epoch, false if training is done
+     */
+    default boolean finishEpoch() {
+        return false;
+    }
+
+    /**
+     * Build model from all training data batches.
+     * @return ML model with serialized model content, same as {@link Trainable#train}
+     */
+    MLModel finishBatchTraining();
+
+    /**
+     * Release what was held for batch training, e.g. threads shared by all batches. Called when batch training ends,
+     * whether it succeeded or failed, so it may be called after {@link #finishBatchTraining()}.
+     */
+    default void closeBatchTraining() {}
+
+}
@@ -34,6 +34,8 @@ public class MLEngine {
 
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
+    public static final String MODEL_ARTIFACT_CACHE_FOLDER = "artifacts";
+    public static final long DEFAULT_MODEL_ARTIFACT_CACHE_SIZE_IN_BYTES = 10L * 1024 * 1024 * 1024;
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -43,12 +45,19 @@ public class MLEngine {
     private final Path mlCachePath;
     private final Path mlModelsCachePath;
 
+    @Getter
+    private final ModelArtifactCache modelArtifactCache;
+
     private Encryptor encryptor;
 
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
         this.mlConfigPath = mlCachePath.resolve("config");
+        this.modelArtifactCache = new ModelArtifactCache(
+            mlModelsCachePath.resolve(MODEL_ARTIFACT_CACHE_FOLDER),
+            DEFAULT_MODEL_ARTIFACT_CACHE_SIZE_IN_BYTES
+        );
         this.encryptor = encryptor;
     }
 
@@ -120,6 +129,18 @@ public class MLEngine {
         return trainable.train(mlInput);
     }
 
+    /**
+     * Create an algorithm instance which can be trained with a stream of data frame batches.
+     * @param input ML input with algorithm parameters
+     * @return batch trainable algorithm, or null if the algorithm can only be trained with all training data at once
+     */
+    public BatchTrainable initBatchTrainable(Input input) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Object instance = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        return instance instanceof BatchTrainable ? (BatchTrainable) instance : null;
+    }
+
     public Predictable deploy(MLModel mlModel, Map<String, Object> params) {
         Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class);
         predictable.initModel(mlModel, params, encryptor);
@@ -142,6 +163,38 @@ public class MLEngine {
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Load a trained model into a predictable which is created with the algorithm parameters of predict input,
+     * so it can predict repeatedly without deserializing model content again.
+     * @param input predict input
+     * @param model trained model
+     * @return predictable with model loaded
+     */
+    public Predictable loadTrainedModel(Input input, MLModel model) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        if (predictable == null) {
+            throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
+        }
+        if (model == null) {
+            throw new IllegalArgumentException("No model found for " + mlInput.getAlgorithm() + " prediction.");
+        }
+        predictable.initModel(model, null, encryptor);
+        return predictable;
+    }
+
+    /**
+     * Predict with a model loaded by {@link #loadTrainedModel(Input, MLModel)}.
+     * @param input predict input
+     * @param predictable predictable with model loaded
+     * @return predict output
+     */
+    public MLOutput predictWithLoadedModel(Input input, Predictable predictable) {
+        validateMLInput(input);
+        return predictable.predict((MLInput) input);
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
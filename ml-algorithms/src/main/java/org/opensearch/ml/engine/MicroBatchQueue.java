@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Queue which collects concurrent requests into micro-batches. A request waits at most the batch window for other
+ * requests, or less if the queued requests reach the max batch size, then all collected requests are processed together.
+ * There is no dedicated thread: a request arriving while no thread is collecting collects and processes the next batch
+ * on its own thread, while requests arriving during collection only enqueue themselves and return. The collecting
+ * thread gives up collecting before processing its batch, so the next batch can be collected and processed by another
+ * thread meanwhile. The queue is bounded, requests beyond its capacity are rejected. Requests must be completed
+ * asynchronously by the batch processor. If processing a batch throws, every request of the batch is failed with
+ * its failure callback.
+ * @param <T> type of request
+ */
+@Log4j2
+public class MicroBatchQueue<T> {
+
+    /**
+     * Listener of processed micro-batches.
+     */
+    @FunctionalInterface
+    public interface StatsListener {
+        /**
+         * Called before a micro-batch is processed.
+         * @param batchSize size of the batch
+         * @param queueDelaysInMillis time each request of the batch waited in queue, in milliseconds
+         */
+        void onBatch(int batchSize, double[] queueDelaysInMillis);
+    }
+
+    private final long windowInNanos;
+    private final int maxBatchSize;
+    private final int maxQueuedSize;
+    private final ToIntFunction<T> requestSize;
+    private final Consumer<List<T>> batchProcessor;
+    private volatile StatsListener statsListener;
+
+    private final ArrayDeque<QueuedRequest<T>> queue = new ArrayDeque<>();
+    private int queuedSize;
+    private boolean collecting;
+
+    /**
+     * Create micro-batch queue.
+     * @param windowInMillis max time a request waits for other requests
+     * @param maxBatchSize max total size of requests in one batch, a request larger than it is processed alone
+     * @param maxQueuedSize max total size of queued requests, a request larger than it is only accepted by an empty queue
+     * @param requestSize size of request, e.g. number of docs
+     * @param batchProcessor processor of one batch, which must complete every request of the batch unless it throws
+     */
+    public MicroBatchQueue(
+        long windowInMillis,
+        int maxBatchSize,
+        int maxQueuedSize,
+        ToIntFunction<T> requestSize,
+        Consumer<List<T>> batchProcessor
+    ) {
+        if (windowInMillis < 0) {
+            throw new IllegalArgumentException("batch window must not be negative");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxQueuedSize < maxBatchSize) {
+            throw new IllegalArgumentException("max queued size must not be less than max batch size");
+        }
+        this.windowInNanos = TimeUnit.MILLISECONDS.toNanos(windowInMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.maxQueuedSize = maxQueuedSize;
+        this.requestSize = requestSize;
+        this.batchProcessor = batchProcessor;
+    }
+
+    public void setStatsListener(StatsListener statsListener) {
+        this.statsListener = statsListener;
+    }
+
+    /**
+     * @return total size of requests waiting in queue
+     */
+    public synchronized int getQueuedSize() {
+        return queuedSize;
+    }
+
+    /**
+     * Add request into queue. If no other thread is collecting a batch, the calling thread collects and processes
+     * the next batch.
+     * @param request request
+     * @param onFailure called with the error if processing the batch of the request throws
+     * @return false if the request is rejected because the queue is full, the request is not completed then
+     */
+    public boolean submit(T request, Consumer<Exception> onFailure) {
+        int size = requestSize.applyAsInt(request);
+        synchronized (this) {
+            if (!queue.isEmpty() && queuedSize + size > maxQueuedSize) {
+                return false;
+            }
+            queue.add(new QueuedRequest<>(request, onFailure, size, System.nanoTime()));
+            queuedSize += size;
+            if (collecting) {
+                if (queuedSize >= maxBatchSize) {
+                    notifyAll();
+                }
+                return true;
+            }
+            collecting = true;
+        }
+        processBatches();
+        return true;
+    }
+
+    private void processBatches() {
+        while (true) {
+            List<QueuedRequest<T>> batch;
+            synchronized (this) {
+                // the oldest request decides how long to wait
+                long deadline = queue.peek().enqueueTime + windowInNanos;
+                long remaining = deadline - System.nanoTime();
+                while (queuedSize < maxBatchSize && remaining > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+                batch = pollBatch();
+                // let the next request start collecting a new batch while this one is processed
+                collecting = false;
+            }
+            process(batch);
+            synchronized (this) {
+                // requests left in queue are collected here if no new request started collecting them
+                if (collecting || queue.isEmpty()) {
+                    return;
+                }
+                collecting = true;
+            }
+        }
+    }
+
+    private List<QueuedRequest<T>> pollBatch() {
+        List<QueuedRequest<T>> batch = new ArrayList<>();
+        int batchSize = 0;
+        while (!queue.isEmpty() && (batch.isEmpty() || batchSize + queue.peek().size <= maxBatchSize)) {
+            QueuedRequest<T> request = queue.poll();
+            batchSize += request.size;
+            queuedSize -= request.size;
+            batch.add(request);
+        }
+        return batch;
+    }
+
+    private void process(List<QueuedRequest<T>> batch) {
+        long now = System.nanoTime();
+        int batchSize = 0;
+        double[] queueDelays = new double[batch.size()];
+        List<T> requests = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            QueuedRequest<T> request = batch.get(i);
+            batchSize += request.size;
+            queueDelays[i] = (now - request.enqueueTime) / 1e6;
+            requests.add(request.request);
+        }
+        try {
+            StatsListener listener = statsListener;
+            if (listener != null) {
+                listener.onBatch(batchSize, queueDelays);
+            }
+            batchProcessor.accept(requests);
+        } catch (Exception e) {
+            log.error("Failed to process micro-batch of {} requests", requests.size(), e);
+            for (QueuedRequest<T> request : batch) {
+                try {
+                    request.onFailure.accept(e);
+                } catch (Exception ex) {
+                    log.error("Failed to fail request of micro-batch", ex);
+                }
+            }
+        }
+    }
+
+    private static class QueuedRequest<T> {
+        private final T request;
+        private final Consumer<Exception> onFailure;
+        private final int size;
+        private final long enqueueTime;
+
+        private QueuedRequest(T request, Consumer<Exception> onFailure, int size, long enqueueTime) {
+            this.request = request;
+            this.onFailure = onFailure;
+            this.size = size;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local cache of verified model zip files keyed by model content hash, so a model can be deployed again
+ * without retrieving its chunks. Entries are evicted in least recently used order when the total size exceeds
+ * the max cache size. The last modified time of cached files keeps the usage order across node restarts.
+ * Files returned by {@link #get} and {@link #put} are pinned until {@link #release} is called, and pinned
+ * entries are never evicted, so a file being deployed or read by a peer node is not deleted under the reader.
+ */
+@Log4j2
+public class ModelArtifactCache {
+
+    public static final String MODEL_ARTIFACT_FILE_SUFFIX = ".zip";
+    private static final Pattern MODEL_CONTENT_HASH_PATTERN = Pattern.compile("^[a-zA-Z0-9]+$");
+
+    private final Path cacheDir;
+    private volatile long maxSizeInBytes;
+    // model content hash -> file size, in access order
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // model content hash -> number of callers using the cached file
+    private final Map<String, Integer> pins = new HashMap<>();
+    private long totalSizeInBytes = 0;
+    private boolean loaded = false;
+
+    public ModelArtifactCache(Path cacheDir, long maxSizeInBytes) {
+        this.cacheDir = cacheDir;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    public Path getCacheDir() {
+        return cacheDir;
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    public synchronized void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        if (loaded) {
+            evictToMaxSize();
+        }
+    }
+
+    public synchronized long getTotalSizeInBytes() {
+        loadEntries();
+        return totalSizeInBytes;
+    }
+
+    /**
+     * Get and pin cached model zip file. Call {@link #release} once done with it.
+     * @param modelContentHash model content hash
+     * @return cached model zip file, or null if not cached
+     */
+    public synchronized File get(String modelContentHash) {
+        if (!isValidHash(modelContentHash) || maxSizeInBytes <= 0) {
+            return null;
+        }
+        loadEntries();
+        // get also moves the entry to the most recently used end
+        if (entries.get(modelContentHash) == null) {
+            return null;
+        }
+        File file = getArtifactFile(modelContentHash);
+        if (!file.exists()) {
+            removeEntry(modelContentHash);
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        pin(modelContentHash);
+        return file;
+    }
+
+    /**
+     * Move a verified model zip file into cache and pin it. Call {@link #release} once done with the returned file.
+     * The file is kept where it is if it can't be cached.
+     * @param modelContentHash hash value of model zip file
+     * @param modelZipFile model zip file
+     * @return cached model zip file, or the original file if not cached
+     */
+    public synchronized File put(String modelContentHash, File modelZipFile) {
+        if (!isValidHash(modelContentHash) || maxSizeInBytes <= 0 || modelZipFile.length() > maxSizeInBytes) {
+            return modelZipFile;
+        }
+        loadEntries();
+        File file = getArtifactFile(modelContentHash);
+        if (pins.containsKey(modelContentHash) && entries.containsKey(modelContentHash) && file.exists()) {
+            // same content is cached and in use, don't replace the file under its readers
+            try {
+                Files.deleteIfExists(modelZipFile.toPath());
+            } catch (IOException e) {
+                log.warn("Failed to delete model zip file " + modelZipFile, e);
+            }
+            // get also moves the entry to the most recently used end
+            entries.get(modelContentHash);
+            file.setLastModified(System.currentTimeMillis());
+            pin(modelContentHash);
+            return file;
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            Files.move(modelZipFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Failed to cache model artifact " + modelContentHash, e);
+            return modelZipFile;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        removeEntry(modelContentHash);
+        entries.put(modelContentHash, file.length());
+        totalSizeInBytes += file.length();
+        pin(modelContentHash);
+        evictToMaxSize();
+        return file;
+    }
+
+    /**
+     * Unpin a model zip file returned by {@link #get} or {@link #put}. Files not in cache are ignored.
+     * @param modelZipFile model zip file
+     */
+    public synchronized void release(File modelZipFile) {
+        if (modelZipFile == null || !cacheDir.toFile().equals(modelZipFile.getParentFile())) {
+            return;
+        }
+        String name = modelZipFile.getName();
+        if (!name.endsWith(MODEL_ARTIFACT_FILE_SUFFIX)) {
+            return;
+        }
+        String modelContentHash = name.substring(0, name.length() - MODEL_ARTIFACT_FILE_SUFFIX.length());
+        Integer count = pins.get(modelContentHash);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            pins.put(modelContentHash, count - 1);
+            return;
+        }
+        pins.remove(modelContentHash);
+        // entries kept while pinned may be over the max size
+        evictToMaxSize();
+    }
+
+    /**
+     * Delete the least recently used model zip file which is not in use.
+     * @return true if one model zip file deleted, false if no model zip file can be deleted
+     */
+    public synchronized boolean evictLeastRecentlyUsed() {
+        loadEntries();
+        for (String hash : entries.keySet()) {
+            if (!pins.containsKey(hash)) {
+                evict(hash);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delete all model zip files which are not in use.
+     */
+    public synchronized void clear() {
+        loadEntries();
+        for (String hash : entries.keySet().toArray(new String[0])) {
+            if (!pins.containsKey(hash)) {
+                evict(hash);
+            }
+        }
+    }
+
+    private void evictToMaxSize() {
+        loadEntries();
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalSizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (pins.containsKey(entry.getKey())) {
+                continue;
+            }
+            totalSizeInBytes -= entry.getValue();
+            iterator.remove();
+            deleteArtifactFile(entry.getKey());
+        }
+    }
+
+    private void pin(String modelContentHash) {
+        pins.merge(modelContentHash, 1, Integer::sum);
+    }
+
+    private void evict(String modelContentHash) {
+        removeEntry(modelContentHash);
+        deleteArtifactFile(modelContentHash);
+    }
+
+    private void removeEntry(String modelContentHash) {
+        Long size = entries.remove(modelContentHash);
+        if (size != null) {
+            totalSizeInBytes -= size;
+        }
+    }
+
+    private void deleteArtifactFile(String modelContentHash) {
+        File file = getArtifactFile(modelContentHash);
+        long size = file.length();
+        try {
+            Files.deleteIfExists(file.toPath());
+            log.debug("Evicted model artifact {} of {} bytes", modelContentHash, size);
+        } catch (IOException e) {
+            log.warn("Failed to delete model artifact " + modelContentHash, e);
+        }
+    }
+
+    /**
+     * Load cached files left by previous runs of this node, in last modified order.
+     */
+    private void loadEntries() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        File[] files = cacheDir.toFile().listFiles((dir, name) -> name.endsWith(MODEL_ARTIFACT_FILE_SUFFIX));
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            String name = file.getName();
+            String hash = name.substring(0, name.length() - MODEL_ARTIFACT_FILE_SUFFIX.length());
+            if (isValidHash(hash)) {
+                entries.put(hash, file.length());
+                totalSizeInBytes += file.length();
+            }
+        }
+    }
+
+    private File getArtifactFile(String modelContentHash) {
+        return cacheDir.resolve(modelContentHash + MODEL_ARTIFACT_FILE_SUFFIX).toFile();
+    }
+
+    private boolean isValidHash(String modelContentHash) {
+        return modelContentHash != null && MODEL_CONTENT_HASH_PATTERN.matcher(modelContentHash).matches();
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.ml.engine;
 
 import java.util.Map;
 
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
@@ -33,6 +34,29 @@ public interface Predictable {
      */
     MLOutput predict(MLInput mlInput);
 
+    /**
+     * Predict with given input data for deployed model without blocking the calling thread.
+     * Models which can't predict asynchronously run predict on the calling thread by default.
+     * @param mlInput input data
+     * @param listener action listener
+     */
+    default void asyncPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
+        MLOutput output;
+        try {
+            output = predict(mlInput);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(output);
+    }
+
+    /**
+     * Set listener of micro-batches, for models which run concurrent predict requests together in micro-batches.
+     * @param statsListener listener of processed micro-batches
+     */
+    default void setMicroBatchStatsListener(MicroBatchQueue.StatsListener statsListener) {}
+
     /**
      * Init model (load model into memory) with ML model content and params.
      * @param model ML model
@@ -28,6 +28,7 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -58,11 +59,21 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    // ONNX Runtime session options read by DJL from model criteria arguments.
+    public static final String ONNX_INTRA_OP_THREADS_ARGUMENT = "intraOpNumThreads";
+    public static final String ONNX_INTER_OP_THREADS_ARGUMENT = "interOpNumThreads";
+    public static final String PYTORCH_NUM_THREADS_PROPERTY = "ai.djl.pytorch.num_threads";
+    public static final String PYTORCH_NUM_INTEROP_THREADS_PROPERTY = "ai.djl.pytorch.num_interop_threads";
+    // Max time an inference waits for an idle predictor before failing.
+    public static final long PREDICTOR_WAIT_TIMEOUT_MILLIS = 30_000;
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
 
+    // All predictors of all devices
     protected Predictor<Input, Output>[] predictors;
+    // Idle predictors of each device, a predictor is checked out for one inference and returned after it.
+    protected volatile PredictorPool predictorPool;
     protected ZooModel[] models;
     protected Device[] devices;
     protected AtomicInteger nextDevice = new AtomicInteger(0);
@@ -92,13 +103,32 @@ public abstract class DLModel implements Predictable {
         }
     }
 
-    protected Predictor<Input, Output> getPredictor() {
-        int currentDevice = nextDevice.getAndIncrement();
-        if (currentDevice > devices.length - 1) {
-            currentDevice = currentDevice % devices.length;
-            nextDevice.set(currentDevice + 1);
+    /**
+     * Run inference with a predictor checked out from the predictor pool, and release the predictor after the
+     * inference. Devices are picked round robin, and another device with an idle predictor is used if the picked
+     * device has none. If no device has an idle predictor, wait for one at most {@link #PREDICTOR_WAIT_TIMEOUT_MILLIS}.
+     * @param inference inference to run with the predictor
+     * @return inference result
+     * @param <T> type of inference result
+     * @throws TranslateException if failed to run inference
+     */
+    protected <T> T withPredictor(PredictorFunction<T> inference) throws TranslateException {
+        PredictorPool pool = predictorPool;
+        if (pool == null) {
+            throw new MLException("model not deployed.");
+        }
+        int device = Math.floorMod(nextDevice.getAndIncrement(), devices.length);
+        PredictorPool.CheckedOutPredictor checkedOut = pool.acquire(device, PREDICTOR_WAIT_TIMEOUT_MILLIS);
+        try {
+            return inference.apply(checkedOut.predictor);
+        } finally {
+            pool.release(checkedOut);
         }
-        return predictors[currentDevice];
+    }
+
+    @FunctionalInterface
+    protected interface PredictorFunction<T> {
+        T apply(Predictor<Input, Output> predictor) throws TranslateException;
     }
 
     public abstract ModelTensorOutput predict(String modelId, MLInput input) throws TranslateException;
@@ -143,13 +173,20 @@ public abstract class DLModel implements Predictable {
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
-            if (predictors != null) {
-                closePredictors(predictors);
-                predictors = null;
-            }
-            if (models != null) {
-                closeModels(models);
-                models = null;
+            PredictorPool pool = predictorPool;
+            ZooModel[] zooModels = models;
+            predictorPool = null;
+            predictors = null;
+            models = null;
+            if (pool != null) {
+                // Predictors running an inference are closed when released, and the models after the last of them.
+                pool.close(() -> {
+                    if (zooModels != null) {
+                        closeModels(zooModels);
+                    }
+                });
+            } else if (zooModels != null) {
+                closeModels(zooModels);
             }
         }
     }
@@ -183,6 +220,8 @@ public abstract class DLModel implements Predictable {
         IOException,
         TranslateException {
         devices = Engine.getEngine(engine).getDevices();
+        int poolSize = getPredictorPoolSize(modelConfig);
+        List<List<Predictor<Input, Output>>> devicePredictors = new ArrayList<>();
         for (int i = 0; i < devices.length; i++) {
             log.debug("load model {} to device {}: {}", modelId, i, devices[i]);
             ZooModel<Input, Output> model;
@@ -208,26 +247,51 @@ public abstract class DLModel implements Predictable {
                     criteriaBuilder.optArgument(entry.getKey(), entry.getValue());
                 }
             }
+            if (ONNX_ENGINE.equals(engine) && modelConfig instanceof TextEmbeddingModelConfig) {
+                Integer intraOpThreads = ((TextEmbeddingModelConfig) modelConfig).getIntraOpThreads();
+                Integer interOpThreads = ((TextEmbeddingModelConfig) modelConfig).getInterOpThreads();
+                if (intraOpThreads != null) {
+                    criteriaBuilder.optArgument(ONNX_INTRA_OP_THREADS_ARGUMENT, String.valueOf(intraOpThreads));
+                }
+                if (interOpThreads != null) {
+                    criteriaBuilder.optArgument(ONNX_INTER_OP_THREADS_ARGUMENT, String.valueOf(interOpThreads));
+                }
+            }
 
             Criteria<Input, Output> criteria = criteriaBuilder.build();
             model = criteria.loadModel();
-            predictor = model.newPredictor();
-            predictorList.add(predictor);
             modelList.add(model);
-
-            // First request takes longer time. Predict once to warm up model.
-            warmUp(predictor, modelId, modelConfig);
+            // Predictors of one device share the loaded model, each of them serves one inference at a time.
+            List<Predictor<Input, Output>> pool = new ArrayList<>();
+            for (int j = 0; j < poolSize; j++) {
+                predictor = model.newPredictor();
+                predictorList.add(predictor);
+                // First request takes longer time. Predict once to warm up model.
+                warmUp(predictor, modelId, modelConfig);
+                pool.add(predictor);
+            }
+            devicePredictors.add(pool);
         }
 
         if (predictorList.size() > 0) {
             this.predictors = predictorList.toArray(new Predictor[0]);
+            this.predictorPool = new PredictorPool(modelId, devicePredictors);
             predictorList.clear();
         }
         if (modelList.size() > 0) {
             this.models = modelList.toArray(new ZooModel[0]);
             modelList.clear();
         }
-        log.info("Model {} is successfully deployed on {} devices", modelId, devices.length);
+        log.info("Model {} is successfully deployed on {} devices with {} predictors per device", modelId, devices.length, poolSize);
+    }
+
+    private int getPredictorPoolSize(MLModelConfig modelConfig) {
+        if (modelConfig instanceof TextEmbeddingModelConfig && ((TextEmbeddingModelConfig) modelConfig).getPredictorPoolSize() != null) {
+            int poolSize = ((TextEmbeddingModelConfig) modelConfig).getPredictorPoolSize();
+            // configs read from older indices or streams aren't validated
+            return Math.min(poolSize, TextEmbeddingModelConfig.MAX_PREDICTOR_POOL_SIZE);
+        }
+        return 1;
     }
 
     protected void loadModel(
@@ -252,8 +316,14 @@ public abstract class DLModel implements Predictable {
                     // DJL will read "/usr/java/packages/lib" if don't set "java.library.path". That will throw
                     // access denied exception
                     System.setProperty("java.library.path", mlEngine.getMlCachePath().toAbsolutePath().toString());
-                    System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
-                    System.setProperty("ai.djl.pytorch.num_threads", "1");
+                    // PyTorch threads are shared by all models of the node and only read when the engine starts, so they
+                    // can't be set per model. Default to one thread per inference unless set in node JVM options.
+                    if (System.getProperty(PYTORCH_NUM_INTEROP_THREADS_PROPERTY) == null) {
+                        System.setProperty(PYTORCH_NUM_INTEROP_THREADS_PROPERTY, "1");
+                    }
+                    if (System.getProperty(PYTORCH_NUM_THREADS_PROPERTY) == null) {
+                        System.setProperty(PYTORCH_NUM_THREADS_PROPERTY, "1");
+                    }
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
                     Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
                     File pathFile = new File(modelPath.toUri());
@@ -328,8 +398,7 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        ModelTensors tensorOutput = WriteableBytesSupplier.getValue(output.getData(), ModelTensors.class, ModelTensors::fromBytes);
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.Batchifier;
+
+/**
+ * Stack batchifier which right pads one dimensional token inputs (input ids, attention mask, token type ids)
+ * with zeros to the longest sequence of the batch before stacking them. Zero padding of the attention mask
+ * makes the padded positions invisible to the model, so every document gets the same result as when
+ * it's predicted alone.
+ */
+public class PaddingStackBatchifier implements Batchifier {
+
+    public static final PaddingStackBatchifier INSTANCE = new PaddingStackBatchifier();
+
+    @Override
+    public NDList batchify(NDList[] inputs) {
+        if (inputs.length <= 1) {
+            return Batchifier.STACK.batchify(inputs);
+        }
+        int size = inputs[0].size();
+        long[] maxLengths = new long[size];
+        for (NDList input : inputs) {
+            for (int i = 0; i < size; i++) {
+                maxLengths[i] = Math.max(maxLengths[i], input.get(i).getShape().get(0));
+            }
+        }
+        NDList[] paddedInputs = new NDList[inputs.length];
+        for (int j = 0; j < inputs.length; j++) {
+            NDList paddedInput = new NDList(size);
+            for (int i = 0; i < size; i++) {
+                paddedInput.add(pad(inputs[j].get(i), maxLengths[i]));
+            }
+            paddedInputs[j] = paddedInput;
+        }
+        return Batchifier.STACK.batchify(paddedInputs);
+    }
+
+    @Override
+    public NDList[] unbatchify(NDList inputs) {
+        return Batchifier.STACK.unbatchify(inputs);
+    }
+
+    @Override
+    public NDList[] split(NDList list, int numOfSlices, boolean evenSplit) {
+        return Batchifier.STACK.split(list, numOfSlices, evenSplit);
+    }
+
+    private NDArray pad(NDArray array, long length) {
+        Shape shape = array.getShape();
+        long padding = length - shape.get(0);
+        if (padding == 0) {
+            return array;
+        }
+        if (shape.dimension() != 1) {
+            throw new IllegalArgumentException("Only support padding one dimensional input, but got shape " + shape);
+        }
+        NDArray padded = array.concat(array.getManager().zeros(new Shape(padding), array.getDataType()));
+        padded.setName(array.getName());
+        return padded;
+    }
+}
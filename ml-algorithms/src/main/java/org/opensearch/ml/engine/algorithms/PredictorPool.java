@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Idle predictors of each device of a deployed DL model. A predictor is checked out for one inference and released
+ * after it. Once the pool is closed, idle predictors are closed at once and checked out ones when they are released,
+ * and threads waiting for a predictor fail instead of waiting until the timeout.
+ */
+@Log4j2
+class PredictorPool {
+
+    private final String modelId;
+    private final ArrayDeque<Predictor<Input, Output>>[] idlePredictors;
+    private int checkedOut = 0;
+    private boolean closed = false;
+    // run once the pool is closed and every checked out predictor is released, e.g. to close the models
+    private Runnable onAllClosed;
+
+    /**
+     * @param modelId model id, used in error messages
+     * @param devicePredictors predictors of each device
+     */
+    @SuppressWarnings("unchecked")
+    PredictorPool(String modelId, List<List<Predictor<Input, Output>>> devicePredictors) {
+        this.modelId = modelId;
+        this.idlePredictors = new ArrayDeque[devicePredictors.size()];
+        for (int i = 0; i < idlePredictors.length; i++) {
+            idlePredictors[i] = new ArrayDeque<>(devicePredictors.get(i));
+        }
+    }
+
+    /**
+     * Check out an idle predictor, preferring the given device and falling back to any device with an idle one.
+     * If no device has an idle predictor, wait for the first one released.
+     * @param device preferred device
+     * @param timeoutMillis max time to wait for a predictor
+     * @return checked out predictor and its device
+     */
+    synchronized CheckedOutPredictor acquire(int device, long timeoutMillis) {
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (true) {
+            if (closed) {
+                throw new MLException("Model " + modelId + " is undeployed");
+            }
+            for (int i = 0; i < idlePredictors.length; i++) {
+                int predictorDevice = (device + i) % idlePredictors.length;
+                Predictor<Input, Output> predictor = idlePredictors[predictorDevice].poll();
+                if (predictor != null) {
+                    checkedOut++;
+                    return new CheckedOutPredictor(predictor, predictorDevice);
+                }
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new MLException("No predictor available for model " + modelId + " after waiting " + timeoutMillis + "ms");
+            }
+            try {
+                wait(remainingNanos / 1_000_000L, (int) (remainingNanos % 1_000_000L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MLException("Interrupted while waiting for predictor of model " + modelId, e);
+            }
+        }
+    }
+
+    /**
+     * Return a checked out predictor to its device, or close it if the pool is closed.
+     * @param checkedOutPredictor predictor got from {@link #acquire}
+     */
+    void release(CheckedOutPredictor checkedOutPredictor) {
+        Runnable closeAction;
+        synchronized (this) {
+            checkedOut--;
+            if (!closed) {
+                idlePredictors[checkedOutPredictor.device].add(checkedOutPredictor.predictor);
+                notify();
+                return;
+            }
+            closeAction = checkedOut == 0 ? onAllClosed : null;
+        }
+        closePredictor(checkedOutPredictor.predictor);
+        if (closeAction != null) {
+            closeAction.run();
+        }
+    }
+
+    /**
+     * Close the pool. Idle predictors are closed now, checked out predictors when they are released.
+     * @param onAllClosed run once every predictor is closed
+     */
+    void close(Runnable onAllClosed) {
+        List<Predictor<Input, Output>> toClose = new ArrayList<>();
+        boolean allClosed;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (ArrayDeque<Predictor<Input, Output>> predictors : idlePredictors) {
+                toClose.addAll(predictors);
+                predictors.clear();
+            }
+            allClosed = checkedOut == 0;
+            this.onAllClosed = allClosed ? null : onAllClosed;
+            notifyAll();
+        }
+        log.debug("will close {} idle predictors for model {}", toClose.size(), modelId);
+        toClose.forEach(this::closePredictor);
+        if (allClosed) {
+            onAllClosed.run();
+        }
+    }
+
+    private void closePredictor(Predictor<Input, Output> predictor) {
+        try {
+            predictor.close();
+        } catch (Exception e) {
+            log.warn("Failed to close predictor of model " + modelId, e);
+        }
+    }
+
+    static class CheckedOutPredictor {
+        final Predictor<Input, Output> predictor;
+        final int device;
+
+        CheckedOutPredictor(Predictor<Input, Output> predictor, int device) {
+            this.predictor = predictor;
+            this.device = device;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package org.opensearch.ml.engine.algorithms;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -15,11 +18,14 @@ import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
 
 public abstract class SentenceTransformerTranslator implements ServingTranslator {
+    private static final String INPUT_LENGTHS = "input_lengths";
+    private static final String OUTPUT_INDEX = "output_index";
+
     protected HuggingFaceTokenizer tokenizer;
 
     @Override
     public Batchifier getBatchifier() {
-        return Batchifier.STACK;
+        return PaddingStackBatchifier.INSTANCE;
     }
 
     @Override
@@ -36,6 +42,7 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
         Encoding encodings = tokenizer.encode(sentence);
         long[] indices = encodings.getIds();
         long[] attentionMask = encodings.getAttentionMask();
+        getInputLengths(ctx).add(indices.length);
 
         NDArray indicesArray = manager.create(indices);
         indicesArray.setName("input1.input_ids");
@@ -48,6 +55,33 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
         return ndList;
     }
 
+    /**
+     * Get the token length of the next output and the padded token length of the whole batch.
+     * Inputs of one batch are processed in order before any output, so outputs can be matched to inputs by position.
+     * @param ctx translator context
+     * @return token length of the next output at index 0 and padded token length of the batch at index 1
+     */
+    protected int[] nextOutputLengths(TranslatorContext ctx) {
+        List<Integer> inputLengths = getInputLengths(ctx);
+        Integer outputIndex = (Integer) ctx.getAttachment(OUTPUT_INDEX);
+        int index = outputIndex == null ? 0 : outputIndex;
+        ctx.setAttachment(OUTPUT_INDEX, index + 1);
+        if (index >= inputLengths.size()) {
+            return new int[] { -1, -1 };
+        }
+        return new int[] { inputLengths.get(index), Collections.max(inputLengths) };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer> getInputLengths(TranslatorContext ctx) {
+        List<Integer> inputLengths = (List<Integer>) ctx.getAttachment(INPUT_LENGTHS);
+        if (inputLengths == null) {
+            inputLengths = new ArrayList<>();
+            ctx.setAttachment(INPUT_LENGTHS, inputLengths);
+        }
+        return inputLengths;
+    }
+
     @Override
     public void setArguments(Map<String, ?> arguments) {}
 }
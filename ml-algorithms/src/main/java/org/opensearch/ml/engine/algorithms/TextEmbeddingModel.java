@@ -1,25 +1,137 @@
 package org.opensearch.ml.engine.algorithms;
 
+import java.security.AccessController;
+import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.MicroBatchQueue;
+import org.opensearch.ml.engine.encryptor.Encryptor;
 
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.translate.TranslateException;
+import lombok.extern.log4j.Log4j2;
 
+@Log4j2
 public abstract class TextEmbeddingModel extends DLModel {
+    // Micro-batch queue holds at most this many batches of docs, predict requests beyond that are rejected with 429.
+    static final int MAX_QUEUED_MICRO_BATCHES = 10;
+    protected int batchSize = 1;
+    // Collects concurrent predict requests into one batch, null if micro-batching is not enabled
+    protected MicroBatchQueue<PendingPredict> microBatchQueue;
+
+    @Override
+    public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
+        MLModelConfig modelConfig = model.getModelConfig();
+        if (modelConfig instanceof TextEmbeddingModelConfig && ((TextEmbeddingModelConfig) modelConfig).getBatchSize() != null) {
+            batchSize = ((TextEmbeddingModelConfig) modelConfig).getBatchSize();
+        }
+        super.initModel(model, params, encryptor);
+        if (modelConfig instanceof TextEmbeddingModelConfig && batchSize > 1) {
+            Integer batchWindowMs = ((TextEmbeddingModelConfig) modelConfig).getBatchWindowMs();
+            if (batchWindowMs != null && batchWindowMs > 0) {
+                microBatchQueue = new MicroBatchQueue<>(
+                    batchWindowMs,
+                    batchSize,
+                    batchSize * MAX_QUEUED_MICRO_BATCHES,
+                    r -> r.docs.size(),
+                    this::predictMicroBatch
+                );
+            }
+        }
+    }
+
+    @Override
+    public void setMicroBatchStatsListener(MicroBatchQueue.StatsListener statsListener) {
+        if (microBatchQueue != null) {
+            microBatchQueue.setStatsListener(statsListener);
+        }
+    }
+
+    /**
+     * Predict text docs together with other concurrent predict requests if micro-batching is enabled, otherwise
+     * predict on the calling thread. Requests beyond the capacity of the micro-batch queue fail with 429.
+     * @param mlInput input data
+     * @param listener action listener
+     */
+    @Override
+    public void asyncPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
+        if (microBatchQueue == null || !(mlInput.getInputDataset() instanceof TextDocsInputDataSet)) {
+            super.asyncPredict(mlInput, listener);
+            return;
+        }
+        TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) mlInput.getInputDataset();
+        PendingPredict request = new PendingPredict(mlInput, textDocsInput.getDocs(), textDocsInput.getResultFilter(), listener);
+        if (!microBatchQueue.submit(request, listener::onFailure)) {
+            listener
+                .onFailure(
+                    new OpenSearchStatusException("Too many queued predict requests of model " + modelId, RestStatus.TOO_MANY_REQUESTS)
+                );
+        }
+    }
+
+    /**
+     * Run docs of all requests in one batched inference, then split the outputs back to each request.
+     * @param requests predict requests of the micro-batch
+     */
+    protected void predictMicroBatch(List<PendingPredict> requests) {
+        List<String> docs = new ArrayList<>();
+        for (PendingPredict request : requests) {
+            docs.addAll(request.docs);
+        }
+        List<Output> outputs;
+        try {
+            outputs = AccessController.doPrivileged((PrivilegedExceptionAction<List<Output>>) () -> {
+                Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+                if (!isModelReady()) {
+                    throw new MLException("model not deployed.");
+                }
+                return batchPredictOutputs(docs);
+            });
+        } catch (Throwable e) {
+            String errorMsg = "Failed to inference " + requests.get(0).mlInput.getAlgorithm() + " model: " + modelId;
+            log.error(errorMsg, e);
+            MLException exception = new MLException(errorMsg, e);
+            requests.forEach(request -> request.listener.onFailure(exception));
+            return;
+        }
+        int offset = 0;
+        for (PendingPredict request : requests) {
+            List<Output> requestOutputs = outputs.subList(offset, offset + request.docs.size());
+            offset += request.docs.size();
+            List<ModelTensors> tensorOutputs = new ArrayList<>(requestOutputs.size());
+            try {
+                for (Output output : requestOutputs) {
+                    tensorOutputs.add(parseModelTensorOutput(output, request.resultFilter));
+                }
+            } catch (Exception e) {
+                request.listener.onFailure(e);
+                continue;
+            }
+            request.listener.onResponse(new ModelTensorOutput(tensorOutputs));
+        }
+    }
+
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLInputDataset inputDataSet = mlInput.getInputDataset();
@@ -27,15 +139,66 @@ public abstract class TextEmbeddingModel extends DLModel {
         Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
-        for (String doc : textDocsInput.getDocs()) {
+        List<String> docs = textDocsInput.getDocs();
+        if (batchSize > 1 && docs.size() > 1) {
+            return new ModelTensorOutput(batchPredict(docs, resultFilter));
+        }
+        for (String doc : docs) {
             Input input = new Input();
             input.add(doc);
-            output = getPredictor().predict(input);
+            output = withPredictor(predictor -> predictor.predict(input));
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Predict docs in batches of at most batchSize docs. Docs are sorted by length first, so docs of one batch
+     * have similar length and less padding is needed. The result keeps the order of the input docs.
+     * @param docs input docs
+     * @param resultFilter result filter
+     * @return model tensors of each doc
+     * @throws TranslateException if failed to run inference
+     */
+    protected List<ModelTensors> batchPredict(List<String> docs, ModelResultFilter resultFilter) throws TranslateException {
+        List<Output> outputs = batchPredictOutputs(docs);
+        List<ModelTensors> tensors = new ArrayList<>(outputs.size());
+        for (Output output : outputs) {
+            tensors.add(parseModelTensorOutput(output, resultFilter));
+        }
+        return tensors;
+    }
+
+    /**
+     * Run inference of docs in batches of at most batchSize docs, see {@link #batchPredict(List, ModelResultFilter)}.
+     * @param docs input docs
+     * @return model output of each doc, in the order of the input docs
+     * @throws TranslateException if failed to run inference
+     */
+    protected List<Output> batchPredictOutputs(List<String> docs) throws TranslateException {
+        Integer[] sortedIndices = new Integer[docs.size()];
+        for (int i = 0; i < sortedIndices.length; i++) {
+            sortedIndices[i] = i;
+        }
+        Arrays.sort(sortedIndices, Comparator.comparingInt(i -> docs.get(i) == null ? 0 : docs.get(i).length()));
+
+        Output[] outputs = new Output[docs.size()];
+        for (int start = 0; start < sortedIndices.length; start += batchSize) {
+            int end = Math.min(start + batchSize, sortedIndices.length);
+            List<Input> inputs = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                Input input = new Input();
+                input.add(docs.get(sortedIndices[i]));
+                inputs.add(input);
+            }
+            List<Output> batchOutputs = withPredictor(predictor -> predictor.batchPredict(inputs));
+            for (int i = start; i < end; i++) {
+                outputs[sortedIndices[i]] = batchOutputs.get(i - start);
+            }
+        }
+        return Arrays.asList(outputs);
+    }
+
     public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {
         TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
         String warmUpSentence = "warm up sentence";
@@ -65,4 +228,17 @@ public abstract class TextEmbeddingModel extends DLModel {
         return arguments;
     }
 
+    protected static class PendingPredict {
+        private final MLInput mlInput;
+        private final List<String> docs;
+        private final ModelResultFilter resultFilter;
+        private final ActionListener<MLOutput> listener;
+
+        protected PendingPredict(MLInput mlInput, List<String> docs, ModelResultFilter resultFilter, ActionListener<MLOutput> listener) {
+            this.mlInput = mlInput;
+            this.docs = docs;
+            this.resultFilter = resultFilter;
+            this.listener = listener;
+        }
+    }
 }
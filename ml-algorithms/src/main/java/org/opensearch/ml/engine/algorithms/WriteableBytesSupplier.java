@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.ndarray.BytesSupplier;
+
+/**
+ * Hands a translator output object to the model in the same JVM without serializing it.
+ * The value is only serialized if the bytes are actually requested, e.g. by DJL serving.
+ * @param <T> type of the output object
+ */
+public class WriteableBytesSupplier<T extends Writeable> implements BytesSupplier {
+
+    private final T value;
+
+    public WriteableBytesSupplier(T value) {
+        this.value = value;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public byte[] getAsBytes() {
+        try (BytesStreamOutput bytesStreamOutput = new BytesStreamOutput()) {
+            value.writeTo(bytesStreamOutput);
+            return BytesReference.toBytes(bytesStreamOutput.bytes());
+        } catch (IOException e) {
+            throw new MLException("Failed to serialize model output", e);
+        }
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(getAsBytes());
+    }
+
+    /**
+     * Get the output object from output data, deserialize it from bytes if it's not attached as object.
+     * @param data output data
+     * @param type type of the output object
+     * @param fromBytes function to deserialize the output object from bytes
+     * @return output object
+     * @param <T> type of the output object
+     */
+    public static <T extends Writeable> T getValue(BytesSupplier data, Class<T> type, Function<byte[], T> fromBytes) {
+        if (data instanceof WriteableBytesSupplier) {
+            Object value = ((WriteableBytesSupplier<?>) data).getValue();
+            if (type.isInstance(value)) {
+                return type.cast(value);
+            }
+        }
+        return fromBytes.apply(data.getAsBytes());
+    }
+}
@@ -43,6 +43,7 @@ public class AgentUtils {
     public static final String TOOL_RESPONSE = "prompt.tool_response";
     public static final String PROMPT_CHAT_HISTORY_PREFIX = "prompt.chat_history_prefix";
     public static final String DISABLE_TRACE = "disable_trace";
+    public static final String PER_STEP_TRACE = "per_step_trace";
     public static final String VERBOSE = "verbose";
 
     public static String addExamplesToPrompt(Map<String, String> parameters, String prompt) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.agent.MLAgent;
+
+/**
+ * Node local cache of parsed agents, so executing an agent doesn't read and parse the agent document every time.
+ * Agent documents are never updated in place, so an agent id always maps to the same agent until it is deleted.
+ * Deleting an agent clears it from the cache of every node. Entries expire after the configured TTL, which bounds how
+ * long a node that missed the clear can still run a deleted agent.
+ */
+public class MLAgentCache {
+
+    private volatile Cache<String, MLAgent> agents;
+    // increased on every invalidation, so a read started before an agent is deleted doesn't cache it
+    private long version;
+
+    /**
+     * Constructor
+     * @param maxAgents max number of agents cached, 0 disables the cache
+     * @param ttlInSeconds time cached agents live after written
+     */
+    public MLAgentCache(int maxAgents, int ttlInSeconds) {
+        resize(maxAgents, ttlInSeconds);
+    }
+
+    /**
+     * Create a cache which caches nothing
+     * @return disabled cache
+     */
+    public static MLAgentCache disabled() {
+        return new MLAgentCache(0, 0);
+    }
+
+    /**
+     * Rebuild the cache with new limits. All cached agents are dropped.
+     * @param maxAgents max number of agents cached, 0 disables the cache
+     * @param ttlInSeconds time cached agents live after written
+     */
+    public synchronized void resize(int maxAgents, int ttlInSeconds) {
+        version++;
+        if (maxAgents <= 0 || ttlInSeconds <= 0) {
+            agents = null;
+            return;
+        }
+        agents = CacheBuilder
+            .<String, MLAgent>builder()
+            .setMaximumWeight(maxAgents)
+            .setExpireAfterWrite(TimeValue.timeValueSeconds(ttlInSeconds))
+            .build();
+    }
+
+    /**
+     * Get the version to pass to {@link #put} after reading the agent index
+     * @return current version
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get a cached agent
+     * @param agentId id of the agent
+     * @return the agent, or null if not cached
+     */
+    public MLAgent get(String agentId) {
+        Cache<String, MLAgent> cache = agents;
+        return cache == null ? null : cache.get(agentId);
+    }
+
+    /**
+     * Cache an agent read from the agent index, unless an agent was invalidated since the read started
+     * @param agentId id of the agent
+     * @param agent parsed agent
+     * @param readVersion version got before reading the agent index
+     */
+    public synchronized void put(String agentId, MLAgent agent, long readVersion) {
+        if (agents != null && readVersion == version) {
+            agents.put(agentId, agent);
+        }
+    }
+
+    /**
+     * Drop a cached agent
+     * @param agentId id of the agent
+     */
+    public synchronized void invalidate(String agentId) {
+        version++;
+        if (agents != null) {
+            agents.invalidate(agentId);
+        }
+    }
+}
@@ -73,6 +73,7 @@ public class MLAgentExecutor implements Executable {
     private NamedXContentRegistry xContentRegistry;
     private Map<String, Tool.Factory> toolFactories;
     private Map<String, Memory.Factory> memoryFactoryMap;
+    private MLAgentCache agentCache = MLAgentCache.disabled();
 
     public MLAgentExecutor(
         Client client,
@@ -90,6 +91,19 @@ public class MLAgentExecutor implements Executable {
         this.memoryFactoryMap = memoryFactoryMap;
     }
 
+    public MLAgentExecutor(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        MLAgentCache agentCache
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, memoryFactoryMap);
+        this.agentCache = agentCache;
+    }
+
     @Override
     public void execute(Input input, ActionListener<Output> listener) {
         if (!(input instanceof AgentMLInput)) {
@@ -107,6 +121,17 @@ public class MLAgentExecutor implements Executable {
         outputs.add(ModelTensors.builder().mlModelTensors(modelTensors).build());
 
         if (clusterService.state().metadata().hasIndex(ML_AGENT_INDEX)) {
+            MLAgent cachedAgent = agentCache.get(agentId);
+            if (cachedAgent != null) {
+                try {
+                    runAgent(cachedAgent, inputDataSet, listener, outputs, modelTensors);
+                } catch (Exception e) {
+                    log.error("Failed to run agent", e);
+                    listener.onFailure(e);
+                }
+                return;
+            }
+            long readVersion = agentCache.getVersion();
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
                 GetRequest getRequest = new GetRequest(ML_AGENT_INDEX).id(agentId);
                 client.get(getRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
@@ -114,54 +139,8 @@ public class MLAgentExecutor implements Executable {
                         try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, r.getSourceAsBytesRef())) {
                             ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                             MLAgent mlAgent = MLAgent.parse(parser);
-                            MLMemorySpec memorySpec = mlAgent.getMemory();
-                            String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
-                            String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
-                            String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
-                            String appType = mlAgent.getAppType();
-                            String question = inputDataSet.getParameters().get(QUESTION);
-
-                            if (memoryId == null && regenerateInteractionId != null) {
-                                throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
-                            }
-
-                            if (memorySpec != null
-                                && memorySpec.getType() != null
-                                && memoryFactoryMap.containsKey(memorySpec.getType())
-                                && (memoryId == null || parentInteractionId == null)) {
-                                ConversationIndexMemory.Factory conversationIndexMemoryFactory =
-                                    (ConversationIndexMemory.Factory) memoryFactoryMap.get(memorySpec.getType());
-                                conversationIndexMemoryFactory.create(question, memoryId, appType, ActionListener.wrap(memory -> {
-                                    inputDataSet.getParameters().put(MEMORY_ID, memory.getConversationId());
-                                    ActionListener<Object> agentActionListener = createAgentActionListener(listener, outputs, modelTensors);
-                                    // get question for regenerate
-                                    if (regenerateInteractionId != null) {
-                                        log.info("Regenerate for existing interaction {}", regenerateInteractionId);
-                                        client
-                                            .execute(
-                                                GetInteractionAction.INSTANCE,
-                                                new GetInteractionRequest(regenerateInteractionId),
-                                                ActionListener.wrap(interactionRes -> {
-                                                    inputDataSet
-                                                        .getParameters()
-                                                        .putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
-                                                    saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
-                                                }, e -> {
-                                                    log.error("Failed to get existing interaction for regeneration", e);
-                                                    listener.onFailure(e);
-                                                })
-                                            );
-                                    } else {
-                                        saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
-                                    }
-                                }, ex -> {
-                                    log.error("Failed to read conversation memory", ex);
-                                    listener.onFailure(ex);
-                                }));
-                            } else {
-                                ActionListener<Object> agentActionListener = createAgentActionListener(listener, outputs, modelTensors);
-                                executeAgent(inputDataSet, mlAgent, agentActionListener);
-                            }
+                            agentCache.put(agentId, mlAgent, readVersion);
+                            runAgent(mlAgent, inputDataSet, listener, outputs, modelTensors);
                         }
                     } else {
                         listener.onFailure(new ResourceNotFoundException("Agent not found"));
@@ -176,6 +155,69 @@ public class MLAgentExecutor implements Executable {
         }
     }
 
+    /**
+     * create or get the conversation memory if the agent has memory, then run the agent
+     * @param mlAgent agent to run
+     * @param inputDataSet input
+     * @param listener callback listener
+     * @param outputs outputs of the agent execution
+     * @param modelTensors model tensors of the outputs
+     */
+    private void runAgent(
+        MLAgent mlAgent,
+        RemoteInferenceInputDataSet inputDataSet,
+        ActionListener<Output> listener,
+        List<ModelTensors> outputs,
+        List<ModelTensor> modelTensors
+    ) {
+        MLMemorySpec memorySpec = mlAgent.getMemory();
+        String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
+        String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
+        String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
+        String appType = mlAgent.getAppType();
+        String question = inputDataSet.getParameters().get(QUESTION);
+
+        if (memoryId == null && regenerateInteractionId != null) {
+            throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
+        }
+
+        if (memorySpec != null
+            && memorySpec.getType() != null
+            && memoryFactoryMap.containsKey(memorySpec.getType())
+            && (memoryId == null || parentInteractionId == null)) {
+            ConversationIndexMemory.Factory conversationIndexMemoryFactory = (ConversationIndexMemory.Factory) memoryFactoryMap
+                .get(memorySpec.getType());
+            conversationIndexMemoryFactory.create(question, memoryId, appType, ActionListener.wrap(memory -> {
+                inputDataSet.getParameters().put(MEMORY_ID, memory.getConversationId());
+                ActionListener<Object> agentActionListener = createAgentActionListener(listener, outputs, modelTensors);
+                // get question for regenerate
+                if (regenerateInteractionId != null) {
+                    log.info("Regenerate for existing interaction {}", regenerateInteractionId);
+                    client
+                        .execute(
+                            GetInteractionAction.INSTANCE,
+                            new GetInteractionRequest(regenerateInteractionId),
+                            ActionListener.wrap(interactionRes -> {
+                                inputDataSet.getParameters().putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
+                                saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
+                            }, e -> {
+                                log.error("Failed to get existing interaction for regeneration", e);
+                                listener.onFailure(e);
+                            })
+                        );
+                } else {
+                    saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
+                }
+            }, ex -> {
+                log.error("Failed to read conversation memory", ex);
+                listener.onFailure(ex);
+            }));
+        } else {
+            ActionListener<Object> agentActionListener = createAgentActionListener(listener, outputs, modelTensors);
+            executeAgent(inputDataSet, mlAgent, agentActionListener);
+        }
+    }
+
     /**
      * save root interaction and start execute the agent
      * @param listener callback listener
@@ -12,6 +12,7 @@ import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.isJson;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.DISABLE_TRACE;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PER_STEP_TRACE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_CHAT_HISTORY_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_PREFIX;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.PROMPT_SUFFIX;
@@ -63,6 +64,7 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.engine.memory.AgentTraceBuffer;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
 import org.opensearch.ml.engine.memory.ConversationIndexMessage;
 import org.opensearch.ml.engine.tools.MLModelTool;
@@ -194,6 +196,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
         String parentInteractionId = parameters.get(MLAgentExecutor.PARENT_INTERACTION_ID);
         boolean verbose = parameters.containsKey(VERBOSE) && Boolean.parseBoolean(parameters.get(VERBOSE));
         boolean traceDisabled = parameters.containsKey(DISABLE_TRACE) && Boolean.parseBoolean(parameters.get(DISABLE_TRACE));
+        boolean perStepTrace = parameters.containsKey(PER_STEP_TRACE) && Boolean.parseBoolean(parameters.get(PER_STEP_TRACE));
 
         Map<String, String> tmpParameters = constructLLMParams(llm, parameters);
         String prompt = constructLLMPrompt(tools, parameters, inputTools, tmpParameters);
@@ -209,6 +212,8 @@ public class MLChatAgentRunner implements MLAgentRunner {
 
         // Create root interaction.
         ConversationIndexMemory conversationIndexMemory = (ConversationIndexMemory) memory;
+        // Traces are written in one bulk request at the end of the run, unless per step writes are asked for
+        AgentTraceBuffer traceBuffer = conversationIndexMemory == null ? null : new AgentTraceBuffer(conversationIndexMemory, perStepTrace);
 
         // Trace number
         AtomicInteger traceNumber = new AtomicInteger(0);
@@ -254,6 +259,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                             traceDisabled,
                             traceTensors,
                             conversationIndexMemory,
+                            traceBuffer,
                             traceNumber,
                             additionalInfo,
                             finalAnswer
@@ -276,7 +282,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         );
 
                     saveTraceData(
-                        conversationIndexMemory,
+                        traceBuffer,
                         memory.getType(),
                         question,
                         thoughtResponse,
@@ -331,7 +337,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                     scratchpadBuilder.append(toolResponse).append("\n\n");
 
                     saveTraceData(
-                        conversationIndexMemory,
+                        traceBuffer,
                         "ReAct",
                         lastActionInput.get(),
                         outputToOutputString(output),
@@ -361,6 +367,9 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         );
 
                     if (finalI == maxIterations - 1) {
+                        if (traceBuffer != null) {
+                            traceBuffer.flush();
+                        }
                         if (verbose) {
                             listener.onResponse(ModelTensorOutput.builder().mlModelOutputs(traceTensors).build());
                         } else {
@@ -384,6 +393,9 @@ public class MLChatAgentRunner implements MLAgentRunner {
                 }
             }, e -> {
                 log.error("Failed to run chat agent", e);
+                if (traceBuffer != null) {
+                    traceBuffer.flush();
+                }
                 listener.onFailure(e);
             });
             if (i < maxIterations - 1) {
@@ -561,7 +573,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
     }
 
     private static void saveTraceData(
-        ConversationIndexMemory conversationIndexMemory,
+        AgentTraceBuffer traceBuffer,
         String memory,
         String question,
         String thoughtResponse,
@@ -571,7 +583,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
         AtomicInteger traceNumber,
         String origin
     ) {
-        if (conversationIndexMemory != null) {
+        if (traceBuffer != null) {
             ConversationIndexMessage msgTemp = ConversationIndexMessage
                 .conversationIndexMessageBuilder()
                 .type(memory)
@@ -581,7 +593,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
                 .sessionId(sessionId)
                 .build();
             if (!traceDisabled) {
-                conversationIndexMemory.save(msgTemp, parentInteractionId, traceNumber.addAndGet(1), origin);
+                traceBuffer.add(msgTemp, parentInteractionId, traceNumber.addAndGet(1), origin);
             }
         }
     }
@@ -595,6 +607,7 @@ public class MLChatAgentRunner implements MLAgentRunner {
         boolean traceDisabled,
         List<ModelTensors> cotModelTensors,
         ConversationIndexMemory conversationIndexMemory,
+        AgentTraceBuffer traceBuffer,
         AtomicInteger traceNumber,
         Map<String, Object> additionalInfo,
         String finalAnswer
@@ -620,6 +633,23 @@ public class MLChatAgentRunner implements MLAgentRunner {
                         }, e -> { listener.onFailure(e); })
                     );
             }, e -> { listener.onFailure(e); });
+            if (!traceDisabled && !traceBuffer.isPerStep()) {
+                // the final answer trace is written with the buffered traces, off the response path
+                saveTraceData(
+                    traceBuffer,
+                    conversationIndexMemory.getType(),
+                    question,
+                    finalAnswer,
+                    sessionId,
+                    false,
+                    parentInteractionId,
+                    traceNumber,
+                    "LLM"
+                );
+                traceBuffer.flush();
+                saveTraceListener.onResponse(true);
+                return;
+            }
             saveMessage(
                 conversationIndexMemory,
                 question,
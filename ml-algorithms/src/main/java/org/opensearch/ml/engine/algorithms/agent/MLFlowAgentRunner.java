@@ -6,19 +6,24 @@
 package org.opensearch.ml.engine.algorithms.agent;
 
 import static org.apache.commons.text.StringEscapeUtils.escapeJson;
+import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.VERBOSE;
 import static org.opensearch.ml.engine.algorithms.agent.AgentUtils.getMlToolSpecs;
 
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.text.StringSubstitutor;
-import org.opensearch.action.StepListener;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
@@ -48,6 +53,9 @@ import lombok.extern.log4j.Log4j2;
 @Data
 @NoArgsConstructor
 public class MLFlowAgentRunner implements MLAgentRunner {
+    public static final String MAX_PARALLEL_TOOLS = "max_parallel_tools";
+    public static final int DEFAULT_MAX_PARALLEL_TOOLS = 4;
+    public static final String TOOL_TIMINGS = "tool_timings";
 
     private Client client;
     private Settings settings;
@@ -75,90 +83,214 @@ public class MLFlowAgentRunner implements MLAgentRunner {
     @Override
     public void run(MLAgent mlAgent, Map<String, String> params, ActionListener<Object> listener) {
         List<MLToolSpec> toolSpecs = getMlToolSpecs(mlAgent, params);
-        StepListener<Object> firstStepListener = null;
-        Tool firstTool = null;
-        List<ModelTensor> flowAgentOutput = new ArrayList<>();
-        Map<String, String> firstToolExecuteParams = null;
-        StepListener<Object> previousStepListener = null;
-        Map<String, Object> additionalInfo = new ConcurrentHashMap<>();
         if (toolSpecs == null || toolSpecs.size() == 0) {
             listener.onFailure(new IllegalArgumentException("no tool configured"));
             return;
         }
+        if (toolSpecs.size() == 1) {
+            MLToolSpec toolSpec = toolSpecs.get(0);
+            createTool(toolSpec).run(getToolExecuteParams(toolSpec, params), listener);
+            return;
+        }
 
         MLMemorySpec memorySpec = mlAgent.getMemory();
         String memoryId = params.get(MLAgentExecutor.MEMORY_ID);
         String parentInteractionId = params.get(MLAgentExecutor.PARENT_INTERACTION_ID);
+        boolean verbose = params.containsKey(VERBOSE) && Boolean.parseBoolean(params.get(VERBOSE));
+        int maxParallelTools = DEFAULT_MAX_PARALLEL_TOOLS;
+        if (params.containsKey(MAX_PARALLEL_TOOLS)) {
+            try {
+                maxParallelTools = Integer.parseInt(params.get(MAX_PARALLEL_TOOLS));
+            } catch (NumberFormatException e) {
+                listener.onFailure(new IllegalArgumentException(MAX_PARALLEL_TOOLS + " must be an integer", e));
+                return;
+            }
+        }
+        if (maxParallelTools < 1) {
+            listener.onFailure(new IllegalArgumentException(MAX_PARALLEL_TOOLS + " must be positive"));
+            return;
+        }
 
-        for (int i = 0; i <= toolSpecs.size(); i++) {
-            if (i == 0) {
+        Map<String, Object> additionalInfo = new ConcurrentHashMap<>();
+        ActionListener<ToolRun[]> flowListener = ActionListener.wrap(toolRuns -> {
+            List<ModelTensor> flowAgentOutput = new ArrayList<>();
+            Map<String, Object> toolTimings = new LinkedHashMap<>();
+            for (int i = 0; i < toolSpecs.size(); i++) {
                 MLToolSpec toolSpec = toolSpecs.get(i);
-                Tool tool = createTool(toolSpec);
-                firstStepListener = new StepListener<>();
-                previousStepListener = firstStepListener;
-                firstTool = tool;
-                firstToolExecuteParams = getToolExecuteParams(toolSpec, params);
-            } else {
-                MLToolSpec previousToolSpec = toolSpecs.get(i - 1);
-                StepListener<Object> nextStepListener = new StepListener<>();
-                int finalI = i;
-                previousStepListener.whenComplete(output -> {
-                    String key = previousToolSpec.getName();
-                    String outputKey = previousToolSpec.getName() != null
-                        ? previousToolSpec.getName() + ".output"
-                        : previousToolSpec.getType() + ".output";
-
-                    String outputResponse = parseResponse(output);
-                    params.put(outputKey, escapeJson(outputResponse));
-
-                    if (previousToolSpec.isIncludeOutputInAgentResponse() || finalI == toolSpecs.size()) {
-                        if (output instanceof ModelTensorOutput) {
-                            flowAgentOutput.addAll(((ModelTensorOutput) output).getMlModelOutputs().get(0).getMlModelTensors());
-                        } else {
-                            String result = output instanceof String
-                                ? (String) output
-                                : AccessController.doPrivileged((PrivilegedExceptionAction<String>) () -> StringUtils.toJson(output));
-
-                            ModelTensor stepOutput = ModelTensor.builder().name(key).result(result).build();
-                            flowAgentOutput.add(stepOutput);
-                        }
-
-                        additionalInfo.put(outputKey, outputResponse);
-                    }
+                ToolRun toolRun = toolRuns[i];
+                if (toolSpec.isIncludeOutputInAgentResponse() || i == toolSpecs.size() - 1) {
+                    if (toolRun.output instanceof ModelTensorOutput) {
+                        flowAgentOutput.addAll(((ModelTensorOutput) toolRun.output).getMlModelOutputs().get(0).getMlModelTensors());
+                    } else {
+                        Object output = toolRun.output;
+                        String result = output instanceof String
+                            ? (String) output
+                            : AccessController.doPrivileged((PrivilegedExceptionAction<String>) () -> StringUtils.toJson(output));
 
-                    if (finalI == toolSpecs.size()) {
-                        if (memoryId == null || parentInteractionId == null || memorySpec == null || memorySpec.getType() == null) {
-                            listener.onResponse(flowAgentOutput);
-                        } else {
-                            ActionListener updateListener = ActionListener.<UpdateResponse>wrap(updateResponse -> {
-                                log.info("Updated additional info for interaction ID: " + updateResponse.getId() + " in the flow agent.");
-                                listener.onResponse(flowAgentOutput);
-                            }, e -> {
-                                log.error("Failed to update root interaction", e);
-                                listener.onResponse(flowAgentOutput);
-                            });
-                            updateMemoryWithListener(additionalInfo, memorySpec, memoryId, parentInteractionId, updateListener);
-                        }
-                        return;
+                        ModelTensor stepOutput = ModelTensor.builder().name(toolSpec.getName()).result(result).build();
+                        flowAgentOutput.add(stepOutput);
                     }
 
-                    MLToolSpec toolSpec = toolSpecs.get(finalI);
-                    Tool tool = createTool(toolSpec);
-                    if (finalI < toolSpecs.size()) {
-                        tool.run(getToolExecuteParams(toolSpec, params), nextStepListener);
-                    }
+                    additionalInfo.put(getToolOutputKey(toolSpec), toolRun.outputResponse);
+                }
+                String timingKey = toolTimings.containsKey(getToolKey(toolSpec)) ? getToolKey(toolSpec) + "#" + i : getToolKey(toolSpec);
+                toolTimings.put(timingKey, toolRun.tookInMillis);
+            }
+            if (verbose) {
+                flowAgentOutput.add(ModelTensor.builder().name(TOOL_TIMINGS).dataAsMap(toolTimings).build());
+            }
 
+            if (memoryId == null || parentInteractionId == null || memorySpec == null || memorySpec.getType() == null) {
+                listener.onResponse(flowAgentOutput);
+            } else {
+                ActionListener updateListener = ActionListener.<UpdateResponse>wrap(updateResponse -> {
+                    log.info("Updated additional info for interaction ID: " + updateResponse.getId() + " in the flow agent.");
+                    listener.onResponse(flowAgentOutput);
                 }, e -> {
-                    log.error("Failed to run flow agent", e);
-                    listener.onFailure(e);
+                    log.error("Failed to update root interaction", e);
+                    listener.onResponse(flowAgentOutput);
                 });
-                previousStepListener = nextStepListener;
+                updateMemoryWithListener(additionalInfo, memorySpec, memoryId, parentInteractionId, updateListener);
             }
+        }, e -> {
+            log.error("Failed to run flow agent", e);
+            listener.onFailure(e);
+        });
+
+        new FlowRun(toolSpecs, params, getToolDependencies(toolSpecs, params), maxParallelTools, flowListener).runReadyTools();
+    }
+
+    /**
+     * Find the tools each tool depends on. A tool depends on an earlier tool if its parameters reference the output of
+     * the earlier tool, or if both write the same output key, so the later one still overwrites the earlier one.
+     * @param toolSpecs tool specs in the order they are configured
+     * @param params agent parameters
+     * @return indexes of the tools each tool depends on
+     */
+    @VisibleForTesting
+    List<Set<Integer>> getToolDependencies(List<MLToolSpec> toolSpecs, Map<String, String> params) {
+        List<Set<Integer>> dependencies = new ArrayList<>();
+        for (int i = 0; i < toolSpecs.size(); i++) {
+            String toolKey = getToolKey(toolSpecs.get(i));
+            Collection<String> toolParams = getToolExecuteParams(toolSpecs.get(i), params).values();
+            Set<Integer> toolDependencies = new HashSet<>();
+            for (int j = 0; j < i; j++) {
+                // match the whole placeholder, so output of tool "a" isn't mistaken as referenced by "${parameters.ba.output}"
+                String outputPlaceholder = "${parameters." + getToolOutputKey(toolSpecs.get(j)) + "}";
+                boolean referenced = toolParams.stream().anyMatch(value -> value != null && value.contains(outputPlaceholder));
+                if (referenced || toolKey.equals(getToolKey(toolSpecs.get(j)))) {
+                    toolDependencies.add(j);
+                }
+            }
+            dependencies.add(toolDependencies);
         }
-        if (toolSpecs.size() == 1) {
-            firstTool.run(firstToolExecuteParams, listener);
-        } else {
-            firstTool.run(firstToolExecuteParams, firstStepListener);
+        return dependencies;
+    }
+
+    private static String getToolKey(MLToolSpec toolSpec) {
+        return toolSpec.getName() != null ? toolSpec.getName() : toolSpec.getType();
+    }
+
+    private static String getToolOutputKey(MLToolSpec toolSpec) {
+        return getToolKey(toolSpec) + ".output";
+    }
+
+    private static class ToolRun {
+        private Object output;
+        private String outputResponse;
+        private long tookInMillis;
+    }
+
+    /**
+     * Runs the tools of a flow agent. A tool starts once all the tools it depends on are done, and at most
+     * maxParallelTools tools run at the same time. Ready tools start in the order they are configured, so a flow runs
+     * sequentially with maxParallelTools 1.
+     */
+    private class FlowRun {
+        private final List<MLToolSpec> toolSpecs;
+        private final Map<String, String> params;
+        private final List<Set<Integer>> dependencies;
+        private final int maxParallelTools;
+        private final ActionListener<ToolRun[]> listener;
+        private final ToolRun[] toolRuns;
+        private final boolean[] started;
+        private int running;
+        private int completed;
+        private boolean failed;
+
+        FlowRun(
+            List<MLToolSpec> toolSpecs,
+            Map<String, String> params,
+            List<Set<Integer>> dependencies,
+            int maxParallelTools,
+            ActionListener<ToolRun[]> listener
+        ) {
+            this.toolSpecs = toolSpecs;
+            this.params = params;
+            this.dependencies = dependencies;
+            this.maxParallelTools = maxParallelTools;
+            this.listener = listener;
+            this.toolRuns = new ToolRun[toolSpecs.size()];
+            this.started = new boolean[toolSpecs.size()];
+        }
+
+        void runReadyTools() {
+            Map<Integer, Map<String, String>> readyTools = new LinkedHashMap<>();
+            synchronized (this) {
+                for (int i = 0; i < toolSpecs.size() && running < maxParallelTools && !failed; i++) {
+                    if (!started[i] && dependencies.get(i).stream().allMatch(j -> toolRuns[j] != null)) {
+                        started[i] = true;
+                        running++;
+                        // params hold the outputs of finished tools, so they are read under the lock
+                        readyTools.put(i, getToolExecuteParams(toolSpecs.get(i), params));
+                    }
+                }
+            }
+            // tools may respond on the calling thread, so they are run outside the lock
+            readyTools.forEach(this::runTool);
+        }
+
+        private void runTool(int index, Map<String, String> executeParams) {
+            long startTime = System.nanoTime();
+            try {
+                Tool tool = createTool(toolSpecs.get(index));
+                tool.run(executeParams, ActionListener.wrap(output -> onToolResponse(index, output, startTime), this::onFailure));
+            } catch (Exception e) {
+                onFailure(e);
+            }
+        }
+
+        private void onToolResponse(int index, Object output, long startTime) throws IOException {
+            ToolRun toolRun = new ToolRun();
+            toolRun.output = output;
+            toolRun.outputResponse = parseResponse(output);
+            toolRun.tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            boolean done;
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                params.put(getToolOutputKey(toolSpecs.get(index)), escapeJson(toolRun.outputResponse));
+                toolRuns[index] = toolRun;
+                running--;
+                completed++;
+                done = completed == toolSpecs.size();
+            }
+            if (done) {
+                listener.onResponse(toolRuns);
+            } else {
+                runReadyTools();
+            }
+        }
+
+        private void onFailure(Exception e) {
+            synchronized (this) {
+                if (failed) {
+                    return;
+                }
+                failed = true;
+            }
+            listener.onFailure(e);
         }
     }
 
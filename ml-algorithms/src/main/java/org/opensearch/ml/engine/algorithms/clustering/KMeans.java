@@ -5,42 +5,60 @@
 
 package org.opensearch.ml.engine.algorithms.clustering;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.IntStream;
 
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.BatchTrainable;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.Example;
 import org.tribuo.MutableDataset;
 import org.tribuo.Prediction;
 import org.tribuo.clustering.ClusterID;
 import org.tribuo.clustering.ClusteringFactory;
 import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.clustering.kmeans.KMeansTrainer;
+import org.tribuo.datasource.ListDataSource;
+import org.tribuo.impl.ArrayExample;
+import org.tribuo.provenance.SimpleDataSourceProvenance;
 
 @Function(FunctionName.KMEANS)
-public class KMeans implements TrainAndPredictable {
+public class KMeans implements TrainAndPredictable, BatchTrainable {
     public static final String VERSION = "1.0.0";
     private static final KMeansParams.DistanceType DEFAULT_DISTANCE_TYPE = KMeansParams.DistanceType.EUCLIDEAN;
     private static int DEFAULT_CENTROIDS = 2;
     private static int DEFAULT_ITERATIONS = 10;
+    // Worker threads of fork join pool need privileges to be created when security manager is enabled.
+    private static final ForkJoinPool.ForkJoinWorkerThreadFactory THREAD_FACTORY = pool -> AccessController
+        .doPrivileged((PrivilegedAction<ForkJoinWorkerThread>) () -> new KMeansWorkerThread(pool));
 
     // Parameters
     private KMeansParams parameters;
@@ -54,6 +72,16 @@ public class KMeans implements TrainAndPredictable {
 
     private KMeansModel kMeansModel;
 
+    // Mini-batch training state, memory only grows with centroids * features, not with training data.
+    private String[] featureNames;
+    private double[][] centroidValues;
+    private long[] centroidCounts;
+    private int epochs;
+    // Assigns the points of every batch to centroids, created on the first batch and shut down when batch training ends.
+    private ForkJoinPool assignPool;
+    // Points buffered until there are enough of them to pick initial centroids.
+    private final List<double[]> initPoints = new ArrayList<>();
+
     public KMeans() {}
 
     public KMeans(MLAlgoParams parameters) {
@@ -134,8 +162,219 @@ public class KMeans implements TrainAndPredictable {
         Integer iterations = Optional.ofNullable(parameters.getIterations()).orElse(DEFAULT_ITERATIONS);
         KMeansTrainer trainer = new KMeansTrainer(centroids, iterations, distance, numThreads, seed);
         KMeansModel kMeansModel = trainer.train(trainDataset);
+        return toMLModel(kMeansModel);
+    }
+
+    /**
+     * Mini-batch k-means: initial centroids are picked with k-means++ from the first batch, then every point of each
+     * batch moves its nearest centroid towards itself with learning rate 1 / (number of points assigned to the centroid).
+     * The batches are passed once per iteration, see {@link #finishEpoch()}.
+     * @param batch training data batch
+     */
+    @Override
+    public void trainBatch(DataFrame batch) {
+        Tuple<String[], double[][]> featureNamesValues = TribuoUtil.transformDataFrame(batch);
+        if (featureNames == null) {
+            featureNames = featureNamesValues.v1();
+        } else if (!Arrays.equals(featureNames, featureNamesValues.v1())) {
+            throw new IllegalArgumentException("All training batches should have same columns.");
+        }
+        double[][] points = featureNamesValues.v2();
+        if (centroidValues == null) {
+            Collections.addAll(initPoints, points);
+            if (initPoints.size() < getCentroids()) {
+                return;
+            }
+            points = initPoints.toArray(new double[0][]);
+            initPoints.clear();
+            initCentroids(points);
+        }
+
+        if (assignPool == null) {
+            assignPool = new ForkJoinPool(numThreads, THREAD_FACTORY, null, false);
+        }
+        int[] assignments = assignCentroids(points, assignPool);
+        for (int i = 0; i < points.length; i++) {
+            int c = assignments[i];
+            double learningRate = 1.0D / ++centroidCounts[c];
+            double[] centroid = centroidValues[c];
+            for (int j = 0; j < centroid.length; j++) {
+                centroid[j] += learningRate * (points[i][j] - centroid[j]);
+            }
+        }
+    }
+
+    /**
+     * One epoch is one iteration over all training data, same as the iterations of {@link #train(MLInput)}.
+     * If there were fewer points than centroids, the model is trained with all of them in {@link #finishBatchTraining()},
+     * so no more epoch is needed.
+     */
+    @Override
+    public boolean finishEpoch() {
+        epochs++;
+        return centroidValues != null && epochs < getIterations();
+    }
+
+    @Override
+    public MLModel finishBatchTraining() {
+        try {
+            KMeansModel kMeansModel;
+            if (centroidValues == null) {
+                if (initPoints.isEmpty()) {
+                    throw new IllegalArgumentException("No training data for KMeans.");
+                }
+                // Fewer points than centroids, train with all of them directly.
+                KMeansTrainer trainer = new KMeansTrainer(getCentroids(), getIterations(), distance, numThreads, seed);
+                kMeansModel = trainer.train(toDataset(initPoints, "KMeans training data from opensearch"));
+            } else {
+                // Build Tribuo model with the mini-batch centroids: k-means++ on distinct centroids picks every one of them,
+                // and one iteration keeps them unchanged as each centroid is the only point of its own cluster.
+                List<double[]> distinctCentroids = distinctCentroids();
+                KMeansTrainer trainer = new KMeansTrainer(
+                    distinctCentroids.size(),
+                    1,
+                    distance,
+                    KMeansTrainer.Initialisation.PLUSPLUS,
+                    1,
+                    seed
+                );
+                kMeansModel = trainer.train(toDataset(distinctCentroids, "KMeans mini-batch centroids from opensearch"));
+            }
+            return toMLModel(kMeansModel);
+        } finally {
+            closeBatchTraining();
+        }
+    }
+
+    @Override
+    public void closeBatchTraining() {
+        if (assignPool != null) {
+            assignPool.shutdown();
+            assignPool = null;
+        }
+        featureNames = null;
+        centroidValues = null;
+        centroidCounts = null;
+        epochs = 0;
+        initPoints.clear();
+    }
+
+    private int getCentroids() {
+        return Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
+    }
+
+    private int getIterations() {
+        return Optional.ofNullable(parameters.getIterations()).orElse(DEFAULT_ITERATIONS);
+    }
 
-        MLModel model = MLModel
+    private void initCentroids(double[][] points) {
+        int centroids = getCentroids();
+        SplittableRandom rng = new SplittableRandom(seed);
+        centroidValues = new double[centroids][];
+        centroidCounts = new long[centroids];
+        centroidValues[0] = points[rng.nextInt(points.length)].clone();
+        double[] minDistances = new double[points.length];
+        Arrays.fill(minDistances, Double.POSITIVE_INFINITY);
+        for (int c = 1; c < centroids; c++) {
+            double total = 0;
+            for (int i = 0; i < points.length; i++) {
+                minDistances[i] = Math.min(minDistances[i], distance(centroidValues[c - 1], points[i]));
+                total += minDistances[i] * minDistances[i];
+            }
+            // pick next centroid with probability proportional to squared distance to nearest picked centroid
+            int next = rng.nextInt(points.length);
+            if (total > 0) {
+                double target = rng.nextDouble() * total;
+                for (int i = 0; i < points.length; i++) {
+                    target -= minDistances[i] * minDistances[i];
+                    if (target < 0) {
+                        next = i;
+                        break;
+                    }
+                }
+            }
+            centroidValues[c] = points[next].clone();
+        }
+    }
+
+    private int[] assignCentroids(double[][] points, ForkJoinPool pool) {
+        int[] assignments = new int[points.length];
+        try {
+            pool
+                .submit(() -> IntStream.range(0, points.length).parallel().forEach(i -> assignments[i] = nearestCentroid(points[i])))
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while assigning KMeans centroids", e);
+        } catch (ExecutionException e) {
+            throw new MLException("Failed to assign KMeans centroids", e.getCause());
+        }
+        return assignments;
+    }
+
+    private int nearestCentroid(double[] point) {
+        int nearest = 0;
+        double minDistance = Double.POSITIVE_INFINITY;
+        for (int c = 0; c < centroidValues.length; c++) {
+            double d = distance(centroidValues[c], point);
+            if (d < minDistance) {
+                minDistance = d;
+                nearest = c;
+            }
+        }
+        return nearest;
+    }
+
+    private List<double[]> distinctCentroids() {
+        List<double[]> distinctCentroids = new ArrayList<>();
+        for (double[] centroid : centroidValues) {
+            if (distinctCentroids.stream().allMatch(c -> distance(c, centroid) > 0)) {
+                distinctCentroids.add(centroid);
+            }
+        }
+        return distinctCentroids;
+    }
+
+    // Same distances as Tribuo KMeansTrainer.
+    private double distance(double[] a, double[] b) {
+        switch (distance) {
+            case COSINE:
+                double dot = 0;
+                double normA = 0;
+                double normB = 0;
+                for (int i = 0; i < a.length; i++) {
+                    dot += a[i] * b[i];
+                    normA += a[i] * a[i];
+                    normB += b[i] * b[i];
+                }
+                return 1 - dot / (Math.sqrt(normA) * Math.sqrt(normB));
+            case L1:
+                double l1 = 0;
+                for (int i = 0; i < a.length; i++) {
+                    l1 += Math.abs(a[i] - b[i]);
+                }
+                return l1;
+            default:
+                double l2 = 0;
+                for (int i = 0; i < a.length; i++) {
+                    l2 += (a[i] - b[i]) * (a[i] - b[i]);
+                }
+                return Math.sqrt(l2);
+        }
+    }
+
+    private MutableDataset<ClusterID> toDataset(List<double[]> points, String desc) {
+        ClusteringFactory outputFactory = new ClusteringFactory();
+        List<Example<ClusterID>> examples = new ArrayList<>(points.size());
+        for (double[] point : points) {
+            examples.add(new ArrayExample<>(new ClusterID(ClusterID.UNASSIGNED), featureNames, point));
+        }
+        SimpleDataSourceProvenance provenance = new SimpleDataSourceProvenance(desc, outputFactory);
+        return new MutableDataset<>(new ListDataSource<>(examples, outputFactory, provenance));
+    }
+
+    private MLModel toMLModel(KMeansModel kMeansModel) {
+        return MLModel
             .builder()
             .name(FunctionName.KMEANS.name())
             .algorithm(FunctionName.KMEANS)
@@ -143,7 +382,6 @@ public class KMeans implements TrainAndPredictable {
             .content(ModelSerDeSer.serializeToBase64(kMeansModel))
             .modelState(MLModelState.TRAINED)
             .build();
-        return model;
     }
 
     @Override
@@ -167,4 +405,10 @@ public class KMeans implements TrainAndPredictable {
 
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
     }
+
+    private static class KMeansWorkerThread extends ForkJoinWorkerThread {
+        KMeansWorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+    }
 }
@@ -67,6 +67,7 @@ import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
 import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.ml.engine.algorithms.DLModelExecute;
+import org.opensearch.ml.engine.algorithms.WriteableBytesSupplier;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
@@ -380,8 +381,8 @@ public class MetricsCorrelation extends DLModelExecute {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        MCorrModelTensors tensorOutput = MCorrModelTensors.fromBytes(bytes);
+        MCorrModelTensors tensorOutput = WriteableBytesSupplier
+            .getValue(output.getData(), MCorrModelTensors.class, MCorrModelTensors::fromBytes);
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
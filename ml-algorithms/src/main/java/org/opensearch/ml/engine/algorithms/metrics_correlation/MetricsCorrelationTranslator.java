@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor;
 import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensors;
+import org.opensearch.ml.engine.algorithms.WriteableBytesSupplier;
 
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
@@ -80,7 +81,7 @@ public class MetricsCorrelationTranslator implements Translator<float[][], Outpu
 
         }
         MCorrModelTensors modelTensorOutput = new MCorrModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new WriteableBytesSupplier<>(modelTensorOutput));
 
         return output;
     }
@@ -16,7 +16,7 @@ import java.util.Optional;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
-import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataframe.Row;
@@ -135,18 +135,20 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     private List<Map<String, Object>> process(DataFrame dataFrame, RandomCutForest forest, Integer actualTrainingDataSize) {
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
         List<Map<String, Object>> predictResult = new ArrayList<>();
 
         for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
-            for (int i = 0; i < columnMetas.length; i++) {
+            double[] point;
+            if (dataFrame instanceof ColumnarDataFrame) {
+                point = ((ColumnarDataFrame) dataFrame).getDoubleRow(rowNum);
+            } else {
                 Row row = dataFrame.getRow(rowNum);
-                ColumnValue value = row.getValue(i);
-                pointList.add(value.doubleValue());
+                point = new double[columnMetas.length];
+                for (int i = 0; i < columnMetas.length; i++) {
+                    point[i] = row.getValue(i).doubleValue();
+                }
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
             double anomalyScore = forest.getAnomalyScore(point);
             if (actualTrainingDataSize == null || rowNum < actualTrainingDataSize) {
                 forest.update(point);
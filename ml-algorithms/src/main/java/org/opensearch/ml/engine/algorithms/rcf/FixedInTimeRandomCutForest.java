@@ -11,6 +11,7 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -170,12 +171,13 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
             dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
         }
 
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        double[] values = new double[columnMetas.length];
         List<Map<String, Object>> predictResult = new ArrayList<>();
         for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
             Row row = dataFrame.getRow(rowNum);
             long timestamp = -1;
+            int dimensions = 0;
             for (int i = 0; i < columnMetas.length; i++) {
                 ColumnMeta columnMeta = columnMetas[i];
                 ColumnValue value = row.getValue(i);
@@ -196,11 +198,10 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
                         throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
                     }
                 } else {
-                    pointList.add(value.doubleValue());
+                    values[dimensions++] = value.doubleValue();
                 }
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
+            double[] point = Arrays.copyOf(values, dimensions);
             Map<String, Object> result = new HashMap<>();
 
             AnomalyDescriptor process = forest.process(point, timestamp);
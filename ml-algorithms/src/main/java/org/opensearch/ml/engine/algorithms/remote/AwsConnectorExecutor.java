@@ -7,21 +7,31 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.AWS_SIGV4;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.CONNECTION_TIMEOUT_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.MAX_CONNECTION_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.READ_TIMEOUT_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.getPositiveIntParameter;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.protocol.HTTP;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.AwsConnector;
 import org.opensearch.ml.common.connector.Connector;
@@ -29,6 +39,7 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
+import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
 import org.opensearch.script.ScriptService;
 
 import lombok.Getter;
@@ -40,7 +51,9 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.AttributeMap;
 
 @Log4j2
 @ConnectorExecutor(AWS_SIGV4)
@@ -49,6 +62,7 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
     @Getter
     private AwsConnector connector;
     private final SdkHttpClient httpClient;
+    private final RemoteModelAsyncHttpClient asyncHttpClient;
     @Setter
     @Getter
     private ScriptService scriptService;
@@ -65,33 +79,46 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
     public AwsConnectorExecutor(Connector connector, SdkHttpClient httpClient) {
         this.connector = (AwsConnector) connector;
         this.httpClient = httpClient;
+        Integer maxConnection = getPositiveIntParameter(connector, MAX_CONNECTION_PARAM);
+        Integer connectionTimeout = getPositiveIntParameter(connector, CONNECTION_TIMEOUT_PARAM);
+        Integer readTimeout = getPositiveIntParameter(connector, READ_TIMEOUT_PARAM);
+        this.asyncHttpClient = new RemoteModelAsyncHttpClient(
+            maxConnection == null ? MLHttpClientFactory.DEFAULT_MAX_CONNECTIONS : maxConnection,
+            connectionTimeout == null ? null : connectionTimeout * 1000,
+            readTimeout == null ? null : readTimeout * 1000
+        );
     }
 
     public AwsConnectorExecutor(Connector connector) {
-        this(connector, new DefaultSdkHttpClientBuilder().build());
+        this(connector, new DefaultSdkHttpClientBuilder().buildWithDefaults(httpClientConfig(connector)));
+    }
+
+    private static AttributeMap httpClientConfig(Connector connector) {
+        Integer maxConnection = getPositiveIntParameter(connector, MAX_CONNECTION_PARAM);
+        Integer connectionTimeout = getPositiveIntParameter(connector, CONNECTION_TIMEOUT_PARAM);
+        Integer readTimeout = getPositiveIntParameter(connector, READ_TIMEOUT_PARAM);
+        AttributeMap.Builder config = AttributeMap
+            .builder()
+            .put(
+                SdkHttpConfigurationOption.MAX_CONNECTIONS,
+                maxConnection == null ? MLHttpClientFactory.DEFAULT_MAX_CONNECTIONS : maxConnection
+            );
+        if (connectionTimeout != null) {
+            config.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, Duration.ofSeconds(connectionTimeout));
+        }
+        if (readTimeout != null) {
+            config.put(SdkHttpConfigurationOption.READ_TIMEOUT, Duration.ofSeconds(readTimeout));
+        }
+        return config.build();
     }
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
         try {
-            String endpoint = connector.getPredictEndpoint(parameters);
-            RequestBody requestBody = RequestBody.fromString(payload);
-
-            SdkHttpFullRequest.Builder builder = SdkHttpFullRequest
-                .builder()
-                .method(POST)
-                .uri(URI.create(endpoint))
-                .contentStreamProvider(requestBody.contentStreamProvider());
-            Map<String, String> headers = connector.getDecryptedHeaders();
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    builder.putHeader(key, headers.get(key));
-                }
-            }
-            SdkHttpFullRequest request = builder.build();
+            SdkHttpFullRequest request = createSignedRequest(parameters, payload);
             HttpExecuteRequest executeRequest = HttpExecuteRequest
                 .builder()
-                .request(signRequest(request))
+                .request(request)
                 .contentStreamProvider(request.contentStreamProvider().orElse(null))
                 .build();
 
@@ -133,6 +160,52 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
         }
     }
 
+    /**
+     * Sign the request with SigV4 on the calling thread and send it with the non-blocking http client, which
+     * validates the resolved ip addresses of the endpoint when it opens a connection.
+     */
+    @Override
+    public void invokeRemoteModelAsync(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> listener
+    ) {
+        try {
+            SdkHttpFullRequest signedRequest = createSignedRequest(parameters, payload);
+            HttpPost request = new HttpPost(signedRequest.getUri());
+            signedRequest.headers().forEach((name, values) -> {
+                // the content headers are set by the http client from the entity
+                if (!HTTP.CONTENT_LEN.equalsIgnoreCase(name) && !HTTP.TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+                    values.forEach(value -> request.addHeader(name, value));
+                }
+            });
+            request.setEntity(new ByteArrayEntity(payload.getBytes(StandardCharsets.UTF_8)));
+            asyncHttpClient.execute(request, getConnector(), getScriptService(), parameters, getClient(), listener);
+        } catch (Exception e) {
+            log.error("Failed to execute predict in aws connector: " + e.getMessage(), e);
+            listener.onFailure(e);
+        }
+    }
+
+    private SdkHttpFullRequest createSignedRequest(Map<String, String> parameters, String payload) {
+        String endpoint = connector.getPredictEndpoint(parameters);
+        RequestBody requestBody = RequestBody.fromString(payload);
+
+        SdkHttpFullRequest.Builder builder = SdkHttpFullRequest
+            .builder()
+            .method(POST)
+            .uri(URI.create(endpoint))
+            .contentStreamProvider(requestBody.contentStreamProvider());
+        Map<String, String> headers = connector.getDecryptedHeaders();
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                builder.putHeader(key, headers.get(key));
+            }
+        }
+        return signRequest(builder.build());
+    }
+
     private SdkHttpFullRequest signRequest(SdkHttpFullRequest request) {
         String accessKey = connector.getAccessKey();
         String secretKey = connector.getSecretKey();
@@ -142,4 +215,14 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor {
 
         return ConnectorUtils.signRequest(request, accessKey, secretKey, sessionToken, signingName, region);
     }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        try {
+            asyncHttpClient.close();
+        } catch (IOException e) {
+            log.warn("Failed to close http client of connector " + connector.getName(), e);
+        }
+    }
 }
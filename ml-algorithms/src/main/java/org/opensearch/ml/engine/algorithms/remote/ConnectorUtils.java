@@ -52,6 +52,13 @@ import software.amazon.awssdk.regions.Region;
 @Log4j2
 public class ConnectorUtils {
 
+    // Connector parameters to configure the http client of the connector executor
+    public static final String MAX_CONNECTION_PARAM = "max_connection";
+    public static final String CONNECTION_TIMEOUT_PARAM = "connection_timeout";
+    public static final String READ_TIMEOUT_PARAM = "read_timeout";
+    public static final String INPUT_DOCS_PROCESSED_STEP_SIZE_PARAM = "input_docs_processed_step_size";
+    public static final String MAX_CONCURRENT_REQUESTS_PARAM = "max_concurrent_requests";
+
     private static final Aws4Signer signer;
     static {
         signer = Aws4Signer.create();
@@ -252,4 +259,27 @@ public class ConnectorUtils {
 
         return signer.sign(request, params);
     }
+
+    /**
+     * Get a positive integer parameter of connector.
+     * @param connector connector
+     * @param name parameter name
+     * @return parameter value, or null if the connector doesn't have this parameter
+     */
+    public static Integer getPositiveIntParameter(Connector connector, String name) {
+        Map<String, String> parameters = connector.getParameters();
+        if (parameters == null || parameters.get(name) == null) {
+            return null;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(parameters.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid parameter: " + name + ". It must be positive integer.");
+        }
+        if (value <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: " + name + ". It must be positive integer.");
+        }
+        return value;
+    }
 }
@@ -7,8 +7,13 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.CONNECTION_TIMEOUT_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.MAX_CONNECTION_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.READ_TIMEOUT_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.getPositiveIntParameter;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
@@ -27,6 +32,7 @@ import org.apache.http.util.EntityUtils;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.HttpConnector;
@@ -61,8 +67,19 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
     @Getter
     private Client client;
 
+    private final CloseableHttpClient httpClient;
+    private final RemoteModelAsyncHttpClient asyncHttpClient;
+
     public HttpJsonConnectorExecutor(Connector connector) {
         this.connector = (HttpConnector) connector;
+        Integer maxConnection = getPositiveIntParameter(connector, MAX_CONNECTION_PARAM);
+        Integer connectionTimeout = getPositiveIntParameter(connector, CONNECTION_TIMEOUT_PARAM);
+        Integer readTimeout = getPositiveIntParameter(connector, READ_TIMEOUT_PARAM);
+        int maxConnections = maxConnection == null ? MLHttpClientFactory.DEFAULT_MAX_CONNECTIONS : maxConnection;
+        Integer connectionTimeoutMillis = connectionTimeout == null ? null : connectionTimeout * 1000;
+        Integer readTimeoutMillis = readTimeout == null ? null : readTimeout * 1000;
+        this.httpClient = MLHttpClientFactory.getPooledCloseableHttpClient(maxConnections, connectionTimeoutMillis, readTimeoutMillis);
+        this.asyncHttpClient = new RemoteModelAsyncHttpClient(maxConnections, connectionTimeoutMillis, readTimeoutMillis);
     }
 
     @Override
@@ -71,46 +88,10 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
             AtomicReference<String> responseRef = new AtomicReference<>("");
             AtomicReference<Integer> statusCodeRef = new AtomicReference<>();
 
-            HttpUriRequest request;
-            switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
-                case "POST":
-                    try {
-                        String predictEndpoint = connector.getPredictEndpoint(parameters);
-                        request = new HttpPost(predictEndpoint);
-                        String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
-                        HttpEntity entity = new StringEntity(payload, charset);
-                        ((HttpPost) request).setEntity(entity);
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
-                    }
-                    break;
-                case "GET":
-                    try {
-                        request = new HttpGet(connector.getPredictEndpoint(parameters));
-                    } catch (Exception e) {
-                        throw new MLException("Failed to create http request for remote model", e);
-                    }
-                    break;
-                default:
-                    throw new IllegalArgumentException("unsupported http method");
-            }
-
-            Map<String, ?> headers = connector.getDecryptedHeaders();
-            boolean hasContentTypeHeader = false;
-            if (headers != null) {
-                for (String key : headers.keySet()) {
-                    request.addHeader(key, (String) headers.get(key));
-                    if (key.toLowerCase().equals("Content-Type")) {
-                        hasContentTypeHeader = true;
-                    }
-                }
-            }
-            if (!hasContentTypeHeader) {
-                request.addHeader("Content-Type", "application/json");
-            }
+            HttpUriRequest request = createHttpRequest(parameters, payload);
 
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                try (CloseableHttpClient httpClient = getHttpClient(); CloseableHttpResponse response = httpClient.execute(request)) {
+                try (CloseableHttpResponse response = getHttpClient().execute(request)) {
                     HttpEntity responseEntity = response.getEntity();
                     String responseBody = EntityUtils.toString(responseEntity);
                     EntityUtils.consume(responseEntity);
@@ -137,7 +118,74 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
         }
     }
 
+    @Override
+    public void invokeRemoteModelAsync(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> listener
+    ) {
+        try {
+            HttpUriRequest request = createHttpRequest(parameters, payload);
+            asyncHttpClient.execute(request, getConnector(), getScriptService(), parameters, getClient(), listener);
+        } catch (Exception e) {
+            log.error("Fail to execute http connector", e);
+            listener.onFailure(e);
+        }
+    }
+
+    private HttpUriRequest createHttpRequest(Map<String, String> parameters, String payload) {
+        HttpUriRequest request;
+        switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
+            case "POST":
+                try {
+                    String predictEndpoint = connector.getPredictEndpoint(parameters);
+                    request = new HttpPost(predictEndpoint);
+                    String charset = parameters.containsKey("charset") ? parameters.get("charset") : "UTF-8";
+                    HttpEntity entity = new StringEntity(payload, charset);
+                    ((HttpPost) request).setEntity(entity);
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            case "GET":
+                try {
+                    request = new HttpGet(connector.getPredictEndpoint(parameters));
+                } catch (Exception e) {
+                    throw new MLException("Failed to create http request for remote model", e);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported http method");
+        }
+
+        Map<String, ?> headers = connector.getDecryptedHeaders();
+        boolean hasContentTypeHeader = false;
+        if (headers != null) {
+            for (String key : headers.keySet()) {
+                request.addHeader(key, (String) headers.get(key));
+                if (key.equalsIgnoreCase("Content-Type")) {
+                    hasContentTypeHeader = true;
+                }
+            }
+        }
+        if (!hasContentTypeHeader) {
+            request.addHeader("Content-Type", "application/json");
+        }
+        return request;
+    }
+
     public CloseableHttpClient getHttpClient() {
-        return MLHttpClientFactory.getCloseableHttpClient();
+        return httpClient;
+    }
+
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+            asyncHttpClient.close();
+        } catch (IOException e) {
+            log.warn("Failed to close http client of connector " + connector.getName(), e);
+        }
     }
 }
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.INPUT_DOCS_PROCESSED_STEP_SIZE_PARAM;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.MAX_CONCURRENT_REQUESTS_PARAM;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.escapeRemoteInferenceInputData;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processInput;
 
@@ -14,11 +16,13 @@ import java.util.List;
 import java.util.Map;
 
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
@@ -38,37 +42,19 @@ public interface RemoteConnectorExecutor {
 
         if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
             TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+            int maxConcurrentRequests = getMaxConcurrentRequests();
+            int stepSize = getFixedStepSize(textDocsInputDataSet.getDocs().size());
+            if (maxConcurrentRequests > 1 && textDocsInputDataSet.getDocs().size() > stepSize) {
+                PlainActionFuture<ModelTensorOutput> future = PlainActionFuture.newFuture();
+                executeTextDocsAsync(textDocsInputDataSet.getDocs(), stepSize, maxConcurrentRequests, future);
+                return future.actionGet();
+            }
             int processedDocs = 0;
             while (processedDocs < textDocsInputDataSet.getDocs().size()) {
                 List<String> textDocs = textDocsInputDataSet.getDocs().subList(processedDocs, textDocsInputDataSet.getDocs().size());
                 List<ModelTensors> tempTensorOutputs = new ArrayList<>();
-                preparePayloadAndInvokeRemoteModel(
-                    MLInput
-                        .builder()
-                        .algorithm(FunctionName.TEXT_EMBEDDING)
-                        .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
-                        .build(),
-                    tempTensorOutputs
-                );
-                int tensorCount = 0;
-                if (tempTensorOutputs.size() > 0 && tempTensorOutputs.get(0).getMlModelTensors() != null) {
-                    tensorCount = tempTensorOutputs.get(0).getMlModelTensors().size();
-                }
-                // This is to support some model which takes N text docs and embedding size is less than N.
-                // We need to tell executor what's the step size for each model run.
-                Map<String, String> parameters = getConnector().getParameters();
-                if (parameters != null && parameters.containsKey("input_docs_processed_step_size")) {
-                    int stepSize = Integer.parseInt(parameters.get("input_docs_processed_step_size"));
-                    // We need to check the parameter on runtime as parameter can be passed into predict request
-                    if (stepSize <= 0) {
-                        throw new IllegalArgumentException(
-                            "Invalid parameter: input_docs_processed_step_size. It must be positive integer."
-                        );
-                    }
-                    processedDocs += stepSize;
-                } else {
-                    processedDocs += Math.max(tensorCount, 1);
-                }
+                preparePayloadAndInvokeRemoteModel(textDocsSubInput(textDocs), tempTensorOutputs);
+                processedDocs += getProcessedDocsStepSize(tempTensorOutputs);
                 tensorOutputs.addAll(tempTensorOutputs);
             }
         } else {
@@ -77,6 +63,97 @@ public interface RemoteConnectorExecutor {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Predict without blocking the calling thread until the remote model responds.
+     * Text docs are sent in sequential chunks by default, the next chunk is sent when the previous one responds.
+     * If the connector sets both input_docs_processed_step_size and max_concurrent_requests, the chunks are
+     * sent concurrently instead.
+     * @param mlInput ML input
+     * @param listener action listener
+     */
+    default void executePredictAsync(MLInput mlInput, ActionListener<ModelTensorOutput> listener) {
+        try {
+            if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+                List<String> docs = ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+                int maxConcurrentRequests = getMaxConcurrentRequests();
+                int stepSize = getFixedStepSize(docs.size());
+                Integer chunkSize = maxConcurrentRequests > 1 && docs.size() > stepSize ? stepSize : null;
+                executeTextDocsAsync(docs, chunkSize, maxConcurrentRequests, listener);
+            } else {
+                preparePayloadAndInvokeRemoteModelAsync(mlInput, ActionListener.wrap(tensors -> {
+                    List<ModelTensors> tensorOutputs = new ArrayList<>();
+                    tensorOutputs.add(tensors);
+                    listener.onResponse(new ModelTensorOutput(tensorOutputs));
+                }, listener::onFailure));
+            }
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Send the text docs in chunks, see {@link TextDocsChunkScheduler}. Every chunk goes through the model and user
+     * level rate limiters.
+     */
+    private void executeTextDocsAsync(
+        List<String> docs,
+        Integer chunkSize,
+        int maxConcurrentRequests,
+        ActionListener<ModelTensorOutput> listener
+    ) {
+        new TextDocsChunkScheduler(
+            docs,
+            chunkSize,
+            maxConcurrentRequests,
+            (textDocs, chunkListener) -> preparePayloadAndInvokeRemoteModelAsync(textDocsSubInput(textDocs), chunkListener),
+            tensors -> getProcessedDocsStepSize(List.of(tensors)),
+            listener
+        ).start();
+    }
+
+    /**
+     * @return max number of concurrent requests to send for one predict request, 1 if not configured.
+     */
+    private int getMaxConcurrentRequests() {
+        Integer maxConcurrentRequests = ConnectorUtils.getPositiveIntParameter(getConnector(), MAX_CONCURRENT_REQUESTS_PARAM);
+        return maxConcurrentRequests == null ? 1 : maxConcurrentRequests;
+    }
+
+    /**
+     * @return the configured input_docs_processed_step_size, or the given default value if not configured.
+     */
+    private int getFixedStepSize(int defaultValue) {
+        Integer stepSize = ConnectorUtils.getPositiveIntParameter(getConnector(), INPUT_DOCS_PROCESSED_STEP_SIZE_PARAM);
+        return stepSize == null ? defaultValue : stepSize;
+    }
+
+    private MLInput textDocsSubInput(List<String> textDocs) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
+            .build();
+    }
+
+    private int getProcessedDocsStepSize(List<ModelTensors> tempTensorOutputs) {
+        int tensorCount = 0;
+        if (tempTensorOutputs.size() > 0 && tempTensorOutputs.get(0).getMlModelTensors() != null) {
+            tensorCount = tempTensorOutputs.get(0).getMlModelTensors().size();
+        }
+        // This is to support some model which takes N text docs and embedding size is less than N.
+        // We need to tell executor what's the step size for each model run.
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters != null && parameters.containsKey(INPUT_DOCS_PROCESSED_STEP_SIZE_PARAM)) {
+            int stepSize = Integer.parseInt(parameters.get(INPUT_DOCS_PROCESSED_STEP_SIZE_PARAM));
+            // We need to check the parameter on runtime as parameter can be passed into predict request
+            if (stepSize <= 0) {
+                throw new IllegalArgumentException("Invalid parameter: input_docs_processed_step_size. It must be positive integer.");
+            }
+            return stepSize;
+        }
+        return Math.max(tensorCount, 1);
+    }
+
     default void setScriptService(ScriptService scriptService) {}
 
     ScriptService getScriptService();
@@ -100,9 +177,26 @@ public interface RemoteConnectorExecutor {
     default void setUserRateLimiterMap(Map<String, TokenBucket> userRateLimiterMap) {}
 
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
-        Connector connector = getConnector();
+        Map<String, String> parameters = new HashMap<>();
+        String payload = preparePayload(mlInput, parameters);
+        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+    }
 
+    default void preparePayloadAndInvokeRemoteModelAsync(MLInput mlInput, ActionListener<ModelTensors> listener) {
         Map<String, String> parameters = new HashMap<>();
+        String payload = preparePayload(mlInput, parameters);
+        invokeRemoteModelAsync(mlInput, parameters, payload, listener);
+    }
+
+    /**
+     * Create the predict payload and check the model and user level rate limiters.
+     * @param mlInput ML input
+     * @param parameters parameters map which will be filled with connector and input parameters
+     * @return predict payload
+     */
+    private String preparePayload(MLInput mlInput, Map<String, String> parameters) {
+        Connector connector = getConnector();
+
         if (connector.getParameters() != null) {
             parameters.putAll(connector.getParameters());
         }
@@ -136,11 +230,39 @@ public interface RemoteConnectorExecutor {
                 "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
                 RestStatus.TOO_MANY_REQUESTS
             );
-        } else {
-            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
         }
+        return payload;
     }
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
 
+    /**
+     * Invoke remote model without blocking the calling thread. Executors which don't have a non-blocking
+     * http client invoke the remote model synchronously by default.
+     * @param mlInput ML input
+     * @param parameters parameters
+     * @param payload predict payload
+     * @param listener action listener
+     */
+    default void invokeRemoteModelAsync(
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ActionListener<ModelTensors> listener
+    ) {
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        try {
+            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(tensorOutputs.get(0));
+    }
+
+    /**
+     * Release resources like pooled http connections held by the executor. Called when the remote model is undeployed.
+     */
+    default void close() {}
+
 }
@@ -10,6 +10,7 @@ import java.util.Map;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -68,8 +69,27 @@ public class RemoteModel implements Predictable {
         }
     }
 
+    @Override
+    public void asyncPredict(MLInput mlInput, ActionListener<MLOutput> listener) {
+        RemoteConnectorExecutor executor = this.connectorExecutor;
+        if (executor == null) {
+            listener
+                .onFailure(
+                    new IllegalArgumentException("Model not ready yet. Please run this first: POST /_plugins/_ml/models/<model_id>/_deploy")
+                );
+            return;
+        }
+        executor.executePredictAsync(mlInput, ActionListener.wrap(listener::onResponse, e -> {
+            log.error("Failed to call remote model.", e);
+            listener.onFailure(e);
+        }));
+    }
+
     @Override
     public void close() {
+        if (this.connectorExecutor != null) {
+            this.connectorExecutor.close();
+        }
         this.connectorExecutor = null;
     }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedExceptionAction;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.client.Client;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
+import org.opensearch.script.ScriptService;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Non-blocking http client shared by the connector executors. The client is created on the first request and keeps
+ * at most max_connection connections to the remote service. Requests beyond that wait for a free connection, and
+ * requests beyond the wait queue are rejected with 429.
+ */
+@Log4j2
+class RemoteModelAsyncHttpClient implements Closeable {
+
+    // Requests beyond max_connection wait for a free connection, up to this many waiting requests per connection.
+    static final int MAX_QUEUED_REQUESTS_PER_CONNECTION = 10;
+
+    private final int maxConnections;
+    private final Integer connectionTimeoutMillis;
+    private final Integer readTimeoutMillis;
+    // Bound the in-flight and queued requests, so they can't pile up without limit when the remote model is slow.
+    private final Semaphore requestPermits;
+    private volatile CloseableHttpAsyncClient httpClient;
+
+    RemoteModelAsyncHttpClient(int maxConnections, Integer connectionTimeoutMillis, Integer readTimeoutMillis) {
+        this.maxConnections = maxConnections;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.requestPermits = new Semaphore(maxConnections * (1 + MAX_QUEUED_REQUESTS_PER_CONNECTION));
+    }
+
+    /**
+     * Send the request and turn the response into model tensors with the connector's post process function.
+     * The post process function runs on the generic thread pool, with the thread context of the caller.
+     * @param request http request to the remote model
+     * @param connector connector of the remote model
+     * @param scriptService script service to run the post process function
+     * @param parameters predict parameters
+     * @param client client to get the thread pool from
+     * @param listener action listener
+     */
+    void execute(
+        HttpUriRequest request,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters,
+        Client client,
+        ActionListener<ModelTensors> listener
+    ) {
+        if (!requestPermits.tryAcquire()) {
+            listener
+                .onFailure(
+                    new OpenSearchStatusException(
+                        "Too many queued requests to remote model, max connection: " + maxConnections,
+                        RestStatus.TOO_MANY_REQUESTS
+                    )
+                );
+            return;
+        }
+        ActionListener<ModelTensors> contextPreservingListener = new ContextPreservingActionListener<>(
+            client.threadPool().getThreadContext().newRestorableContext(false),
+            listener
+        );
+        try {
+            CloseableHttpAsyncClient asyncClient = getHttpClient();
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                asyncClient.execute(request, new FutureCallback<>() {
+                    @Override
+                    public void completed(HttpResponse response) {
+                        requestPermits.release();
+                        // don't run the post process function on the I/O dispatcher thread
+                        client
+                            .threadPool()
+                            .executor(ThreadPool.Names.GENERIC)
+                            .execute(() -> handleResponse(response, connector, scriptService, parameters, contextPreservingListener));
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        requestPermits.release();
+                        log.error("Fail to execute http request to remote model", e);
+                        contextPreservingListener.onFailure(new MLException("Fail to execute http request to remote model", e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        requestPermits.release();
+                        contextPreservingListener.onFailure(new MLException("Http request to remote model was cancelled"));
+                    }
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            requestPermits.release();
+            log.error("Fail to execute http request to remote model", e);
+            listener.onFailure(e instanceof RuntimeException ? e : new MLException("Fail to execute http request to remote model", e));
+        }
+    }
+
+    private void handleResponse(
+        HttpResponse response,
+        Connector connector,
+        ScriptService scriptService,
+        Map<String, String> parameters,
+        ActionListener<ModelTensors> listener
+    ) {
+        try {
+            if (response.getEntity() == null) {
+                throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
+            }
+            String modelResponse = EntityUtils.toString(response.getEntity());
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode < 200 || statusCode >= 300) {
+                throw new OpenSearchStatusException(REMOTE_SERVICE_ERROR + modelResponse, RestStatus.fromCode(statusCode));
+            }
+            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
+            tensors.setStatusCode(statusCode);
+            listener.onResponse(tensors);
+        } catch (Exception e) {
+            log.error("Fail to process response of remote model", e);
+            listener.onFailure(e);
+        }
+    }
+
+    private CloseableHttpAsyncClient getHttpClient() throws Exception {
+        if (httpClient == null) {
+            synchronized (this) {
+                if (httpClient == null) {
+                    // the I/O reactor threads are started here, they inherit the plugin's permissions
+                    httpClient = AccessController
+                        .doPrivileged(
+                            (PrivilegedExceptionAction<CloseableHttpAsyncClient>) () -> MLHttpClientFactory
+                                .getPooledAsyncHttpClient(maxConnections, connectionTimeoutMillis, readTimeoutMillis)
+                        );
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+}
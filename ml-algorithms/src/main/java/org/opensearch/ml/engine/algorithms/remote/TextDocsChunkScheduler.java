@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+/**
+ * Sends the text docs of one predict request to the remote model in chunks.
+ * <p>
+ * With a fixed chunk size, the docs are split up front and at most maxConcurrentRequests chunks are in flight.
+ * Without one, the chunks are sent one by one: every chunk starts with the first doc not covered by the previous
+ * responses and ends with the last doc, and the response tells how many docs it covered.
+ * <p>
+ * Chunks are sent from a loop instead of from the listener of the previous chunk. A chunk which completes on the
+ * sending thread only updates the state, and the loop sends the next one, so the stack doesn't grow with the number
+ * of chunks. The outputs are returned in the order of the docs. The first failure fails the whole request, and no
+ * more chunks are sent after it.
+ */
+class TextDocsChunkScheduler {
+
+    private final List<String> docs;
+    private final Integer chunkSize;
+    private final int maxConcurrentRequests;
+    private final BiConsumer<List<String>, ActionListener<ModelTensors>> chunkSender;
+    private final ToIntFunction<ModelTensors> processedDocsFunction;
+    private final ActionListener<ModelTensorOutput> listener;
+
+    // chunk outputs keyed by the index of the first doc of the chunk
+    private final TreeMap<Integer, ModelTensors> chunkOutputs = new TreeMap<>();
+    private int nextDoc = 0;
+    private int inFlightChunks = 0;
+    private boolean sending = false;
+    private boolean done = false;
+
+    /**
+     * @param docs text docs to predict
+     * @param chunkSize docs per chunk, null to send the chunks one by one and let each response decide its size
+     * @param maxConcurrentRequests max chunks in flight, only used with a fixed chunk size
+     * @param chunkSender sends the docs of one chunk to the remote model
+     * @param processedDocsFunction number of docs covered by the response of a chunk, only used without a fixed chunk size
+     * @param listener action listener
+     */
+    TextDocsChunkScheduler(
+        List<String> docs,
+        Integer chunkSize,
+        int maxConcurrentRequests,
+        BiConsumer<List<String>, ActionListener<ModelTensors>> chunkSender,
+        ToIntFunction<ModelTensors> processedDocsFunction,
+        ActionListener<ModelTensorOutput> listener
+    ) {
+        this.docs = docs;
+        this.chunkSize = chunkSize;
+        this.maxConcurrentRequests = chunkSize == null ? 1 : maxConcurrentRequests;
+        this.chunkSender = chunkSender;
+        this.processedDocsFunction = processedDocsFunction;
+        this.listener = listener;
+    }
+
+    void start() {
+        if (docs.isEmpty()) {
+            listener.onResponse(new ModelTensorOutput(new ArrayList<>()));
+            return;
+        }
+        sendChunks();
+    }
+
+    private void sendChunks() {
+        synchronized (this) {
+            if (sending) {
+                // the thread in the loop below sends the next chunks
+                return;
+            }
+            sending = true;
+        }
+        while (true) {
+            int start;
+            int end;
+            synchronized (this) {
+                if (done || inFlightChunks >= maxConcurrentRequests || nextDoc >= docs.size()) {
+                    sending = false;
+                    return;
+                }
+                start = nextDoc;
+                end = chunkSize == null ? docs.size() : Math.min(docs.size(), start + chunkSize);
+                // without a fixed chunk size, the next chunk starts where the response of this chunk ends
+                nextDoc = chunkSize == null ? docs.size() : end;
+                inFlightChunks++;
+            }
+            ActionListener<ModelTensors> chunkListener = ActionListener.wrap(tensors -> onChunkResponse(start, tensors), this::onFailure);
+            try {
+                chunkSender.accept(docs.subList(start, end), chunkListener);
+            } catch (Exception e) {
+                chunkListener.onFailure(e);
+            }
+        }
+    }
+
+    private void onChunkResponse(int start, ModelTensors tensors) {
+        List<ModelTensors> tensorOutputs = null;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            if (chunkSize == null) {
+                nextDoc = start + processedDocsFunction.applyAsInt(tensors);
+            }
+            chunkOutputs.put(start, tensors);
+            inFlightChunks--;
+            if (inFlightChunks == 0 && nextDoc >= docs.size()) {
+                done = true;
+                tensorOutputs = new ArrayList<>(chunkOutputs.values());
+            }
+        }
+        if (tensorOutputs != null) {
+            listener.onResponse(new ModelTensorOutput(tensorOutputs));
+        } else {
+            sendChunks();
+        }
+    }
+
+    private void onFailure(Exception e) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            done = true;
+        }
+        listener.onFailure(e);
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Map;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
+import org.opensearch.ml.engine.algorithms.WriteableBytesSupplier;
 
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
@@ -40,7 +41,7 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new WriteableBytesSupplier<>(modelTensorOutput));
         return output;
     }
 
@@ -13,6 +13,7 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.WriteableBytesSupplier;
 
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -54,15 +55,11 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
         float[] ret = translator.processOutput(ctx, list);
-        Number[] data = new Float[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            data[i] = ret[i];
-        }
         long[] shape = new long[] { 1, ret.length };
         ModelTensor tensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(ret)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -70,7 +67,7 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new WriteableBytesSupplier<>(modelTensorOutput));
         return output;
     }
 
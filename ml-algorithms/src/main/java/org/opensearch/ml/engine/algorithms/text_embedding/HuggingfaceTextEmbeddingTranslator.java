@@ -13,8 +13,13 @@
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
+import org.opensearch.ml.engine.algorithms.PaddingStackBatchifier;
+
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.ndarray.NDArray;
@@ -30,6 +35,8 @@ import ai.djl.translate.TranslatorContext;
 public class HuggingfaceTextEmbeddingTranslator implements Translator<String, float[]> {
 
     private static final int[] AXIS = { 0 };
+    private static final String ENCODINGS = "encodings";
+    private static final String OUTPUT_INDEX = "output_index";
 
     private HuggingFaceTokenizer tokenizer;
     private Batchifier batchifier;
@@ -62,7 +69,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public NDList processInput(TranslatorContext ctx, String input) {
         NDManager manager = ctx.getNDManager();
         Encoding encoding = tokenizer.encode(input);
-        ctx.setAttachment("encoding", encoding);
+        getEncodings(ctx).add(encoding);
         long[] indices = encoding.getIds();
         long[] attentionMask = encoding.getAttentionMask();
         NDList ndList = new NDList(2);
@@ -82,8 +89,13 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         if (embeddings == null) {
             embeddings = list.get(0);
         }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
+        // Inputs of a batch are all processed before the outputs, so match the output with its encoding by position.
+        // The embeddings of a batched input are padded to the longest input of the batch, pad the attention mask too.
+        Integer outputIndex = (Integer) ctx.getAttachment(OUTPUT_INDEX);
+        int index = outputIndex == null ? 0 : outputIndex;
+        ctx.setAttachment(OUTPUT_INDEX, index + 1);
+        Encoding encoding = getEncodings(ctx).get(index);
+        long[] attentionMask = Arrays.copyOf(encoding.getAttentionMask(), (int) embeddings.getShape().get(0));
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
         switch (pooling) {
@@ -112,6 +124,16 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         return embeddings.toFloatArray();
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Encoding> getEncodings(TranslatorContext ctx) {
+        List<Encoding> encodings = (List<Encoding>) ctx.getAttachment(ENCODINGS);
+        if (encodings == null) {
+            encodings = new ArrayList<>();
+            ctx.setAttachment(ENCODINGS, encodings);
+        }
+        return encodings;
+    }
+
     private NDArray meanPool(NDArray embeddings, NDArray inputAttentionMask, boolean sqrt) {
         long[] shape = embeddings.getShape().getShape();
         inputAttentionMask = inputAttentionMask.expandDims(-1).broadcast(shape);
@@ -174,7 +196,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     public static final class Builder {
 
         private HuggingFaceTokenizer tokenizer;
-        private Batchifier batchifier = Batchifier.STACK;
+        private Batchifier batchifier = PaddingStackBatchifier.INSTANCE;
         private boolean normalize = false;
         private boolean inputTokenTypeIds = false;
         private String pooling = "mean";
@@ -238,7 +260,8 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
          */
         public void configure(Map<String, ?> arguments) {
             String batchifierStr = ArgumentsUtil.stringValue(arguments, "batchifier", "stack");
-            optBatchifier(Batchifier.fromString(batchifierStr));
+            // pad token inputs to the same length so multiple documents can be stacked into one batch
+            optBatchifier("stack".equals(batchifierStr) ? PaddingStackBatchifier.INSTANCE : Batchifier.fromString(batchifierStr));
             optNormalize(ArgumentsUtil.booleanValue(arguments, "normalize", false));
             optInputTokenTypeIds(ArgumentsUtil.booleanValue(arguments, "inputTokenTypeIds", false));
             optPoolingMode(ArgumentsUtil.stringValue(arguments, "pooling", "mean"));
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -14,10 +16,12 @@ import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
+import org.opensearch.ml.engine.algorithms.WriteableBytesSupplier;
 
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.index.NDIndex;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.TranslatorContext;
 
@@ -26,29 +30,45 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
 
+        int[] lengths = nextOutputLengths(ctx);
+        int inputLength = lengths[0];
+        int paddedLength = lengths[1];
         List<ModelTensor> outputs = new ArrayList<>();
         Iterator<NDArray> iterator = list.iterator();
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
+            if (inputLength < paddedLength
+                && !SENTENCE_EMBEDDING.equals(name)
+                && ndArray.getShape().dimension() > 0
+                && ndArray.getShape().get(0) == paddedLength) {
+                // token level output of a batched input, remove the padding tokens
+                ndArray = ndArray.get(new NDIndex().addSliceDim(0, inputLength));
+                ndArray.setName(name);
+            }
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder builder = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                builder.floatData(ndArray.toFloatArray());
+            } else if (dataType == DataType.INT32) {
+                builder.intData(ndArray.toIntArray());
+            } else {
+                builder.data(ndArray.toArray());
+            }
+            ModelTensor tensor = builder.build();
             outputs.add(tensor);
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new WriteableBytesSupplier<>(modelTensorOutput));
         return output;
     }
 }
@@ -28,6 +28,7 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.WriteableBytesSupplier;
 import org.opensearch.ml.engine.annotation.Function;
 
 import ai.djl.modality.Input;
@@ -50,8 +51,9 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
             Input input = new Input();
             input.add(queryText);
             input.add(doc);
-            output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
+            output = withPredictor(predictor -> predictor.predict(input));
+            ModelTensors outputTensors = WriteableBytesSupplier
+                .getValue(output.getData(), ModelTensors.class, ModelTensors::fromBytes);
             tensorOutputs.add(outputTensors);
         }
         return new ModelTensorOutput(tensorOutputs);
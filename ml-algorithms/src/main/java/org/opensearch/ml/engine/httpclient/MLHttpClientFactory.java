@@ -9,16 +9,37 @@ import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.RedirectStrategy;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.SchemePortResolver;
 import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -28,32 +49,148 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MLHttpClientFactory {
 
+    public static final int DEFAULT_MAX_CONNECTIONS = 30;
+    public static final long DNS_CACHE_TTL_MILLIS = 60_000;
+    private static final long MAX_IDLE_TIME_SECONDS = 60;
+
+    // Only allow HTTP and HTTPS schemes
+    private static final SchemePortResolver SCHEME_PORT_RESOLVER = new DefaultSchemePortResolver() {
+        @Override
+        public int resolve(HttpHost host) throws UnsupportedSchemeException {
+            validateSchemaAndPort(host);
+            return super.resolve(host);
+        }
+    };
+
+    private static final CachingDnsResolver DNS_RESOLVER = new CachingDnsResolver(DNS_CACHE_TTL_MILLIS);
+
+    // Do not follow redirects
+    private static final RedirectStrategy NO_REDIRECT_STRATEGY = new LaxRedirectStrategy() {
+        @Override
+        public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
+            return false;
+        }
+    };
+
     public static CloseableHttpClient getCloseableHttpClient() {
         return createHttpClient();
     }
 
+    /**
+     * Create a long-lived http client with a connection pool, which keeps connections alive between requests.
+     * The client should be reused for all requests to the same remote service and closed when no longer used.
+     * @param maxConnections max connections in the pool, also the max connections per route
+     * @param connectionTimeoutMillis connection timeout in milliseconds, null means no timeout
+     * @param readTimeoutMillis socket read timeout in milliseconds, null means no timeout
+     * @return pooled http client
+     */
+    public static CloseableHttpClient getPooledCloseableHttpClient(
+        int maxConnections,
+        Integer connectionTimeoutMillis,
+        Integer readTimeoutMillis
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+            RegistryBuilder
+                .<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                .build(),
+            null,
+            SCHEME_PORT_RESOLVER,
+            DNS_RESOLVER,
+            -1,
+            TimeUnit.MILLISECONDS
+        );
+        connectionManager.setMaxTotal(maxConnections);
+        // all requests of one client go to the same remote service
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (connectionTimeoutMillis != null) {
+            requestConfig.setConnectTimeout(connectionTimeoutMillis).setConnectionRequestTimeout(connectionTimeoutMillis);
+        }
+        if (readTimeoutMillis != null) {
+            requestConfig.setSocketTimeout(readTimeoutMillis);
+        }
+
+        HttpClientBuilder builder = createHttpClientBuilder();
+        builder.setConnectionManager(connectionManager);
+        builder.setDefaultRequestConfig(requestConfig.build());
+        builder.evictExpiredConnections();
+        builder.evictIdleConnections(MAX_IDLE_TIME_SECONDS, TimeUnit.SECONDS);
+        return builder.build();
+    }
+
+    /**
+     * Create and start a non-blocking http client with a connection pool. Like the blocking clients, it validates the
+     * scheme, port and resolved ip addresses when it opens a connection, and doesn't follow redirects.
+     * Requests beyond the pool size wait for a free connection, up to the connection timeout.
+     * The client should be closed when no longer used.
+     * @param maxConnections max connections in the pool, also the max connections per route
+     * @param connectionTimeoutMillis connection timeout in milliseconds, null means no timeout
+     * @param readTimeoutMillis socket read timeout in milliseconds, null means no timeout
+     * @return started non-blocking http client
+     * @throws IOReactorException if the I/O reactor can't be created
+     */
+    public static CloseableHttpAsyncClient getPooledAsyncHttpClient(
+        int maxConnections,
+        Integer connectionTimeoutMillis,
+        Integer readTimeoutMillis
+    ) throws IOReactorException {
+        IOReactorConfig.Builder ioReactorConfig = IOReactorConfig.custom();
+        if (connectionTimeoutMillis != null) {
+            ioReactorConfig.setConnectTimeout(connectionTimeoutMillis);
+        }
+        if (readTimeoutMillis != null) {
+            ioReactorConfig.setSoTimeout(readTimeoutMillis);
+        }
+        PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+            new DefaultConnectingIOReactor(ioReactorConfig.build()),
+            null,
+            RegistryBuilder
+                .<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", SSLIOSessionStrategy.getDefaultStrategy())
+                .build(),
+            SCHEME_PORT_RESOLVER,
+            DNS_RESOLVER,
+            -1,
+            TimeUnit.MILLISECONDS
+        );
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (connectionTimeoutMillis != null) {
+            requestConfig.setConnectTimeout(connectionTimeoutMillis).setConnectionRequestTimeout(connectionTimeoutMillis);
+        }
+        if (readTimeoutMillis != null) {
+            requestConfig.setSocketTimeout(readTimeoutMillis);
+        }
+
+        CloseableHttpAsyncClient client = HttpAsyncClientBuilder
+            .create()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig.build())
+            .setRedirectStrategy(NO_REDIRECT_STRATEGY)
+            .build();
+        client.start();
+        return client;
+    }
+
     private static CloseableHttpClient createHttpClient() {
+        return createHttpClientBuilder().build();
+    }
+
+    private static HttpClientBuilder createHttpClientBuilder() {
         HttpClientBuilder builder = HttpClientBuilder.create();
 
-        // Only allow HTTP and HTTPS schemes
-        builder.setSchemePortResolver(new DefaultSchemePortResolver() {
-            @Override
-            public int resolve(HttpHost host) throws UnsupportedSchemeException {
-                validateSchemaAndPort(host);
-                return super.resolve(host);
-            }
-        });
+        builder.setSchemePortResolver(SCHEME_PORT_RESOLVER);
 
         builder.setDnsResolver(MLHttpClientFactory::validateIp);
 
-        builder.setRedirectStrategy(new LaxRedirectStrategy() {
-            @Override
-            public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
-                // Do not follow redirects
-                return false;
-            }
-        });
-        return builder.build();
+        builder.setRedirectStrategy(NO_REDIRECT_STRATEGY);
+        return builder;
     }
 
     @VisibleForTesting
@@ -83,6 +220,41 @@ public class MLHttpClientFactory {
         return addresses;
     }
 
+    /**
+     * DNS resolver which validates the resolved ip addresses and caches the validated result,
+     * so new pooled connections don't resolve and validate the host name again.
+     */
+    static class CachingDnsResolver implements DnsResolver {
+        private final long ttlMillis;
+        private final Map<String, CachedAddresses> cache = new ConcurrentHashMap<>();
+
+        CachingDnsResolver(long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+        }
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long now = System.currentTimeMillis();
+            CachedAddresses cached = cache.get(host);
+            if (cached != null && cached.expireTime > now) {
+                return cached.addresses.clone();
+            }
+            InetAddress[] addresses = validateIp(host);
+            cache.put(host, new CachedAddresses(addresses, now + ttlMillis));
+            return addresses.clone();
+        }
+
+        private static class CachedAddresses {
+            private final InetAddress[] addresses;
+            private final long expireTime;
+
+            private CachedAddresses(InetAddress[] addresses, long expireTime) {
+                this.addresses = addresses;
+                this.expireTime = expireTime;
+            }
+        }
+    }
+
     private static boolean hasPrivateIpAddress(InetAddress[] ipAddress) {
         for (InetAddress ip : ipAddress) {
             if (ip instanceof Inet4Address) {
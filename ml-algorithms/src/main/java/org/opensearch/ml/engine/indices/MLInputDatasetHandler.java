@@ -6,12 +6,21 @@
 package org.opensearch.ml.engine.indices;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.client.Client;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
@@ -20,6 +29,9 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +45,10 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 @Log4j2
 public class MLInputDatasetHandler {
+    // search query asking for more documents than one page is read page by page
+    public static final int SEARCH_QUERY_INPUT_PAGE_SIZE = 1000;
+    public static final TimeValue SEARCH_QUERY_INPUT_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
     Client client;
 
     /**
@@ -45,6 +61,25 @@ public class MLInputDatasetHandler {
             throw new IllegalArgumentException("Input dataset is not SEARCH_QUERY type.");
         }
         SearchQueryInputDataset inputDataset = (SearchQueryInputDataset) mlInputDataset;
+        if (inputDataset.getSearchSourceBuilder().size() > SEARCH_QUERY_INPUT_PAGE_SIZE) {
+            AtomicReference<ColumnarDataFrame> dataFrame = new AtomicReference<>();
+            streamSearchQueryInput(inputDataset, SEARCH_QUERY_INPUT_PAGE_SIZE, (batch, batchListener) -> {
+                if (dataFrame.get() == null) {
+                    dataFrame.set((ColumnarDataFrame) batch);
+                } else {
+                    dataFrame.get().appendDataFrame((ColumnarDataFrame) batch);
+                }
+                batchListener.onResponse(null);
+            }, ActionListener.wrap(total -> {
+                if (total == 0) {
+                    listener.onFailure(new IllegalArgumentException("No document found"));
+                    return;
+                }
+                listener.onResponse(new DataFrameInputDataset(dataFrame.get()));
+            }, listener::onFailure));
+            return;
+        }
+
         SearchRequest searchRequest = new SearchRequest();
         searchRequest.source(inputDataset.getSearchSourceBuilder());
         List<String> indicesList = inputDataset.getIndices();
@@ -61,9 +96,9 @@ public class MLInputDatasetHandler {
             List<Map<String, Object>> input = new ArrayList<>();
             SearchHit[] searchHits = hits.getHits();
             for (SearchHit hit : searchHits) {
-                input.add(hit.getSourceAsMap());
+                input.add(toDocument(hit));
             }
-            DataFrame dataFrame = DataFrameBuilder.load(input);
+            DataFrame dataFrame = DataFrameBuilder.loadColumnar(input);
             MLInputDataset dfInputDataset = new DataFrameInputDataset(dataFrame);
             listener.onResponse(dfInputDataset);
             return;
@@ -73,4 +108,128 @@ public class MLInputDatasetHandler {
         }));
         return;
     }
+
+    /**
+     * Read all documents matched by search query page by page with point in time and search_after, up to the size of
+     * the query, or all documents if the query has no size. The from of the query only skips documents of the first
+     * page. Each page is loaded as one data frame batch with the column metas of the first page, and the next page is
+     * only searched after the batch consumer finishes current batch, so batches can be consumed incrementally without
+     * keeping all documents in memory.
+     * @param inputDataset search query input dataset
+     * @param pageSize max number of documents per batch
+     * @param batchConsumer consumer of each batch, which must notify the listener when it's done with the batch
+     * @param listener listener notified with total number of documents read
+     */
+    public void streamSearchQueryInput(
+        SearchQueryInputDataset inputDataset,
+        int pageSize,
+        BiConsumer<DataFrame, ActionListener<Void>> batchConsumer,
+        ActionListener<Long> listener
+    ) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("page size must be positive");
+        }
+        int querySize = inputDataset.getSearchSourceBuilder().size();
+        long maxDocs = querySize < 0 ? Long.MAX_VALUE : querySize;
+        String[] indices = inputDataset.getIndices().toArray(new String[0]);
+        CreatePitRequest createPitRequest = new CreatePitRequest(SEARCH_QUERY_INPUT_KEEP_ALIVE, false, indices);
+        client.createPit(createPitRequest, ActionListener.wrap(pit -> {
+            String pitId = pit.getId();
+            ActionListener<Long> deletePitListener = ActionListener.runAfter(listener, () -> deletePit(pitId));
+            // the sort list of a shallow copy is shared with the query, only copy the whole query when it has sorts
+            SearchSourceBuilder sourceBuilder = inputDataset.getSearchSourceBuilder().sorts() == null
+                ? inputDataset.getSearchSourceBuilder().shallowCopy()
+                : inputDataset.copySearchSourceBuilder();
+            // search_after needs a unique sort value for each document
+            sourceBuilder.sort(SortBuilders.pitTiebreaker());
+            searchNextPage(sourceBuilder, pitId, null, null, 0, maxDocs, pageSize, batchConsumer, deletePitListener);
+        }, e -> {
+            log.error("Failed to create point in time for search query input", e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void searchNextPage(
+        SearchSourceBuilder sourceBuilder,
+        String pitId,
+        Object[] searchAfter,
+        ColumnMeta[] columnMetas,
+        long readDocs,
+        long maxDocs,
+        int pageSize,
+        BiConsumer<DataFrame, ActionListener<Void>> batchConsumer,
+        ActionListener<Long> listener
+    ) {
+        int size = (int) Math.min(pageSize, maxDocs - readDocs);
+        SearchSourceBuilder pageSourceBuilder = sourceBuilder
+            .shallowCopy()
+            .size(size)
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(SEARCH_QUERY_INPUT_KEEP_ALIVE));
+        if (searchAfter != null) {
+            // from of the query only skips documents of the first page, search_after must be used with from 0
+            pageSourceBuilder.from(0).searchAfter(searchAfter);
+        }
+        // search request with point in time must not have indices
+        SearchRequest searchRequest = new SearchRequest().source(pageSourceBuilder);
+        client.search(searchRequest, ActionListener.wrap(r -> {
+            SearchHit[] searchHits = r.getHits() == null ? new SearchHit[0] : r.getHits().getHits();
+            if (searchHits.length == 0) {
+                listener.onResponse(readDocs);
+                return;
+            }
+            List<Map<String, Object>> input = new ArrayList<>(searchHits.length);
+            for (SearchHit hit : searchHits) {
+                input.add(toDocument(hit));
+            }
+            ColumnarDataFrame batch = columnMetas == null
+                ? DataFrameBuilder.loadColumnar(input)
+                : DataFrameBuilder.loadColumnar(columnMetas, input);
+            long totalDocs = readDocs + searchHits.length;
+            Object[] lastSortValues = searchHits[searchHits.length - 1].getSortValues();
+            batchConsumer.accept(batch, ActionListener.wrap(done -> {
+                if (searchHits.length < size || totalDocs >= maxDocs) {
+                    listener.onResponse(totalDocs);
+                    return;
+                }
+                searchNextPage(
+                    sourceBuilder,
+                    pitId,
+                    lastSortValues,
+                    batch.columnMetas(),
+                    totalDocs,
+                    maxDocs,
+                    pageSize,
+                    batchConsumer,
+                    listener
+                );
+            }, listener::onFailure));
+        }, e -> {
+            log.error("Failed to search page of search query input", e);
+            listener.onFailure(e);
+        }));
+    }
+
+    private void deletePit(String pitId) {
+        client
+            .deletePits(
+                new DeletePitRequest(pitId),
+                ActionListener
+                    .wrap(r -> log.debug("Deleted point in time of search query input"), e -> log.warn("Failed to delete point in time", e))
+            );
+    }
+
+    /**
+     * Read document from source, or from fields of hit if source is not fetched, e.g. query only reads doc values of
+     * needed fields with "_source": false and "docvalue_fields".
+     */
+    private Map<String, Object> toDocument(SearchHit hit) {
+        if (hit.hasSource() || hit.getFields() == null || hit.getFields().isEmpty()) {
+            return hit.getSourceAsMap();
+        }
+        Map<String, Object> document = new HashMap<>();
+        for (Map.Entry<String, DocumentField> entry : hit.getFields().entrySet()) {
+            document.put(entry.getKey(), entry.getValue().getValue());
+        }
+        return document;
+    }
 }
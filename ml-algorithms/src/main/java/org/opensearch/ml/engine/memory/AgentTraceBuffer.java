@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.conversation.Interaction;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers the traces of one agent run and writes them to the conversation memory with a single bulk request, instead of
+ * one create interaction request per step. The buffer is flushed when it holds {@link #MAX_BUFFERED_TRACES} traces, when
+ * the oldest buffered trace is older than {@link #MAX_BUFFER_TIME_IN_MILLIS} at the next step, and at the end of the run.
+ * Flushes don't block the agent run, so buffered traces are lost if the node fails before the run ends. In per step
+ * mode every trace is written as soon as it is added.
+ */
+@Log4j2
+public class AgentTraceBuffer {
+    public static final int MAX_BUFFERED_TRACES = 20;
+    public static final long MAX_BUFFER_TIME_IN_MILLIS = 5000;
+
+    private final ConversationIndexMemory memory;
+    @Getter
+    private final boolean perStep;
+    private List<Interaction> traces = new ArrayList<>();
+    private long firstBufferedTime;
+
+    /**
+     * Constructor
+     * @param memory the conversation memory the traces belong to
+     * @param perStep write every trace as soon as it is added
+     */
+    public AgentTraceBuffer(ConversationIndexMemory memory, boolean perStep) {
+        this.memory = memory;
+        this.perStep = perStep;
+    }
+
+    /**
+     * Add a trace of the parent interaction
+     * @param message the trace message
+     * @param parentId the parent interaction id
+     * @param traceNum the trace number
+     * @param origin the origin of the trace
+     */
+    public void add(ConversationIndexMessage message, String parentId, Integer traceNum, String origin) {
+        if (perStep) {
+            memory.save(message, parentId, traceNum, origin);
+            return;
+        }
+        boolean flush;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (traces.isEmpty()) {
+                firstBufferedTime = now;
+            }
+            traces
+                .add(
+                    new Interaction(
+                        null,
+                        Instant.ofEpochMilli(now),
+                        memory.getConversationId(),
+                        message.getQuestion(),
+                        null,
+                        message.getResponse(),
+                        origin,
+                        Collections.emptyMap(),
+                        parentId,
+                        traceNum
+                    )
+                );
+            flush = traces.size() >= MAX_BUFFERED_TRACES || now - firstBufferedTime >= MAX_BUFFER_TIME_IN_MILLIS;
+        }
+        if (flush) {
+            flush();
+        }
+    }
+
+    /**
+     * Write all buffered traces without waiting for the result
+     */
+    public void flush() {
+        flush(ActionListener.wrap(r -> {
+            if (r != null) {
+                log.debug("Saved {} traces into memory {}", r.getItems().length, memory.getConversationId());
+            }
+        }, e -> { log.error("Failed to save traces into memory " + memory.getConversationId(), e); }));
+    }
+
+    /**
+     * Write all buffered traces
+     * @param listener gets the bulk response, or null if no traces were buffered
+     */
+    public void flush(ActionListener<BulkResponse> listener) {
+        List<Interaction> flushed;
+        synchronized (this) {
+            flushed = traces;
+            traces = new ArrayList<>();
+        }
+        if (flushed.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        memory.getMemoryManager().createTraces(memory.getConversationId(), flushed, listener);
+    }
+}
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateResponse;
@@ -26,6 +28,7 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
@@ -132,6 +135,87 @@ public class MLMemoryManager {
         }
     }
 
+    /**
+     * Adds trace interactions of one conversation with a single bulk request, checking access to the conversation once
+     * @param conversationId the conversation to add the traces to
+     * @param traces the traces to add, each with the parent interaction id and trace number set
+     * @param actionListener gets the bulk response
+     */
+    public void createTraces(String conversationId, List<Interaction> traces, ActionListener<BulkResponse> actionListener) {
+        Preconditions.checkNotNull(conversationId);
+        Preconditions.checkNotNull(traces);
+        log.debug("Creating {} traces, conversationId {}", traces.size(), conversationId);
+
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().newStoredContext(true)) {
+            // traces are added after the parent interaction, so the index exists unless it was deleted during the run
+            if (!clusterService.state().metadata().hasIndex(INTERACTIONS_INDEX_NAME)) {
+                actionListener.onFailure(new IndexNotFoundException(INTERACTIONS_INDEX_NAME));
+                return;
+            }
+            ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
+                if (access) {
+                    innerCreateTraces(conversationId, traces, actionListener);
+                } else {
+                    String userstr = client
+                        .threadPool()
+                        .getThreadContext()
+                        .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+                    String user = User.parse(userstr) == null ? "" : User.parse(userstr).getName();
+                    throw new OpenSearchSecurityException("User [" + user + "] does not have access to conversation " + conversationId);
+                }
+            }, e -> { actionListener.onFailure(e); });
+            conversationMetaIndex.checkAccess(conversationId, accessListener);
+        } catch (Exception e) {
+            log.error("Failed to create traces for conversation " + conversationId, e);
+            actionListener.onFailure(e);
+        }
+    }
+
+    @VisibleForTesting
+    void innerCreateTraces(String conversationId, List<Interaction> traces, ActionListener<BulkResponse> listener) {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (Interaction trace : traces) {
+            bulkRequest
+                .add(
+                    Requests
+                        .indexRequest(INTERACTIONS_INDEX_NAME)
+                        .source(
+                            ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD,
+                            trace.getOrigin(),
+                            ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD,
+                            conversationId,
+                            ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD,
+                            trace.getInput(),
+                            ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD,
+                            trace.getPromptTemplate(),
+                            ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD,
+                            trace.getResponse(),
+                            ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD,
+                            trace.getAdditionalInfo() == null ? new HashMap<>() : trace.getAdditionalInfo(),
+                            ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
+                            trace.getCreateTime(),
+                            ConversationalIndexConstants.PARENT_INTERACTIONS_ID_FIELD,
+                            trace.getParentInteractionId(),
+                            ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD,
+                            trace.getTraceNum()
+                        )
+                );
+        }
+
+        try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<BulkResponse> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            ActionListener<BulkResponse> al = ActionListener.wrap(response -> {
+                if (response.hasFailures()) {
+                    log.warn("Failed to create some traces for conversation {}: {}", conversationId, response.buildFailureMessage());
+                }
+                internalListener.onResponse(response);
+            }, e -> { internalListener.onFailure(e); });
+            client.bulk(bulkRequest, al);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
     /**
      * Get the latest interactions associated with this conversation that are not traces, from oldest to newest
      * @param conversationId the conversation whose interactions to get
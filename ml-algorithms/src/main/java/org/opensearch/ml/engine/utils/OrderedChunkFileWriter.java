@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes chunks which may arrive in any order into one file in chunk order, and calculates the sha256 hash value
+ * of the file while writing it. A chunk which arrives before its previous chunks is kept in memory until it can
+ * be written, so callers should limit how far ahead of {@link #getWrittenChunks()} they retrieve chunks.
+ */
+@Log4j2
+public class OrderedChunkFileWriter implements Closeable {
+
+    private final File file;
+    private final FileChannel channel;
+    private final byte[][] pendingChunks;
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private int writtenChunks = 0;
+
+    public OrderedChunkFileWriter(File file, int totalChunks) throws IOException {
+        org.apache.commons.io.FileUtils.forceMkdir(file.getParentFile());
+        this.file = file;
+        this.channel = FileChannel
+            .open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.pendingChunks = new byte[totalChunks][];
+    }
+
+    /**
+     * Write a chunk, and all pending chunks following it.
+     * @param chunkNumber chunk number starting from 0
+     * @param data chunk data
+     * @return true if all chunks are written
+     * @throws IOException if failed to write file
+     */
+    public synchronized boolean write(int chunkNumber, byte[] data) throws IOException {
+        if (chunkNumber < writtenChunks || chunkNumber >= pendingChunks.length || pendingChunks[chunkNumber] != null) {
+            throw new IllegalArgumentException("Invalid or duplicate chunk " + chunkNumber + " of file " + file.getName());
+        }
+        pendingChunks[chunkNumber] = data;
+        while (writtenChunks < pendingChunks.length && pendingChunks[writtenChunks] != null) {
+            byte[] chunk = pendingChunks[writtenChunks];
+            ByteBuffer buffer = ByteBuffer.wrap(chunk);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            hasher.putBytes(chunk);
+            pendingChunks[writtenChunks] = null;
+            writtenChunks++;
+        }
+        return writtenChunks == pendingChunks.length;
+    }
+
+    public int getTotalChunks() {
+        return pendingChunks.length;
+    }
+
+    /**
+     * @return number of chunks written to file, which is also the next chunk number to write
+     */
+    public synchronized int getWrittenChunks() {
+        return writtenChunks;
+    }
+
+    /**
+     * Get sha256 hash value of file, same as {@link FileUtils#calculateFileHash(File)}.
+     * Should only be called once after all chunks are written.
+     * @return sha256 hash value
+     */
+    public synchronized String getHash() {
+        if (writtenChunks != pendingChunks.length) {
+            throw new IllegalStateException("Not all chunks are written to file " + file.getName());
+        }
+        return hasher.hash().toString();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close file " + file.getAbsolutePath(), e);
+        }
+    }
+}
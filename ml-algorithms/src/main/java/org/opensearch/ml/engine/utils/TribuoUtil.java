@@ -17,6 +17,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -38,6 +39,9 @@ import lombok.experimental.UtilityClass;
 public class TribuoUtil {
     public static Tuple<String[], double[][]> transformDataFrame(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            return new Tuple<>(featureNames, ((ColumnarDataFrame) dataFrame).toDoubleArrays());
+        }
         double[][] featureValues = new double[dataFrame.size()][];
         Iterator<Row> itr = dataFrame.iterator();
         int i = 0;
@@ -52,6 +56,9 @@ public class TribuoUtil {
 
     public static Tuple<String[], float[][]> transformDataFrameFloat(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            return new Tuple<>(featureNames, ((ColumnarDataFrame) dataFrame).toFloatArrays());
+        }
         float[][] featureValues = new float[dataFrame.size()][];
         Iterator<Row> itr = dataFrame.iterator();
         int i = 0;
@@ -183,33 +190,39 @@ public class TribuoUtil {
         List<Example<T>> dataset = new ArrayList<>();
         ArrayExample<T> example;
 
+        // data frame is transformed once for all rows
+        Tuple<String[], double[][]> featureNamesValues = null;
+        String[] featureNames = null;
+        int targetIndex = -1;
+        String[] targetValues = null;
         for (int i = 0; i < dataFrame.size(); ++i) {
             final int finalI = i;
             double[] featureValues;
-            Tuple<String[], double[][]> featureNamesValues;
-            String[] featureNames;
-            int finalTargetIndex;
             switch (outputType) {
                 case REGRESSOR:
-                    featureNamesValues = transformDataFrame(dataFrame);
-                    finalTargetIndex = findFinalTargetIndex(featureNamesValues, target);
-                    featureNames = createFeatureNames(featureNamesValues, finalTargetIndex);
-                    double targetValue = featureNamesValues.v2()[finalI][finalTargetIndex];
+                    if (featureNamesValues == null) {
+                        featureNamesValues = transformDataFrame(dataFrame);
+                        targetIndex = findFinalTargetIndex(featureNamesValues, target);
+                        featureNames = createFeatureNames(featureNamesValues, targetIndex);
+                    }
+                    final int finalTargetIndex = targetIndex;
+                    final double[] rowValues = featureNamesValues.v2()[finalI];
+                    double targetValue = rowValues[finalTargetIndex];
                     featureValues = IntStream
-                        .range(0, featureNamesValues.v2()[i].length)
+                        .range(0, rowValues.length)
                         .filter(e -> e != finalTargetIndex)
-                        .mapToDouble(e -> featureNamesValues.v2()[finalI][e])
+                        .mapToDouble(e -> rowValues[e])
                         .toArray();
                     example = new ArrayExample<>((T) new Regressor(target, targetValue), featureNames, featureValues);
                     break;
                 case LABEL:
-                    featureNamesValues = transformClassificationDataFrame(dataFrame, target);
-                    featureNames = createFeatureNames(featureNamesValues);
-                    String[] targetValues = transformTargetValuesDataFrames(dataFrame, target);
-                    featureValues = IntStream
-                        .range(0, featureNamesValues.v2()[i].length)
-                        .mapToDouble(e -> featureNamesValues.v2()[finalI][e])
-                        .toArray();
+                    if (featureNamesValues == null) {
+                        featureNamesValues = transformClassificationDataFrame(dataFrame, target);
+                        featureNames = createFeatureNames(featureNamesValues);
+                        targetValues = transformTargetValuesDataFrames(dataFrame, target);
+                    }
+                    // ArrayExample copies feature values
+                    featureValues = featureNamesValues.v2()[finalI];
                     example = new ArrayExample<>((T) new Label(targetValues[i]), featureNames, featureValues);
                     break;
                 default:
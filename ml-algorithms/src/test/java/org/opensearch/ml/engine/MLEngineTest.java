@@ -91,6 +91,33 @@ public class MLEngineTest {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void predictWithLoadedModel_KMeans() {
+        MLModel model = trainKMeansModel();
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        Predictable predictable = mlEngine.loadTrainedModel(mlInput, model);
+        DataFrame expected = ((MLPredictionOutput) mlEngine.predict(mlInput, model)).getPredictionResult();
+        for (int i = 0; i < 2; i++) {
+            DataFrame predictions = ((MLPredictionOutput) mlEngine.predictWithLoadedModel(mlInput, predictable)).getPredictionResult();
+            assertEquals(expected.size(), predictions.size());
+            for (int row = 0; row < expected.size(); row++) {
+                assertEquals(expected.getRow(row).getValue(0).intValue(), predictions.getRow(row).getValue(0).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void loadTrainedModel_NullModel() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No model found for KMEANS prediction.");
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        mlEngine.loadTrainedModel(mlInput, null);
+    }
+
     @Test
     public void predictLinearRegression() {
         MLModel model = trainLinearRegressionModel();
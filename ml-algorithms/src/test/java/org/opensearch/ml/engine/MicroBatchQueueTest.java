@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class MicroBatchQueueTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void submit_SingleRequest() {
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(1, 10, 10, r -> r, batches::add);
+        queue.setStatsListener((batchSize, queueDelays) -> {
+            batchSizes.add(batchSize);
+            assertEquals(1, queueDelays.length);
+            assertTrue(queueDelays[0] >= 0);
+        });
+        queue.submit(3, e -> {});
+        assertEquals(List.of(List.of(3)), batches);
+        assertEquals(List.of(3), batchSizes);
+    }
+
+    @Test
+    public void submit_ConcurrentRequests() throws InterruptedException {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(10_000, 4, 4, r -> 1, batches::add);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch latch = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++) {
+                int request = i;
+                executorService.execute(() -> {
+                    queue.submit(request, e -> {});
+                    latch.countDown();
+                });
+            }
+            // the batch is processed once it reaches max batch size, without waiting for the whole window
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(1, batches.size());
+        assertEquals(4, batches.get(0).size());
+    }
+
+    @Test
+    public void submit_LargeRequestProcessedAlone() {
+        List<List<Integer>> batches = new ArrayList<>();
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(0, 2, 2, r -> r, batches::add);
+        queue.submit(5, e -> {});
+        assertEquals(List.of(List.of(5)), batches);
+    }
+
+    @Test
+    public void submit_NextBatchProcessedByOtherThread() throws Exception {
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstProcessing = new CountDownLatch(1);
+        CountDownLatch secondProcessed = new CountDownLatch(1);
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(10_000, 1, 4, r -> 1, batch -> {
+            if (batch.contains(1)) {
+                firstProcessing.countDown();
+                try {
+                    // the second batch is processed by another thread while the first one is still being processed
+                    assertTrue(secondProcessed.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                secondProcessed.countDown();
+            }
+            processed.addAll(batch);
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> first = executorService.submit(() -> queue.submit(1, e -> {}));
+            assertTrue(firstProcessing.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = executorService.submit(() -> queue.submit(2, e -> {}));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(List.of(2, 1), processed);
+    }
+
+    @Test
+    public void submit_QueueFull() throws Exception {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(10_000, 3, 3, r -> r, batches::add);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> collector = executorService.submit(() -> queue.submit(1, e -> {}));
+            while (queue.getQueuedSize() == 0) {
+                Thread.sleep(1);
+            }
+            // queued size would exceed max queued size
+            assertFalse(queue.submit(3, e -> {}));
+            assertTrue(queue.submit(2, e -> {}));
+            assertTrue(collector.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdown();
+        }
+        assertEquals(List.of(List.of(1, 2)), batches);
+    }
+
+    @Test
+    public void submit_ProcessorFailure() {
+        List<Integer> processed = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(0, 2, 2, r -> 1, batch -> {
+            if (batch.contains(1)) {
+                throw new RuntimeException("failed to process batch");
+            }
+            processed.addAll(batch);
+        });
+        queue.submit(1, failures::add);
+        queue.submit(2, failures::add);
+        assertEquals(List.of(2), processed);
+        assertEquals(1, failures.size());
+        assertEquals("failed to process batch", failures.get(0).getMessage());
+    }
+
+    @Test
+    public void submit_StatsListenerFailure() throws Exception {
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> failed = Collections.synchronizedList(new ArrayList<>());
+        MicroBatchQueue<Integer> queue = new MicroBatchQueue<>(10_000, 2, 2, r -> 1, processed::addAll);
+        queue.setStatsListener((batchSize, queueDelays) -> {
+            throw new IllegalStateException("failed to record stats");
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> collector = executorService.submit(() -> queue.submit(1, e -> failed.add(1)));
+            while (queue.getQueuedSize() == 0) {
+                Thread.sleep(1);
+            }
+            assertTrue(queue.submit(2, e -> failed.add(2)));
+            assertTrue(collector.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdown();
+        }
+        // every request of the batch is failed instead of waiting forever
+        assertTrue(processed.isEmpty());
+        assertEquals(List.of(1, 2), failed);
+    }
+
+    @Test
+    public void constructor_InvalidMaxBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max batch size must be positive");
+        new MicroBatchQueue<Integer>(1, 0, 0, r -> 1, batch -> {});
+    }
+
+    @Test
+    public void constructor_InvalidMaxQueuedSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max queued size must not be less than max batch size");
+        new MicroBatchQueue<Integer>(1, 2, 1, r -> 1, batch -> {});
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelArtifactCacheTest {
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    private Path cacheDir;
+
+    @Before
+    public void setUp() {
+        cacheDir = tempDir.getRoot().toPath().resolve("artifacts");
+    }
+
+    @Test
+    public void put_Get() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        File cached = cache.put("hash1", createFile("model1.zip", 10));
+        Assert.assertEquals(cacheDir.resolve("hash1.zip").toFile(), cached);
+        Assert.assertTrue(cached.exists());
+        Assert.assertFalse(new File(tempDir.getRoot(), "model1.zip").exists());
+        Assert.assertEquals(cached, cache.get("hash1"));
+        Assert.assertNull(cache.get("hash2"));
+        Assert.assertEquals(10, cache.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void put_EvictLeastRecentlyUsed() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 25);
+        cache.release(cache.put("hash1", createFile("model1.zip", 10)));
+        cache.release(cache.put("hash2", createFile("model2.zip", 10)));
+        Assert.assertTrue(isCached(cache, "hash1"));
+        cache.release(cache.put("hash3", createFile("model3.zip", 10)));
+
+        Assert.assertTrue(isCached(cache, "hash1"));
+        Assert.assertFalse(isCached(cache, "hash2"));
+        Assert.assertFalse(cacheDir.resolve("hash2.zip").toFile().exists());
+        Assert.assertTrue(isCached(cache, "hash3"));
+        Assert.assertEquals(20, cache.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void put_NotCached() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 5);
+        File file = createFile("model1.zip", 10);
+        Assert.assertSame(file, cache.put("hash1", file));
+        Assert.assertSame(file, cache.put("../hash1", file));
+        Assert.assertTrue(file.exists());
+        Assert.assertNull(cache.get("hash1"));
+        cache.release(file);
+        Assert.assertTrue(file.exists());
+    }
+
+    @Test
+    public void put_PinnedEntryNotEvicted() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 15);
+        File pinned = cache.put("hash1", createFile("model1.zip", 10));
+        cache.release(cache.put("hash2", createFile("model2.zip", 10)));
+
+        Assert.assertTrue(pinned.exists());
+        Assert.assertFalse(isCached(cache, "hash2"));
+        Assert.assertEquals(10, cache.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void put_SameContentWhilePinned() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        File cached = cache.put("hash1", createFile("model1.zip", 10));
+        File duplicate = createFile("model1_copy.zip", 10);
+
+        Assert.assertEquals(cached, cache.put("hash1", duplicate));
+        Assert.assertFalse(duplicate.exists());
+        Assert.assertEquals(10, cache.getTotalSizeInBytes());
+        cache.release(cached);
+        cache.release(cached);
+        cache.clear();
+        Assert.assertFalse(cached.exists());
+    }
+
+    @Test
+    public void release_EvictToMaxSize() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        File file1 = cache.put("hash1", createFile("model1.zip", 10));
+        File file2 = cache.get("hash1");
+        cache.release(cache.put("hash2", createFile("model2.zip", 10)));
+
+        cache.setMaxSizeInBytes(10);
+        Assert.assertTrue(file1.exists());
+        Assert.assertFalse(isCached(cache, "hash2"));
+        cache.release(file1);
+        cache.release(file2);
+        cache.setMaxSizeInBytes(5);
+        Assert.assertFalse(file1.exists());
+        Assert.assertEquals(0, cache.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void get_ExistingFiles() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        cache.release(cache.put("hash1", createFile("model1.zip", 10)));
+
+        ModelArtifactCache restartedCache = new ModelArtifactCache(cacheDir, 100);
+        Assert.assertEquals(10, restartedCache.getTotalSizeInBytes());
+        Assert.assertEquals(cacheDir.resolve("hash1.zip").toFile(), restartedCache.get("hash1"));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        cache.release(cache.put("hash1", createFile("model1.zip", 10)));
+        cache.release(cache.put("hash2", createFile("model2.zip", 10)));
+
+        Assert.assertTrue(cache.evictLeastRecentlyUsed());
+        Assert.assertFalse(isCached(cache, "hash1"));
+        Assert.assertTrue(isCached(cache, "hash2"));
+        Assert.assertTrue(cache.evictLeastRecentlyUsed());
+        Assert.assertFalse(cache.evictLeastRecentlyUsed());
+        Assert.assertEquals(0, cache.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed_SkipPinned() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        File pinned = cache.put("hash1", createFile("model1.zip", 10));
+        cache.release(cache.put("hash2", createFile("model2.zip", 10)));
+
+        Assert.assertTrue(cache.evictLeastRecentlyUsed());
+        Assert.assertFalse(isCached(cache, "hash2"));
+        Assert.assertFalse(cache.evictLeastRecentlyUsed());
+        Assert.assertTrue(pinned.exists());
+        cache.release(pinned);
+        Assert.assertTrue(cache.evictLeastRecentlyUsed());
+        Assert.assertFalse(pinned.exists());
+    }
+
+    @Test
+    public void setMaxSizeInBytes_Evict() throws IOException {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheDir, 100);
+        cache.release(cache.put("hash1", createFile("model1.zip", 10)));
+        cache.release(cache.put("hash2", createFile("model2.zip", 10)));
+
+        cache.setMaxSizeInBytes(10);
+        Assert.assertFalse(isCached(cache, "hash1"));
+        Assert.assertTrue(isCached(cache, "hash2"));
+        cache.setMaxSizeInBytes(0);
+        Assert.assertFalse(isCached(cache, "hash2"));
+        Assert.assertEquals(0, cache.getTotalSizeInBytes());
+    }
+
+    private boolean isCached(ModelArtifactCache cache, String modelContentHash) {
+        File file = cache.get(modelContentHash);
+        cache.release(file);
+        return file != null;
+    }
+
+    private File createFile(String name, int size) throws IOException {
+        File file = new File(tempDir.getRoot(), name);
+        Files.write(file.toPath(), new byte[size]);
+        return file;
+    }
+}
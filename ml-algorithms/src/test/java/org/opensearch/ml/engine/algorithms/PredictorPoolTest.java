@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+
+public class PredictorPoolTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void acquire_FallsBackToOtherDevice() {
+        Predictor<Input, Output> predictor0 = mockPredictor();
+        Predictor<Input, Output> predictor1 = mockPredictor();
+        PredictorPool pool = new PredictorPool("model", List.of(List.of(predictor0), List.of(predictor1)));
+        PredictorPool.CheckedOutPredictor first = pool.acquire(1, 10);
+        assertSame(predictor1, first.predictor);
+        PredictorPool.CheckedOutPredictor second = pool.acquire(1, 10);
+        assertSame(predictor0, second.predictor);
+        assertEquals(0, second.device);
+        pool.release(first);
+        assertSame(predictor1, pool.acquire(0, 10).predictor);
+    }
+
+    @Test
+    public void acquire_Timeout() {
+        PredictorPool pool = new PredictorPool("model", List.of(List.of(mockPredictor())));
+        pool.acquire(0, 10);
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("No predictor available for model model after waiting 10ms");
+        pool.acquire(0, 10);
+    }
+
+    @Test
+    public void acquire_WaitsForReleasedPredictor() throws Exception {
+        Predictor<Input, Output> predictor = mockPredictor();
+        PredictorPool pool = new PredictorPool("model", List.of(List.of(predictor)));
+        PredictorPool.CheckedOutPredictor checkedOut = pool.acquire(0, 10);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<PredictorPool.CheckedOutPredictor> waiter = executorService.submit(() -> pool.acquire(0, 10_000));
+            Thread.sleep(50);
+            pool.release(checkedOut);
+            assertSame(predictor, waiter.get(5, TimeUnit.SECONDS).predictor);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void close_ClosesIdlePredictors() {
+        Predictor<Input, Output> predictor = mockPredictor();
+        PredictorPool pool = new PredictorPool("model", List.of(List.of(predictor)));
+        AtomicInteger allClosed = new AtomicInteger();
+        pool.close(allClosed::incrementAndGet);
+        verify(predictor).close();
+        assertEquals(1, allClosed.get());
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("Model model is undeployed");
+        pool.acquire(0, 10);
+    }
+
+    @Test
+    public void close_FailsWaitersAndClosesReleasedPredictors() throws Exception {
+        PredictorPool pool = new PredictorPool("model", List.of(List.of(mockPredictor(), mockPredictor())));
+        PredictorPool.CheckedOutPredictor first = pool.acquire(0, 10);
+        PredictorPool.CheckedOutPredictor second = pool.acquire(0, 10);
+        AtomicInteger allClosed = new AtomicInteger();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<PredictorPool.CheckedOutPredictor> waiter = executorService.submit(() -> pool.acquire(0, 10_000));
+            Thread.sleep(50);
+            pool.close(allClosed::incrementAndGet);
+            try {
+                waiter.get(5, TimeUnit.SECONDS);
+                fail("waiter should fail once the pool is closed");
+            } catch (ExecutionException e) {
+                assertEquals("Model model is undeployed", e.getCause().getMessage());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(first.predictor, never()).close();
+        pool.release(first);
+        verify(first.predictor).close();
+        assertEquals(0, allClosed.get());
+        pool.release(second);
+        verify(second.predictor).close();
+        assertEquals(1, allClosed.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predictor<Input, Output> mockPredictor() {
+        return mock(Predictor.class);
+    }
+}
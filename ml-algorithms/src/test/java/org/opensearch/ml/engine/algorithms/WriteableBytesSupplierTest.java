@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.ndarray.BytesSupplier;
+
+public class WriteableBytesSupplierTest {
+
+    private final ModelTensors modelTensors = new ModelTensors(
+        List
+            .of(
+                ModelTensor
+                    .builder()
+                    .name("sentence_embedding")
+                    .floatData(new float[] { 1.0f, 2.0f })
+                    .dataType(MLResultDataType.FLOAT32)
+                    .build()
+            )
+    );
+
+    @Test
+    public void getValue_AttachedObject() {
+        WriteableBytesSupplier<ModelTensors> supplier = new WriteableBytesSupplier<>(modelTensors);
+        ModelTensors value = WriteableBytesSupplier.getValue(supplier, ModelTensors.class, ModelTensors::fromBytes);
+        Assert.assertSame(modelTensors, value);
+    }
+
+    @Test
+    public void getValue_Bytes() {
+        byte[] bytes = new WriteableBytesSupplier<>(modelTensors).getAsBytes();
+        ModelTensors value = WriteableBytesSupplier.getValue(BytesSupplier.wrap(bytes), ModelTensors.class, ModelTensors::fromBytes);
+        Assert.assertNotSame(modelTensors, value);
+        Assert.assertEquals(1, value.getMlModelTensors().size());
+        Assert.assertEquals(modelTensors.getMlModelTensors().get(0), value.getMlModelTensors().get(0));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opensearch.ml.common.agent.MLAgent;
+
+public class MLAgentCacheTest {
+
+    private final MLAgent agent = MLAgent.builder().name("agent").type("flow").build();
+
+    @Test
+    public void put_Get() {
+        MLAgentCache cache = new MLAgentCache(10, 60);
+        cache.put("agent_id", agent, cache.getVersion());
+        assertSame(agent, cache.get("agent_id"));
+        assertNull(cache.get("other_agent_id"));
+    }
+
+    @Test
+    public void put_InvalidatedWhileReading() {
+        MLAgentCache cache = new MLAgentCache(10, 60);
+        long version = cache.getVersion();
+        cache.invalidate("agent_id");
+        cache.put("agent_id", agent, version);
+        assertNull(cache.get("agent_id"));
+    }
+
+    @Test
+    public void invalidate() {
+        MLAgentCache cache = new MLAgentCache(10, 60);
+        cache.put("agent_id", agent, cache.getVersion());
+        cache.put("other_agent_id", agent, cache.getVersion());
+        cache.invalidate("agent_id");
+        assertNull(cache.get("agent_id"));
+        assertNotNull(cache.get("other_agent_id"));
+    }
+
+    @Test
+    public void resize_Disabled() {
+        MLAgentCache cache = new MLAgentCache(10, 60);
+        cache.put("agent_id", agent, cache.getVersion());
+        cache.resize(0, 60);
+        assertNull(cache.get("agent_id"));
+        cache.put("agent_id", agent, cache.getVersion());
+        assertNull(cache.get("agent_id"));
+        assertNull(MLAgentCache.disabled().get("agent_id"));
+    }
+}
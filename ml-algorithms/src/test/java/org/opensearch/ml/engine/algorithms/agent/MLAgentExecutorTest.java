@@ -565,6 +565,33 @@ public class MLAgentExecutorTest {
         Assert.assertNotNull(exceptionCaptor.getValue());
     }
 
+    @Test
+    public void test_CachedAgent_ReturnsResult() {
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(ImmutableMap.of("test_key", "test_value")).build();
+        Mockito.doAnswer(invocation -> {
+            ActionListener<ModelTensor> listener = invocation.getArgument(2);
+            listener.onResponse(modelTensor);
+            return null;
+        }).when(mlAgentRunner).run(Mockito.any(), Mockito.any(), Mockito.any());
+        MLAgentCache agentCache = new MLAgentCache(10, 60);
+        mlAgentExecutor = Mockito
+            .spy(new MLAgentExecutor(client, settings, clusterService, xContentRegistry, toolFactories, memoryMap, agentCache));
+        Mockito.doReturn(mlAgentRunner).when(mlAgentExecutor).getAgentRunner(Mockito.any());
+
+        mlAgentExecutor.execute(getAgentMLInput(), agentActionListener);
+        mlAgentExecutor.execute(getAgentMLInput(), agentActionListener);
+
+        // the agent is read once, the second execution runs the cached agent
+        Mockito.verify(client, times(1)).get(Mockito.any(), Mockito.any());
+        Mockito.verify(mlAgentRunner, times(2)).run(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(agentActionListener, times(2)).onResponse(Mockito.any());
+        Assert.assertEquals("agent", agentCache.get("test").getName());
+
+        agentCache.invalidate("test");
+        mlAgentExecutor.execute(getAgentMLInput(), agentActionListener);
+        Mockito.verify(client, times(2)).get(Mockito.any(), Mockito.any());
+    }
+
     private AgentMLInput getAgentMLInput() {
         Map<String, String> params = new HashMap<>();
         params.put(MLAgentExecutor.MEMORY_ID, "memoryId");
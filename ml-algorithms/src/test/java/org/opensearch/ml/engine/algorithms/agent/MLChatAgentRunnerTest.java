@@ -10,6 +10,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -38,6 +39,7 @@ import org.mockito.stubbing.Answer;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.StepListener;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
@@ -739,6 +741,7 @@ public class MLChatAgentRunnerTest {
 
         // Create parameters for the agent
         Map<String, String> params = createAgentParamsWithAction(FIRST_TOOL, "someInput");
+        params.put(AgentUtils.PER_STEP_TRACE, "true");
 
         doAnswer(invocation -> {
             ActionListener<CreateInteractionResponse> listener = invocation.getArgument(4);
@@ -754,6 +757,46 @@ public class MLChatAgentRunnerTest {
         Mockito.verify(agentActionListener).onFailure(any(IllegalArgumentException.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBufferedTraces() {
+        MLAgent mlAgent = createMLAgentWithTools();
+        Map<String, String> params = createAgentParamsWithAction(FIRST_TOOL, "someInput");
+        params.put(MLAgentExecutor.PARENT_INTERACTION_ID, "parent_interaction_id");
+
+        mlChatAgentRunner.run(mlAgent, params, agentActionListener);
+
+        ArgumentCaptor<List<Interaction>> tracesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mlMemoryManager).createTraces(eq("conversation_id"), tracesCaptor.capture(), any());
+        List<Interaction> traces = tracesCaptor.getValue();
+        assertEquals(5, traces.size());
+        for (int i = 0; i < traces.size(); i++) {
+            assertEquals("parent_interaction_id", traces.get(i).getParentInteractionId());
+            assertEquals(Integer.valueOf(i + 1), traces.get(i).getTraceNum());
+        }
+        assertEquals("This is the final answer", traces.get(4).getResponse());
+        verify(conversationIndexMemory, never()).save(any(), any(), any(), any(), any());
+        verify(conversationIndexMemory, never()).save(any(), any(), any(), any());
+        Mockito.verify(agentActionListener).onResponse(any());
+    }
+
+    @Test
+    public void testBufferedTracesFailure() {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalArgumentException());
+            return null;
+        }).when(mlMemoryManager).createTraces(any(), any(), any());
+        MLAgent mlAgent = createMLAgentWithTools();
+        Map<String, String> params = createAgentParamsWithAction(FIRST_TOOL, "someInput");
+
+        mlChatAgentRunner.run(mlAgent, params, agentActionListener);
+
+        // traces are written off the response path, so failing to write them doesn't fail the run
+        Mockito.verify(agentActionListener).onResponse(any());
+        Mockito.verify(agentActionListener, never()).onFailure(any());
+    }
+
     // Helper methods to create MLAgent and parameters
     private MLAgent createMLAgentWithTools() {
         LLMSpec llmSpec = LLMSpec.builder().modelId("MODEL_ID").build();
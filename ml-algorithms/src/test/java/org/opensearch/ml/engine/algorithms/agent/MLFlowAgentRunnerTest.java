@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.algorithms.agent;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -16,6 +17,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.APP_TYPE;
@@ -27,6 +29,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -37,7 +40,6 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.stubbing.Answer;
 import org.opensearch.action.DocWriteResponse;
-import org.opensearch.action.StepListener;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
@@ -116,7 +118,7 @@ public class MLFlowAgentRunnerTest {
     private ArgumentCaptor<Object> objectCaptor;
 
     @Captor
-    private ArgumentCaptor<StepListener<Object>> nextStepListenerCaptor;
+    private ArgumentCaptor<ActionListener<Object>> nextStepListenerCaptor;
 
     @Captor
     private ArgumentCaptor<Map<String, Object>> memoryMapCaptor;
@@ -473,4 +475,170 @@ public class MLFlowAgentRunnerTest {
         assertNotNull(additionalInfo.get(SECOND_TOOL + ".output"));
     }
 
+    @Test
+    public void testRunIndependentToolsInParallel() {
+        final Map<String, String> params = new HashMap<>();
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).includeOutputInAgentResponse(true).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent.builder().name("TestAgent").tools(Arrays.asList(firstToolSpec, secondToolSpec)).build();
+        ArgumentCaptor<ActionListener<Object>> firstToolListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        doAnswer(invocation -> null).when(firstTool).run(anyMap(), firstToolListenerCaptor.capture());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+        // second tool doesn't use the first tool output, so it runs before the first tool responds
+        verify(secondTool).run(anyMap(), any());
+        verify(agentActionListener, never()).onResponse(any());
+
+        firstToolListenerCaptor.getValue().onResponse(FIRST_TOOL_RESPONSE);
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        List<ModelTensor> agentOutput = (List<ModelTensor>) objectCaptor.getValue();
+        // outputs keep the order of the tools
+        assertEquals(2, agentOutput.size());
+        assertEquals(FIRST_TOOL_RESPONSE, agentOutput.get(0).getResult());
+        assertEquals(SECOND_TOOL_RESPONSE, agentOutput.get(1).getResult());
+    }
+
+    @Test
+    public void testRunDependentTools() {
+        final Map<String, String> params = new HashMap<>();
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec
+            .builder()
+            .name(SECOND_TOOL)
+            .type(SECOND_TOOL)
+            .parameters(Map.of("input", "Summarize ${parameters." + FIRST_TOOL + ".output}"))
+            .build();
+        final MLAgent mlAgent = MLAgent.builder().name("TestAgent").tools(Arrays.asList(firstToolSpec, secondToolSpec)).build();
+        ArgumentCaptor<ActionListener<Object>> firstToolListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        doAnswer(invocation -> null).when(firstTool).run(anyMap(), firstToolListenerCaptor.capture());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+        verify(secondTool, never()).run(anyMap(), any());
+
+        firstToolListenerCaptor.getValue().onResponse(FIRST_TOOL_RESPONSE);
+        ArgumentCaptor<Map<String, String>> secondToolParamsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(secondTool).run(secondToolParamsCaptor.capture(), any());
+        assertEquals("Summarize " + FIRST_TOOL_RESPONSE, secondToolParamsCaptor.getValue().get("input"));
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        List<ModelTensor> agentOutput = (List<ModelTensor>) objectCaptor.getValue();
+        assertEquals(1, agentOutput.size());
+        assertEquals(SECOND_TOOL_RESPONSE, agentOutput.get(0).getResult());
+    }
+
+    @Test
+    public void testRunWithMaxParallelTools() {
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.MAX_PARALLEL_TOOLS, "1");
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent.builder().name("TestAgent").tools(Arrays.asList(firstToolSpec, secondToolSpec)).build();
+        ArgumentCaptor<ActionListener<Object>> firstToolListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        doAnswer(invocation -> null).when(firstTool).run(anyMap(), firstToolListenerCaptor.capture());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+        verify(secondTool, never()).run(anyMap(), any());
+
+        firstToolListenerCaptor.getValue().onResponse(FIRST_TOOL_RESPONSE);
+        verify(secondTool).run(anyMap(), any());
+        Mockito.verify(agentActionListener).onResponse(any());
+    }
+
+    @Test
+    public void testRunWithMaxParallelTools_NotInteger() {
+        testRunWithInvalidMaxParallelTools("two", MLFlowAgentRunner.MAX_PARALLEL_TOOLS + " must be an integer");
+    }
+
+    @Test
+    public void testRunWithMaxParallelTools_LessThanOne() {
+        testRunWithInvalidMaxParallelTools("0", MLFlowAgentRunner.MAX_PARALLEL_TOOLS + " must be positive");
+    }
+
+    private void testRunWithInvalidMaxParallelTools(String maxParallelTools, String errorMessage) {
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.MAX_PARALLEL_TOOLS, maxParallelTools);
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent.builder().name("TestAgent").tools(Arrays.asList(firstToolSpec, secondToolSpec)).build();
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(agentActionListener).onFailure(argCaptor.capture());
+        assertTrue(argCaptor.getValue() instanceof IllegalArgumentException);
+        assertEquals(errorMessage, argCaptor.getValue().getMessage());
+        verify(firstTool, never()).run(anyMap(), any());
+        verify(secondTool, never()).run(anyMap(), any());
+    }
+
+    @Test
+    public void testRunWithToolFailure() {
+        final Map<String, String> params = new HashMap<>();
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent.builder().name("TestAgent").tools(Arrays.asList(firstToolSpec, secondToolSpec)).build();
+        ArgumentCaptor<ActionListener<Object>> firstToolListenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        doAnswer(invocation -> null).when(firstTool).run(anyMap(), firstToolListenerCaptor.capture());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalArgumentException("tool error"));
+            return null;
+        }).when(secondTool).run(anyMap(), any());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+        firstToolListenerCaptor.getValue().onResponse(FIRST_TOOL_RESPONSE);
+
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(agentActionListener).onFailure(argCaptor.capture());
+        assertEquals("tool error", argCaptor.getValue().getMessage());
+        verify(agentActionListener, never()).onResponse(any());
+    }
+
+    @Test
+    public void testRunWithVerbose() {
+        final Map<String, String> params = new HashMap<>();
+        params.put(AgentUtils.VERBOSE, "true");
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent.builder().name("TestAgent").tools(Arrays.asList(firstToolSpec, secondToolSpec)).build();
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        List<ModelTensor> agentOutput = (List<ModelTensor>) objectCaptor.getValue();
+        assertEquals(2, agentOutput.size());
+        assertEquals(SECOND_TOOL_RESPONSE, agentOutput.get(0).getResult());
+        assertEquals(MLFlowAgentRunner.TOOL_TIMINGS, agentOutput.get(1).getName());
+        Map<String, ?> toolTimings = agentOutput.get(1).getDataAsMap();
+        assertEquals(2, toolTimings.size());
+        assertTrue(toolTimings.containsKey(FIRST_TOOL));
+        assertTrue(toolTimings.containsKey(SECOND_TOOL));
+    }
+
+    @Test
+    public void testGetToolDependencies() {
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(null).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        MLToolSpec thirdToolSpec = MLToolSpec.builder().name(null).type(FIRST_TOOL).build();
+        Map<String, String> params = Map.of(SECOND_TOOL + ".input", "${parameters." + FIRST_TOOL + ".output}");
+
+        List<Set<Integer>> dependencies = mlFlowAgentRunner
+            .getToolDependencies(Arrays.asList(firstToolSpec, secondToolSpec, thirdToolSpec), params);
+        assertEquals(Set.of(), dependencies.get(0));
+        assertEquals(Set.of(0), dependencies.get(1));
+        // tools with the same output key run in order
+        assertEquals(Set.of(0), dependencies.get(2));
+    }
+
+    @Test
+    public void testGetToolDependencies_ToolNameIsSuffixOfOther() {
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name("search").type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name("research").type(FIRST_TOOL).build();
+        MLToolSpec thirdToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        Map<String, String> params = Map.of(SECOND_TOOL + ".input", "Summarize ${parameters.research.output}");
+
+        List<Set<Integer>> dependencies = mlFlowAgentRunner
+            .getToolDependencies(Arrays.asList(firstToolSpec, secondToolSpec, thirdToolSpec), params);
+        assertEquals(Set.of(), dependencies.get(1));
+        // "search.output" is part of the placeholder of "research", but only "research" is referenced
+        assertEquals(Set.of(1), dependencies.get(2));
+    }
+
 }
@@ -94,6 +94,76 @@ public class KMeansTest {
         Assert.assertEquals(trainSize, predictions.size());
     }
 
+    @Test
+    public void trainBatch() {
+        for (int i = 0; i < 3; i++) {
+            kMeans.trainBatch(constructTestDataFrame(trainSize));
+        }
+        MLModel model = kMeans.finishBatchTraining();
+        Assert.assertEquals(FunctionName.KMEANS.name(), model.getName());
+        Assert.assertEquals("1.0.0", model.getVersion());
+        Assert.assertNotNull(model.getContent());
+
+        MLPredictionOutput output = (MLPredictionOutput) kMeans.predict(predictionDataFrameInput, model);
+        DataFrame predictions = output.getPredictionResult();
+        Assert.assertEquals(predictionSize, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+    }
+
+    @Test
+    public void trainBatch_BatchesSmallerThanCentroids() {
+        KMeans kMeans = new KMeans(parameters.toBuilder().centroids(5).build());
+        kMeans.trainBatch(constructTestDataFrame(2));
+        kMeans.trainBatch(constructTestDataFrame(2));
+        kMeans.trainBatch(constructTestDataFrame(2));
+        MLModel model = kMeans.finishBatchTraining();
+        Assert.assertNotNull(model.getContent());
+    }
+
+    @Test
+    public void finishEpoch_OncePerIteration() {
+        KMeans kMeans = new KMeans(parameters.toBuilder().iterations(3).build());
+        for (int epoch = 0; epoch < 2; epoch++) {
+            kMeans.trainBatch(constructTestDataFrame(trainSize));
+            Assert.assertTrue(kMeans.finishEpoch());
+        }
+        kMeans.trainBatch(constructTestDataFrame(trainSize));
+        Assert.assertFalse(kMeans.finishEpoch());
+        Assert.assertNotNull(kMeans.finishBatchTraining().getContent());
+    }
+
+    @Test
+    public void finishEpoch_FewerPointsThanCentroids() {
+        KMeans kMeans = new KMeans(parameters.toBuilder().centroids(5).iterations(3).build());
+        kMeans.trainBatch(constructTestDataFrame(2));
+        Assert.assertFalse(kMeans.finishEpoch());
+    }
+
+    @Test
+    public void trainBatch_DifferentColumns() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("All training batches should have same columns.");
+        kMeans.trainBatch(constructTestDataFrame(10));
+        kMeans.trainBatch(constructTestDataFrame(10).select(new int[] { 0 }));
+    }
+
+    @Test
+    public void finishBatchTraining_NoData() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No training data for KMeans.");
+        kMeans.finishBatchTraining();
+    }
+
+    @Test
+    public void closeBatchTraining_DropsTrainedBatches() {
+        kMeans.trainBatch(constructTestDataFrame(trainSize));
+        kMeans.closeBatchTraining();
+        kMeans.closeBatchTraining();
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No training data for KMeans.");
+        kMeans.finishBatchTraining();
+    }
+
     @Test
     public void constructorWithNegtiveCentroids() {
         exceptionRule.expect(IllegalArgumentException.class);
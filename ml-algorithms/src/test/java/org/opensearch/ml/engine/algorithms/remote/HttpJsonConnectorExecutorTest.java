@@ -6,12 +6,20 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.ProtocolVersion;
@@ -31,6 +39,8 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ingest.TestTemplateService;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
@@ -42,7 +52,10 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -98,6 +111,111 @@ public class HttpJsonConnectorExecutorTest {
         executor.invokeRemoteModel(null, null, null, null);
     }
 
+    @Test
+    public void invokeRemoteModelAsync_WrongHttpMethod() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("wrong_method")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        executor.invokeRemoteModelAsync(null, new HashMap<>(), null, ActionListener.wrap(r -> Assert.fail("should fail"), failure::set));
+        Assert.assertTrue(failure.get() instanceof IllegalArgumentException);
+        Assert.assertEquals("unsupported http method", failure.get().getMessage());
+    }
+
+    @Test
+    public void invokeRemoteModelAsync_PrivateIp_ValidatedOnConnect() throws InterruptedException {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://127.0.0.1/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.invokeRemoteModelAsync(null, new HashMap<>(), "{}", ActionListener.wrap(r -> latch.countDown(), e -> {
+            failure.set(e);
+            latch.countDown();
+        }));
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertNotNull(failure.get());
+        executor.close();
+    }
+
+    @Test
+    public void httpClient_ReusedUntilClosed() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(ImmutableMap.of("max_connection", "10", "connection_timeout", "5", "read_timeout", "60"))
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = new HttpJsonConnectorExecutor(connector);
+        CloseableHttpClient pooledHttpClient = executor.getHttpClient();
+        Assert.assertNotNull(pooledHttpClient);
+        Assert.assertSame(pooledHttpClient, executor.getHttpClient());
+        executor.close();
+    }
+
+    @Test
+    public void invalidMaxConnectionParameter() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Invalid parameter: max_connection. It must be positive integer.");
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(ImmutableMap.of("max_connection", "0"))
+            .actions(Arrays.asList(predictAction))
+            .build();
+        new HttpJsonConnectorExecutor(connector);
+    }
+
     @Test
     public void executePredict_RemoteInferenceInput() throws IOException {
         ConnectorAction predictAction = ConnectorAction
@@ -298,6 +416,160 @@ public class HttpJsonConnectorExecutorTest {
             );
     }
 
+    @Test
+    public void executePredictAsync_TextDocsInput_LessEmbeddingThanInputDocs() {
+        String preprocessResult1 = "{\"parameters\": { \"input\": \"test doc1\" } }";
+        String preprocessResult2 = "{\"parameters\": { \"input\": \"test doc2\" } }";
+        when(scriptService.compile(any(), any()))
+            .then(invocation -> new TestTemplateService.MockTemplateScript.Factory(preprocessResult1))
+            .then(invocation -> new TestTemplateService.MockTemplateScript.Factory(preprocessResult2));
+
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .requestBody("{\"input\": ${parameters.input}}")
+            .build();
+        Map<String, String> parameters = ImmutableMap.of("input_docs_processed_step_size", "1");
+        HttpConnector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        executor.setScriptService(scriptService);
+        when(executor.getConnector()).thenReturn(connector);
+        // remote model returns one embedding per request, so every doc is sent in its own request
+        doAnswer(invocation -> {
+            ActionListener<ModelTensors> listener = invocation.getArgument(3);
+            ModelTensor tensor = ModelTensor
+                .builder()
+                .name("sentence_embedding")
+                .dataType(MLResultDataType.FLOAT32)
+                .data(new Number[] { 0.1, 0.2 })
+                .build();
+            listener.onResponse(ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build());
+            return null;
+        }).when(executor).invokeRemoteModelAsync(any(), any(), any(), any());
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("test doc1", "test doc2")).build();
+        AtomicReference<ModelTensorOutput> output = new AtomicReference<>();
+        executor
+            .executePredictAsync(
+                MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(),
+                ActionListener.wrap(output::set, e -> Assert.fail(e.getMessage()))
+            );
+        verify(executor, times(2)).invokeRemoteModelAsync(any(), any(), any(), any());
+        Assert.assertEquals(2, output.get().getMlModelOutputs().size());
+        Assert.assertEquals("sentence_embedding", output.get().getMlModelOutputs().get(1).getMlModelTensors().get(0).getName());
+    }
+
+    @Test
+    public void executePredict_TextDocsInput_ConcurrentRequests() {
+        when(scriptService.compile(any(), any()))
+            .then(invocation -> new TestTemplateService.MockTemplateScript.Factory("{\"parameters\": { \"input\": \"test doc\" } }"));
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .requestBody("{\"input\": ${parameters.input}}")
+            .build();
+        Map<String, String> parameters = ImmutableMap.of("input_docs_processed_step_size", "2", "max_concurrent_requests", "2");
+        HttpConnector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        executor.setScriptService(scriptService);
+        when(executor.getConnector()).thenReturn(connector);
+        // echo the first doc of each chunk, so the order of outputs can be verified
+        doAnswer(invocation -> {
+            MLInput input = invocation.getArgument(0);
+            ActionListener<ModelTensors> listener = invocation.getArgument(3);
+            String firstDoc = ((TextDocsInputDataSet) input.getInputDataset()).getDocs().get(0);
+            ModelTensor tensor = ModelTensor.builder().name("response").result(firstDoc).build();
+            listener.onResponse(ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build());
+            return null;
+        }).when(executor).invokeRemoteModelAsync(any(), any(), any(), any());
+        MLInputDataset inputDataSet = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("doc1", "doc2", "doc3", "doc4", "doc5"))
+            .build();
+        ModelTensorOutput modelTensorOutput = executor
+            .executePredict(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build());
+        verify(executor, times(3)).invokeRemoteModelAsync(any(), any(), any(), any());
+        Assert.assertEquals(3, modelTensorOutput.getMlModelOutputs().size());
+        Assert.assertEquals("doc1", modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getResult());
+        Assert.assertEquals("doc3", modelTensorOutput.getMlModelOutputs().get(1).getMlModelTensors().get(0).getResult());
+        Assert.assertEquals("doc5", modelTensorOutput.getMlModelOutputs().get(2).getMlModelTensors().get(0).getResult());
+    }
+
+    @Test
+    public void executePredictAsync_TextDocsInput_ConcurrentRequests_Failure() {
+        when(scriptService.compile(any(), any()))
+            .then(invocation -> new TestTemplateService.MockTemplateScript.Factory("{\"parameters\": { \"input\": \"test doc\" } }"));
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .requestBody("{\"input\": ${parameters.input}}")
+            .build();
+        Map<String, String> parameters = ImmutableMap.of("input_docs_processed_step_size", "1", "max_concurrent_requests", "2");
+        HttpConnector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+        threadContext = new ThreadContext(Settings.builder().build());
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        executor.setScriptService(scriptService);
+        when(executor.getConnector()).thenReturn(connector);
+        doAnswer(invocation -> {
+            ActionListener<ModelTensors> listener = invocation.getArgument(3);
+            listener.onFailure(new OpenSearchStatusException("throttled", RestStatus.TOO_MANY_REQUESTS));
+            return null;
+        }).when(executor).invokeRemoteModelAsync(any(), any(), any(), any());
+        MLInputDataset inputDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList("doc1", "doc2", "doc3", "doc4")).build();
+        AtomicInteger failures = new AtomicInteger();
+        executor
+            .executePredictAsync(
+                MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build(),
+                ActionListener.wrap(r -> Assert.fail("should fail"), e -> failures.incrementAndGet())
+            );
+        // the first chunk fails, the listener is notified once and no more chunks are sent
+        verify(executor, times(1)).invokeRemoteModelAsync(any(), any(), any(), any());
+        Assert.assertEquals(1, failures.get());
+    }
+
     @Test
     public void executePredict_TextDocsInput_LessEmbeddingThanInputDocs() throws IOException {
         String preprocessResult1 = "{\"parameters\": { \"input\": \"test doc1\" } }";
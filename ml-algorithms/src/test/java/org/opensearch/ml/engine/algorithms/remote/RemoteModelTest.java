@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -20,6 +21,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
@@ -66,6 +68,24 @@ public class RemoteModelTest {
         remoteModel.predict(mlInput);
     }
 
+    @Test
+    public void asyncPredict_NullConnectorExecutor() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        remoteModel.asyncPredict(mlInput, ActionListener.wrap(r -> Assert.fail("should fail"), failure::set));
+        Assert.assertTrue(failure.get() instanceof IllegalArgumentException);
+        Assert.assertTrue(failure.get().getMessage().startsWith("Model not ready yet"));
+    }
+
+    @Test
+    public void asyncPredict_ModelDeployed_WrongInput() {
+        Connector connector = createConnector(ImmutableMap.of("Authorization", "Bearer ${credential.key}"));
+        when(mlModel.getConnector()).thenReturn(connector);
+        remoteModel.initModel(mlModel, ImmutableMap.of(), encryptor);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        remoteModel.asyncPredict(mlInput, ActionListener.wrap(r -> Assert.fail("should fail"), failure::set));
+        Assert.assertEquals("pre_process_function not defined in connector", failure.get().getMessage());
+    }
+
     @Test
     public void predict_ModelDeployed_WrongInput() {
         exceptionRule.expect(RuntimeException.class);
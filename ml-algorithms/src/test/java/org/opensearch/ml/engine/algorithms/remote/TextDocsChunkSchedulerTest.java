@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+public class TextDocsChunkSchedulerTest {
+
+    @Test
+    public void fixedChunkSize_ManyChunksCompletedOnCallingThread() {
+        List<String> docs = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            docs.add("doc" + i);
+        }
+        AtomicReference<ModelTensorOutput> output = new AtomicReference<>();
+        new TextDocsChunkScheduler(
+            docs,
+            1,
+            2,
+            (textDocs, listener) -> listener.onResponse(echoFirstDoc(textDocs)),
+            tensors -> 1,
+            ActionListener.wrap(output::set, e -> Assert.fail(e.getMessage()))
+        ).start();
+        Assert.assertEquals(20000, output.get().getMlModelOutputs().size());
+        Assert.assertEquals("doc0", output.get().getMlModelOutputs().get(0).getMlModelTensors().get(0).getResult());
+        Assert.assertEquals("doc19999", output.get().getMlModelOutputs().get(19999).getMlModelTensors().get(0).getResult());
+    }
+
+    @Test
+    public void fixedChunkSize_OutOfOrderResponses() {
+        List<ActionListener<ModelTensors>> pending = new ArrayList<>();
+        List<List<String>> sent = new ArrayList<>();
+        AtomicReference<ModelTensorOutput> output = new AtomicReference<>();
+        new TextDocsChunkScheduler(Arrays.asList("doc1", "doc2", "doc3", "doc4", "doc5"), 2, 2, (textDocs, listener) -> {
+            sent.add(textDocs);
+            pending.add(listener);
+        }, tensors -> 2, ActionListener.wrap(output::set, e -> Assert.fail(e.getMessage()))).start();
+        Assert.assertEquals(2, pending.size());
+        pending.get(1).onResponse(echoFirstDoc(sent.get(1)));
+        Assert.assertEquals(3, pending.size());
+        pending.get(2).onResponse(echoFirstDoc(sent.get(2)));
+        Assert.assertNull(output.get());
+        pending.get(0).onResponse(echoFirstDoc(sent.get(0)));
+        Assert.assertEquals(3, output.get().getMlModelOutputs().size());
+        Assert.assertEquals("doc1", output.get().getMlModelOutputs().get(0).getMlModelTensors().get(0).getResult());
+        Assert.assertEquals("doc3", output.get().getMlModelOutputs().get(1).getMlModelTensors().get(0).getResult());
+        Assert.assertEquals("doc5", output.get().getMlModelOutputs().get(2).getMlModelTensors().get(0).getResult());
+    }
+
+    @Test
+    public void noChunkSize_SequentialChunksSizedByResponse() {
+        List<List<String>> sent = new ArrayList<>();
+        AtomicReference<ModelTensorOutput> output = new AtomicReference<>();
+        new TextDocsChunkScheduler(Arrays.asList("doc1", "doc2", "doc3"), null, 4, (textDocs, listener) -> {
+            sent.add(textDocs);
+            listener.onResponse(echoFirstDoc(textDocs));
+        }, tensors -> 1, ActionListener.wrap(output::set, e -> Assert.fail(e.getMessage()))).start();
+        Assert.assertEquals(Arrays.asList("doc1", "doc2", "doc3"), sent.get(0));
+        Assert.assertEquals(Arrays.asList("doc3"), sent.get(2));
+        Assert.assertEquals(3, output.get().getMlModelOutputs().size());
+    }
+
+    @Test
+    public void failure_NotifiedOnceAndStopsSending() {
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        new TextDocsChunkScheduler(Arrays.asList("doc1", "doc2", "doc3", "doc4"), 1, 2, (textDocs, listener) -> {
+            sent.incrementAndGet();
+            throw new IllegalArgumentException("bad chunk");
+        }, tensors -> 1, ActionListener.wrap(r -> Assert.fail("should fail"), e -> failures.incrementAndGet())).start();
+        Assert.assertEquals(1, sent.get());
+        Assert.assertEquals(1, failures.get());
+    }
+
+    private ModelTensors echoFirstDoc(List<String> textDocs) {
+        ModelTensor tensor = ModelTensor.builder().name("response").result(textDocs.get(0)).build();
+        return ModelTensors.builder().mlModelTensors(Arrays.asList(tensor)).build();
+    }
+}
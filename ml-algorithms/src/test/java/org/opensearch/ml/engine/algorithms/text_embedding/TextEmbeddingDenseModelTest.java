@@ -16,11 +16,18 @@ import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDe
 import java.io.File;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.junit.After;
@@ -29,6 +36,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.opensearch.ResourceNotFoundException;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -37,6 +45,7 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -168,6 +177,129 @@ public class TextEmbeddingDenseModelTest {
         textEmbeddingDenseModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_BatchSize() {
+        ModelResultFilter resultFilter = ModelResultFilter
+            .builder()
+            .returnNumber(true)
+            .targetResponse(Arrays.asList(SENTENCE_EMBEDDING))
+            .build();
+        TextDocsInputDataSet textDocsInputDataSet = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "hi", "the weather is nice and the dog is happy today"))
+            .resultFilter(resultFilter)
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build();
+
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        List<ModelTensors> expectedOutputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        textEmbeddingDenseModel.close();
+
+        TextEmbeddingModelConfig batchModelConfig = modelConfig.toBuilder().batchSize(3).build();
+        TextEmbeddingDenseModel batchModel = new TextEmbeddingDenseModel();
+        batchModel.initModel(model.toBuilder().modelConfig(batchModelConfig).build(), params, encryptor);
+        List<ModelTensors> mlModelOutputs = ((ModelTensorOutput) batchModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(4, mlModelOutputs.size());
+        for (int i = 0; i < mlModelOutputs.size(); i++) {
+            Number[] expected = expectedOutputs.get(i).getMlModelTensors().get(0).getData();
+            Number[] actual = mlModelOutputs.get(i).getMlModelTensors().get(0).getData();
+            assertEquals(dimension, actual.length);
+            for (int j = 0; j < dimension; j++) {
+                assertEquals(expected[j].floatValue(), actual[j].floatValue(), 1e-4);
+            }
+        }
+        batchModel.close();
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_PredictorPool() throws Exception {
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        List<ModelTensors> expectedOutputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        textEmbeddingDenseModel.close();
+
+        TextEmbeddingModelConfig poolModelConfig = modelConfig.toBuilder().predictorPoolSize(2).build();
+        TextEmbeddingDenseModel poolModel = new TextEmbeddingDenseModel();
+        poolModel.initModel(model.toBuilder().modelConfig(poolModelConfig).build(), params, encryptor);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<MLOutput>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> poolModel.predict(mlInput)));
+            }
+            for (Future<MLOutput> future : futures) {
+                List<ModelTensors> mlModelOutputs = ((ModelTensorOutput) future.get()).getMlModelOutputs();
+                assertEquals(expectedOutputs.size(), mlModelOutputs.size());
+                for (int i = 0; i < mlModelOutputs.size(); i++) {
+                    Number[] expected = expectedOutputs.get(i).getMlModelTensors().get(0).getData();
+                    Number[] actual = mlModelOutputs.get(i).getMlModelTensors().get(0).getData();
+                    for (int j = 0; j < dimension; j++) {
+                        assertEquals(expected[j].floatValue(), actual[j].floatValue(), 1e-4);
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdown();
+            poolModel.close();
+        }
+    }
+
+    @Test
+    public void initModel_asyncPredict_TorchScript_SentenceTransformer_MicroBatch() throws Exception {
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build();
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        List<ModelTensors> expectedOutputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        textEmbeddingDenseModel.close();
+
+        TextEmbeddingModelConfig microBatchModelConfig = modelConfig.toBuilder().batchSize(4).batchWindowMs(50).build();
+        TextEmbeddingDenseModel microBatchModel = new TextEmbeddingDenseModel();
+        microBatchModel.initModel(model.toBuilder().modelConfig(microBatchModelConfig).build(), params, encryptor);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        microBatchModel.setMicroBatchStatsListener((batchSize, queueDelays) -> batchSizes.add(batchSize));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<MLOutput>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                CompletableFuture<MLOutput> future = new CompletableFuture<>();
+                futures.add(future);
+                executorService
+                    .execute(
+                        () -> microBatchModel.asyncPredict(mlInput, ActionListener.wrap(future::complete, future::completeExceptionally))
+                    );
+            }
+            for (CompletableFuture<MLOutput> future : futures) {
+                List<ModelTensors> mlModelOutputs = ((ModelTensorOutput) future.get(30, TimeUnit.SECONDS)).getMlModelOutputs();
+                assertEquals(expectedOutputs.size(), mlModelOutputs.size());
+                for (int i = 0; i < mlModelOutputs.size(); i++) {
+                    Number[] expected = expectedOutputs.get(i).getMlModelTensors().get(0).getData();
+                    Number[] actual = mlModelOutputs.get(i).getMlModelTensors().get(0).getData();
+                    for (int j = 0; j < dimension; j++) {
+                        assertEquals(expected[j].floatValue(), actual[j].floatValue(), 1e-4);
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdown();
+            microBatchModel.close();
+        }
+        // two requests of two docs each fill one batch of four docs
+        assertEquals(List.of(4), batchSizes);
+    }
+
+    @Test
+    public void initModel_predict_ONNX_bert_PredictorPool() throws URISyntaxException {
+        modelConfig = modelConfig.toBuilder().predictorPoolSize(2).intraOpThreads(2).interOpThreads(1).build();
+        initModel_predict_HuggingfaceModel(
+            "all-MiniLM-L6-v2_onnx.zip",
+            "bert",
+            TextEmbeddingModelConfig.PoolingMode.MEAN,
+            true,
+            512,
+            MLModelFormat.ONNX,
+            dimension
+        );
+    }
+
     @Test
     public void initModel_predict_TorchScript_Huggingface() throws URISyntaxException {
         String modelFile = "all-MiniLM-L6-v2_torchscript_huggingface.zip";
@@ -5,12 +5,17 @@
 
 package org.opensearch.ml.engine.httpclient;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.net.InetAddress;
 import java.net.UnknownHostException;
 
 import org.apache.http.HttpHost;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -26,6 +31,34 @@ public class MLHttpClientFactoryTests {
         assertNotNull(client);
     }
 
+    @Test
+    public void test_getPooledCloseableHttpClient_success() throws IOException {
+        CloseableHttpClient client = MLHttpClientFactory.getPooledCloseableHttpClient(10, 1000, 1000);
+        assertNotNull(client);
+        client.close();
+    }
+
+    @Test
+    public void test_getPooledAsyncHttpClient_success() throws IOException {
+        CloseableHttpAsyncClient client = MLHttpClientFactory.getPooledAsyncHttpClient(10, 1000, 1000);
+        assertNotNull(client);
+        assertTrue(client.isRunning());
+        client.close();
+    }
+
+    @Test
+    public void test_cachingDnsResolver_cacheValidatedAddresses() throws UnknownHostException {
+        MLHttpClientFactory.CachingDnsResolver resolver = new MLHttpClientFactory.CachingDnsResolver(60_000);
+        InetAddress[] addresses = resolver.resolve("api.openai.com");
+        assertArrayEquals(addresses, resolver.resolve("api.openai.com"));
+    }
+
+    @Test
+    public void test_cachingDnsResolver_privateIp_throwException() throws UnknownHostException {
+        expectedException.expect(IllegalArgumentException.class);
+        new MLHttpClientFactory.CachingDnsResolver(60_000).resolve("localhost");
+    }
+
     @Test
     public void test_validateIp_validIp_noException() throws UnknownHostException {
         MLHttpClientFactory.validateIp("api.openai.com");
@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+public class MLInputDatasetHandlerTest {
+
+    @Mock
+    Client client;
+
+    @Mock
+    ActionListener<MLInputDataset> listener;
+
+    MLInputDatasetHandler handler;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        handler = new MLInputDatasetHandler(client);
+        CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+        when(createPitResponse.getId()).thenReturn("pit_id");
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(createPitResponse);
+            return null;
+        }).when(client).createPit(any(), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_SinglePage() {
+        mockSearchPages(5, 10);
+        SearchQueryInputDataset inputDataset = new SearchQueryInputDataset(List.of("index"), new SearchSourceBuilder().size(10));
+        handler.parseSearchQueryInput(inputDataset, listener);
+
+        ArgumentCaptor<MLInputDataset> captor = ArgumentCaptor.forClass(MLInputDataset.class);
+        verify(listener).onResponse(captor.capture());
+        DataFrame dataFrame = ((DataFrameInputDataset) captor.getValue()).getDataFrame();
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(5, dataFrame.size());
+        verify(client, times(0)).createPit(any(), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_MultiplePages() {
+        int pageSize = MLInputDatasetHandler.SEARCH_QUERY_INPUT_PAGE_SIZE;
+        mockSearchPages(pageSize * 2 + 10, pageSize);
+        SearchQueryInputDataset inputDataset = new SearchQueryInputDataset(
+            List.of("index"),
+            new SearchSourceBuilder().size(pageSize * 2 + 5)
+        );
+        handler.parseSearchQueryInput(inputDataset, listener);
+
+        ArgumentCaptor<MLInputDataset> captor = ArgumentCaptor.forClass(MLInputDataset.class);
+        verify(listener).onResponse(captor.capture());
+        ColumnarDataFrame dataFrame = (ColumnarDataFrame) ((DataFrameInputDataset) captor.getValue()).getDataFrame();
+        assertEquals(pageSize * 2 + 5, dataFrame.size());
+        int f1 = dataFrame.getColumnIndex("f1");
+        for (int i = 0; i < dataFrame.size(); i++) {
+            assertEquals(i, dataFrame.getDouble(i, f1), 0.0001D);
+        }
+        verify(client, times(3)).search(any(), any());
+        verify(client).deletePits(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void streamSearchQueryInput() {
+        mockSearchPages(5, 2);
+        SearchQueryInputDataset inputDataset = new SearchQueryInputDataset(List.of("index"), new SearchSourceBuilder());
+        List<Integer> batchSizes = new ArrayList<>();
+        ActionListener<Long> totalListener = mock(ActionListener.class);
+        handler.streamSearchQueryInput(inputDataset, 2, (batch, batchListener) -> {
+            batchSizes.add(batch.size());
+            batchListener.onResponse(null);
+        }, totalListener);
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        verify(totalListener).onResponse(5L);
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(captor.capture(), any());
+        SearchRequest firstRequest = captor.getAllValues().get(0);
+        assertEquals("pit_id", firstRequest.source().pointInTimeBuilder().getId());
+        assertEquals(0, firstRequest.indices().length);
+        assertNull(firstRequest.source().searchAfter());
+        assertArrayEquals(new Object[] { 1 }, captor.getAllValues().get(1).source().searchAfter());
+        verify(client).deletePits(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void streamSearchQueryInput_SortAndFrom() {
+        mockSearchPages(5, 2);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().from(3).sort("f1");
+        SearchQueryInputDataset inputDataset = new SearchQueryInputDataset(List.of("index"), searchSourceBuilder);
+        ActionListener<Long> totalListener = mock(ActionListener.class);
+        handler.streamSearchQueryInput(inputDataset, 2, (batch, batchListener) -> batchListener.onResponse(null), totalListener);
+
+        // the query of the dataset is not changed
+        assertEquals(1, searchSourceBuilder.sorts().size());
+        assertEquals(3, searchSourceBuilder.from());
+        ArgumentCaptor<SearchRequest> captor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(3)).search(captor.capture(), any());
+        SearchRequest firstRequest = captor.getAllValues().get(0);
+        assertEquals(2, firstRequest.source().sorts().size());
+        assertEquals(3, firstRequest.source().from());
+        assertEquals(0, captor.getAllValues().get(1).source().from());
+    }
+
+    @Test
+    public void streamSearchQueryInput_BatchFailure() {
+        mockSearchPages(5, 2);
+        SearchQueryInputDataset inputDataset = new SearchQueryInputDataset(List.of("index"), new SearchSourceBuilder());
+        ActionListener<Long> totalListener = mock(ActionListener.class);
+        RuntimeException exception = new RuntimeException("failed to consume batch");
+        handler.streamSearchQueryInput(inputDataset, 2, (batch, batchListener) -> batchListener.onFailure(exception), totalListener);
+
+        verify(totalListener).onFailure(exception);
+        verify(client, times(1)).search(any(), any());
+        verify(client).deletePits(any(DeletePitRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_DocValueFields() {
+        SearchHit hit = new SearchHit(0, "0", Map.of("f1", new DocumentField("f1", List.of(1.5D))), Collections.emptyMap());
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits())
+            .thenReturn(new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+        SearchQueryInputDataset inputDataset = new SearchQueryInputDataset(
+            List.of("index"),
+            new SearchSourceBuilder().fetchSource(false).docValueField("f1")
+        );
+        handler.parseSearchQueryInput(inputDataset, listener);
+
+        ArgumentCaptor<MLInputDataset> captor = ArgumentCaptor.forClass(MLInputDataset.class);
+        verify(listener).onResponse(captor.capture());
+        ColumnarDataFrame dataFrame = (ColumnarDataFrame) ((DataFrameInputDataset) captor.getValue()).getDataFrame();
+        assertEquals(1, dataFrame.size());
+        assertEquals(1.5D, dataFrame.getDouble(0, 0), 0.0001D);
+    }
+
+    /**
+     * Mock search returning documents {"f1": i, "f2": i + 0.5} sorted by i, paged by the size and search_after of request.
+     */
+    private void mockSearchPages(int totalDocs, int maxPageSize) {
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            Object[] searchAfter = request.source().searchAfter();
+            int from = searchAfter == null ? 0 : (Integer) searchAfter[0] + 1;
+            int size = request.source().size() < 0 ? 10 : request.source().size();
+            int to = Math.min(totalDocs, from + Math.min(size, maxPageSize));
+            SearchHit[] hits = new SearchHit[Math.max(to - from, 0)];
+            for (int i = from; i < to; i++) {
+                SearchHit hit = new SearchHit(i);
+                hit.sourceRef(new BytesArray("{\"f1\":" + i + ".0,\"f2\":" + i + ".5}"));
+                hit.sortValues(new Object[] { i }, new DocValueFormat[] { DocValueFormat.RAW });
+                hits[i - from] = hit;
+            }
+            SearchResponse searchResponse = mock(SearchResponse.class);
+            when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(totalDocs, TotalHits.Relation.EQUAL_TO), 1.0f));
+            actionListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+    }
+}
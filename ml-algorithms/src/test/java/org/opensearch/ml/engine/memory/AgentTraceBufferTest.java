@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.conversation.Interaction;
+
+public class AgentTraceBufferTest {
+
+    @Mock
+    ConversationIndexMemory memory;
+
+    @Mock
+    MLMemoryManager memoryManager;
+
+    @Mock
+    ActionListener<BulkResponse> listener;
+
+    ConversationIndexMessage message;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(memory.getConversationId()).thenReturn("cid");
+        when(memory.getMemoryManager()).thenReturn(memoryManager);
+        message = ConversationIndexMessage.conversationIndexMessageBuilder().question("question").response("response").build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_BufferedTraces() {
+        AgentTraceBuffer buffer = new AgentTraceBuffer(memory, false);
+        buffer.add(message, "parent-id", 1, "LLM");
+        buffer.add(message, "parent-id", 2, "ReAct");
+        verify(memoryManager, never()).createTraces(any(), any(), any());
+
+        buffer.flush(listener);
+        ArgumentCaptor<List<Interaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memoryManager, times(1)).createTraces(eq("cid"), captor.capture(), eq(listener));
+        List<Interaction> traces = captor.getValue();
+        assertEquals(2, traces.size());
+        assertEquals("question", traces.get(0).getInput());
+        assertEquals("response", traces.get(0).getResponse());
+        assertEquals("LLM", traces.get(0).getOrigin());
+        assertEquals("parent-id", traces.get(0).getParentInteractionId());
+        assertEquals(Integer.valueOf(2), traces.get(1).getTraceNum());
+        assertEquals("ReAct", traces.get(1).getOrigin());
+        verify(memory, never()).save(any(), any(), any(), any());
+    }
+
+    @Test
+    public void flush_Empty() {
+        AgentTraceBuffer buffer = new AgentTraceBuffer(memory, false);
+        buffer.add(message, "parent-id", 1, "LLM");
+        buffer.flush();
+        buffer.flush(listener);
+        verify(memoryManager, times(1)).createTraces(any(), any(), any());
+        verify(listener, times(1)).onResponse(null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void add_FlushWhenFull() {
+        AgentTraceBuffer buffer = new AgentTraceBuffer(memory, false);
+        for (int i = 1; i <= AgentTraceBuffer.MAX_BUFFERED_TRACES + 1; i++) {
+            buffer.add(message, "parent-id", i, "LLM");
+        }
+        ArgumentCaptor<List<Interaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memoryManager, times(1)).createTraces(eq("cid"), captor.capture(), any());
+        assertEquals(AgentTraceBuffer.MAX_BUFFERED_TRACES, captor.getValue().size());
+
+        buffer.flush(listener);
+        verify(memoryManager, times(2)).createTraces(eq("cid"), captor.capture(), any());
+        assertEquals(1, captor.getValue().size());
+    }
+
+    @Test
+    public void add_PerStep() {
+        AgentTraceBuffer buffer = new AgentTraceBuffer(memory, true);
+        buffer.add(message, "parent-id", 1, "LLM");
+        verify(memory, times(1)).save(message, "parent-id", 1, "LLM");
+        buffer.flush(listener);
+        verify(memoryManager, never()).createTraces(any(), any(), any());
+        verify(listener, times(1)).onResponse(null);
+    }
+}
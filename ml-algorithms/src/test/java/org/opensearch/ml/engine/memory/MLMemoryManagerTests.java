@@ -13,6 +13,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.*;
@@ -31,6 +32,9 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
@@ -119,6 +123,9 @@ public class MLMemoryManagerTests {
     @Mock
     ActionListener<Boolean> deletionInteractionListener;
 
+    @Mock
+    ActionListener<BulkResponse> bulkResponseActionListener;
+
     String conversationName;
     String applicationType;
 
@@ -215,6 +222,64 @@ public class MLMemoryManagerTests {
         assert (argCaptor.getValue().getMessage().equals("Failure in runtime"));
     }
 
+    @Test
+    public void testCreateTraces() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
+            return null;
+        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        BulkResponse bulkResponse = new BulkResponse(new BulkItemResponse[0], 1);
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> al = invocation.getArgument(1);
+            al.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+
+        List<Interaction> traces = List
+            .of(
+                new Interaction(null, Instant.now(), "cid", "input 1", null, "response 1", "LLM", null, "parent-id", 1),
+                new Interaction(null, Instant.now(), "cid", "input 2", null, "response 2", "ReAct", null, "parent-id", 2)
+            );
+        mlMemoryManager.createTraces("cid", traces, bulkResponseActionListener);
+
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(captor.capture(), any());
+        verify(conversationMetaIndex, times(1)).checkAccess(eq("cid"), any());
+        assertEquals(2, captor.getValue().numberOfActions());
+        Map<String, Object> source = ((IndexRequest) captor.getValue().requests().get(1)).sourceAsMap();
+        assertEquals("cid", source.get(INTERACTIONS_CONVERSATION_ID_FIELD));
+        assertEquals("parent-id", source.get(PARENT_INTERACTIONS_ID_FIELD));
+        assertEquals(2, source.get(INTERACTIONS_TRACE_NUMBER_FIELD));
+        verify(bulkResponseActionListener, times(1)).onResponse(bulkResponse);
+    }
+
+    @Test
+    public void testCreateTraces_NoAccess_ThenFail() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(false);
+            return null;
+        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+
+        mlMemoryManager.createTraces("cid", List.of(), bulkResponseActionListener);
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(bulkResponseActionListener, times(1)).onFailure(argCaptor.capture());
+        assertEquals("User [] does not have access to conversation cid", argCaptor.getValue().getMessage());
+        verify(client, never()).bulk(any(), any());
+    }
+
+    @Test
+    public void testCreateTraces_NoIndex_ThenFail() {
+        doReturn(false).when(metadata).hasIndex(anyString());
+
+        mlMemoryManager.createTraces("cid", List.of(), bulkResponseActionListener);
+        verify(bulkResponseActionListener, times(1)).onFailure(any(IndexNotFoundException.class));
+        verify(conversationMetaIndex, never()).checkAccess(anyString(), any());
+    }
+
     @Test
     public void testGetInteractions_NoIndex_ThenEmpty() {
         doReturn(false).when(metadata).hasIndex(anyString());
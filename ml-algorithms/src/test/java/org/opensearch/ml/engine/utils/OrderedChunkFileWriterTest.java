@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class OrderedChunkFileWriterTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    @Test
+    public void write_OutOfOrderChunks() throws IOException {
+        File file = new File(tempDir.getRoot(), "model/model.zip");
+        try (OrderedChunkFileWriter writer = new OrderedChunkFileWriter(file, 3)) {
+            Assert.assertFalse(writer.write(2, "ccc".getBytes(StandardCharsets.UTF_8)));
+            Assert.assertEquals(0, writer.getWrittenChunks());
+            Assert.assertFalse(writer.write(0, "aaa".getBytes(StandardCharsets.UTF_8)));
+            Assert.assertEquals(1, writer.getWrittenChunks());
+            Assert.assertTrue(writer.write(1, "bb".getBytes(StandardCharsets.UTF_8)));
+            Assert.assertEquals(3, writer.getWrittenChunks());
+            writer.close();
+            Assert.assertEquals("aaabbccc", Files.readString(file.toPath()));
+            Assert.assertEquals(FileUtils.calculateFileHash(file), writer.getHash());
+        }
+    }
+
+    @Test
+    public void write_DuplicateChunk() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Invalid or duplicate chunk 0 of file model.zip");
+        File file = new File(tempDir.getRoot(), "model.zip");
+        try (OrderedChunkFileWriter writer = new OrderedChunkFileWriter(file, 2)) {
+            writer.write(0, new byte[] { 1 });
+            writer.write(0, new byte[] { 1 });
+        }
+    }
+
+    @Test
+    public void getHash_NotCompleted() throws IOException {
+        exceptionRule.expect(IllegalStateException.class);
+        File file = new File(tempDir.getRoot(), "model.zip");
+        try (OrderedChunkFileWriter writer = new OrderedChunkFileWriter(file, 2)) {
+            writer.write(0, new byte[] { 1 });
+            writer.getHash();
+        }
+    }
+}
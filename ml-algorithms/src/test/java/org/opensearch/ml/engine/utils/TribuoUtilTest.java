@@ -17,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -51,6 +52,20 @@ public class TribuoUtilTest {
         }
     }
 
+    @Test
+    public void transformDataFrame_ColumnarDataFrame() {
+        ColumnarDataFrame columnarDataFrame = new ColumnarDataFrame(dataFrame.columnMetas());
+        dataFrame.forEach(columnarDataFrame::appendRow);
+        Tuple<String[], double[][]> featureNamesValues = TribuoUtil.transformDataFrame(columnarDataFrame);
+        Assert.assertArrayEquals(new String[] { "f1", "f2" }, featureNamesValues.v1());
+        Assert.assertEquals(3, featureNamesValues.v2().length);
+        Tuple<String[], float[][]> floatFeatureNamesValues = TribuoUtil.transformDataFrameFloat(columnarDataFrame);
+        for (int i = 0; i < rawData.length; ++i) {
+            Assert.assertArrayEquals(new double[] { 0.1 + i, 0.2 + i }, featureNamesValues.v2()[i], 0.01);
+            Assert.assertArrayEquals(new float[] { 0.1f + i, 0.2f + i }, floatFeatureNamesValues.v2()[i], 0.01f);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void generateDataset() {
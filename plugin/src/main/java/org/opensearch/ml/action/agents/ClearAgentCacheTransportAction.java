@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheAction;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodeRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodeResponse;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class ClearAgentCacheTransportAction extends
+    TransportNodesAction<MLAgentClearCacheNodesRequest, MLAgentClearCacheNodesResponse, MLAgentClearCacheNodeRequest, MLAgentClearCacheNodeResponse> {
+    private final ClusterService clusterService;
+    private final MLAgentCache agentCache;
+
+    @Inject
+    public ClearAgentCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLAgentCache agentCache
+    ) {
+        super(
+            MLAgentClearCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLAgentClearCacheNodesRequest::new,
+            MLAgentClearCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLAgentClearCacheNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.agentCache = agentCache;
+    }
+
+    @Override
+    protected MLAgentClearCacheNodesResponse newResponse(
+        MLAgentClearCacheNodesRequest nodesRequest,
+        List<MLAgentClearCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLAgentClearCacheNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLAgentClearCacheNodeRequest newNodeRequest(MLAgentClearCacheNodesRequest request) {
+        return new MLAgentClearCacheNodeRequest(request);
+    }
+
+    @Override
+    protected MLAgentClearCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLAgentClearCacheNodeResponse(in);
+    }
+
+    @Override
+    protected MLAgentClearCacheNodeResponse nodeOperation(MLAgentClearCacheNodeRequest request) {
+        String agentId = request.getClearCacheNodesRequest().getAgentId();
+        agentCache.invalidate(agentId);
+        log.debug("Cleared agent {} from agent cache on node {}", agentId, clusterService.localNode().getId());
+        return new MLAgentClearCacheNodeResponse(clusterService.localNode());
+    }
+}
@@ -8,6 +8,7 @@ package org.opensearch.ml.action.agents;
 import static org.opensearch.ml.common.CommonValue.ML_AGENT_INDEX;
 
 import org.opensearch.action.ActionRequest;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.support.ActionFilters;
@@ -17,6 +18,8 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheAction;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesRequest;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteRequest;
 import org.opensearch.tasks.Task;
@@ -53,7 +56,11 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
                 @Override
                 public void onResponse(DeleteResponse deleteResponse) {
                     log.debug("Completed Delete Agent Request, agent id:{} deleted", agentId);
-                    wrappedListener.onResponse(deleteResponse);
+                    if (deleteResponse.getResult() == DocWriteResponse.Result.DELETED) {
+                        clearAgentCache(agentId, deleteResponse, wrappedListener);
+                    } else {
+                        wrappedListener.onResponse(deleteResponse);
+                    }
                 }
 
                 @Override
@@ -67,4 +74,19 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
             actionListener.onFailure(e);
         }
     }
+
+    private void clearAgentCache(String agentId, DeleteResponse deleteResponse, ActionListener<DeleteResponse> listener) {
+        // no node ids means all nodes
+        MLAgentClearCacheNodesRequest clearCacheRequest = new MLAgentClearCacheNodesRequest(new String[0], agentId);
+        client.execute(MLAgentClearCacheAction.INSTANCE, clearCacheRequest, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.warn("Failed to clear agent {} from agent cache on nodes {}", agentId, r.failures());
+            }
+            listener.onResponse(deleteResponse);
+        }, e -> {
+            // the agent is deleted, nodes which still cache it drop it when the cache entry expires
+            log.warn("Failed to clear agent " + agentId + " from agent cache", e);
+            listener.onResponse(deleteResponse);
+        }));
+    }
 }
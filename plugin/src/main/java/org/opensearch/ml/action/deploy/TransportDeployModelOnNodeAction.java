@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.FailedNodeException;
@@ -22,6 +23,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -35,6 +37,9 @@ import org.opensearch.ml.common.transport.deploy.MLDeployModelNodeResponse;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelNodesRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelNodesResponse;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelOnNodeAction;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkRequest;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkResponse;
 import org.opensearch.ml.common.transport.forward.MLForwardAction;
 import org.opensearch.ml.common.transport.forward.MLForwardInput;
 import org.opensearch.ml.common.transport.forward.MLForwardRequest;
@@ -46,13 +51,19 @@ import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class TransportDeployModelOnNodeAction extends
     TransportNodesAction<MLDeployModelNodesRequest, MLDeployModelNodesResponse, MLDeployModelNodeRequest, MLDeployModelNodeResponse> {
+    // the first chunk request waits until peer node retrieves the whole model artifact
+    public static final TimeValue PEER_ARTIFACT_REQUEST_TIMEOUT = TimeValue.timeValueMinutes(10);
+
     TransportService transportService;
     ModelHelper modelHelper;
     MLTaskManager mlTaskManager;
@@ -209,6 +220,47 @@ public class TransportDeployModelOnNodeAction extends
         return null;
     }
 
+    /**
+     * Worker nodes retrieve model artifact from each other in a binary tree to avoid reading model chunks from model
+     * index on every worker node. The first worker node reads model chunks from model index, and the i-th worker node
+     * reads model artifact from the ((i - 1) / 2)-th worker node. All worker nodes get the same worker node list of
+     * the deploy task, so they build the same tree.
+     * @return reader of model artifact chunks from peer node, null if this node should read model index directly
+     */
+    @VisibleForTesting
+    BiConsumer<Integer, ActionListener<MLModelArtifactChunkResponse>> getPeerChunkReader(
+        MLTask mlTask,
+        String modelContentHash,
+        String localNodeId
+    ) {
+        List<String> workerNodes = mlTask.getWorkerNodes();
+        if (modelContentHash == null || workerNodes == null) {
+            return null;
+        }
+        int index = workerNodes.indexOf(localNodeId);
+        if (index <= 0) {
+            return null;
+        }
+        DiscoveryNode peerNode = getNodeById(workerNodes.get((index - 1) / 2));
+        if (peerNode == null) {
+            return null;
+        }
+        TransportRequestOptions options = TransportRequestOptions.builder().withTimeout(PEER_ARTIFACT_REQUEST_TIMEOUT).build();
+        return (chunkNumber, listener) -> {
+            MLModelArtifactChunkRequest request = new MLModelArtifactChunkRequest(modelContentHash, chunkNumber);
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                transportService
+                    .sendRequest(
+                        peerNode,
+                        MLModelArtifactChunkAction.NAME,
+                        request,
+                        options,
+                        new ActionListenerResponseHandler<>(listener, MLModelArtifactChunkResponse::new)
+                    );
+            }
+        };
+    }
+
     private void deployModel(
         String modelId,
         String modelContentHash,
@@ -222,11 +274,19 @@ public class TransportDeployModelOnNodeAction extends
         try {
             log.debug("start deploying model {}", modelId);
             mlModelManager
-                .deployModel(modelId, modelContentHash, functionName, deployToAllNodes, mlTask, ActionListener.runBefore(listener, () -> {
-                    if (!coordinatingNodeId.equals(localNodeId)) {
-                        mlTaskManager.remove(mlTask.getTaskId());
-                    }
-                }));
+                .deployModel(
+                    modelId,
+                    modelContentHash,
+                    functionName,
+                    deployToAllNodes,
+                    mlTask,
+                    getPeerChunkReader(mlTask, modelContentHash, localNodeId),
+                    ActionListener.runBefore(listener, () -> {
+                        if (!coordinatingNodeId.equals(localNodeId)) {
+                            mlTaskManager.remove(mlTask.getTaskId());
+                        }
+                    })
+                );
         } catch (Exception e) {
             logException("Failed to deploy model " + modelId, e, log);
             listener.onFailure(e);
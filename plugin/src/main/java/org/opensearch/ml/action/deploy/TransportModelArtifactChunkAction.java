@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.deploy;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkRequest;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Serves model artifact chunks in node local model artifact cache to peer nodes which are deploying the same model.
+ */
+@Log4j2
+public class TransportModelArtifactChunkAction extends HandledTransportAction<MLModelArtifactChunkRequest, MLModelArtifactChunkResponse> {
+    private final MLModelManager mlModelManager;
+
+    @Inject
+    public TransportModelArtifactChunkAction(TransportService transportService, ActionFilters actionFilters, MLModelManager mlModelManager) {
+        super(MLModelArtifactChunkAction.NAME, transportService, actionFilters, MLModelArtifactChunkRequest::new);
+        this.mlModelManager = mlModelManager;
+    }
+
+    @Override
+    protected void doExecute(Task task, MLModelArtifactChunkRequest request, ActionListener<MLModelArtifactChunkResponse> listener) {
+        log.debug("Read chunk {} of model artifact {} for peer node", request.getChunkNumber(), request.getModelContentHash());
+        mlModelManager.readModelArtifactChunk(request.getModelContentHash(), request.getChunkNumber(), listener);
+    }
+}
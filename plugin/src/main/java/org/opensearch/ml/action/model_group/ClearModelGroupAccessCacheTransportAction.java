@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.model_group;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodeRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodeResponse;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class ClearModelGroupAccessCacheTransportAction extends
+    TransportNodesAction<
+        MLModelGroupClearAccessCacheNodesRequest,
+        MLModelGroupClearAccessCacheNodesResponse,
+        MLModelGroupClearAccessCacheNodeRequest,
+        MLModelGroupClearAccessCacheNodeResponse> {
+    private final ClusterService clusterService;
+    private final ModelAccessControlHelper modelAccessControlHelper;
+
+    @Inject
+    public ClearModelGroupAccessCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        ModelAccessControlHelper modelAccessControlHelper
+    ) {
+        super(
+            MLModelGroupClearAccessCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLModelGroupClearAccessCacheNodesRequest::new,
+            MLModelGroupClearAccessCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLModelGroupClearAccessCacheNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+    }
+
+    @Override
+    protected MLModelGroupClearAccessCacheNodesResponse newResponse(
+        MLModelGroupClearAccessCacheNodesRequest nodesRequest,
+        List<MLModelGroupClearAccessCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLModelGroupClearAccessCacheNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLModelGroupClearAccessCacheNodeRequest newNodeRequest(MLModelGroupClearAccessCacheNodesRequest request) {
+        return new MLModelGroupClearAccessCacheNodeRequest(request);
+    }
+
+    @Override
+    protected MLModelGroupClearAccessCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLModelGroupClearAccessCacheNodeResponse(in);
+    }
+
+    @Override
+    protected MLModelGroupClearAccessCacheNodeResponse nodeOperation(MLModelGroupClearAccessCacheNodeRequest request) {
+        String modelGroupId = request.getClearCacheNodesRequest().getModelGroupId();
+        modelAccessControlHelper.invalidateModelGroupAccess(modelGroupId);
+        log.debug("Cleared access cache of model group {} on node {}", modelGroupId, clusterService.localNode().getId());
+        return new MLModelGroupClearAccessCacheNodeResponse(clusterService.localNode());
+    }
+}
@@ -109,7 +109,7 @@ public class DeleteModelGroupTransportAction extends HandledTransportAction<Acti
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
                 log.debug("Completed Delete Model Group Request, task id:{} deleted", modelGroupId);
-                actionListener.onResponse(deleteResponse);
+                modelAccessControlHelper.clearModelGroupAccessCache(modelGroupId, client, deleteResponse, actionListener);
             }
 
             @Override
@@ -99,7 +99,7 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
                     FunctionName functionName = mlModel.getAlgorithm();
                     mlPredictionTaskRequest.getMlInput().setAlgorithm(functionName);
                     modelAccessControlHelper
-                        .validateModelGroupAccess(userInfo, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
+                        .validateCachedModelGroupAccess(userInfo, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
                             if (!access) {
                                 wrappedListener
                                     .onFailure(
@@ -41,6 +41,7 @@ import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskCache;
+import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -66,6 +67,7 @@ public class TransportSyncUpOnNodeAction extends
     private volatile Integer mlTaskTimeout;
 
     private final MLModelCacheHelper mlModelCacheHelper;
+    private final MLTaskDispatcher mlTaskDispatcher;
 
     @Inject
     public TransportSyncUpOnNodeAction(
@@ -80,7 +82,8 @@ public class TransportSyncUpOnNodeAction extends
         Client client,
         NamedXContentRegistry xContentRegistry,
         MLEngine mlEngine,
-        MLModelCacheHelper mlModelCacheHelper
+        MLModelCacheHelper mlModelCacheHelper,
+        MLTaskDispatcher mlTaskDispatcher
     ) {
         super(
             MLSyncUpAction.NAME,
@@ -103,6 +106,7 @@ public class TransportSyncUpOnNodeAction extends
         this.xContentRegistry = xContentRegistry;
         this.mlEngine = mlEngine;
         this.mlModelCacheHelper = mlModelCacheHelper;
+        this.mlTaskDispatcher = mlTaskDispatcher;
 
         this.mlTaskTimeout = ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS, it -> { mlTaskTimeout = it; });
@@ -156,6 +160,7 @@ public class TransportSyncUpOnNodeAction extends
                         Optional.ofNullable(deployToAllNodes).orElse(ImmutableMap.of()).containsKey(entry.getKey()),
                         entry.getValue()
                     );
+                mlTaskDispatcher.removePredictLatency(entry.getKey(), entry.getValue());
             }
         }
 
@@ -171,11 +176,13 @@ public class TransportSyncUpOnNodeAction extends
 
         if (syncUpInput.isClearRoutingTable()) {
             mlModelManager.clearRoutingTable();
+            mlTaskDispatcher.syncPredictLatency(ImmutableMap.of());
         } else if (modelRoutingTable != null) {
             for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
                 log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
             mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+            mlTaskDispatcher.syncPredictLatency(modelRoutingTable);
         }
 
         cleanUpLocalCache(runningDeployModelTasks);
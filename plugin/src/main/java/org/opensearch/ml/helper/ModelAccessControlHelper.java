@@ -9,17 +9,23 @@ package org.opensearch.ml.helper;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
 
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.lucene.search.join.ScoreMode;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
@@ -43,23 +49,37 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesRequest;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import com.google.common.collect.ImmutableList;
 
+import lombok.EqualsAndHashCode;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class ModelAccessControlHelper {
 
+    // max number of cached model group access decisions
+    public static final int MODEL_GROUP_ACCESS_CACHE_SIZE = 10_000;
+
     private volatile Boolean modelAccessControlEnabled;
+    private volatile Cache<ModelGroupAccessKey, Boolean> modelGroupAccessCache;
 
     public ModelAccessControlHelper(ClusterService clusterService, Settings settings) {
         modelAccessControlEnabled = ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.get(settings);
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED, it -> modelAccessControlEnabled = it);
+        modelGroupAccessCache = buildModelGroupAccessCache(ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS,
+                it -> modelGroupAccessCache = buildModelGroupAccessCache(it)
+            );
     }
 
     private static final List<Class<?>> SUPPORTED_QUERY_TYPES = ImmutableList
@@ -139,6 +159,83 @@ public class ModelAccessControlHelper {
         }
     }
 
+    /**
+     * Same as {@link #validateModelGroupAccess(User, String, Client, ActionListener)}, but reuses the access decision
+     * of the same user and model group made within plugins.ml_commons.model_access_control_cache_ttl_in_seconds.
+     * This is for hot paths like predict, which check access of the same model group repeatedly.
+     */
+    public void validateCachedModelGroupAccess(User user, String modelGroupId, Client client, ActionListener<Boolean> listener) {
+        Cache<ModelGroupAccessKey, Boolean> cache = modelGroupAccessCache;
+        if (cache == null || modelGroupId == null || isAdmin(user) || !isSecurityEnabledAndModelAccessControlEnabled(user)) {
+            validateModelGroupAccess(user, modelGroupId, client, listener);
+            return;
+        }
+        ModelGroupAccessKey key = new ModelGroupAccessKey(modelGroupId, user);
+        Boolean access = cache.get(key);
+        if (access != null) {
+            listener.onResponse(access);
+            return;
+        }
+        validateModelGroupAccess(user, modelGroupId, client, ActionListener.wrap(r -> {
+            cache.put(key, r);
+            listener.onResponse(r);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Drop cached access decisions of model group on all nodes, should be called when model group is updated or deleted.
+     * The response is passed to the listener once the nodes are done, a failure to clear the cache is only logged, as
+     * nodes which missed it drop the decisions when they expire.
+     * @param modelGroupId model group id
+     * @param client client to broadcast the clear cache request with
+     * @param response response of the update or delete
+     * @param listener action listener
+     */
+    public <T> void clearModelGroupAccessCache(String modelGroupId, Client client, T response, ActionListener<T> listener) {
+        // no node ids means all nodes
+        MLModelGroupClearAccessCacheNodesRequest clearCacheRequest = new MLModelGroupClearAccessCacheNodesRequest(
+            new String[0],
+            modelGroupId
+        );
+        client.execute(MLModelGroupClearAccessCacheAction.INSTANCE, clearCacheRequest, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.warn("Failed to clear access cache of model group {} on nodes {}", modelGroupId, r.failures());
+            }
+            listener.onResponse(response);
+        }, e -> {
+            log.warn("Failed to clear access cache of model group " + modelGroupId, e);
+            listener.onResponse(response);
+        }));
+    }
+
+    /**
+     * Drop cached access decisions of model group on this node.
+     * @param modelGroupId model group id
+     */
+    public void invalidateModelGroupAccess(String modelGroupId) {
+        Cache<ModelGroupAccessKey, Boolean> cache = modelGroupAccessCache;
+        if (cache == null) {
+            return;
+        }
+        Iterator<ModelGroupAccessKey> iterator = cache.keys().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().modelGroupId.equals(modelGroupId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private Cache<ModelGroupAccessKey, Boolean> buildModelGroupAccessCache(int ttlInSeconds) {
+        if (ttlInSeconds <= 0) {
+            return null;
+        }
+        return CacheBuilder
+            .<ModelGroupAccessKey, Boolean>builder()
+            .setMaximumWeight(MODEL_GROUP_ACCESS_CACHE_SIZE)
+            .setExpireAfterWrite(TimeValue.timeValueSeconds(ttlInSeconds))
+            .build();
+    }
+
     public boolean skipModelAccessControl(User user) {
         // Case 1: user == null when 1. Security is disabled. 2. When user is super-admin
         // Case 2: If Security is enabled and filter is disabled, proceed with search as
@@ -232,4 +329,18 @@ public class ModelAccessControlHelper {
     public SearchSourceBuilder createSearchSourceBuilder(User user) {
         return addUserBackendRolesFilter(user, new SearchSourceBuilder());
     }
+
+    // decision depends on user name for private model group and on backend roles for restricted model group
+    @EqualsAndHashCode
+    private static class ModelGroupAccessKey {
+        private final String modelGroupId;
+        private final String userName;
+        private final Set<String> backendRoles;
+
+        ModelGroupAccessKey(String modelGroupId, User user) {
+            this.modelGroupId = modelGroupId;
+            this.userName = user.getName();
+            this.backendRoles = user.getBackendRoles() == null ? Set.of() : Set.copyOf(user.getBackendRoles());
+        }
+    }
 }
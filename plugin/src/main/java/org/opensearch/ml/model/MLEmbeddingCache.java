@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLStats;
+
+import lombok.EqualsAndHashCode;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level LRU cache of embedding results, keyed by model id, content hash of input text and result filter.
+ * Only models listed in plugins.ml_commons.embedding_cache_models are cached. Cached results are serialized, so
+ * every request gets its own copy and the cache size is bounded by actual result bytes. Results of a model are
+ * invalidated when the model is undeployed or updated.
+ */
+@Log4j2
+public class MLEmbeddingCache {
+    // functions which return one model tensors per text doc, so the result of a doc doesn't depend on other docs.
+    // Remote models are not cached, they may return one model tensors for a chunk of docs.
+    public static final Set<FunctionName> CACHEABLE_FUNCTIONS = Set
+        .of(FunctionName.TEXT_EMBEDDING, FunctionName.SPARSE_ENCODING, FunctionName.SPARSE_TOKENIZE);
+
+    private final MLStats mlStats;
+    private volatile Cache<CacheKey, BytesReference> cache;
+    private volatile Set<String> enabledModelIds;
+
+    public MLEmbeddingCache(long maxSizeInBytes, List<String> enabledModelIds, MLStats mlStats) {
+        this.mlStats = mlStats;
+        this.enabledModelIds = Set.copyOf(enabledModelIds);
+        this.cache = buildCache(maxSizeInBytes);
+    }
+
+    /**
+     * Resize cache. All cached results are dropped.
+     * @param maxSizeInBytes max total size of cached results, 0 disables cache
+     */
+    public void setMaxSizeInBytes(long maxSizeInBytes) {
+        Cache<CacheKey, BytesReference> oldCache = cache;
+        cache = buildCache(maxSizeInBytes);
+        if (oldCache != null) {
+            oldCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Set models whose results are cached. Cached results of other models are dropped.
+     * @param modelIds model ids
+     */
+    public void setEnabledModelIds(List<String> modelIds) {
+        Set<String> oldModelIds = enabledModelIds;
+        enabledModelIds = Set.copyOf(modelIds);
+        for (String modelId : oldModelIds) {
+            if (!enabledModelIds.contains(modelId)) {
+                invalidate(modelId);
+            }
+        }
+    }
+
+    public boolean isEnabled(String modelId, FunctionName functionName) {
+        return cache != null && CACHEABLE_FUNCTIONS.contains(functionName) && enabledModelIds.contains(modelId);
+    }
+
+    /**
+     * Get cached result of one text doc.
+     * @param modelId model id
+     * @param resultFilter result filter of predict request
+     * @param doc text doc
+     * @return model tensors of the doc, or null if not cached
+     */
+    public ModelTensors get(String modelId, ModelResultFilter resultFilter, String doc) {
+        Cache<CacheKey, BytesReference> currentCache = cache;
+        BytesReference bytes = currentCache == null ? null : currentCache.get(new CacheKey(modelId, resultFilter, doc));
+        MLActionLevelStat stat = bytes == null ? MLActionLevelStat.ML_ACTION_CACHE_MISS_COUNT : MLActionLevelStat.ML_ACTION_CACHE_HIT_COUNT;
+        mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, stat).increment();
+        if (bytes == null) {
+            return null;
+        }
+        try (StreamInput in = bytes.streamInput()) {
+            return new ModelTensors(in);
+        } catch (IOException e) {
+            log.error("Failed to read cached embedding of model {}", modelId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Cache result of one text doc.
+     * @param modelId model id
+     * @param resultFilter result filter of predict request
+     * @param doc text doc
+     * @param modelTensors model tensors of the doc
+     */
+    public void put(String modelId, ModelResultFilter resultFilter, String doc, ModelTensors modelTensors) {
+        Cache<CacheKey, BytesReference> currentCache = cache;
+        if (currentCache == null) {
+            return;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            modelTensors.writeTo(out);
+            currentCache.put(new CacheKey(modelId, resultFilter, doc), out.bytes());
+        } catch (IOException e) {
+            log.error("Failed to cache embedding of model {}", modelId, e);
+        }
+    }
+
+    public void invalidate(String modelId) {
+        Cache<CacheKey, BytesReference> currentCache = cache;
+        if (currentCache == null) {
+            return;
+        }
+        Iterator<CacheKey> iterator = currentCache.keys().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().modelId.equals(modelId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private Cache<CacheKey, BytesReference> buildCache(long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            return null;
+        }
+        return CacheBuilder
+            .<CacheKey, BytesReference>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((key, bytes) -> key.sizeInBytes() + bytes.length())
+            .removalListener(notification -> {
+                if (notification.getRemovalReason() == RemovalReason.EVICTED) {
+                    mlStats
+                        .createModelCounterStatIfAbsent(
+                            notification.getKey().modelId,
+                            ActionName.PREDICT,
+                            MLActionLevelStat.ML_ACTION_CACHE_EVICTION_COUNT
+                        )
+                        .increment();
+                }
+            })
+            .build();
+    }
+
+    @EqualsAndHashCode
+    private static class CacheKey {
+        private final String modelId;
+        private final String resultFilter;
+        private final String docHash;
+
+        CacheKey(String modelId, ModelResultFilter resultFilter, String doc) {
+            this.modelId = modelId;
+            this.resultFilter = resultFilter == null
+                ? ""
+                : String
+                    .format(
+                        Locale.ROOT,
+                        "%s/%s/%s/%s",
+                        resultFilter.isReturnBytes(),
+                        resultFilter.isReturnNumber(),
+                        resultFilter.getTargetResponse(),
+                        resultFilter.getTargetResponsePositions()
+                    );
+            this.docHash = hash(doc);
+        }
+
+        long sizeInBytes() {
+            return 2L * (modelId.length() + resultFilter.length() + docHash.length());
+        }
+
+        private static String hash(String doc) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return Base64.getEncoder().encodeToString(digest.digest(doc.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+    }
+}
@@ -43,6 +43,8 @@ public class MLModelCache {
     private MLModel modelInfo;
     private final Queue<Double> modelInferenceDurationQueue;
     private final Queue<Double> predictRequestDurationQueue;
+    private final Queue<Double> microBatchSizeQueue;
+    private final Queue<Double> microBatchQueueDelayQueue;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
 
@@ -55,6 +57,8 @@ public class MLModelCache {
         workerNodes = ConcurrentHashMap.newKeySet();
         modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
         predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        microBatchSizeQueue = new ConcurrentLinkedQueue<>();
+        microBatchQueueDelayQueue = new ConcurrentLinkedQueue<>();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -155,6 +159,8 @@ public class MLModelCache {
         modelInfo = null;
         modelInferenceDurationQueue.clear();
         predictRequestDurationQueue.clear();
+        microBatchSizeQueue.clear();
+        microBatchQueueDelayQueue.clear();
         if (predictor != null) {
             predictor.close();
         }
@@ -176,6 +182,19 @@ public class MLModelCache {
         addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
     }
 
+    /**
+     * Add stats of one micro-batch of predict requests.
+     * @param batchSize size of the batch
+     * @param queueDelaysInMillis time each request of the batch waited in queue
+     * @param maxRequestCount max number of recent values to keep
+     */
+    public void addMicroBatch(int batchSize, double[] queueDelaysInMillis, long maxRequestCount) {
+        addInferenceDuration(batchSize, maxRequestCount, microBatchSizeQueue);
+        for (double queueDelay : queueDelaysInMillis) {
+            addInferenceDuration(queueDelay, maxRequestCount, microBatchQueueDelayQueue);
+        }
+    }
+
     private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
         resizeInferenceQueue(maxRequestCount, queue);
         if (maxRequestCount > 0) {
@@ -187,6 +206,8 @@ public class MLModelCache {
         log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
         resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
         resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+        resizeInferenceQueue(maxRequestCount, microBatchSizeQueue);
+        resizeInferenceQueue(maxRequestCount, microBatchQueueDelayQueue);
     }
 
     private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
@@ -200,7 +221,18 @@ public class MLModelCache {
     }
 
     public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
+        return getStats(modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue);
+    }
+
+    public MLPredictRequestStats getMicroBatchSizeStats() {
+        return getStats(microBatchSizeQueue);
+    }
+
+    public MLPredictRequestStats getMicroBatchQueueDelayStats() {
+        return getStats(microBatchQueueDelayQueue);
+    }
+
+    private MLPredictRequestStats getStats(Queue<Double> queue) {
         if (queue.size() > 0) {
             MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
             DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
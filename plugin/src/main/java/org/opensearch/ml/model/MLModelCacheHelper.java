@@ -304,6 +304,12 @@ public class MLModelCacheHelper {
     public synchronized void setPredictor(String modelId, Predictable predictor) {
         MLModelCache modelCache = getExistingModelCache(modelId);
         modelCache.setPredictor(predictor);
+        if (predictor != null) {
+            predictor
+                .setMicroBatchStatsListener(
+                    (batchSize, queueDelaysInMillis) -> modelCache.addMicroBatch(batchSize, queueDelaysInMillis, maxRequestCount)
+                );
+        }
     }
 
     public synchronized void setMLExecutor(String modelId, MLExecutable mlExecutor) {
@@ -506,6 +512,8 @@ public class MLModelCacheHelper {
         }
         builder.modelInferenceStats(modelCache.getInferenceStats(true));
         builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.microBatchSizeStats(modelCache.getMicroBatchSizeStats());
+        builder.microBatchQueueDelayStats(modelCache.getMicroBatchQueueDelayStats());
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
         return builder.build();
@@ -33,13 +33,15 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_MODELS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
@@ -47,9 +49,13 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
@@ -58,11 +64,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -91,6 +97,8 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.CommonValue;
@@ -110,15 +118,17 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkResponse;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.engine.utils.OrderedChunkFileWriter;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -135,6 +145,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
 
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -146,6 +157,10 @@ public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
     public static final long MODEL_FILE_SIZE_LIMIT = 4l * 1024 * 1024 * 1024;// 4GB
+    // max number of model chunks retrieved ahead of the next chunk to write into model zip file
+    public static final int MODEL_CHUNK_RETRIEVAL_WINDOW = 3;
+    // model content hash -> peer nodes waiting for the model artifact being retrieved on this node
+    private final Map<String, List<ActionListener<File>>> pendingModelArtifacts = new HashMap<>();
 
     private final Client client;
     private final ClusterService clusterService;
@@ -160,6 +175,10 @@ public class MLModelManager {
     private final MLIndicesHandler mlIndicesHandler;
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
+    @Getter
+    private final MLTrainedModelCache trainedModelCache;
+    @Getter
+    private final MLEmbeddingCache embeddingCache;
     private final DiscoveryNodeHelper nodeHelper;
 
     private volatile Integer maxModelPerNode;
@@ -218,6 +237,26 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE, it -> maxDeployTasksPerNode = it);
+
+        trainedModelCache = new MLTrainedModelCache(ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB,
+                it -> trainedModelCache.setMaxSizeInBytes(it * 1024L * 1024L)
+            );
+
+        embeddingCache = new MLEmbeddingCache(
+            ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L,
+            ML_COMMONS_EMBEDDING_CACHE_MODELS.get(settings),
+            mlStats
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB, it -> embeddingCache.setMaxSizeInBytes(it * 1024L * 1024L));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_EMBEDDING_CACHE_MODELS, embeddingCache::setEnabledModelIds);
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -936,6 +975,28 @@ public class MLModelManager {
         boolean deployToAllNodes,
         MLTask mlTask,
         ActionListener<String> listener
+    ) {
+        deployModel(modelId, modelContentHash, functionName, deployToAllNodes, mlTask, null, listener);
+    }
+
+    /**
+     * Deploy model. Model chunks are read from peer node first if peer chunk reader is provided.
+     *
+     * @param modelId          model id
+     * @param modelContentHash model content hash value
+     * @param functionName     function name
+     * @param mlTask           ML task
+     * @param peerChunkReader  reads model artifact chunks from peer node, null if no peer node
+     * @param listener         action listener
+     */
+    public void deployModel(
+        String modelId,
+        String modelContentHash,
+        FunctionName functionName,
+        boolean deployToAllNodes,
+        MLTask mlTask,
+        BiConsumer<Integer, ActionListener<MLModelArtifactChunkResponse>> peerChunkReader,
+        ActionListener<String> listener
     ) {
         mlStats.createCounterStatIfAbsent(functionName, ActionName.DEPLOY, ML_ACTION_REQUEST_COUNT).increment();
         mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
@@ -992,17 +1053,14 @@ public class MLModelManager {
 
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
+                String contentHash = modelContentHash != null ? modelContentHash : mlModel.getModelContentHash();
+                File cachedModelZipFile = mlEngine.getModelArtifactCache().get(contentHash);
+                if (cachedModelZipFile == null) {
+                    releaseModelArtifactCacheIfDiskBreakerOpen();
+                }
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
-                    if (modelContentHash != null && !modelContentHash.equals(hash)) {
-                        log.error("Model content hash can't match original hash value");
-                        removeModel(modelId);
-                        wrappedListener.onFailure(new IllegalArgumentException("model content changed"));
-                        return;
-                    }
-                    log.debug("Model content matches original hash value, continue deploying");
+                ActionListener<File> deployListener = ActionListener.wrap(modelZipFile -> {
                     Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
@@ -1037,7 +1095,21 @@ public class MLModelManager {
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
                     handleDeployModelException(modelId, functionName, wrappedListener, e);
-                }));
+                });
+                // the model zip file is unzipped while deploying, so the cached file can be evicted after it
+                ActionListener<File> modelZipFileListener = ActionListener.wrap(modelZipFile -> {
+                    try {
+                        deployListener.onResponse(modelZipFile);
+                    } finally {
+                        mlEngine.getModelArtifactCache().release(modelZipFile);
+                    }
+                }, deployListener::onFailure);
+                if (cachedModelZipFile != null) {
+                    log.info("Deploy model {} from cached model artifact {}", modelId, contentHash);
+                    modelZipFileListener.onResponse(cachedModelZipFile);
+                } else {
+                    retrieveModelArtifact(mlModel, modelContentHash, peerChunkReader, modelZipFileListener);
+                }
             }, e -> {
                 log.error("Failed to deploy model " + modelId, e);
                 handleDeployModelException(modelId, functionName, wrappedListener, e);
@@ -1123,6 +1195,8 @@ public class MLModelManager {
             ActionListener<String> wrappedListener = ActionListener.runBefore(listener, context::restore);
             getModel(modelId, ActionListener.wrap(mlModel -> {
                 int eligibleNodeCount = getWorkerNodes(modelId, mlModel.getAlgorithm()).length;
+                // updated model may return different results, e.g. with new connector
+                embeddingCache.invalidate(modelId);
                 modelCacheHelper.setIsModelEnabled(modelId, mlModel.getIsEnabled());
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 if (mlModel.getAlgorithm() == FunctionName.REMOTE) {
@@ -1518,47 +1592,287 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
-     * 
-     * @param mlModelMeta model meta
-     * @param listener    action listener
+     * Delete least recently used model artifacts from the node local cache until disk circuit breaker is closed.
+     */
+    private void releaseModelArtifactCacheIfDiskBreakerOpen() {
+        CircuitBreaker diskBreaker = mlCircuitBreakerService.getBreaker(BreakerName.DISK);
+        while (diskBreaker != null && diskBreaker.isOpen() && mlEngine.getModelArtifactCache().evictLeastRecentlyUsed()) {
+            log.info("Evicted least recently used model artifact as disk circuit breaker is open");
+        }
+    }
+
+    /**
+     * Retrieve model zip file of a model. It's read from peer node if peer chunk reader is provided, and falls back
+     * to model chunks in model index if failed. Peer nodes which ask for the same model artifact while it's being
+     * retrieved wait until it's retrieved.
+     * @param mlModelMeta model meta data
+     * @param modelContentHash expected hash value of model content, not verified if null
+     * @param peerChunkReader reads model artifact chunks from peer node, null if no peer node
+     * @param listener action listener of model zip file
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelArtifact(
+        MLModel mlModelMeta,
+        String modelContentHash,
+        BiConsumer<Integer, ActionListener<MLModelArtifactChunkResponse>> peerChunkReader,
+        ActionListener<File> listener
+    ) {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
-            }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
+        ActionListener<File> artifactListener = listener;
+        if (modelContentHash != null && addPendingModelArtifact(modelContentHash)) {
+            artifactListener = new ActionListener<>() {
+                @Override
+                public void onResponse(File modelZipFile) {
+                    completePendingModelArtifact(modelContentHash, modelZipFile, null);
                     listener.onResponse(modelZipFile);
                 }
-                semaphore.release();
+
+                @Override
+                public void onFailure(Exception e) {
+                    completePendingModelArtifact(modelContentHash, null, e);
+                    listener.onFailure(e);
+                }
+            };
+        }
+        if (peerChunkReader == null || modelContentHash == null) {
+            retrieveModelChunks(mlModelMeta, modelContentHash, artifactListener);
+            return;
+        }
+        ActionListener<File> indexFallbackListener = artifactListener;
+        retrieveModelChunksFromPeer(mlModelMeta, modelContentHash, peerChunkReader, new ActionListener<>() {
+            @Override
+            public void onResponse(File modelZipFile) {
+                log.info("Retrieved model {} from peer node", modelId);
+                indexFallbackListener.onResponse(modelZipFile);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                log.warn("Failed to retrieve model " + modelId + " from peer node, retrieve model chunks from index", e);
+                retrieveModelChunks(mlModelMeta, modelContentHash, indexFallbackListener);
+            }
+        });
+    }
+
+    private boolean addPendingModelArtifact(String modelContentHash) {
+        synchronized (pendingModelArtifacts) {
+            if (pendingModelArtifacts.containsKey(modelContentHash)) {
+                return false;
+            }
+            pendingModelArtifacts.put(modelContentHash, new ArrayList<>());
+            return true;
+        }
+    }
+
+    private void completePendingModelArtifact(String modelContentHash, File modelZipFile, Exception e) {
+        List<ActionListener<File>> listeners;
+        synchronized (pendingModelArtifacts) {
+            listeners = pendingModelArtifacts.remove(modelContentHash);
+        }
+        if (listeners == null) {
+            return;
+        }
+        for (ActionListener<File> listener : listeners) {
+            if (e == null) {
+                listener.onResponse(modelZipFile);
+            } else {
+                listener.onFailure(new MLResourceNotFoundException("Model artifact not found: " + modelContentHash));
+            }
+        }
+    }
+
+    /**
+     * Read one chunk of a model artifact in node local model artifact cache for peer nodes. Wait until it's
+     * retrieved if this node is retrieving it.
+     * @param modelContentHash model content hash
+     * @param chunkNumber chunk number starting from 0
+     * @param listener action listener of model artifact chunk
+     */
+    public void readModelArtifactChunk(String modelContentHash, int chunkNumber, ActionListener<MLModelArtifactChunkResponse> listener) {
+        synchronized (pendingModelArtifacts) {
+            List<ActionListener<File>> listeners = pendingModelArtifacts.get(modelContentHash);
+            if (listeners != null) {
+                // read it from cache once retrieved, so the file is pinned while reading
+                listeners
+                    .add(ActionListener.wrap(r -> readModelArtifactChunk(modelContentHash, chunkNumber, listener), listener::onFailure));
+                return;
+            }
+        }
+        ModelArtifactCache modelArtifactCache = mlEngine.getModelArtifactCache();
+        File modelZipFile = modelArtifactCache.get(modelContentHash);
+        if (modelZipFile == null) {
+            listener.onFailure(new MLResourceNotFoundException("Model artifact not found: " + modelContentHash));
+            return;
+        }
+        ActionListener<File> artifactListener = ActionListener.runAfter(ActionListener.wrap(file -> {
+            long fileSize = file.length();
+            int totalChunks = (int) ((fileSize + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            if (chunkNumber >= totalChunks) {
+                listener.onFailure(new IllegalArgumentException("Invalid chunk " + chunkNumber + " of model artifact " + modelContentHash));
+                return;
+            }
+            long position = (long) chunkNumber * CHUNK_SIZE;
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, fileSize - position));
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of model artifact " + modelContentHash);
+                    }
+                }
+            }
+            listener.onResponse(new MLModelArtifactChunkResponse(totalChunks, buffer.array()));
+        }, listener::onFailure), () -> modelArtifactCache.release(modelZipFile));
+        threadedActionListener(DEPLOY_THREAD_POOL, artifactListener).onResponse(modelZipFile);
+    }
+
+    /**
+     * Retrieve model chunks in model index.
+     * @param mlModelMeta model meta data
+     * @param modelContentHash expected hash value of model content, not verified if null
+     * @param listener action listener of model zip file
+     */
+    private void retrieveModelChunks(MLModel mlModelMeta, String modelContentHash, ActionListener<File> listener) {
+        String modelId = mlModelMeta.getModelId();
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader = (chunkNumber, chunkListener) -> {
+            String modelChunkId = this.getModelChunkId(modelId, chunkNumber);
+            this.getModel(modelChunkId, ActionListener.wrap(model -> {
+                chunkListener.onResponse(Base64.getDecoder().decode(model.getContent()));
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
                 log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
+                chunkListener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
+            }));
+        };
+        retrieveChunksToFile(mlModelMeta, mlModelMeta.getTotalChunks(), null, chunkReader, modelContentHash, listener);
+    }
+
+    /**
+     * Retrieve model artifact chunks from peer node. The first chunk tells how many chunks the model artifact has.
+     * @param mlModelMeta model meta data
+     * @param modelContentHash expected hash value of model content
+     * @param peerChunkReader reads model artifact chunks from peer node
+     * @param listener action listener of model zip file
+     */
+    private void retrieveModelChunksFromPeer(
+        MLModel mlModelMeta,
+        String modelContentHash,
+        BiConsumer<Integer, ActionListener<MLModelArtifactChunkResponse>> peerChunkReader,
+        ActionListener<File> listener
+    ) {
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader = (chunkNumber, chunkListener) -> peerChunkReader
+            .accept(chunkNumber, ActionListener.wrap(response -> chunkListener.onResponse(response.getData()), chunkListener::onFailure));
+        peerChunkReader
+            .accept(
+                0,
+                threadedActionListener(
+                    DEPLOY_THREAD_POOL,
+                    ActionListener
+                        .wrap(
+                            firstChunk -> retrieveChunksToFile(
+                                mlModelMeta,
+                                firstChunk.getTotalChunks(),
+                                firstChunk.getData(),
+                                chunkReader,
+                                modelContentHash,
+                                listener
+                            ),
+                            listener::onFailure
+                        )
+                )
+            );
+    }
+
+    /**
+     * Retrieve chunks with at most MODEL_CHUNK_RETRIEVAL_WINDOW chunks in memory, and write them directly into
+     * model zip file in order. The hash value of model zip file is calculated while writing it, and the verified
+     * model zip file is moved into node local model artifact cache.
+     * @param mlModelMeta model meta data
+     * @param totalChunks total number of chunks
+     * @param firstChunk data of first chunk if already retrieved
+     * @param chunkReader reads chunk data by chunk number
+     * @param modelContentHash expected hash value of model content, not verified if null
+     * @param listener action listener of model zip file
+     */
+    private void retrieveChunksToFile(
+        MLModel mlModelMeta,
+        int totalChunks,
+        byte[] firstChunk,
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader,
+        String modelContentHash,
+        ActionListener<File> listener
+    ) {
+        String modelId = mlModelMeta.getModelId();
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        OrderedChunkFileWriter chunkWriter;
+        boolean completed = false;
+        try {
+            chunkWriter = new OrderedChunkFileWriter(modelZipFile, totalChunks);
+            if (firstChunk != null) {
+                completed = chunkWriter.write(0, firstChunk);
+            }
+        } catch (Exception e) {
+            log.error("Failed to write model zip file of model " + modelId, e);
+            listener.onFailure(new MLException("Failed to deploy model", e));
+            return;
+        }
+        AtomicBoolean stopNow = new AtomicBoolean(false);
+        ActionListener<Boolean> chunksListener = ActionListener.wrap(r -> {
+            chunkWriter.close();
+            String hash = chunkWriter.getHash();
+            if (modelContentHash != null && !modelContentHash.equals(hash)) {
+                log.error("Model content hash can't match original hash value");
+                listener.onFailure(new IllegalArgumentException("model content changed"));
+                return;
+            }
+            log.debug("Model content matches original hash value, continue deploying");
+            listener.onResponse(mlEngine.getModelArtifactCache().put(hash, modelZipFile));
+        }, e -> {
+            chunkWriter.close();
+            listener.onFailure(e);
+        });
+        if (completed) {
+            chunksListener.onResponse(true);
+            return;
+        }
+        retrieveNextChunks(chunkReader, chunkWriter, new AtomicInteger(chunkWriter.getWrittenChunks()), stopNow, chunksListener);
+    }
+
+    private void retrieveNextChunks(
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader,
+        OrderedChunkFileWriter chunkWriter,
+        AtomicInteger nextChunk,
+        AtomicBoolean stopNow,
+        ActionListener<Boolean> listener
+    ) {
+        while (!stopNow.get()) {
+            int currentChunk = nextChunk.get();
+            if (currentChunk >= chunkWriter.getTotalChunks()
+                || currentChunk >= chunkWriter.getWrittenChunks() + MODEL_CHUNK_RETRIEVAL_WINDOW) {
+                return;
+            }
+            if (!nextChunk.compareAndSet(currentChunk, currentChunk + 1)) {
+                continue;
+            }
+            chunkReader.accept(currentChunk, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(data -> {
+                if (stopNow.get()) {
+                    return;
+                }
+                boolean completed;
+                try {
+                    completed = chunkWriter.write(currentChunk, data);
+                } catch (Exception e) {
+                    if (stopNow.compareAndSet(false, true)) {
+                        log.error("Failed to write model chunk " + currentChunk, e);
+                        listener.onFailure(new MLException("Failed to deploy model", e));
+                    }
+                    return;
+                }
+                if (completed) {
+                    listener.onResponse(true);
+                } else {
+                    retrieveNextChunks(chunkReader, chunkWriter, nextChunk, stopNow, listener);
+                }
+            }, e -> {
+                if (stopNow.compareAndSet(false, true)) {
+                    listener.onFailure(e);
                 }
             })));
         }
@@ -1705,6 +2019,7 @@ public class MLModelManager {
 
     private void removeModel(String modelId) {
         modelCacheHelper.removeModel(modelId);
+        embeddingCache.invalidate(modelId);
         modelHelper.deleteFileCache(modelId);
     }
 
@@ -1803,10 +2118,19 @@ public class MLModelManager {
     public <T> T trackPredictDuration(String modelId, Supplier<T> supplier) {
         long start = System.nanoTime();
         T t = supplier.get();
+        trackPredictDuration(modelId, start);
+        return t;
+    }
+
+    /**
+     * Track the inference duration of a prediction which started at the given time and just completed.
+     * @param modelId model id
+     * @param startTime start time of the prediction from {@link System#nanoTime()}
+     */
+    public void trackPredictDuration(String modelId, long startTime) {
         long end = System.nanoTime();
-        double durationInMs = (end - start) / 1e6;
+        double durationInMs = (end - startTime) / 1e6;
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
-        return t;
     }
 
     public FunctionName getModelFunctionName(String modelId) {
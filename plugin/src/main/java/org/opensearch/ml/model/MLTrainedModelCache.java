@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.engine.Predictable;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level LRU cache of loaded models trained by built-in algorithms, which predict without deploying model.
+ * Cached model is only used if model document is not changed (same sequence number and primary term) and predict
+ * request has the same algorithm parameters, so updated or deleted model is never used.
+ */
+@Log4j2
+public class MLTrainedModelCache {
+    // algorithms which don't change model state when predict, so one loaded model can be shared by concurrent requests
+    public static final Set<FunctionName> CACHEABLE_ALGORITHMS = Set
+        .of(FunctionName.KMEANS, FunctionName.LINEAR_REGRESSION, FunctionName.LOGISTIC_REGRESSION, FunctionName.BATCH_RCF);
+
+    private volatile Cache<String, CachedModel> cache;
+
+    public MLTrainedModelCache(long maxSizeInBytes) {
+        this.cache = buildCache(maxSizeInBytes);
+    }
+
+    /**
+     * Resize cache. All cached models are dropped.
+     * @param maxSizeInBytes max total size of cached models, 0 disables cache
+     */
+    public void setMaxSizeInBytes(long maxSizeInBytes) {
+        Cache<String, CachedModel> oldCache = cache;
+        cache = buildCache(maxSizeInBytes);
+        if (oldCache != null) {
+            oldCache.invalidateAll();
+        }
+    }
+
+    public boolean isCacheable(FunctionName functionName) {
+        return cache != null && CACHEABLE_ALGORITHMS.contains(functionName);
+    }
+
+    public boolean contains(String modelId) {
+        Cache<String, CachedModel> currentCache = cache;
+        return currentCache != null && currentCache.get(modelId) != null;
+    }
+
+    /**
+     * Get cached model.
+     * @param modelId model id
+     * @param seqNo sequence number of model document
+     * @param primaryTerm primary term of model document
+     * @param params algorithm parameters of predict request
+     * @return loaded model, or null if not cached
+     */
+    public Predictable get(String modelId, long seqNo, long primaryTerm, MLAlgoParams params) {
+        Cache<String, CachedModel> currentCache = cache;
+        if (currentCache == null) {
+            return null;
+        }
+        CachedModel cachedModel = currentCache.get(modelId);
+        if (cachedModel == null) {
+            return null;
+        }
+        if (cachedModel.seqNo != seqNo || cachedModel.primaryTerm != primaryTerm) {
+            currentCache.invalidate(modelId, cachedModel);
+            return null;
+        }
+        return Objects.equals(cachedModel.params, params) ? cachedModel.predictable : null;
+    }
+
+    /**
+     * Cache loaded model.
+     * @param modelId model id
+     * @param seqNo sequence number of model document
+     * @param primaryTerm primary term of model document
+     * @param params algorithm parameters the model is loaded with
+     * @param predictable loaded model
+     * @param sizeInBytes estimated size of loaded model
+     */
+    public void put(String modelId, long seqNo, long primaryTerm, MLAlgoParams params, Predictable predictable, long sizeInBytes) {
+        Cache<String, CachedModel> currentCache = cache;
+        if (currentCache == null) {
+            return;
+        }
+        currentCache.put(modelId, new CachedModel(seqNo, primaryTerm, params, predictable, Math.max(1, sizeInBytes)));
+    }
+
+    public void invalidate(String modelId) {
+        Cache<String, CachedModel> currentCache = cache;
+        if (currentCache != null) {
+            currentCache.invalidate(modelId);
+        }
+    }
+
+    private Cache<String, CachedModel> buildCache(long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            return null;
+        }
+        return CacheBuilder
+            .<String, CachedModel>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((modelId, cachedModel) -> cachedModel.sizeInBytes)
+            .removalListener(notification -> log.debug("Removed trained model {} from cache", notification.getKey()))
+            .build();
+    }
+
+    private static class CachedModel {
+        private final long seqNo;
+        private final long primaryTerm;
+        private final MLAlgoParams params;
+        private final Predictable predictable;
+        private final long sizeInBytes;
+
+        CachedModel(long seqNo, long primaryTerm, MLAlgoParams params, Predictable predictable, long sizeInBytes) {
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.params = params;
+            this.predictable = predictable;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.ml.action.agents.ClearAgentCacheTransportAction;
 import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
@@ -55,9 +56,11 @@ import org.opensearch.ml.action.controller.UndeployControllerTransportAction;
 import org.opensearch.ml.action.controller.UpdateControllerTransportAction;
 import org.opensearch.ml.action.deploy.TransportDeployModelAction;
 import org.opensearch.ml.action.deploy.TransportDeployModelOnNodeAction;
+import org.opensearch.ml.action.deploy.TransportModelArtifactChunkAction;
 import org.opensearch.ml.action.execute.TransportExecuteTaskAction;
 import org.opensearch.ml.action.forward.TransportForwardAction;
 import org.opensearch.ml.action.handler.MLSearchHandler;
+import org.opensearch.ml.action.model_group.ClearModelGroupAccessCacheTransportAction;
 import org.opensearch.ml.action.model_group.DeleteModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.GetModelGroupTransportAction;
 import org.opensearch.ml.action.model_group.SearchModelGroupTransportAction;
@@ -107,6 +110,7 @@ import org.opensearch.ml.common.spi.MLCommonsExtension;
 import org.opensearch.ml.common.spi.memory.Memory;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.spi.tools.ToolAnnotation;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheAction;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
@@ -125,12 +129,14 @@ import org.opensearch.ml.common.transport.controller.MLUndeployControllerAction;
 import org.opensearch.ml.common.transport.controller.MLUpdateControllerAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelOnNodeAction;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkAction;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskAction;
 import org.opensearch.ml.common.transport.forward.MLForwardAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelSearchAction;
 import org.opensearch.ml.common.transport.model.MLUpdateModelAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupDeleteAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupGetAction;
 import org.opensearch.ml.common.transport.model_group.MLModelGroupSearchAction;
@@ -154,6 +160,7 @@ import org.opensearch.ml.common.transport.upload_chunk.MLUploadModelChunkAction;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
@@ -171,6 +178,8 @@ import org.opensearch.ml.engine.tools.MLModelTool;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.memory.ConversationalMemoryHandler;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheAction;
+import org.opensearch.ml.memory.action.conversation.ClearConversationCacheTransportAction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationAction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationTransportAction;
 import org.opensearch.ml.memory.action.conversation.CreateInteractionAction;
@@ -196,6 +205,7 @@ import org.opensearch.ml.memory.action.conversation.UpdateConversationTransportA
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionTransportAction;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
+import org.opensearch.ml.memory.index.ConversationalMemoryCache;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
@@ -365,12 +375,14 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLRegisterModelAction.INSTANCE, TransportRegisterModelAction.class),
                 new ActionHandler<>(MLDeployModelAction.INSTANCE, TransportDeployModelAction.class),
                 new ActionHandler<>(MLDeployModelOnNodeAction.INSTANCE, TransportDeployModelOnNodeAction.class),
+                new ActionHandler<>(MLModelArtifactChunkAction.INSTANCE, TransportModelArtifactChunkAction.class),
                 new ActionHandler<>(MLUndeployModelAction.INSTANCE, TransportUndeployModelAction.class),
                 new ActionHandler<>(MLUndeployModelsAction.INSTANCE, TransportUndeployModelsAction.class),
                 new ActionHandler<>(MLRegisterModelMetaAction.INSTANCE, TransportRegisterModelMetaAction.class),
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
                 new ActionHandler<>(MLUpdateModelAction.INSTANCE, UpdateModelTransportAction.class),
                 new ActionHandler<>(MLUpdateModelCacheAction.INSTANCE, UpdateModelCacheTransportAction.class),
+                new ActionHandler<>(MLAgentClearCacheAction.INSTANCE, ClearAgentCacheTransportAction.class),
                 new ActionHandler<>(MLForwardAction.INSTANCE, TransportForwardAction.class),
                 new ActionHandler<>(MLSyncUpAction.INSTANCE, TransportSyncUpOnNodeAction.class),
                 new ActionHandler<>(MLRegisterModelGroupAction.INSTANCE, TransportRegisterModelGroupAction.class),
@@ -378,6 +390,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLModelGroupGetAction.INSTANCE, GetModelGroupTransportAction.class),
                 new ActionHandler<>(MLModelGroupSearchAction.INSTANCE, SearchModelGroupTransportAction.class),
                 new ActionHandler<>(MLModelGroupDeleteAction.INSTANCE, DeleteModelGroupTransportAction.class),
+                new ActionHandler<>(MLModelGroupClearAccessCacheAction.INSTANCE, ClearModelGroupAccessCacheTransportAction.class),
                 new ActionHandler<>(MLCreateConnectorAction.INSTANCE, TransportCreateConnectorAction.class),
                 new ActionHandler<>(MLConnectorGetAction.INSTANCE, GetConnectorTransportAction.class),
                 new ActionHandler<>(MLConnectorDeleteAction.INSTANCE, DeleteConnectorTransportAction.class),
@@ -387,6 +400,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(CreateInteractionAction.INSTANCE, CreateInteractionTransportAction.class),
                 new ActionHandler<>(GetInteractionsAction.INSTANCE, GetInteractionsTransportAction.class),
                 new ActionHandler<>(DeleteConversationAction.INSTANCE, DeleteConversationTransportAction.class),
+                new ActionHandler<>(ClearConversationCacheAction.INSTANCE, ClearConversationCacheTransportAction.class),
                 new ActionHandler<>(MLUpdateConnectorAction.INSTANCE, UpdateConnectorTransportAction.class),
                 new ActionHandler<>(MLRegisterAgentAction.INSTANCE, TransportRegisterAgentAction.class),
                 new ActionHandler<>(MLSearchAgentAction.INSTANCE, TransportSearchAgentAction.class),
@@ -438,9 +452,29 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         encryptor = new EncryptorImpl(clusterService, client);
 
         mlEngine = new MLEngine(dataPath, encryptor);
+        mlEngine
+            .getModelArtifactCache()
+            .setMaxSizeInBytes(MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024L);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB,
+                it -> mlEngine.getModelArtifactCache().setMaxSizeInBytes(it * 1024L * 1024L)
+            );
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
-        cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
+        ConversationalMemoryCache memoryCache = new ConversationalMemoryCache(
+            MLCommonsSettings.ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS.get(settings),
+            MLCommonsSettings.ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS.get(settings)
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS,
+                MLCommonsSettings.ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS,
+                memoryCache::resize
+            );
+        cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService, memoryCache);
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
@@ -573,13 +607,25 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         conversationIndexMemoryFactory.init(client, mlIndicesHandler, memoryManager);
         memoryFactoryMap.put(ConversationIndexMemory.TYPE, conversationIndexMemoryFactory);
 
+        MLAgentCache agentCache = new MLAgentCache(
+            MLCommonsSettings.ML_COMMONS_AGENT_CACHE_MAX_AGENTS.get(settings),
+            MLCommonsSettings.ML_COMMONS_AGENT_CACHE_TTL_IN_SECONDS.get(settings)
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_MAX_AGENTS,
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_TTL_IN_SECONDS,
+                agentCache::resize
+            );
         MLAgentExecutor agentExecutor = new MLAgentExecutor(
             client,
             settings,
             clusterService,
             xContentRegistry,
             toolFactories,
-            memoryFactoryMap
+            memoryFactoryMap,
+            agentCache
         );
         MLEngineClassLoader.register(FunctionName.LOCAL_SAMPLE_CALCULATOR, localSampleCalculator);
         MLEngineClassLoader.register(FunctionName.AGENT, agentExecutor);
@@ -648,7 +694,9 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 clusterManagerEventListener,
                 mlCircuitBreakerService,
                 mlModelAutoRedeployer,
-                cmHandler
+                cmHandler,
+                memoryCache,
+                agentCache
             );
     }
 
@@ -852,6 +900,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         List<Setting<?>> settings = ImmutableList
             .of(
                 MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS,
                 MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE,
                 MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS,
@@ -860,6 +909,10 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_MODELS,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
@@ -872,14 +925,19 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_ALLOW_MODEL_URL,
                 MLCommonsSettings.ML_COMMONS_ALLOW_LOCAL_FILE_UPLOAD,
                 MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED,
                 MLCommonsSettings.ML_COMMONS_TRUSTED_CONNECTOR_ENDPOINTS_REGEX,
                 MLCommonsSettings.ML_COMMONS_REMOTE_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MEMORY_FEATURE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS,
+                MLCommonsSettings.ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS,
                 MLCommonsSettings.ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED,
-                MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED
+                MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED,
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_MAX_AGENTS,
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_TTL_IN_SECONDS
             );
         return settings;
     }
@@ -913,7 +971,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         requestProcessors
             .put(
                 GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE,
-                new GenerativeQARequestProcessor.Factory(() -> this.ragSearchPipelineEnabled)
+                new GenerativeQARequestProcessor.Factory(this.client, () -> this.ragSearchPipelineEnabled)
             );
 
         return requestProcessors;
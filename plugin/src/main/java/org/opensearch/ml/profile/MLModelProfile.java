@@ -7,6 +7,7 @@ package org.opensearch.ml.profile;
 
 import java.io.IOException;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -21,6 +22,7 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 @Log4j2
 public class MLModelProfile implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_MICRO_BATCH_STATS = Version.V_2_13_0;
 
     private final MLModelState modelState;
     private final String predictor;
@@ -30,8 +32,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final MLPredictRequestStats microBatchSizeStats;
+    private final MLPredictRequestStats microBatchQueueDelayStats;
 
-    @Builder
     public MLModelProfile(
         MLModelState modelState,
         String predictor,
@@ -41,6 +44,33 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
         Long memSizeEstimationGPU
+    ) {
+        this(
+            modelState,
+            predictor,
+            targetWorkerNodes,
+            workerNodes,
+            modelInferenceStats,
+            predictRequestStats,
+            memSizeEstimationCPU,
+            memSizeEstimationGPU,
+            null,
+            null
+        );
+    }
+
+    @Builder
+    public MLModelProfile(
+        MLModelState modelState,
+        String predictor,
+        String[] targetWorkerNodes,
+        String[] workerNodes,
+        MLPredictRequestStats modelInferenceStats,
+        MLPredictRequestStats predictRequestStats,
+        Long memSizeEstimationCPU,
+        Long memSizeEstimationGPU,
+        MLPredictRequestStats microBatchSizeStats,
+        MLPredictRequestStats microBatchQueueDelayStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -50,6 +80,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.microBatchSizeStats = microBatchSizeStats;
+        this.microBatchQueueDelayStats = microBatchQueueDelayStats;
     }
 
     @Override
@@ -79,6 +111,12 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (memSizeEstimationGPU != null) {
             builder.field("memory_size_estimation_gpu", memSizeEstimationGPU);
         }
+        if (microBatchSizeStats != null) {
+            builder.field("micro_batch_size_stats", microBatchSizeStats);
+        }
+        if (microBatchQueueDelayStats != null) {
+            builder.field("micro_batch_queue_delay_stats", microBatchQueueDelayStats);
+        }
         builder.endObject();
         return builder;
     }
@@ -104,6 +142,13 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         this.memSizeEstimationCPU = in.readOptionalLong();
         this.memSizeEstimationGPU = in.readOptionalLong();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MICRO_BATCH_STATS)) {
+            this.microBatchSizeStats = in.readOptionalWriteable(MLPredictRequestStats::new);
+            this.microBatchQueueDelayStats = in.readOptionalWriteable(MLPredictRequestStats::new);
+        } else {
+            this.microBatchSizeStats = null;
+            this.microBatchQueueDelayStats = null;
+        }
     }
 
     @Override
@@ -131,5 +176,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         }
         out.writeOptionalLong(memSizeEstimationCPU);
         out.writeOptionalLong(memSizeEstimationGPU);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_MICRO_BATCH_STATS)) {
+            out.writeOptionalWriteable(microBatchSizeStats);
+            out.writeOptionalWriteable(microBatchQueueDelayStats);
+        }
     }
 }
@@ -163,7 +163,9 @@ public class RestMLProfileAction extends BaseRestHandler {
                     entry.getValue().getModelInferenceStats(),
                     entry.getValue().getPredictRequestStats(),
                     entry.getValue().getMemSizeEstimationCPU(),
-                    entry.getValue().getMemSizeEstimationGPU()
+                    entry.getValue().getMemSizeEstimationGPU(),
+                    entry.getValue().getMicroBatchSizeStats(),
+                    entry.getValue().getMicroBatchQueueDelayStats()
                 );
                 mlProfileModelResponse.getMlModelProfileMap().putAll(ImmutableMap.of(nodeId, modelProfile));
             }
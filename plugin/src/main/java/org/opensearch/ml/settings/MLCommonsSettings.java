@@ -34,8 +34,57 @@ public final class MLCommonsSettings {
         );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // 0 disables the node local model artifact cache
+    public static final Setting<Integer> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.model_artifact_cache_size_in_mb",
+            10240,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // 0 disables the node level cache of loaded models trained by built-in algorithms
+    public static final Setting<Integer> ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.trained_model_cache_size_in_mb",
+            100,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // 0 disables the node level cache of embedding results
+    public static final Setting<Integer> ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB = Setting
+        .intSetting(
+            "plugins.ml_commons.embedding_cache_size_in_mb",
+            100,
+            0,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // ids of embedding and sparse encoding models whose results are cached, no model is cached by default
+    public static final Setting<List<String>> ML_COMMONS_EMBEDDING_CACHE_MODELS = Setting
+        .listSetting(
+            "plugins.ml_commons.embedding_cache_models",
+            ImmutableList.of(),
+            Function.identity(),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_ml_task_per_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // How long the node load stats used by least_load dispatch policy are reused. 0 means always fetch the latest stats.
+    public static final Setting<Integer> ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.task_dispatch_load_stats_ttl_in_millis",
+            1000,
+            0,
+            60_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Boolean> ML_COMMONS_ONLY_RUN_ON_ML_NODE = Setting
         .boolSetting("plugins.ml_commons.only_run_on_ml_node", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
@@ -116,6 +165,17 @@ public final class MLCommonsSettings {
 
     public static final Setting<Boolean> ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.model_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // How long a model group access decision is reused by predict. 0 disables the cache. Updating or deleting a model group
+    // clears its decisions on all nodes, this bounds how long a node which missed the clear keeps using them.
+    public static final Setting<Integer> ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting(
+            "plugins.ml_commons.model_access_control_cache_ttl_in_seconds",
+            30,
+            0,
+            3600,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
 
     public static final Setting<Boolean> ML_COMMONS_CONNECTOR_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting("plugins.ml_commons.connector_access_control_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
@@ -170,6 +230,10 @@ public final class MLCommonsSettings {
         );
 
     public static final Setting<Boolean> ML_COMMONS_MEMORY_FEATURE_ENABLED = ConversationalIndexConstants.ML_COMMONS_MEMORY_FEATURE_ENABLED;
+    public static final Setting<Integer> ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS =
+        ConversationalIndexConstants.ML_COMMONS_MEMORY_CACHE_MAX_CONVERSATIONS;
+    public static final Setting<Integer> ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS =
+        ConversationalIndexConstants.ML_COMMONS_MEMORY_CACHE_TTL_IN_SECONDS;
 
     // Feature flag for enabling search processors for Retrieval Augmented Generation using OpenSearch and Remote Inference.
     public static final Setting<Boolean> ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED =
@@ -178,4 +242,10 @@ public final class MLCommonsSettings {
     // This setting is to enable/disable agent related API register/execute/delete/get/search agent.
     public static final Setting<Boolean> ML_COMMONS_AGENT_FRAMEWORK_ENABLED = Setting
         .boolSetting("plugins.ml_commons.agent_framework_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Max number of parsed agents cached on each node. 0 disables the cache.
+    public static final Setting<Integer> ML_COMMONS_AGENT_CACHE_MAX_AGENTS = Setting
+        .intSetting("plugins.ml_commons.agent_cache_max_agents", 100, 0, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Time parsed agents stay cached, bounds how long a node can miss a deleted agent if clearing its cache failed.
+    public static final Setting<Integer> ML_COMMONS_AGENT_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting("plugins.ml_commons.agent_cache_ttl_in_seconds", 300, 1, 3600, Setting.Property.NodeScope, Setting.Property.Dynamic);
 }
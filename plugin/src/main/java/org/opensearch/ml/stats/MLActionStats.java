@@ -6,9 +6,11 @@
 package org.opensearch.ml.stats;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -16,6 +18,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 public class MLActionStats implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_CACHE_STATS = Version.V_2_13_0;
 
     /**
      * Action level stats.
@@ -36,7 +39,15 @@ public class MLActionStats implements ToXContentFragment, Writeable {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
-        out.writeMap(actionStats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
+        Map<MLActionLevelStat, Object> stats = actionStats;
+        if (!out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_CACHE_STATS)) {
+            // older nodes can't read cache stats
+            stats = new HashMap<>(actionStats);
+            stats.remove(MLActionLevelStat.ML_ACTION_CACHE_HIT_COUNT);
+            stats.remove(MLActionLevelStat.ML_ACTION_CACHE_MISS_COUNT);
+            stats.remove(MLActionLevelStat.ML_ACTION_CACHE_EVICTION_COUNT);
+        }
+        out.writeMap(stats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
     }
 
     @Override
@@ -13,7 +13,12 @@ import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.ResourceNotFoundException;
@@ -40,20 +45,28 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.MLEmbeddingCache;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
@@ -121,14 +134,20 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         String modelId = request.getModelId();
         try {
             ActionListener<DiscoveryNode> actionListener = ActionListener.wrap(node -> {
-                if (clusterService.localNode().getId().equals(node.getId())) {
-                    log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
-                    request.setDispatchTask(false);
-                    executeTask(request, listener);
-                } else {
-                    log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
-                    request.setDispatchTask(false);
-                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                ActionListener<MLTaskResponse> trackedListener = trackPredictLatency(modelId, node.getId(), listener);
+                try {
+                    if (clusterService.localNode().getId().equals(node.getId())) {
+                        log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
+                        request.setDispatchTask(false);
+                        executeTask(request, trackedListener);
+                    } else {
+                        log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
+                        request.setDispatchTask(false);
+                        transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(trackedListener));
+                    }
+                } catch (Exception e) {
+                    // complete the tracked listener, so the in-flight task count of the node is decremented
+                    trackedListener.onFailure(e);
                 }
             }, e -> { listener.onFailure(e); });
             String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
@@ -145,13 +164,39 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     workerNodes = nodeHelper.getEligibleNodeIds(functionName);
                 }
             }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            mlTaskDispatcher.dispatchPredictTask(modelId, workerNodes, actionListener);
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
         }
     }
 
+    private ActionListener<MLTaskResponse> trackPredictLatency(String modelId, String nodeId, ActionListener<MLTaskResponse> listener) {
+        if (modelId == null || !mlTaskDispatcher.isPredictLatencyTracked()) {
+            return listener;
+        }
+        long startTime = mlTaskDispatcher.onPredictTaskDispatched(modelId, nodeId);
+        // record only the first completion, the task may still be failed by dispatchTask if executing it throws later
+        AtomicBoolean completed = new AtomicBoolean(false);
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(MLTaskResponse response) {
+                if (completed.compareAndSet(false, true)) {
+                    mlTaskDispatcher.onPredictTaskCompleted(modelId, nodeId, startTime);
+                }
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (completed.compareAndSet(false, true)) {
+                    mlTaskDispatcher.onPredictTaskFailed(modelId, nodeId, startTime);
+                }
+                listener.onFailure(e);
+            }
+        };
+    }
+
     /**
      * Start prediction task
      * @param request MLPredictionTaskRequest
@@ -219,15 +264,19 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     if (!predictor.isModelReady()) {
                         throw new IllegalArgumentException("Model not ready: " + modelId);
                     }
-                    MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
-                    if (output instanceof MLPredictionOutput) {
-                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                    }
+                    long startTime = System.nanoTime();
+                    // Remote models don't hold the predict thread while waiting for the remote service to respond.
+                    asyncPredict(modelId, predictor, mlInput, ActionListener.wrap(output -> {
+                        mlModelManager.trackPredictDuration(modelId, startTime);
+                        if (output instanceof MLPredictionOutput) {
+                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+                        }
 
-                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                    handleAsyncMLTaskComplete(mlTask);
-                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                    internalListener.onResponse(response);
+                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+                        handleAsyncMLTaskComplete(mlTask);
+                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                        internalListener.onResponse(response);
+                    }, e -> handlePredictFailure(mlTask, internalListener, e, false, modelId)));
                     return;
                 } catch (Exception e) {
                     handlePredictFailure(mlTask, internalListener, e, false, modelId);
@@ -237,65 +286,174 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
 
-            // search model by model id.
-            try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
-                ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
-                    if (r == null || !r.isExists()) {
-                        internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+            MLTrainedModelCache trainedModelCache = mlModelManager.getTrainedModelCache();
+            boolean cacheable = trainedModelCache != null && trainedModelCache.isCacheable(algorithm);
+            // skip model content if the model is likely loaded in cache already
+            getModelAndPredict(modelId, mlTask, mlInput, cacheable && trainedModelCache.contains(modelId), internalListener);
+        } else {
+            IllegalArgumentException e = new IllegalArgumentException("ModelId is invalid");
+            log.error("ModelId is invalid", e);
+            handlePredictFailure(mlTask, internalListener, e, false, modelId);
+        }
+    }
+
+    /**
+     * Predict with deployed model. Text docs results of models enabled in embedding cache are served from cache, and
+     * only docs missing from cache are predicted by model.
+     */
+    private void asyncPredict(String modelId, Predictable predictor, MLInput mlInput, ActionListener<MLOutput> listener) {
+        MLEmbeddingCache embeddingCache = mlModelManager.getEmbeddingCache();
+        if (embeddingCache == null
+            || !embeddingCache.isEnabled(modelId, mlInput.getAlgorithm())
+            || !(mlInput.getInputDataset() instanceof TextDocsInputDataSet)) {
+            predictor.asyncPredict(mlInput, listener);
+            return;
+        }
+        TextDocsInputDataSet inputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+        List<String> docs = inputDataSet.getDocs();
+        if (docs == null || docs.isEmpty() || docs.contains(null)) {
+            predictor.asyncPredict(mlInput, listener);
+            return;
+        }
+        ModelResultFilter resultFilter = inputDataSet.getResultFilter();
+        ModelTensors[] results = new ModelTensors[docs.size()];
+        List<Integer> missedIndices = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i++) {
+            results[i] = embeddingCache.get(modelId, resultFilter, docs.get(i));
+            if (results[i] == null) {
+                missedIndices.add(i);
+            }
+        }
+        if (missedIndices.isEmpty()) {
+            listener.onResponse(ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(results)).build());
+            return;
+        }
+        // cacheable functions return one model tensors per doc, so only missed docs are predicted
+        MLInput predictInput = mlInput;
+        if (missedIndices.size() < docs.size()) {
+            List<String> predictDocs = missedIndices.stream().map(docs::get).collect(Collectors.toList());
+            predictInput = mlInput.toBuilder().inputDataset(inputDataSet.toBuilder().docs(predictDocs).build()).build();
+        }
+        predictor.asyncPredict(predictInput, ActionListener.wrap(output -> {
+            if (!(output instanceof ModelTensorOutput)
+                || ((ModelTensorOutput) output).getMlModelOutputs() == null
+                || ((ModelTensorOutput) output).getMlModelOutputs().size() != missedIndices.size()) {
+                if (missedIndices.size() == docs.size()) {
+                    // can't map results to docs, return them without cache
+                    listener.onResponse(output);
+                } else {
+                    listener.onFailure(new MLException("Model " + modelId + " didn't return one result per text doc"));
+                }
+                return;
+            }
+            List<ModelTensors> outputs = ((ModelTensorOutput) output).getMlModelOutputs();
+            for (int i = 0; i < missedIndices.size(); i++) {
+                int index = missedIndices.get(i);
+                embeddingCache.put(modelId, resultFilter, docs.get(index), outputs.get(i));
+                results[index] = outputs.get(i);
+            }
+            listener.onResponse(ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(results)).build());
+        }, listener::onFailure));
+    }
+
+    private void getModelAndPredict(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        boolean excludeContent,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        // search model by model id.
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    invalidateTrainedModel(modelId);
+                    internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+                    return;
+                }
+                try (
+                    XContentParser xContentParser = XContentType.JSON
+                        .xContent()
+                        .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
+                ) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
+                    GetResponse getResponse = r;
+                    String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
+                    MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
+                    mlModel.setModelId(modelId);
+                    User resourceUser = mlModel.getUser();
+                    User requestUser = getUserContext(client);
+                    if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
+                        // The backend roles of request user and resource user doesn't have intersection
+                        OpenSearchException e = new OpenSearchException(
+                            "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
+                        );
+                        handlePredictFailure(mlTask, internalListener, e, false, modelId);
                         return;
                     }
-                    try (
-                        XContentParser xContentParser = XContentType.JSON
-                            .xContent()
-                            .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
-                    ) {
-                        ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
-                        GetResponse getResponse = r;
-                        String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
-                        MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
-                        mlModel.setModelId(modelId);
-                        User resourceUser = mlModel.getUser();
-                        User requestUser = getUserContext(client);
-                        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
-                            // The backend roles of request user and resource user doesn't have intersection
-                            OpenSearchException e = new OpenSearchException(
-                                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
-                            );
-                            handlePredictFailure(mlTask, internalListener, e, false, modelId);
-                            return;
-                        }
-                        // run predict
-                        if (mlTaskManager.contains(mlTask.getTaskId())) {
-                            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
-                        }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                        }
-
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
-                    } catch (Exception e) {
-                        log.error("Failed to predict model " + modelId, e);
-                        internalListener.onFailure(e);
+                    MLTrainedModelCache trainedModelCache = mlModelManager.getTrainedModelCache();
+                    boolean cacheable = trainedModelCache != null
+                        && trainedModelCache.isCacheable(mlInput.getAlgorithm())
+                        && mlInput.getAlgorithm() == mlModel.getAlgorithm();
+                    Predictable predictable = cacheable
+                        ? trainedModelCache.get(modelId, r.getSeqNo(), r.getPrimaryTerm(), mlInput.getParameters())
+                        : null;
+                    if (predictable == null && excludeContent) {
+                        // model changed or evicted after checking cache, read model again with content
+                        getModelAndPredict(modelId, mlTask, mlInput, false, internalListener);
+                        return;
+                    }
+                    // run predict
+                    if (mlTaskManager.contains(mlTask.getTaskId())) {
+                        mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
+                    }
+                    MLOutput output;
+                    if (predictable != null) {
+                        output = mlEngine.predictWithLoadedModel(mlInput, predictable);
+                    } else if (cacheable) {
+                        predictable = mlEngine.loadTrainedModel(mlInput, mlModel);
+                        // base64 encoded model content is about 4/3 of serialized model size
+                        long modelSize = mlModel.getContent() == null ? 0 : mlModel.getContent().length() * 3L / 4;
+                        trainedModelCache.put(modelId, r.getSeqNo(), r.getPrimaryTerm(), mlInput.getParameters(), predictable, modelSize);
+                        output = mlEngine.predictWithLoadedModel(mlInput, predictable);
+                    } else {
+                        output = mlEngine.predict(mlInput, mlModel);
+                    }
+                    if (output instanceof MLPredictionOutput) {
+                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
                     }
 
-                }, e -> {
-                    log.error("Failed to predict " + mlInput.getAlgorithm() + ", modelId: " + mlTask.getModelId(), e);
-                    handlePredictFailure(mlTask, internalListener, e, true, modelId);
-                });
-                GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
-                client.get(getRequest, threadedActionListener(ActionListener.runBefore(getModelListener, () -> context.restore())));
-            } catch (Exception e) {
-                log.error("Failed to get model " + mlTask.getModelId(), e);
+                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+                    handleAsyncMLTaskComplete(mlTask);
+                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                    internalListener.onResponse(response);
+                } catch (Exception e) {
+                    log.error("Failed to predict model " + modelId, e);
+                    internalListener.onFailure(e);
+                }
+
+            }, e -> {
+                log.error("Failed to predict " + mlInput.getAlgorithm() + ", modelId: " + mlTask.getModelId(), e);
                 handlePredictFailure(mlTask, internalListener, e, true, modelId);
+            });
+            GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
+            if (excludeContent) {
+                getRequest
+                    .fetchSourceContext(
+                        new FetchSourceContext(true, null, new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD })
+                    );
             }
-        } else {
-            IllegalArgumentException e = new IllegalArgumentException("ModelId is invalid");
-            log.error("ModelId is invalid", e);
-            handlePredictFailure(mlTask, internalListener, e, false, modelId);
+            client.get(getRequest, threadedActionListener(ActionListener.runBefore(getModelListener, () -> context.restore())));
+        } catch (Exception e) {
+            log.error("Failed to get model " + mlTask.getModelId(), e);
+            handlePredictFailure(mlTask, internalListener, e, true, modelId);
+        }
+    }
+
+    private void invalidateTrainedModel(String modelId) {
+        MLTrainedModelCache trainedModelCache = mlModelManager.getTrainedModelCache();
+        if (trainedModelCache != null) {
+            trainedModelCache.invalidate(modelId);
         }
     }
 
@@ -6,16 +6,27 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
 
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
@@ -36,17 +47,31 @@ import lombok.extern.log4j.Log4j2;
  * TODO: Add more test
  */
 @Log4j2
-public class MLTaskDispatcher {
+public class MLTaskDispatcher implements ClusterStateListener {
     // todo: move to a config class
     private final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
     private final String ROUND_ROBIN = "round_robin";
     private final String LEAST_LOAD = "least_load";
+    private final String LATENCY_AWARE = "latency_aware";
+    // weight of the latest latency in EWMA latency
+    private static final double EWMA_ALPHA = 0.3;
+    // latency not updated in this period is ignored, so a node which was slow gets tasks again to refresh its latency
+    private static final long LATENCY_EXPIRATION_IN_NANOS = TimeUnit.SECONDS.toNanos(30);
+    // a failed task is recorded as this factor of the slowest node's latency, so a node failing fast doesn't attract tasks
+    private static final double FAILED_PREDICT_LATENCY_FACTOR = 2;
+    private static final double MIN_FAILED_PREDICT_LATENCY_IN_MILLIS = 1000;
+    // cached node load is used to dispatch task until it's older than this factor of TTL, even if refreshing it keeps failing
+    private final int MAX_LOAD_STATS_STALENESS_FACTOR = 10;
     private final ClusterService clusterService;
     private final Client client;
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
+    private volatile Integer loadStatsTtlInMillis;
     private DiscoveryNodeHelper nodeHelper;
+    private final Map<String, NodeLoad> nodeLoads = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshingNodeLoads = new AtomicBoolean(false);
+    private final Map<String, Map<String, NodeLatency>> modelNodeLatencies = new ConcurrentHashMap<>();
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
         this.clusterService = clusterService;
@@ -55,8 +80,26 @@ public class MLTaskDispatcher {
         this.maxMLBatchTaskPerNode = ML_COMMONS_MAX_ML_TASK_PER_NODE.get(settings);
         this.nextNode = new AtomicInteger(0);
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
-        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
+        this.loadStatsTtlInMillis = ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> {
+            dispatchPolicy = it;
+            if (!LATENCY_AWARE.equals(it)) {
+                modelNodeLatencies.clear();
+            }
+        });
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS, it -> loadStatsTtlInMillis = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        clusterService.addListener(this);
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.nodesRemoved()) {
+            Set<String> removedNodeIds = event.nodesDelta().removedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toSet());
+            modelNodeLatencies.values().forEach(nodeLatencies -> nodeLatencies.keySet().removeAll(removedNodeIds));
+        }
     }
 
     /**
@@ -65,7 +108,8 @@ public class MLTaskDispatcher {
      * @param actionListener action listener
      */
     public void dispatch(FunctionName functionName, ActionListener<DiscoveryNode> actionListener) {
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        // latency of non predict tasks is not tracked, dispatch them with round robin
+        if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(functionName, actionListener);
         } else if (LEAST_LOAD.equals(dispatchPolicy)) {
             dispatchTaskWithLeastLoad(functionName, actionListener);
@@ -75,10 +119,27 @@ public class MLTaskDispatcher {
     }
 
     public void dispatchPredictTask(String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
+        dispatchPredictTask(null, nodeIds, actionListener);
+    }
+
+    /**
+     * Dispatch predict task of a model to one of the given nodes.
+     * @param modelId model id, latency aware policy falls back to round robin if it's null
+     * @param nodeIds candidate node ids
+     * @param actionListener action listener
+     */
+    public void dispatchPredictTask(String modelId, String[] nodeIds, ActionListener<DiscoveryNode> actionListener) {
         if (nodeIds == null || nodeIds.length == 0) {
             throw new IllegalArgumentException("no eligible node to run predict request");
         }
-        if (ROUND_ROBIN.equals(dispatchPolicy)) {
+        if (LATENCY_AWARE.equals(dispatchPolicy)) {
+            String nodeId = modelId == null ? null : selectNodeWithLatency(modelId, nodeIds);
+            if (nodeId != null) {
+                actionListener.onResponse(nodeHelper.getNode(nodeId));
+                return;
+            }
+        }
+        if (ROUND_ROBIN.equals(dispatchPolicy) || LATENCY_AWARE.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(
                 nodeIds,
                 ActionListener.wrap(nodeId -> actionListener.onResponse(nodeHelper.getNode(nodeId)), e -> actionListener.onFailure(e))
@@ -90,6 +151,140 @@ public class MLTaskDispatcher {
         }
     }
 
+    /**
+     * @return true if predict latency should be recorded with {@link #onPredictTaskDispatched(String, String)}, which
+     * is only used by latency aware policy.
+     */
+    public boolean isPredictLatencyTracked() {
+        return LATENCY_AWARE.equals(dispatchPolicy);
+    }
+
+    /**
+     * Remove the predict latency of the model on the given nodes, or on all nodes if no node is given.
+     * Called when the model is undeployed from the nodes.
+     * @param modelId model id
+     * @param nodeIds node ids
+     */
+    public void removePredictLatency(String modelId, String... nodeIds) {
+        if (nodeIds == null || nodeIds.length == 0) {
+            modelNodeLatencies.remove(modelId);
+            return;
+        }
+        modelNodeLatencies.computeIfPresent(modelId, (id, nodeLatencies) -> {
+            for (String nodeId : nodeIds) {
+                nodeLatencies.remove(nodeId);
+            }
+            return nodeLatencies.isEmpty() ? null : nodeLatencies;
+        });
+    }
+
+    /**
+     * Keep the predict latency of models on their current worker nodes only.
+     * @param modelWorkerNodes worker nodes of all deployed models
+     */
+    public void syncPredictLatency(Map<String, Set<String>> modelWorkerNodes) {
+        modelNodeLatencies.keySet().retainAll(modelWorkerNodes.keySet());
+        modelNodeLatencies
+            .forEach((modelId, nodeLatencies) -> nodeLatencies.keySet().retainAll(modelWorkerNodes.getOrDefault(modelId, Set.of())));
+    }
+
+    /**
+     * Record a predict task of the model is dispatched to the node.
+     * @param modelId model id
+     * @param nodeId node id
+     * @return start time of the task, should be passed to {@link #onPredictTaskCompleted(String, String, long)} or
+     * {@link #onPredictTaskFailed(String, String, long)}
+     */
+    public long onPredictTaskDispatched(String modelId, String nodeId) {
+        getNodeLatency(modelId, nodeId).inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a predict task of the model succeeded on the node.
+     * @param modelId model id
+     * @param nodeId node id
+     * @param startTime start time returned by {@link #onPredictTaskDispatched(String, String)}
+     */
+    public void onPredictTaskCompleted(String modelId, String nodeId, long startTime) {
+        NodeLatency nodeLatency = getNodeLatency(modelId, nodeId);
+        nodeLatency.inFlight.decrementAndGet();
+        nodeLatency.record((System.nanoTime() - startTime) / 1e6);
+    }
+
+    /**
+     * Record a predict task of the model failed on the node. The failure is recorded as a penalty latency which is
+     * higher than the latency of any node, so the failing node is avoided until its latency expires.
+     * @param modelId model id
+     * @param nodeId node id
+     * @param startTime start time returned by {@link #onPredictTaskDispatched(String, String)}
+     */
+    public void onPredictTaskFailed(String modelId, String nodeId, long startTime) {
+        NodeLatency nodeLatency = getNodeLatency(modelId, nodeId);
+        nodeLatency.inFlight.decrementAndGet();
+        double penaltyInMillis = Math.max(MIN_FAILED_PREDICT_LATENCY_IN_MILLIS, (System.nanoTime() - startTime) / 1e6);
+        for (NodeLatency latency : modelNodeLatencies.getOrDefault(modelId, Map.of()).values()) {
+            if (latency.hasLatency) {
+                penaltyInMillis = Math.max(penaltyInMillis, latency.ewmaInMillis * FAILED_PREDICT_LATENCY_FACTOR);
+            }
+        }
+        nodeLatency.record(penaltyInMillis);
+    }
+
+    void recordPredictLatency(String modelId, String nodeId, double latencyInMillis) {
+        getNodeLatency(modelId, nodeId).record(latencyInMillis);
+    }
+
+    private NodeLatency getNodeLatency(String modelId, String nodeId) {
+        return modelNodeLatencies
+            .computeIfAbsent(modelId, it -> new ConcurrentHashMap<>())
+            .computeIfAbsent(nodeId, it -> new NodeLatency());
+    }
+
+    /**
+     * Power of two choices: pick two random nodes and choose the one with lower expected latency, which is the
+     * EWMA latency multiplied by the number of in-flight tasks plus one. A node without recent latency is preferred
+     * so that it gets sampled.
+     * @return selected node id, or null if there is no recent latency of the model on any node.
+     */
+    private String selectNodeWithLatency(String modelId, String[] nodeIds) {
+        Map<String, NodeLatency> nodeLatencies = modelNodeLatencies.get(modelId);
+        if (nodeLatencies == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        boolean hasLatency = false;
+        for (String nodeId : nodeIds) {
+            NodeLatency nodeLatency = nodeLatencies.get(nodeId);
+            if (nodeLatency != null && nodeLatency.isRecent(now)) {
+                hasLatency = true;
+                break;
+            }
+        }
+        if (!hasLatency) {
+            return null;
+        }
+        if (nodeIds.length == 1) {
+            return nodeIds[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(nodeIds.length);
+        int second = random.nextInt(nodeIds.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        double firstCost = expectedLatency(nodeLatencies.get(nodeIds[first]), now);
+        double secondCost = expectedLatency(nodeLatencies.get(nodeIds[second]), now);
+        return firstCost <= secondCost ? nodeIds[first] : nodeIds[second];
+    }
+
+    private double expectedLatency(NodeLatency nodeLatency, long now) {
+        if (nodeLatency == null || !nodeLatency.isRecent(now)) {
+            return 0;
+        }
+        return nodeLatency.ewmaInMillis * (nodeLatency.inFlight.get() + 1);
+    }
+
     private <T> void dispatchTaskWithRoundRobin(T[] nodes, ActionListener<T> listener) {
         int currentNode = nextNode.getAndIncrement();
         if (currentNode > nodes.length - 1) {
@@ -105,60 +300,115 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
-        MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
-        MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-
-        client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
+        if (loadStatsTtlInMillis > 0) {
+            long now = System.currentTimeMillis();
+            List<NodeLoad> cachedNodeLoads = getCachedNodeLoads(nodes, now - MAX_LOAD_STATS_STALENESS_FACTOR * loadStatsTtlInMillis);
+            if (cachedNodeLoads != null) {
+                if (cachedNodeLoads.stream().anyMatch(nodeLoad -> nodeLoad.timestamp < now - loadStatsTtlInMillis)) {
+                    refreshNodeLoads(nodes);
+                }
+                dispatchTaskWithLeastLoad(cachedNodeLoads, listener);
                 return;
             }
+        }
+        fetchNodeLoads(
+            nodes,
+            ActionListener.wrap(nodeLoads -> dispatchTaskWithLeastLoad(nodeLoads, listener), exception -> {
+                log.error("Failed to get node's task stats", exception);
+                listener.onFailure(exception);
+            })
+        );
+    }
 
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
+    private void dispatchTaskWithLeastLoad(List<NodeLoad> nodeLoads, ActionListener<DiscoveryNode> listener) {
+        // Check JVM pressure
+        List<NodeLoad> candidateNodeLoads = nodeLoads
+            .stream()
+            .filter(nodeLoad -> nodeLoad.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
+            .collect(Collectors.toList());
+
+        if (candidateNodeLoads.size() == 0) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // Check # of executing ML task
+        candidateNodeLoads = candidateNodeLoads
+            .stream()
+            .filter(nodeLoad -> nodeLoad.executingTaskCount.get() < maxMLBatchTaskPerNode)
+            .collect(Collectors.toList());
+        if (candidateNodeLoads.size() == 0) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // sort nodes by JVM usage percentage and # of executing ML task
+        Optional<NodeLoad> targetNode = candidateNodeLoads.stream().min((NodeLoad r1, NodeLoad r2) -> {
+            int result = Long.compare(r1.executingTaskCount.get(), r2.executingTaskCount.get());
+            if (result == 0) {
+                // if multiple nodes have same running task count, choose the one with least
+                // JVM heap usage.
+                return Long.compare(r1.jvmHeapUsage, r2.jvmHeapUsage);
             }
+            return result;
+        });
+        // count the dispatched task until next refresh, so tasks are not all dispatched to the same node with cached stats
+        targetNode.get().executingTaskCount.incrementAndGet();
+        listener.onResponse(targetNode.get().node);
+    }
 
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
+    /**
+     * @return cached load of all nodes, or null if any node has no load cached after the given time.
+     */
+    private List<NodeLoad> getCachedNodeLoads(DiscoveryNode[] nodes, long minTimestamp) {
+        List<NodeLoad> cachedNodeLoads = new ArrayList<>(nodes.length);
+        for (DiscoveryNode node : nodes) {
+            NodeLoad nodeLoad = nodeLoads.get(node.getId());
+            if (nodeLoad == null || nodeLoad.timestamp < minTimestamp) {
+                return null;
+            }
+            cachedNodeLoads.add(nodeLoad);
+        }
+        return cachedNodeLoads;
+    }
+
+    private void refreshNodeLoads(DiscoveryNode[] nodes) {
+        if (!refreshingNodeLoads.compareAndSet(false, true)) {
+            return;
+        }
+        fetchNodeLoads(nodes, ActionListener.wrap(r -> refreshingNodeLoads.set(false), e -> {
+            refreshingNodeLoads.set(false);
+            log.warn("Failed to refresh node's task stats", e);
         }));
     }
 
+    private void fetchNodeLoads(DiscoveryNode[] nodes, ActionListener<List<NodeLoad>> listener) {
+        MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
+        MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
+
+        client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
+            long timestamp = System.currentTimeMillis();
+            List<NodeLoad> fetchedNodeLoads = new ArrayList<>();
+            for (MLStatsNodeResponse stat : mlStatsResponse.getNodes()) {
+                NodeLoad nodeLoad = new NodeLoad(
+                    stat.getNode(),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE),
+                    timestamp
+                );
+                nodeLoads.put(stat.getNode().getId(), nodeLoad);
+                fetchedNodeLoads.add(nodeLoad);
+            }
+            listener.onResponse(fetchedNodeLoads);
+        }, listener::onFailure));
+    }
+
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
         DiscoveryNode[] eligibleNodes = nodeHelper.getEligibleNodes(functionName);
         dispatchTaskWithLeastLoad(eligibleNodes, listener);
@@ -177,4 +427,40 @@ public class MLTaskDispatcher {
         dispatchTaskWithRoundRobin(eligibleNodes, listener);
     }
 
+    /**
+     * Predict latency of a model on a node.
+     */
+    private static class NodeLatency {
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private volatile double ewmaInMillis;
+        private volatile long lastUpdateTime;
+        private volatile boolean hasLatency;
+
+        synchronized void record(double latencyInMillis) {
+            ewmaInMillis = hasLatency ? EWMA_ALPHA * latencyInMillis + (1 - EWMA_ALPHA) * ewmaInMillis : latencyInMillis;
+            lastUpdateTime = System.nanoTime();
+            hasLatency = true;
+        }
+
+        boolean isRecent(long now) {
+            return hasLatency && now - lastUpdateTime < LATENCY_EXPIRATION_IN_NANOS;
+        }
+    }
+
+    /**
+     * Load of a node from the latest ML stats of it.
+     */
+    private static class NodeLoad {
+        private final DiscoveryNode node;
+        private final AtomicLong executingTaskCount;
+        private final long jvmHeapUsage;
+        private final long timestamp;
+
+        NodeLoad(DiscoveryNode node, Long executingTaskCount, Long jvmHeapUsage, long timestamp) {
+            this.node = node;
+            this.executingTaskCount = new AtomicLong(executingTaskCount);
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.timestamp = timestamp;
+        }
+    }
 }
@@ -6,10 +6,12 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.engine.indices.MLInputDatasetHandler.SEARCH_QUERY_INPUT_PAGE_SIZE;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.TRAIN_THREAD_POOL;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.index.IndexRequest;
@@ -31,11 +33,13 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLTrainingOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskAction;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskRequest;
+import org.opensearch.ml.engine.BatchTrainable;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
@@ -158,6 +162,18 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         mlTaskManager.add(mlTask);
         try {
             if (mlInput.getInputDataset().getInputDataType().equals(MLInputDataType.SEARCH_QUERY)) {
+                SearchQueryInputDataset searchQueryInput = (SearchQueryInputDataset) mlInput.getInputDataset();
+                // search query larger than one page is read page by page, train batch by batch if the algorithm supports it
+                BatchTrainable batchTrainable = searchQueryInput.getSearchSourceBuilder().size() > SEARCH_QUERY_INPUT_PAGE_SIZE
+                    ? mlEngine.initBatchTrainable(mlInput)
+                    : null;
+                if (batchTrainable != null) {
+                    // release what the algorithm holds for all batches once training ends, even if it fails
+                    ActionListener<MLTaskResponse> batchListener = ActionListener
+                        .runAfter(internalListener, batchTrainable::closeBatchTraining);
+                    trainInBatches(mlTask, mlInput, batchTrainable, batchListener);
+                    return;
+                }
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     train(mlTask, mlInput.toBuilder().inputDataset(dataSet).build(), internalListener);
                 }, e -> {
@@ -178,7 +194,48 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         }
     }
 
+    /**
+     * Train with search query input batch by batch, so the search query input doesn't need to fit in memory.
+     * Each batch is trained in train thread pool before searching the next one. The search query input is read again
+     * for every epoch the algorithm asks for, e.g. once per iteration for KMeans.
+     */
+    private void trainInBatches(MLTask mlTask, MLInput mlInput, BatchTrainable batchTrainable, ActionListener<MLTaskResponse> listener) {
+        ActionListener<Long> totalListener = ActionListener.wrap(total -> {
+            if (total == 0) {
+                listener.onFailure(new IllegalArgumentException("No document found"));
+                return;
+            }
+            if (batchTrainable.finishEpoch()) {
+                trainInBatches(mlTask, mlInput, batchTrainable, listener);
+                return;
+            }
+            train(mlTask, mlInput, batchTrainable::finishBatchTraining, listener);
+        }, e -> {
+            log.error("Failed to train batches of search query input", e);
+            listener.onFailure(e);
+        });
+        mlInputDatasetHandler
+            .streamSearchQueryInput(
+                (SearchQueryInputDataset) mlInput.getInputDataset(),
+                SEARCH_QUERY_INPUT_PAGE_SIZE,
+                (batch, batchListener) -> threadPool.executor(TRAIN_THREAD_POOL).execute(() -> {
+                    try {
+                        batchTrainable.trainBatch(batch);
+                    } catch (Exception e) {
+                        batchListener.onFailure(e);
+                        return;
+                    }
+                    batchListener.onResponse(null);
+                }),
+                new ThreadedActionListener<>(log, threadPool, TRAIN_THREAD_POOL, totalListener, false)
+            );
+    }
+
     private void train(MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> actionListener) {
+        train(mlTask, mlInput, () -> mlEngine.train(mlInput), actionListener);
+    }
+
+    private void train(MLTask mlTask, MLInput mlInput, Supplier<MLModel> trainer, ActionListener<MLTaskResponse> actionListener) {
         ActionListener<MLTaskResponse> listener = ActionListener.wrap(r -> actionListener.onResponse(r), e -> {
             mlStats
                 .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.TRAIN, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
@@ -189,7 +246,7 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         try {
             // run training
             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
-            MLModel mlModel = mlEngine.train(mlInput);
+            MLModel mlModel = trainer.get();
             mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(indexCreated -> {
                 if (!indexCreated) {
                     listener.onFailure(new RuntimeException("No response to create ML task index"));
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.agent.MLAgent;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodeRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodeResponse;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
+import org.opensearch.transport.TransportService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClearAgentCacheTransportActionTests {
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    private MLAgentCache agentCache;
+
+    private ClearAgentCacheTransportAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        agentCache = new MLAgentCache(10, 60);
+        action = new ClearAgentCacheTransportAction(transportService, actionFilters, clusterService, null, agentCache);
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        MLAgentClearCacheNodesRequest nodesRequest = new MLAgentClearCacheNodesRequest(new String[] { "nodeId1" }, "testAgentId");
+        MLAgentClearCacheNodesResponse response = action
+            .newResponse(nodesRequest, List.of(new MLAgentClearCacheNodeResponse(localNode)), Collections.emptyList());
+        assertEquals(1, response.getNodes().size());
+    }
+
+    @Test
+    public void testNewNodeRequest() throws IOException {
+        MLAgentClearCacheNodesRequest nodesRequest = new MLAgentClearCacheNodesRequest(new String[] { "nodeId1" }, "testAgentId");
+        MLAgentClearCacheNodeRequest nodeRequest = action.newNodeRequest(nodesRequest);
+        BytesStreamOutput output = new BytesStreamOutput();
+        nodeRequest.writeTo(output);
+        MLAgentClearCacheNodeRequest parsedRequest = new MLAgentClearCacheNodeRequest(output.bytes().streamInput());
+        assertEquals("testAgentId", parsedRequest.getClearCacheNodesRequest().getAgentId());
+    }
+
+    @Test
+    public void testNewNodeResponse() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLAgentClearCacheNodeResponse(localNode).writeTo(output);
+        MLAgentClearCacheNodeResponse response = action.newNodeResponse(output.bytes().streamInput());
+        assertEquals("foo0", response.getNode().getId());
+    }
+
+    @Test
+    public void testNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        agentCache.put("testAgentId", MLAgent.builder().name("agent").type("flow").build(), agentCache.getVersion());
+        MLAgentClearCacheNodesRequest nodesRequest = new MLAgentClearCacheNodesRequest(new String[] { "nodeId1" }, "testAgentId");
+        MLAgentClearCacheNodeResponse response = action.nodeOperation(new MLAgentClearCacheNodeRequest(nodesRequest));
+        assertNotNull(response);
+        assertNull(agentCache.get("testAgentId"));
+    }
+}
@@ -6,6 +6,7 @@ package org.opensearch.ml.action.agents;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import org.junit.Before;
@@ -14,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.client.Client;
@@ -21,6 +23,9 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheAction;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentClearCacheNodesResponse;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteRequest;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
@@ -85,6 +90,37 @@ public class DeleteAgentTransportActionTests {
         verify(actionListener).onResponse(argumentCaptor.capture());
     }
 
+    @Test
+    public void testDoExecute_Deleted_ClearAgentCache() {
+        String agentId = "test-agent-id";
+        DeleteResponse deleteResponse = mock(DeleteResponse.class);
+        when(deleteResponse.getResult()).thenReturn(DocWriteResponse.Result.DELETED);
+
+        ActionListener<DeleteResponse> actionListener = mock(ActionListener.class);
+
+        MLAgentDeleteRequest deleteRequest = new MLAgentDeleteRequest(agentId);
+
+        Task task = mock(Task.class);
+
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(client).delete(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<MLAgentClearCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("Failed to clear agent cache"));
+            return null;
+        }).when(client).execute(eq(MLAgentClearCacheAction.INSTANCE), any(), any());
+
+        deleteAgentTransportAction.doExecute(task, deleteRequest, actionListener);
+        ArgumentCaptor<MLAgentClearCacheNodesRequest> captor = ArgumentCaptor.forClass(MLAgentClearCacheNodesRequest.class);
+        verify(client).execute(eq(MLAgentClearCacheAction.INSTANCE), captor.capture(), any());
+        assertEquals(agentId, captor.getValue().getAgentId());
+        // failing to clear the cache doesn't fail the delete
+        verify(actionListener).onResponse(deleteResponse);
+    }
+
     @Test
     public void testDoExecute_Failure() {
         String agentId = "test-non-existed-agent-id";
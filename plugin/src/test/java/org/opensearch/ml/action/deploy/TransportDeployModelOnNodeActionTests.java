@@ -204,10 +204,10 @@ public class TransportDeployModelOnNodeActionTests extends OpenSearchTestCase {
         when(clusterService.localNode()).thenReturn(localNode);
 
         doAnswer(invocation -> {
-            ActionListener<String> listener = invocation.getArgument(5);
+            ActionListener<String> listener = invocation.getArgument(6);
             listener.onResponse("successful");
             return null;
-        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any());
+        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any(), any());
         MLForwardResponse forwardResponse = Mockito.mock(MLForwardResponse.class);
         doAnswer(invocation -> {
             ActionListenerResponseHandler<MLForwardResponse> handler = invocation.getArgument(3);
@@ -310,10 +310,10 @@ public class TransportDeployModelOnNodeActionTests extends OpenSearchTestCase {
     @Ignore
     public void testNodeOperation_FailToSendForwardRequest() {
         doAnswer(invocation -> {
-            ActionListener<String> listener = invocation.getArgument(4);
+            ActionListener<String> listener = invocation.getArgument(6);
             listener.onResponse("ok");
             return null;
-        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any());
+        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any(), any());
         doAnswer(invocation -> {
             TransportResponseHandler<MLForwardResponse> handler = invocation.getArgument(3);
             handler.handleException(new TransportException("error"));
@@ -328,10 +328,10 @@ public class TransportDeployModelOnNodeActionTests extends OpenSearchTestCase {
     @Ignore
     public void testNodeOperation_Exception() {
         doAnswer(invocation -> {
-            ActionListener<String> listener = invocation.getArgument(4);
+            ActionListener<String> listener = invocation.getArgument(6);
             listener.onFailure(new RuntimeException("Something went wrong"));
             return null;
-        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any());
+        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any(), any());
         final MLDeployModelNodesRequest nodesRequest = prepareRequest(localNode.getId());
         final MLDeployModelNodeRequest request = action.newNodeRequest(nodesRequest);
         final MLDeployModelNodeResponse response = action.nodeOperation(request);
@@ -340,7 +340,7 @@ public class TransportDeployModelOnNodeActionTests extends OpenSearchTestCase {
 
     @Ignore
     public void testNodeOperation_DeployModelRuntimeException() {
-        doThrow(new RuntimeException("error")).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any());
+        doThrow(new RuntimeException("error")).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any(), any());
         final MLDeployModelNodesRequest nodesRequest = prepareRequest(localNode.getId());
         final MLDeployModelNodeRequest request = action.newNodeRequest(nodesRequest);
         final MLDeployModelNodeResponse response = action.nodeOperation(request);
@@ -350,10 +350,10 @@ public class TransportDeployModelOnNodeActionTests extends OpenSearchTestCase {
     @Ignore
     public void testNodeOperation_MLLimitExceededException() {
         doAnswer(invocation -> {
-            ActionListener<String> listener = invocation.getArgument(4);
+            ActionListener<String> listener = invocation.getArgument(6);
             listener.onFailure(new MLLimitExceededException("Limit exceeded exception"));
             return null;
-        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any());
+        }).when(mlModelManager).deployModel(any(), any(), any(), any(Boolean.class), any(), any(), any());
         final MLDeployModelNodesRequest nodesRequest = prepareRequest(localNode.getId());
         final MLDeployModelNodeRequest request = action.newNodeRequest(nodesRequest);
         final MLDeployModelNodeResponse response = action.nodeOperation(request);
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.model_group;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodeRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodeResponse;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.transport.TransportService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClearModelGroupAccessCacheTransportActionTests {
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private ModelAccessControlHelper modelAccessControlHelper;
+
+    private ClearModelGroupAccessCacheTransportAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        action = new ClearModelGroupAccessCacheTransportAction(
+            transportService,
+            actionFilters,
+            clusterService,
+            null,
+            modelAccessControlHelper
+        );
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        MLModelGroupClearAccessCacheNodesRequest nodesRequest = new MLModelGroupClearAccessCacheNodesRequest(
+            new String[] { "nodeId1" },
+            "testModelGroupId"
+        );
+        MLModelGroupClearAccessCacheNodesResponse response = action
+            .newResponse(nodesRequest, List.of(new MLModelGroupClearAccessCacheNodeResponse(localNode)), Collections.emptyList());
+        assertEquals(1, response.getNodes().size());
+    }
+
+    @Test
+    public void testNewNodeRequest() throws IOException {
+        MLModelGroupClearAccessCacheNodesRequest nodesRequest = new MLModelGroupClearAccessCacheNodesRequest(
+            new String[] { "nodeId1" },
+            "testModelGroupId"
+        );
+        MLModelGroupClearAccessCacheNodeRequest nodeRequest = action.newNodeRequest(nodesRequest);
+        BytesStreamOutput output = new BytesStreamOutput();
+        nodeRequest.writeTo(output);
+        MLModelGroupClearAccessCacheNodeRequest parsedRequest = new MLModelGroupClearAccessCacheNodeRequest(output.bytes().streamInput());
+        assertEquals("testModelGroupId", parsedRequest.getClearCacheNodesRequest().getModelGroupId());
+    }
+
+    @Test
+    public void testNewNodeResponse() throws IOException {
+        BytesStreamOutput output = new BytesStreamOutput();
+        new MLModelGroupClearAccessCacheNodeResponse(localNode).writeTo(output);
+        MLModelGroupClearAccessCacheNodeResponse response = action.newNodeResponse(output.bytes().streamInput());
+        assertEquals("foo0", response.getNode().getId());
+    }
+
+    @Test
+    public void testNodeOperation() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        MLModelGroupClearAccessCacheNodesRequest nodesRequest = new MLModelGroupClearAccessCacheNodesRequest(
+            new String[] { "nodeId1" },
+            "testModelGroupId"
+        );
+        MLModelGroupClearAccessCacheNodeResponse response = action.nodeOperation(new MLModelGroupClearAccessCacheNodeRequest(nodesRequest));
+        assertNotNull(response);
+        verify(modelAccessControlHelper).invalidateModelGroupAccess("testModelGroupId");
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.model_group;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -96,6 +97,11 @@ public class DeleteModelGroupTransportActionTests extends OpenSearchTestCase {
             listener.onResponse(true);
             return null;
         }).when(modelAccessControlHelper).validateModelGroupAccess(any(), any(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(invocation.getArgument(2));
+            return null;
+        }).when(modelAccessControlHelper).clearModelGroupAccessCache(any(), any(), any(), any());
 
         Settings settings = Settings.builder().build();
         threadContext = new ThreadContext(settings);
@@ -118,6 +124,7 @@ public class DeleteModelGroupTransportActionTests extends OpenSearchTestCase {
         }).when(client).search(any(), isA(ActionListener.class));
 
         deleteModelGroupTransportAction.doExecute(null, mlModelGroupDeleteRequest, actionListener);
+        verify(modelAccessControlHelper).clearModelGroupAccessCache(eq("test_id"), any(), eq(deleteResponse), any());
         verify(actionListener).onResponse(deleteResponse);
     }
 
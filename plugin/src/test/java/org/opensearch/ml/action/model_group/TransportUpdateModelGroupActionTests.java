@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.model_group;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -121,6 +122,11 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
             listener.onResponse(updateResponse);
             return null;
         }).when(client).update(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(invocation.getArgument(2));
+            return null;
+        }).when(modelAccessControlHelper).clearModelGroupAccessCache(any(), any(), any(), any());
 
         MLModelGroup mlModelGroup = MLModelGroup
             .builder()
@@ -291,6 +297,7 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
 
         MLUpdateModelGroupRequest actionRequest = prepareRequest(null, AccessMode.PRIVATE, null);
         transportUpdateModelGroupAction.doExecute(task, actionRequest, actionListener);
+        verify(modelAccessControlHelper).clearModelGroupAccessCache(eq("testModelGroupId"), any(), any(), any());
         ArgumentCaptor<MLUpdateModelGroupResponse> argumentCaptor = ArgumentCaptor.forClass(MLUpdateModelGroupResponse.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
     }
@@ -67,6 +67,7 @@ import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskCache;
+import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -118,6 +119,9 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
     @Mock
     private MLModelCacheHelper mlModelCacheHelper;
 
+    @Mock
+    private MLTaskDispatcher mlTaskDispatcher;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -135,7 +139,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             client,
             xContentRegistry,
             mlEngine,
-            mlModelCacheHelper
+            mlModelCacheHelper,
+            mlTaskDispatcher
         );
         runningDeployModelTasks = new HashMap<>();
         runningDeployModelTasks.put("model1", ImmutableSet.of("node1"));
@@ -249,6 +254,8 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, prepareRequest2()));
         final MLSyncUpNodeResponse response = action.nodeOperation(request);
         assertNotNull(response);
+        verify(mlTaskDispatcher).removePredictLatency("modelId2", "nodeId3", "nodeId4", "nodeId5");
+        verify(mlTaskDispatcher).syncPredictLatency(any());
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
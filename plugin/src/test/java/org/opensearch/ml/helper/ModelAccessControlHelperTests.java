@@ -6,9 +6,13 @@
 package org.opensearch.ml.helper;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
@@ -39,6 +43,9 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.MLModelGroup.MLModelGroupBuilder;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheAction;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesRequest;
+import org.opensearch.ml.common.transport.model_group.MLModelGroupClearAccessCacheNodesResponse;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -68,7 +75,11 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         MockitoAnnotations.openMocks(this);
         Settings settings = Settings.builder().put(ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED.getKey(), true).build();
         threadContext = new ThreadContext(settings);
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED);
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED,
+            ML_COMMONS_MODEL_ACCESS_CONTROL_CACHE_TTL_IN_SECONDS
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         assertNotNull(modelAccessControlHelper);
@@ -161,6 +172,52 @@ public class ModelAccessControlHelperTests extends OpenSearchTestCase {
         assertFalse(argumentCaptor.getValue());
     }
 
+    public void test_ValidateCachedModelGroupAccess() throws IOException {
+        String owner = "owner|IT,HR|myTenant";
+        setupModelGroup(owner, AccessMode.PRIVATE.getValue(), Arrays.asList("IT", "HR"));
+        User user = User.parse("owner|IT,HR|myTenant");
+        modelAccessControlHelper.validateCachedModelGroupAccess(user, "testGroupID", client, actionListener);
+        modelAccessControlHelper.validateCachedModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(actionListener, times(2)).onResponse(true);
+        verify(client, times(1)).get(any(), any());
+
+        // decision of other user is not shared
+        ActionListener<Boolean> otherListener = mock(ActionListener.class);
+        modelAccessControlHelper.validateCachedModelGroupAccess(User.parse("user|IT,HR|myTenant"), "testGroupID", client, otherListener);
+        verify(otherListener).onResponse(false);
+        verify(client, times(2)).get(any(), any());
+    }
+
+    public void test_InvalidateModelGroupAccess() throws IOException {
+        String owner = "owner|IT,HR|myTenant";
+        setupModelGroup(owner, AccessMode.PUBLIC.getValue(), Arrays.asList("IT", "HR"));
+        User user = User.parse("user|IT|myTenant");
+        modelAccessControlHelper.validateCachedModelGroupAccess(user, "testGroupID", client, actionListener);
+        verify(actionListener).onResponse(true);
+
+        setupModelGroup(owner, AccessMode.PRIVATE.getValue(), Arrays.asList("IT", "HR"));
+        modelAccessControlHelper.invalidateModelGroupAccess("testGroupID");
+        ActionListener<Boolean> updatedListener = mock(ActionListener.class);
+        modelAccessControlHelper.validateCachedModelGroupAccess(user, "testGroupID", client, updatedListener);
+        verify(updatedListener).onResponse(false);
+    }
+
+    public void test_ClearModelGroupAccessCache() {
+        doAnswer(invocation -> {
+            ActionListener<MLModelGroupClearAccessCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("Failed to clear access cache"));
+            return null;
+        }).when(client).execute(eq(MLModelGroupClearAccessCacheAction.INSTANCE), any(), any());
+        ActionListener<String> clearCacheListener = mock(ActionListener.class);
+        modelAccessControlHelper.clearModelGroupAccessCache("testGroupID", client, "Updated", clearCacheListener);
+        ArgumentCaptor<MLModelGroupClearAccessCacheNodesRequest> captor = ArgumentCaptor
+            .forClass(MLModelGroupClearAccessCacheNodesRequest.class);
+        verify(client).execute(eq(MLModelGroupClearAccessCacheAction.INSTANCE), captor.capture(), any());
+        assertEquals("testGroupID", captor.getValue().getModelGroupId());
+        // failing to clear the cache doesn't fail the update or delete
+        verify(clearCacheListener).onResponse("Updated");
+    }
+
     public void test_SkipModelAccessControl() {
         User admin = User.parse("owner|IT,HR|all_access");
         User user = User.parse("owner|IT,HR|myTenant");
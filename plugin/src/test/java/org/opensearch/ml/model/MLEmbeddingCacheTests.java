@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Before;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLEmbeddingCacheTests extends OpenSearchTestCase {
+
+    private MLStats mlStats;
+    private MLEmbeddingCache cache;
+    private ModelTensors modelTensors;
+
+    @Before
+    public void setup() {
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
+        mlStats = new MLStats(stats);
+        cache = new MLEmbeddingCache(1024, List.of("model_id"), mlStats);
+        ModelTensor modelTensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .data(new Number[] { 1.0f, 2.0f })
+            .build();
+        modelTensors = new ModelTensors(List.of(modelTensor));
+    }
+
+    public void testIsEnabled() {
+        assertTrue(cache.isEnabled("model_id", FunctionName.TEXT_EMBEDDING));
+        assertFalse(cache.isEnabled("model_id", FunctionName.REMOTE));
+        assertFalse(cache.isEnabled("model_id", FunctionName.TEXT_SIMILARITY));
+        assertFalse(cache.isEnabled("other_model_id", FunctionName.TEXT_EMBEDDING));
+    }
+
+    public void testGet() {
+        cache.put("model_id", null, "doc", modelTensors);
+        ModelTensors cached = cache.get("model_id", null, "doc");
+        assertNotSame(modelTensors, cached);
+        assertEquals("sentence_embedding", cached.getMlModelTensors().get(0).getName());
+        assertArrayEquals(new Number[] { 1.0f, 2.0f }, cached.getMlModelTensors().get(0).getData());
+        assertNull(cache.get("model_id", null, "other doc"));
+        assertNull(cache.get("model_id", ModelResultFilter.builder().returnNumber(true).build(), "doc"));
+        assertEquals(1L, getStat(MLActionLevelStat.ML_ACTION_CACHE_HIT_COUNT));
+        assertEquals(2L, getStat(MLActionLevelStat.ML_ACTION_CACHE_MISS_COUNT));
+    }
+
+    public void testPut_EvictLeastRecentlyUsed() {
+        for (int i = 0; i < 100; i++) {
+            cache.put("model_id", null, "doc" + i, modelTensors);
+        }
+        assertNull(cache.get("model_id", null, "doc0"));
+        assertNotNull(cache.get("model_id", null, "doc99"));
+        assertTrue(getStat(MLActionLevelStat.ML_ACTION_CACHE_EVICTION_COUNT) > 0);
+    }
+
+    public void testInvalidate() {
+        cache.put("model_id", null, "doc", modelTensors);
+        cache.put("other_model_id", null, "doc", modelTensors);
+        cache.invalidate("model_id");
+        assertNull(cache.get("model_id", null, "doc"));
+        assertNotNull(cache.get("other_model_id", null, "doc"));
+    }
+
+    public void testSetEnabledModelIds() {
+        cache.put("model_id", null, "doc", modelTensors);
+        cache.setEnabledModelIds(List.of("other_model_id"));
+        assertFalse(cache.isEnabled("model_id", FunctionName.TEXT_EMBEDDING));
+        assertNull(cache.get("model_id", null, "doc"));
+    }
+
+    public void testSetMaxSizeInBytes_Disabled() {
+        cache.put("model_id", null, "doc", modelTensors);
+        cache.setMaxSizeInBytes(0);
+        assertFalse(cache.isEnabled("model_id", FunctionName.TEXT_EMBEDDING));
+        cache.put("model_id", null, "doc", modelTensors);
+        assertNull(cache.get("model_id", null, "doc"));
+    }
+
+    private long getStat(MLActionLevelStat stat) {
+        return (Long) mlStats.getModelStats("model_id").get(ActionName.PREDICT).getActionStat(stat);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Set;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
@@ -34,6 +35,7 @@ import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
+import org.opensearch.ml.engine.MicroBatchQueue;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
@@ -362,6 +364,26 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testGetModelProfile_MicroBatchStats() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setPredictor(modelId, predictor);
+        assertNull(cacheHelper.getModelProfile(modelId).getMicroBatchSizeStats());
+
+        ArgumentCaptor<MicroBatchQueue.StatsListener> captor = ArgumentCaptor.forClass(MicroBatchQueue.StatsListener.class);
+        verify(predictor).setMicroBatchStatsListener(captor.capture());
+        captor.getValue().onBatch(4, new double[] { 1.0, 3.0 });
+        captor.getValue().onBatch(2, new double[] { 2.0 });
+
+        MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
+        MLPredictRequestStats batchSizeStats = modelProfile.getMicroBatchSizeStats();
+        assertEquals(2, batchSizeStats.getCount().longValue());
+        assertEquals(3.0, batchSizeStats.getAverage(), 1e-5);
+        MLPredictRequestStats queueDelayStats = modelProfile.getMicroBatchQueueDelayStats();
+        assertEquals(3, queueDelayStats.getCount().longValue());
+        assertEquals(3.0, queueDelayStats.getMax(), 1e-5);
+        assertEquals(2.0, queueDelayStats.getAverage(), 1e-5);
+    }
+
     public void testGetModelProfile_Deploying() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
@@ -28,10 +28,13 @@ import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_MODELS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex;
 import static org.opensearch.ml.utils.MockHelper.mock_MLIndicesHandler_initModelIndex_failure;
 import static org.opensearch.ml.utils.MockHelper.mock_client_ThreadContext;
@@ -50,6 +53,7 @@ import static org.opensearch.ml.utils.TestHelper.copyFile;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.util.Arrays;
@@ -92,15 +96,18 @@ import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
+import org.opensearch.ml.common.transport.deploy.MLModelArtifactChunkResponse;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -191,7 +198,10 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_MODELS_PER_NODE,
             ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MONITORING_REQUEST_COUNT,
-            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE
+            ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
+            ML_COMMONS_TRAINED_MODEL_CACHE_SIZE_IN_MB,
+            ML_COMMONS_EMBEDDING_CACHE_SIZE_IN_MB,
+            ML_COMMONS_EMBEDDING_CACHE_MODELS
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null));
         xContentRegistry = NamedXContentRegistry.EMPTY;
@@ -834,6 +844,33 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         testDeployModel_FailedToRetrieveModelChunks(true);
     }
 
+    public void testReadModelArtifactChunk_NotFound() {
+        ActionListener<MLModelArtifactChunkResponse> listener = mock(ActionListener.class);
+        modelManager.readModelArtifactChunk(modelContentHashValue, 0, listener);
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertTrue(exceptionCaptor.getValue() instanceof MLResourceNotFoundException);
+    }
+
+    public void testReadModelArtifactChunk_CachedArtifact() throws IOException {
+        when(threadPool.executor(DEPLOY_THREAD_POOL)).thenReturn(taskExecutorService);
+        byte[] content = "model content".getBytes(StandardCharsets.UTF_8);
+        Path modelZipFile = createTempFile();
+        Files.write(modelZipFile, content);
+        ModelArtifactCache modelArtifactCache = mlEngine.getModelArtifactCache();
+        modelArtifactCache.release(modelArtifactCache.put(modelContentHashValue, modelZipFile.toFile()));
+
+        ActionListener<MLModelArtifactChunkResponse> listener = mock(ActionListener.class);
+        modelManager.readModelArtifactChunk(modelContentHashValue, 0, listener);
+        ArgumentCaptor<MLModelArtifactChunkResponse> responseCaptor = ArgumentCaptor.forClass(MLModelArtifactChunkResponse.class);
+        verify(listener).onResponse(responseCaptor.capture());
+        assertEquals(1, responseCaptor.getValue().getTotalChunks());
+        assertArrayEquals(content, responseCaptor.getValue().getData());
+        // the cached file is released after the chunk is read
+        modelArtifactCache.clear();
+        assertEquals(0, modelArtifactCache.getTotalSizeInBytes());
+    }
+
     public void testUndeployModel_NullModelIds_NoDeployedModel() {
         when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
         Map<String, String> undeployModelStatus = modelManager.undeployModel(null);
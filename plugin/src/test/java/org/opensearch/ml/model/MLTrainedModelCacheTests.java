@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+
+import org.junit.Before;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLTrainedModelCacheTests extends OpenSearchTestCase {
+
+    private MLTrainedModelCache cache;
+    private Predictable predictable;
+    private KMeansParams params;
+
+    @Before
+    public void setup() {
+        cache = new MLTrainedModelCache(100);
+        predictable = mock(Predictable.class);
+        params = KMeansParams.builder().centroids(2).build();
+    }
+
+    public void testIsCacheable() {
+        assertTrue(cache.isCacheable(FunctionName.KMEANS));
+        assertTrue(cache.isCacheable(FunctionName.BATCH_RCF));
+        assertFalse(cache.isCacheable(FunctionName.FIT_RCF));
+        assertFalse(cache.isCacheable(FunctionName.TEXT_EMBEDDING));
+    }
+
+    public void testGet() {
+        cache.put("model_id", 1, 1, params, predictable, 10);
+        assertTrue(cache.contains("model_id"));
+        assertSame(predictable, cache.get("model_id", 1, 1, KMeansParams.builder().centroids(2).build()));
+        assertNull(cache.get("model_id", 1, 1, KMeansParams.builder().centroids(3).build()));
+        assertNull(cache.get("model_id", 1, 1, null));
+        assertNull(cache.get("other_model_id", 1, 1, params));
+    }
+
+    public void testGet_ModelUpdated() {
+        cache.put("model_id", 1, 1, params, predictable, 10);
+        assertNull(cache.get("model_id", 2, 1, params));
+        assertFalse(cache.contains("model_id"));
+    }
+
+    public void testPut_EvictLeastRecentlyUsed() {
+        cache.put("model_id1", 1, 1, params, predictable, 60);
+        cache.put("model_id2", 1, 1, params, predictable, 60);
+        assertFalse(cache.contains("model_id1"));
+        assertTrue(cache.contains("model_id2"));
+    }
+
+    public void testInvalidate() {
+        cache.put("model_id", 1, 1, params, predictable, 10);
+        cache.invalidate("model_id");
+        assertFalse(cache.contains("model_id"));
+    }
+
+    public void testSetMaxSizeInBytes_Disabled() {
+        cache.put("model_id", 1, 1, params, predictable, 10);
+        cache.setMaxSizeInBytes(0);
+        assertFalse(cache.isCacheable(FunctionName.KMEANS));
+        assertFalse(cache.contains("model_id"));
+        cache.put("model_id", 1, 1, params, predictable, 10);
+        assertNull(cache.get("model_id", 1, 1, params));
+    }
+}
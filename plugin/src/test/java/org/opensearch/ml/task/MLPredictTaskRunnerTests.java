@@ -12,6 +12,8 @@ import static org.mockito.Mockito.spy;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -47,16 +49,27 @@ import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.MLEmbeddingCache;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
+import org.opensearch.ml.stats.MLActionStats;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
@@ -231,6 +244,84 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(client, never()).get(any(), any());
     }
 
+    public void testExecuteTask_OnLocalNode_EmbeddingCache() {
+        setupMocks(true, false, false, false);
+        MLEmbeddingCache embeddingCache = new MLEmbeddingCache(1024 * 1024, List.of("111"), mlStats);
+        when(mlModelManager.getEmbeddingCache()).thenReturn(embeddingCache);
+        when(mlModelManager.getWorkerNodes("111", FunctionName.TEXT_EMBEDDING, true)).thenReturn(new String[] { "localNodeId" });
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        List<List<String>> predictedDocs = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLInput input = invocation.getArgument(0);
+            ActionListener<MLOutput> actionListener = invocation.getArgument(1);
+            List<String> docs = ((TextDocsInputDataSet) input.getInputDataset()).getDocs();
+            predictedDocs.add(docs);
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String doc : docs) {
+                ModelTensor modelTensor = ModelTensor
+                    .builder()
+                    .name(doc)
+                    .dataType(MLResultDataType.INT32)
+                    .data(new Number[] { doc.length() })
+                    .build();
+                outputs.add(new ModelTensors(List.of(modelTensor)));
+            }
+            actionListener.onResponse(new ModelTensorOutput(outputs));
+            return null;
+        }).when(predictor).asyncPredict(any(), any());
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, textDocsRequest("a", "bb"), transportService, listener);
+        ActionListener<MLTaskResponse> cachedListener = mock(ActionListener.class);
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, textDocsRequest("bb", "ccc"), transportService, cachedListener);
+
+        assertEquals(List.of(List.of("a", "bb"), List.of("ccc")), predictedDocs);
+        ArgumentCaptor<MLTaskResponse> captor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(cachedListener).onResponse(captor.capture());
+        List<ModelTensors> outputs = ((ModelTensorOutput) captor.getValue().getOutput()).getMlModelOutputs();
+        assertEquals(2, outputs.size());
+        assertEquals("bb", outputs.get(0).getMlModelTensors().get(0).getName());
+        assertEquals("ccc", outputs.get(1).getMlModelTensors().get(0).getName());
+        Map<ActionName, MLActionStats> modelStats = mlStats.getModelStats("111");
+        assertEquals(1L, modelStats.get(ActionName.PREDICT).getActionStat(MLActionLevelStat.ML_ACTION_CACHE_HIT_COUNT));
+        assertEquals(3L, modelStats.get(ActionName.PREDICT).getActionStat(MLActionLevelStat.ML_ACTION_CACHE_MISS_COUNT));
+    }
+
+    public void testExecuteTask_OnLocalNode_EmbeddingCache_UnexpectedOutputSize() {
+        setupMocks(true, false, false, false);
+        MLEmbeddingCache embeddingCache = new MLEmbeddingCache(1024 * 1024, List.of("111"), mlStats);
+        ModelTensor modelTensor = ModelTensor.builder().name("a").dataType(MLResultDataType.INT32).data(new Number[] { 1 }).build();
+        embeddingCache.put("111", null, "a", new ModelTensors(List.of(modelTensor)));
+        when(mlModelManager.getEmbeddingCache()).thenReturn(embeddingCache);
+        when(mlModelManager.getWorkerNodes("111", FunctionName.TEXT_EMBEDDING, true)).thenReturn(new String[] { "localNodeId" });
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.getPredictor("111")).thenReturn(predictor);
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(new ModelTensorOutput(List.of()));
+            return null;
+        }).when(predictor).asyncPredict(any(), any());
+
+        taskRunner.dispatchTask(FunctionName.TEXT_EMBEDDING, textDocsRequest("a", "bb"), transportService, listener);
+
+        // the missed doc is predicted only once, the request fails as the output can't be mapped to it
+        verify(predictor, times(1)).asyncPredict(any(), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("Model 111 didn't return one result per text doc", argumentCaptor.getValue().getMessage());
+    }
+
+    private MLPredictionTaskRequest textDocsRequest(String... docs) {
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of(docs)).build())
+            .build();
+        return MLPredictionTaskRequest.builder().modelId("111").mlInput(mlInput).build();
+    }
+
     public void testExecuteTask_OnLocalNode_QueryInput() {
         setupMocks(true, false, false, false);
 
@@ -281,6 +372,17 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_OnLocalNode_GetModelFail_PredictLatencyTracked() {
+        setupMocks(true, false, true, false);
+        when(mlTaskDispatcher.isPredictLatencyTracked()).thenReturn(true);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher).onPredictTaskDispatched("111", localNode.getId());
+        verify(mlTaskDispatcher).onPredictTaskFailed(eq("111"), eq(localNode.getId()), anyLong());
+        verify(mlTaskDispatcher, never()).onPredictTaskCompleted(any(), any(), anyLong());
+        verify(listener).onFailure(any());
+    }
+
     public void testExecuteTask_OnLocalNode_NullModelIdException() {
         setupMocks(true, false, false, false);
         requestWithDataFrame = MLPredictionTaskRequest.builder().mlInput(mlInputWithDataFrame).build();
@@ -320,14 +422,14 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         }).when(mlTaskDispatcher).dispatch(any(), any());
 
         doAnswer(invocation -> {
-            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
+            ActionListener<DiscoveryNode> actionListener = invocation.getArgument(2);
             if (runOnLocalNode) {
                 actionListener.onResponse(localNode);
             } else {
                 actionListener.onResponse(remoteNode);
             }
             return null;
-        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        }).when(mlTaskDispatcher).dispatchPredictTask(any(), any(), any());
 
         if (failedToParseQueryInput) {
             doAnswer(invocation -> {
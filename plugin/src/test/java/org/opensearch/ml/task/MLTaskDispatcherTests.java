@@ -8,11 +8,15 @@ package org.opensearch.ml.task;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.util.ArrayList;
@@ -28,12 +32,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.Version;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -74,6 +80,11 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
 
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            Set.of(ML_COMMONS_TASK_DISPATCH_POLICY, ML_COMMONS_MAX_ML_TASK_PER_NODE, ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS)
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
 
@@ -158,6 +169,179 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDispatchPredictTask_LeastLoad_CachedLoadStats() {
+        Settings leastLoadSettings = Settings.builder().put(settings).put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load").build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, leastLoadSettings, nodeHelper);
+        when(nodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
+        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
+        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, 5l);
+        mlStatsNodesResponse = new MLStatsNodesResponse(
+            new ClusterName(clusterName),
+            Arrays.asList(new MLStatsNodeResponse(dataNode1, nodeStats), new MLStatsNodeResponse(dataNode2, nodeStats)),
+            new ArrayList<>()
+        );
+
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+        dispatcher.dispatchPredictTask(nodeIds, listener);
+        dispatcher.dispatchPredictTask(nodeIds, listener);
+
+        // stats are fetched once, the second task goes to the other node as the first task is counted on the cached stats
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener).onResponse(dataNode1);
+        verify(listener).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_NoCache() {
+        Settings leastLoadSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load")
+            .put(ML_COMMONS_TASK_DISPATCH_LOAD_STATS_TTL_IN_MILLIS.getKey(), 0)
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, leastLoadSettings, nodeHelper);
+        when(nodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1 });
+
+        String[] nodeIds = new String[] { dataNode1.getId() };
+        dispatcher.dispatchPredictTask(nodeIds, listener);
+        dispatcher.dispatchPredictTask(nodeIds, listener);
+
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode1);
+    }
+
+    public void testDispatchPredictTask_LatencyAware() {
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper);
+        when(nodeHelper.getNode(dataNode1.getId())).thenReturn(dataNode1);
+        when(nodeHelper.getNode(dataNode2.getId())).thenReturn(dataNode2);
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+
+        dispatcher.recordPredictLatency("modelId", dataNode1.getId(), 1000);
+        dispatcher.recordPredictLatency("modelId", dataNode2.getId(), 10);
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        }
+        verify(listener, times(10)).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LatencyAware_InFlightTasks() {
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper);
+        when(nodeHelper.getNode(dataNode1.getId())).thenReturn(dataNode1);
+        when(nodeHelper.getNode(dataNode2.getId())).thenReturn(dataNode2);
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+
+        dispatcher.recordPredictLatency("modelId", dataNode1.getId(), 20);
+        dispatcher.recordPredictLatency("modelId", dataNode2.getId(), 10);
+        // node2 is faster but busy
+        for (int i = 0; i < 5; i++) {
+            dispatcher.onPredictTaskDispatched("modelId", dataNode2.getId());
+        }
+        dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        verify(listener).onResponse(dataNode1);
+    }
+
+    public void testDispatchPredictTask_LatencyAware_FailedTask() {
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper);
+        when(nodeHelper.getNode(dataNode1.getId())).thenReturn(dataNode1);
+        when(nodeHelper.getNode(dataNode2.getId())).thenReturn(dataNode2);
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+
+        dispatcher.recordPredictLatency("modelId", dataNode1.getId(), 20);
+        dispatcher.recordPredictLatency("modelId", dataNode2.getId(), 10);
+        // node2 fails fast, which must not make it look faster
+        long startTime = dispatcher.onPredictTaskDispatched("modelId", dataNode2.getId());
+        dispatcher.onPredictTaskFailed("modelId", dataNode2.getId(), startTime);
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        }
+        verify(listener, times(10)).onResponse(dataNode1);
+    }
+
+    public void testIsPredictLatencyTracked() {
+        assertFalse(taskDispatcher.isPredictLatencyTracked());
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        assertTrue(new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper).isPredictLatencyTracked());
+    }
+
+    public void testDispatchPredictTask_LatencyAware_RemovePredictLatency() {
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper);
+        when(nodeHelper.getNode(dataNode1.getId())).thenReturn(dataNode1);
+        when(nodeHelper.getNode(dataNode2.getId())).thenReturn(dataNode2);
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+
+        dispatcher.recordPredictLatency("modelId", dataNode1.getId(), 10);
+        dispatcher.recordPredictLatency("modelId", dataNode2.getId(), 1000);
+        dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        verify(listener).onResponse(dataNode1);
+
+        // node2 has no latency after the model is undeployed from it, so it's sampled again
+        dispatcher.removePredictLatency("modelId", dataNode2.getId());
+        dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        verify(listener).onResponse(dataNode2);
+    }
+
+    public void testClusterChanged_NodeRemoved_RemovePredictLatency() {
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper);
+        when(nodeHelper.getNode(dataNode1.getId())).thenReturn(dataNode1);
+        when(nodeHelper.getNode(dataNode2.getId())).thenReturn(dataNode2);
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+        dispatcher.recordPredictLatency("modelId", dataNode1.getId(), 10);
+        dispatcher.recordPredictLatency("modelId", dataNode2.getId(), 1000);
+
+        DiscoveryNodes nodes = DiscoveryNodes.builder().add(dataNode1).build();
+        ClusterState newState = new ClusterState(new ClusterName(clusterName), 124l, "222222", null, null, nodes, null, Map.of(), 0, false);
+        dispatcher.clusterChanged(new ClusterChangedEvent("test", newState, testState));
+
+        dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        verify(listener).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LatencyAware_NoLatencyFallbackToRoundRobin() {
+        Settings latencyAwareSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "latency_aware")
+            .build();
+        MLTaskDispatcher dispatcher = new MLTaskDispatcher(clusterService, client, latencyAwareSettings, nodeHelper);
+        when(nodeHelper.getNode(dataNode1.getId())).thenReturn(dataNode1);
+        when(nodeHelper.getNode(dataNode2.getId())).thenReturn(dataNode2);
+        String[] nodeIds = new String[] { dataNode1.getId(), dataNode2.getId() };
+
+        dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        dispatcher.dispatchPredictTask("modelId", nodeIds, listener);
+        verify(listener).onResponse(dataNode1);
+        verify(listener).onResponse(dataNode2);
+    }
+
     private MLStatsNodesResponse getMlStatsNodesResponse() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
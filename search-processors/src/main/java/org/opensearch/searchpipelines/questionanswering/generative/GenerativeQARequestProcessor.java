@@ -21,11 +21,18 @@ import java.util.Map;
 import java.util.function.BooleanSupplier;
 
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.Client;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamUtil;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
+
+import lombok.Setter;
 
 /**
  * Defines the request processor for generative QA search pipelines.
@@ -35,16 +42,32 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
     private String modelId;
     private final BooleanSupplier featureFlagSupplier;
 
+    // Reads chat history while the search runs, null if not available
+    @Setter
+    private ConversationalMemoryClient memoryClient;
+
     protected GenerativeQARequestProcessor(
         String tag,
         String description,
         boolean ignoreFailure,
         String modelId,
         BooleanSupplier supplier
+    ) {
+        this(tag, description, ignoreFailure, modelId, supplier, null);
+    }
+
+    protected GenerativeQARequestProcessor(
+        String tag,
+        String description,
+        boolean ignoreFailure,
+        String modelId,
+        BooleanSupplier supplier,
+        Client client
     ) {
         super(tag, description, ignoreFailure);
         this.modelId = modelId;
         this.featureFlagSupplier = supplier;
+        this.memoryClient = client == null ? null : new ConversationalMemoryClient(client);
     }
 
     @Override
@@ -59,6 +82,24 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
         return request;
     }
 
+    /**
+     * Start reading chat history for the response processor of the same pipeline, so the chat history read overlaps
+     * with the search.
+     */
+    @Override
+    public SearchRequest processRequest(SearchRequest request, PipelineProcessingContext requestContext) throws Exception {
+        SearchRequest processedRequest = processRequest(request);
+        GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(processedRequest);
+        if (memoryClient != null && requestContext != null && params != null && params.getConversationId() != null) {
+            requestContext
+                .setAttribute(
+                    GenerativeQAResponseProcessor.CHAT_HISTORY_ATTRIBUTE,
+                    GenerativeQAResponseProcessor.getChatHistory(memoryClient, params)
+                );
+        }
+        return processedRequest;
+    }
+
     @Override
     public String getType() {
         return GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE;
@@ -66,9 +107,15 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
 
     public static final class Factory implements Processor.Factory<SearchRequestProcessor> {
 
+        private final Client client;
         private final BooleanSupplier featureFlagSupplier;
 
         public Factory(BooleanSupplier supplier) {
+            this(null, supplier);
+        }
+
+        public Factory(Client client, BooleanSupplier supplier) {
+            this.client = client;
             this.featureFlagSupplier = supplier;
         }
 
@@ -93,7 +140,8 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
                             config,
                             GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID
                         ),
-                    this.featureFlagSupplier
+                    this.featureFlagSupplier,
+                    this.client
                 );
             } else {
                 throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
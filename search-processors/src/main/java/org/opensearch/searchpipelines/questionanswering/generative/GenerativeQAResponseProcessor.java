@@ -28,24 +28,31 @@ import java.util.Map;
 import java.util.function.BooleanSupplier;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
 import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamUtil;
 import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
+import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompletionInput;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompletionOutput;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.Llm;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.LlmIOUtil;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ModelLocator;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 import com.google.gson.JsonArray;
 
@@ -63,6 +70,9 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         "Please check the provided generative_qa_parameters are complete and non-null(https://opensearch.org/docs/latest/search-plugins/conversational-search/#rag-pipeline). Messages in the memory can not have Null value for input and response";
     private static final int DEFAULT_CHAT_HISTORY_WINDOW = 10;
 
+    // Request context attribute of the chat history fetched by the request processor while the search runs
+    static final String CHAT_HISTORY_ATTRIBUTE = "generative_qa_chat_history";
+
     private static final int DEFAULT_PROCESSOR_TIME_IN_SECONDS = 30;
 
     // TODO Add "interaction_count". This is how far back in chat history we want to go back when calling LLM.
@@ -83,6 +93,8 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
 
     private final BooleanSupplier featureFlagSupplier;
 
+    private final Client client;
+
     protected GenerativeQAResponseProcessor(
         Client client,
         String tag,
@@ -103,6 +115,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         this.llm = llm;
         this.memoryClient = new ConversationalMemoryClient(client);
         this.featureFlagSupplier = supplier;
+        this.client = client;
     }
 
     @Override
@@ -197,6 +210,151 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         }
     }
 
+    /**
+     * Same as {@link #processResponse(SearchRequest, SearchResponse)}, but chains the chat history read, the LLM call and
+     * the interaction write with listeners, so no search thread is held while waiting for them. If the request processor
+     * of the same pipeline already started reading the chat history, it is reused.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void processResponseAsync(
+        SearchRequest request,
+        SearchResponse response,
+        PipelineProcessingContext requestContext,
+        ActionListener<SearchResponse> responseListener
+    ) {
+        try {
+            if (!this.featureFlagSupplier.getAsBoolean()) {
+                throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
+            }
+
+            GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
+
+            Integer timeout = params.getTimeout();
+            if (timeout == null || timeout == GenerativeQAParameters.SIZE_NULL_VALUE) {
+                timeout = DEFAULT_PROCESSOR_TIME_IN_SECONDS;
+            }
+            String llmQuestion = params.getLlmQuestion();
+            String llmModel = params.getLlmModel() == null ? this.llmModel : params.getLlmModel();
+            if (llmModel == null) {
+                throw new IllegalArgumentException("llm_model cannot be null.");
+            }
+            String conversationId = params.getConversationId();
+            log.info("LLM model {}, conversation id: {}, timeout: {} seconds", llmModel, conversationId, timeout);
+
+            Integer topN = params.getContextSize();
+            if (topN == null) {
+                topN = GenerativeQAParameters.SIZE_NULL_VALUE;
+            }
+            List<String> searchResults = getSearchResults(response, topN);
+
+            Object prefetched = requestContext == null ? null : requestContext.getAttribute(CHAT_HISTORY_ATTRIBUTE);
+            StepListener<List<Interaction>> chatHistoryListener = prefetched instanceof StepListener
+                ? (StepListener<List<Interaction>>) prefetched
+                : getChatHistory(memoryClient, params);
+
+            Instant start = Instant.now();
+            int timeoutInSeconds = timeout;
+            chatHistoryListener.whenComplete(chatHistory -> {
+                log.info("Retrieved chat history. ({})", getDuration(start));
+                ChatCompletionInput chatCompletionInput = LlmIOUtil
+                    .createChatCompletionInput(
+                        systemPrompt,
+                        userInstructions,
+                        llmModel,
+                        llmQuestion,
+                        chatHistory,
+                        searchResults,
+                        timeoutInSeconds
+                    );
+                Instant llmStart = Instant.now();
+                doChatCompletion(chatCompletionInput, timeoutInSeconds, ActionListener.wrap(output -> {
+                    log.info("doChatCompletion complete. ({})", getDuration(llmStart));
+                    if (output.isErrorOccurred()) {
+                        responseListener.onResponse(insertAnswer(response, null, output.getErrors().get(0), null));
+                        return;
+                    }
+                    String answer = (String) output.getAnswers().get(0);
+                    if (conversationId == null) {
+                        responseListener.onResponse(insertAnswer(response, answer, null, null));
+                        return;
+                    }
+                    Instant createStart = Instant.now();
+                    memoryClient
+                        .createInteraction(
+                            conversationId,
+                            llmQuestion,
+                            PromptUtil.getPromptTemplate(systemPrompt, userInstructions),
+                            answer,
+                            GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                            Collections.singletonMap("metadata", jsonArrayToString(searchResults)),
+                            ActionListener.wrap(interactionId -> {
+                                log.info("Created a new interaction: {} ({})", interactionId, getDuration(createStart));
+                                responseListener.onResponse(insertAnswer(response, answer, null, interactionId));
+                            }, e -> responseListener.onFailure(toProcessorException(e)))
+                        );
+                }, e -> responseListener.onFailure(toProcessorException(e))));
+            }, e -> responseListener.onFailure(toProcessorException(e)));
+        } catch (Exception e) {
+            responseListener.onFailure(e);
+        }
+    }
+
+    /**
+     * Start reading chat history of the conversation in generative QA parameters.
+     * @param memoryClient conversational memory client
+     * @param params generative QA parameters
+     * @return listener completed with the chat history, which is empty if there is no conversation
+     */
+    static StepListener<List<Interaction>> getChatHistory(ConversationalMemoryClient memoryClient, GenerativeQAParameters params) {
+        StepListener<List<Interaction>> chatHistoryListener = new StepListener<>();
+        String conversationId = params.getConversationId();
+        if (conversationId == null) {
+            chatHistoryListener.onResponse(Collections.emptyList());
+            return chatHistoryListener;
+        }
+        Integer interactionSize = params.getInteractionSize();
+        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
+            interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
+        }
+        try {
+            memoryClient.getInteractions(conversationId, interactionSize, chatHistoryListener);
+        } catch (Exception e) {
+            chatHistoryListener.onFailure(e);
+        }
+        return chatHistoryListener;
+    }
+
+    // Fail the LLM call if it doesn't respond within timeout, same as the synchronous call
+    private void doChatCompletion(ChatCompletionInput input, int timeoutInSeconds, ActionListener<ChatCompletionOutput> listener) {
+        ActionListener<ChatCompletionOutput> notifyOnceListener = ActionListener.notifyOnce(listener);
+        Scheduler.ScheduledCancellable timeoutTask = client
+            .threadPool()
+            .schedule(
+                () -> notifyOnceListener
+                    .onFailure(new OpenSearchException("LLM call timed out after " + timeoutInSeconds + " seconds")),
+                TimeValue.timeValueSeconds(timeoutInSeconds),
+                ThreadPool.Names.GENERIC
+            );
+        try {
+            llm.doChatCompletion(input, ActionListener.runBefore(notifyOnceListener, timeoutTask::cancel));
+        } catch (Exception e) {
+            timeoutTask.cancel();
+            notifyOnceListener.onFailure(e);
+        }
+    }
+
+    private Exception toProcessorException(Exception e) {
+        if (e instanceof NullPointerException) {
+            return new IllegalArgumentException(IllegalArgumentMessage);
+        }
+        if (e instanceof OpenSearchException || e instanceof IllegalArgumentException) {
+            return e;
+        }
+        log.error("GenerativeQAResponseProcessor failed in processing response", e);
+        return new OpenSearchException("GenerativeQAResponseProcessor failed in precessing response");
+    }
+
     long getDuration(Instant start) {
         return Duration.between(start, Instant.now()).toMillis();
     }
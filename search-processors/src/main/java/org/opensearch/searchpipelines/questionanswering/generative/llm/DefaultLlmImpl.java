@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -76,10 +77,31 @@ public class DefaultLlmImpl implements Llm {
     @Override
     public ChatCompletionOutput doChatCompletion(ChatCompletionInput chatCompletionInput) {
 
+        ActionFuture<MLOutput> future = mlClient.predict(this.openSearchModelId, createMLInput(chatCompletionInput));
+        MLOutput modelOutput = future.actionGet(chatCompletionInput.getTimeoutInSeconds() * 1000);
+        return toChatCompletionOutput(chatCompletionInput, modelOutput);
+    }
+
+    /**
+     * Use ChatCompletion API to generate an answer without blocking the calling thread.
+     *
+     * @param chatCompletionInput
+     * @param listener
+     */
+    @Override
+    public void doChatCompletion(ChatCompletionInput chatCompletionInput, ActionListener<ChatCompletionOutput> listener) {
+        ActionListener<MLOutput> predictListener = ActionListener
+            .wrap(modelOutput -> listener.onResponse(toChatCompletionOutput(chatCompletionInput, modelOutput)), listener::onFailure);
+        mlClient.predict(this.openSearchModelId, createMLInput(chatCompletionInput), predictListener);
+    }
+
+    private MLInput createMLInput(ChatCompletionInput chatCompletionInput) {
         MLInputDataset dataset = RemoteInferenceInputDataSet.builder().parameters(getInputParameters(chatCompletionInput)).build();
-        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataset).build();
-        ActionFuture<MLOutput> future = mlClient.predict(this.openSearchModelId, mlInput);
-        ModelTensorOutput modelOutput = (ModelTensorOutput) future.actionGet(chatCompletionInput.getTimeoutInSeconds() * 1000);
+        return MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataset).build();
+    }
+
+    private ChatCompletionOutput toChatCompletionOutput(ChatCompletionInput chatCompletionInput, MLOutput mlOutput) {
+        ModelTensorOutput modelOutput = (ModelTensorOutput) mlOutput;
 
         // Response from a remote model
         Map<String, ?> dataAsMap = modelOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap();
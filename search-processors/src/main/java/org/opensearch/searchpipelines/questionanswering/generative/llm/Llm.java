@@ -17,6 +17,8 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative.llm;
 
+import org.opensearch.core.action.ActionListener;
+
 /**
  * Capabilities of large language models, e.g. completion, embeddings, etc.
  */
@@ -29,4 +31,21 @@ public interface Llm {
     }
 
     ChatCompletionOutput doChatCompletion(ChatCompletionInput input);
+
+    /**
+     * Generate chat completion without blocking the calling thread. Implementations calling remote services should
+     * override this, the default implementation calls {@link #doChatCompletion(ChatCompletionInput)} in place.
+     * @param input chat completion input
+     * @param listener listener of chat completion output
+     */
+    default void doChatCompletion(ChatCompletionInput input, ActionListener<ChatCompletionOutput> listener) {
+        ChatCompletionOutput output;
+        try {
+            output = doChatCompletion(input);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(output);
+    }
 }
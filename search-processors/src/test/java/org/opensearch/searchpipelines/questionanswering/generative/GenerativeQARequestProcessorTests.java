@@ -17,18 +17,30 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
 
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class GenerativeQARequestProcessorTests extends OpenSearchTestCase {
@@ -86,4 +98,34 @@ public class GenerativeQARequestProcessorTests extends OpenSearchTestCase {
         }
         assertTrue(secondExceptionThrown);
     }
+
+    public void testProcessRequestPrefetchChatHistory() throws Exception {
+        GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor("tag", "desc", false, "foo", alwaysOn);
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParameters params = new GenerativeQAParameters("12345", "llm_model", "question", null, null, null);
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(params);
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+        SearchRequest processed = processor.processRequest(request, requestContext);
+        assertEquals(request, processed);
+        verify(memoryClient).getInteractions(eq("12345"), anyInt(), any());
+        assertTrue(requestContext.getAttribute(GenerativeQAResponseProcessor.CHAT_HISTORY_ATTRIBUTE) instanceof StepListener);
+    }
+
+    public void testProcessRequestNoConversation() throws Exception {
+        GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor("tag", "desc", false, "foo", alwaysOn);
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+        processor.processRequest(new SearchRequest(), requestContext);
+        verify(memoryClient, never()).getInteractions(any(), anyInt(), any());
+        assertNull(requestContext.getAttribute(GenerativeQAResponseProcessor.CHAT_HISTORY_ATTRIBUTE));
+    }
 }
@@ -19,7 +19,9 @@ package org.opensearch.searchpipelines.questionanswering.generative;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAResponseProcessor.IllegalArgumentMessage;
@@ -34,11 +36,14 @@ import java.util.function.BooleanSupplier;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.client.Client;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.conversation.Interaction;
@@ -46,6 +51,7 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
 import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
@@ -54,6 +60,8 @@ import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompl
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompletionOutput;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.Llm;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
@@ -461,4 +469,164 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
 
         SearchResponse res = processor.processResponse(request, response);
     }
+
+    public void testProcessResponseAsync() throws Exception {
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        Scheduler.ScheduledCancellable timeoutTask = mock(Scheduler.ScheduledCancellable.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.schedule(any(), any(), any())).thenReturn(timeoutTask);
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+
+        GenerativeQAResponseProcessor processor = (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(
+            client,
+            alwaysOn
+        ).create(null, "tag", "desc", true, config, null);
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        List<Interaction> chatHistory = List
+            .of(
+                new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", Collections.singletonMap("meta data", "some meta"))
+            );
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(chatHistory);
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(6);
+            listener.onResponse("interaction_id");
+            return null;
+        }).when(memoryClient).createInteraction(any(), any(), any(), any(), any(), any(), any());
+        processor.setMemoryClient(memoryClient);
+
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = mock(ChatCompletionOutput.class);
+        when(output.getAnswers()).thenReturn(List.of("foo"));
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        processor.setLlm(llm);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createSearchRequest("12345"), createSearchResponse(10), null, responseListener);
+
+        ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
+        verify(llm).doChatCompletion(captor.capture(), any());
+        assertEquals(1, captor.getValue().getChatHistory().size());
+        assertEquals(10, captor.getValue().getContexts().size());
+        verify(llm, never()).doChatCompletion(any());
+        verify(memoryClient, never()).getInteractions(any(), anyInt());
+        verify(timeoutTask).cancel();
+        ArgumentCaptor<SearchResponse> responseCaptor = ArgumentCaptor.forClass(SearchResponse.class);
+        verify(responseListener).onResponse(responseCaptor.capture());
+        assertTrue(responseCaptor.getValue() instanceof GenerativeSearchResponse);
+        String res = responseCaptor.getValue().toString();
+        assertTrue(res.contains("\"answer\":\"foo\""));
+        assertTrue(res.contains("\"interaction_id\":\"interaction_id\""));
+    }
+
+    public void testProcessResponseAsyncWithPrefetchedChatHistory() throws Exception {
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.schedule(any(), any(), any())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+
+        GenerativeQAResponseProcessor processor = (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(
+            client,
+            alwaysOn
+        ).create(null, "tag", "desc", true, config, null);
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = mock(ChatCompletionOutput.class);
+        when(output.getAnswers()).thenReturn(List.of("foo"));
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        processor.setLlm(llm);
+
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+        StepListener<List<Interaction>> chatHistoryListener = new StepListener<>();
+        chatHistoryListener.onResponse(Collections.emptyList());
+        requestContext.setAttribute(GenerativeQAResponseProcessor.CHAT_HISTORY_ATTRIBUTE, chatHistoryListener);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createSearchRequest(null), createSearchResponse(3), requestContext, responseListener);
+
+        verify(memoryClient, never()).getInteractions(any(), anyInt(), any());
+        verify(memoryClient, never()).createInteraction(any(), any(), any(), any(), any(), any(), any());
+        ArgumentCaptor<SearchResponse> responseCaptor = ArgumentCaptor.forClass(SearchResponse.class);
+        verify(responseListener).onResponse(responseCaptor.capture());
+        assertTrue(responseCaptor.getValue() instanceof GenerativeSearchResponse);
+        assertTrue(responseCaptor.getValue().toString().contains("\"answer\":\"foo\""));
+    }
+
+    public void testProcessResponseAsyncLlmFailure() throws Exception {
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.schedule(any(), any(), any())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+
+        GenerativeQAResponseProcessor processor = (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(
+            client,
+            alwaysOn
+        ).create(null, "tag", "desc", true, config, null);
+
+        Llm llm = mock(Llm.class);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onFailure(new RuntimeException("LLM failure"));
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        processor.setLlm(llm);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createSearchRequest(null), createSearchResponse(3), null, responseListener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(responseListener).onFailure(captor.capture());
+        assertTrue(captor.getValue() instanceof OpenSearchException);
+    }
+
+    private SearchRequest createSearchRequest(String conversationId) {
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParameters params = new GenerativeQAParameters(conversationId, "llm_model", "You are kind.", null, null, null);
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(params);
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+        return request;
+    }
+
+    private SearchResponse createSearchResponse(int numHits) throws Exception {
+        SearchHit[] hitsArray = new SearchHit[numHits];
+        for (int i = 0; i < numHits; i++) {
+            XContentBuilder sourceContent = JsonXContent
+                .contentBuilder()
+                .startObject()
+                .field("_id", String.valueOf(i))
+                .field("text", "passage" + i)
+                .endObject();
+            hitsArray[i] = new SearchHit(i, "doc" + i, Map.of(), Map.of());
+            hitsArray[i].sourceRef(BytesReference.bytes(sourceContent));
+        }
+        SearchHits searchHits = new SearchHits(hitsArray, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        return new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+    }
 }
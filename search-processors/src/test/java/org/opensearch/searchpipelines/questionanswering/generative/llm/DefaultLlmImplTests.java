@@ -33,6 +33,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -121,6 +122,38 @@ public class DefaultLlmImplTests extends OpenSearchTestCase {
         assertEquals("answer", (String) output.getAnswers().get(0));
     }
 
+    public void testChatCompletionApiAsync() throws Exception {
+        MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
+        DefaultLlmImpl connector = new DefaultLlmImpl("model_id", client);
+        connector.setMlClient(mlClient);
+
+        Map<String, String> messageMap = Map.of("role", "agent", "content", "answer");
+        Map<String, ?> dataAsMap = Map.of("choices", List.of(Map.of("message", messageMap)));
+        ModelTensor tensor = new ModelTensor("tensor", new Number[0], new long[0], MLResultDataType.STRING, null, null, dataAsMap);
+        ModelTensorOutput mlOutput = new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> listener = invocation.getArgument(2);
+            listener.onResponse(mlOutput);
+            return null;
+        }).when(mlClient).predict(any(), any(), any());
+        ChatCompletionInput input = new ChatCompletionInput(
+            "model",
+            "question",
+            Collections.emptyList(),
+            Collections.emptyList(),
+            0,
+            "prompt",
+            "instructions",
+            Llm.ModelProvider.OPENAI
+        );
+        ActionListener<ChatCompletionOutput> listener = mock(ActionListener.class);
+        connector.doChatCompletion(input, listener);
+        verify(mlClient, never()).predict(any(), any());
+        ArgumentCaptor<ChatCompletionOutput> captor = ArgumentCaptor.forClass(ChatCompletionOutput.class);
+        verify(listener).onResponse(captor.capture());
+        assertEquals("answer", (String) captor.getValue().getAnswers().get(0));
+    }
+
     public void testChatCompletionApiForBedrock() throws Exception {
         MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
         ArgumentCaptor<MLInput> captor = ArgumentCaptor.forClass(MLInput.class);